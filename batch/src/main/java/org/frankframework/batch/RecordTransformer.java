@@ -1,5 +1,5 @@
 /*
-   Copyright 2013 Nationale-Nederlanden, 2021-2023 WeAreFrank!
+   Copyright 2013 Nationale-Nederlanden, 2021-2023, 2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -520,13 +520,14 @@ public class RecordTransformer extends AbstractRecordHandler {
 	 * @author John Dekker
 	 */
 	abstract static class Condition implements IOutputField {
-		private boolean output;
+		// Kept per thread, as records may be transformed in parallel by the StreamTransformerPipe
+		private final ThreadLocal<Boolean> output = ThreadLocal.withInitial(() -> false);
 
 		@Override
 		public IOutputField appendValue(IOutputField curFunction, StringBuilder result, List<String> inputFields) throws Exception {
 			// first call, check wether the condition is true or false
 			if (this == curFunction) {
-				output = conditionIsTrue(inputFields);
+				output.set(conditionIsTrue(inputFields));
 				return this;
 			}
 
@@ -535,7 +536,7 @@ public class RecordTransformer extends AbstractRecordHandler {
 				return null;
 			}
 
-			if (output) {
+			if (output.get()) {
 				// write the result of the funtion to the output
 				IOutputField condition = curFunction.appendValue(curFunction, result, inputFields);
 				if (condition != null)
@@ -543,7 +544,7 @@ public class RecordTransformer extends AbstractRecordHandler {
 			} else {
 				// function is a subcondition within this condition
 				if (curFunction instanceof Condition condition) {
-					condition.output = false;
+					condition.output.set(false);
 					return curFunction;
 				}
 			}
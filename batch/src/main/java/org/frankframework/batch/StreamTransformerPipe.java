@@ -19,16 +19,23 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.task.TaskExecutor;
 
 import lombok.Getter;
+import lombok.Setter;
 
 import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.configuration.ConfigurationWarnings;
@@ -41,6 +48,7 @@ import org.frankframework.core.SenderException;
 import org.frankframework.doc.EnterpriseIntegrationPattern;
 import org.frankframework.lifecycle.LifecycleException;
 import org.frankframework.pipes.FixedForwardPipe;
+import org.frankframework.receivers.ResourceLimiter;
 import org.frankframework.stream.Message;
 import org.frankframework.util.StreamUtil;
 
@@ -50,6 +58,11 @@ import org.frankframework.util.StreamUtil;
  * For files containing only a single type of lines, a simpler configuration without managers and flows
  * can be specified. A single recordHandler with key="*" and (optional) a single resultHandler need to be specified.
  * Each line will be handled by this recordHandler and resultHandler.
+ * <p>
+ * When {@literal transformerThreads} is set, records are parsed and transformed by the recordHandlers in parallel, while
+ * blocks and results are still handled in the order of the input, on the thread that calls the pipe. RecordHandlers used in
+ * this mode must be thread safe and may not modify the session, which rules out handlers that call a sender.
+ * </p>
  *
  * @author John Dekker / Gerrit van Brakel
  * @since   4.7
@@ -63,6 +76,10 @@ public class StreamTransformerPipe extends FixedForwardPipe {
 	private @Getter boolean storeOriginalBlock = false;
 	private @Getter boolean closeInputstreamOnExit = true;
 	private @Getter String charset = StreamUtil.DEFAULT_INPUT_STREAM_ENCODING;
+	private @Getter int transformerThreads = 0;
+	private @Getter int transformerQueueSize = 0;
+
+	private @Getter @Setter TaskExecutor taskExecutor;
 
 	private IRecordHandlerManager initialManager = null;
 	private IResultHandler defaultHandler = null;
@@ -128,6 +145,22 @@ public class StreamTransformerPipe extends FixedForwardPipe {
 		if (initialManager == null) {
 			throw new ConfigurationException("no initial manager specified");
 		}
+		if (isParallel()) {
+			if (isStoreOriginalBlock()) {
+				throw new ConfigurationException("storeOriginalBlock cannot be used in combination with transformerThreads");
+			}
+			if (getTaskExecutor() == null) {
+				throw new ConfigurationException("no taskExecutor available to transform records in parallel");
+			}
+			if (getTransformerQueueSize() <= 0) {
+				setTransformerQueueSize(getTransformerThreads() * 4);
+			}
+			for (Map.Entry<String, IRecordHandler> entry: registeredRecordHandlers.entrySet()) {
+				if (entry.getValue() instanceof RecordXml2Sender) {
+					throw new ConfigurationException("recordHandler [" + entry.getKey() + "] calls a sender, which cannot be used in combination with transformerThreads");
+				}
+			}
+		}
 		for (String managerName: registeredManagers.keySet()) {
 			IRecordHandlerManager manager = getManager(managerName);
 			manager.configure(registeredManagers, registeredRecordHandlers, registeredResultHandlers, defaultHandler);
@@ -403,10 +436,9 @@ public class StreamTransformerPipe extends FixedForwardPipe {
 	private String transform(String streamId, BufferedReader reader, PipeLineSession session, Map<String, Object> blocks) throws PipeRunException {
 		String rawRecord = null;
 		int linenumber = 0;
-		int counter = 0;
-		StringBuilder sb = null;
-		List<String> prevParsedRecord = null;
-		IRecordHandler prevHandler = null;
+		TransformationState state = new TransformationState();
+		Deque<PendingRecord> pendingRecords = new ArrayDeque<>();
+		ResourceLimiter transformerLimiter = isParallel() ? new ResourceLimiter(getTransformerThreads()) : null;
 
 		IRecordHandlerManager currentManager = initialManager.getRecordFactoryUsingFilename(session, streamId);
 		try {
@@ -426,88 +458,28 @@ public class StreamTransformerPipe extends FixedForwardPipe {
 					log.debug("<no flow>: {}", rawRecord);
 					continue; // ignore line for which no handlers are registered
 				}
-				// log.debug("flow ["+flow.getRecordKey()+"] openBlockBeforeLine ["+flow.getOpenBlockBeforeLine()+"]");
-				IResultHandler resultHandler = flow.getResultHandler();
-				closeBlock(session, resultHandler, streamId, flow, flow.getCloseBlockBeforeLine(),"closeBlockBeforeLine of flow ["+flow.getRecordKey()+"]",blocks);
-				String obbl = null;
-				if (flow.getOpenBlockBeforeLineNumber()>0) {
-					if (counter%flow.getOpenBlockBeforeLineNumber()==0) {
-						obbl = flow.getOpenBlockBeforeLine();
-					}
-				} else {
-					obbl = flow.getOpenBlockBeforeLine();
-				}
-				openBlock(session, resultHandler, streamId, flow, obbl, blocks);
-
 				rawRecord = currentManager.getFullRecord(reader, flow, rawRecord);
-				if (isStoreOriginalBlock()) {
-					if (resultHandler instanceof ResultBlock2Sender) {
-						// If blocks does not contain a previous block, it never existed, or has been removed by closing the block.
-						// In both cases a new block has just started
-						if (!blocks.containsKey(originalBlockKey)) {
-							sb = new StringBuilder();
-						}
 
-						if (!sb.isEmpty()) {
-							sb.append(System.getProperty("line.separator"));
-						}
-						sb.append(rawRecord);
-						// already put the block in the blocks, also if the block is not yet complete.
-						blocks.put(originalBlockKey, sb.toString());
-					}
-				}
-
-				IRecordHandler curHandler = flow.getRecordHandler();
-				if (curHandler != null) {
-					if (log.isDebugEnabled())
-						log.debug("manager [{}] key [{}] record handler [{}] line [{}] record [{}]", currentManager.getName(), flow.getRecordKey(), curHandler.getName(), linenumber, rawRecord);
-					// there is a record handler, so transform the line
-					List<String> parsedRecord = curHandler.parse(session, rawRecord);
-					String result = curHandler.handleRecord(session, parsedRecord);
-					counter++;
-
-					// if there is a result handler, write the transformed result
-					if (result != null && resultHandler != null) {
-						boolean recordTypeChanged = curHandler.isNewRecordType(session, curHandler.equals(prevHandler), prevParsedRecord, parsedRecord);
-						if (log.isTraceEnabled())
-							log.trace("manager [{}] key [{}] record handler [{}] recordTypeChanged [{}]", currentManager.getName(), flow.getRecordKey(), curHandler.getName(), recordTypeChanged);
-						if (recordTypeChanged && prevHandler!=null && resultHandler.isBlockByRecordType()) {
-							String prevRecordType = prevHandler.getRecordType(prevParsedRecord);
-							if (log.isDebugEnabled())
-								log.debug("record handler [{}] result handler [{}] closing block for record type [{}]", prevHandler.getName(), resultHandler.getName(), prevRecordType);
-							closeBlock(session, resultHandler, streamId, flow, prevRecordType, "record type change", blocks);
-						}
-						// the hasPrefix() call allows users use a suffix without a prefix.
-						// The suffix is then only written at the end of the file.
-						if (recordTypeChanged && resultHandler.hasPrefix()) {
-							if (prevHandler != null)  {
-								resultHandler.closeRecordType(session, streamId);
-							}
-							resultHandler.openRecordType(session, streamId);
-						}
-						if (recordTypeChanged && resultHandler.isBlockByRecordType()) {
-							String recordType = curHandler.getRecordType(parsedRecord);
-							if (log.isDebugEnabled())
-								log.debug("record handler [{}] result handler [{}] opening block [{}]", curHandler.getName(), resultHandler.getName(), recordType);
-							openBlock(session, resultHandler, streamId, flow, recordType, blocks);
-						}
-						resultHandler.handleResult(session, streamId, flow.getRecordKey(), result);
+				if (transformerLimiter != null) {
+					// The transformation is done by a worker thread, results are handled in the order of the input
+					Future<TransformedRecord> transformedRecord = submitTransformation(session, flow, rawRecord, transformerLimiter);
+					pendingRecords.addLast(new PendingRecord(linenumber, currentManager, flow, rawRecord, transformedRecord));
+					while (pendingRecords.size() > getTransformerQueueSize()) {
+						handlePendingRecord(session, streamId, pendingRecords.removeFirst(), state, blocks);
 					}
-					prevParsedRecord = parsedRecord;
-					prevHandler = curHandler;
 				} else {
-					if (log.isDebugEnabled())
-						log.debug("manager [{}] key [{}], no record handler, line [{}] record [{}]", currentManager.getName(), flow.getRecordKey(), linenumber, rawRecord);
+					handleRecord(session, streamId, linenumber, currentManager, flow, rawRecord, transformRecord(session, flow, rawRecord), state, blocks);
 				}
 
-				closeBlock(session, resultHandler, streamId, flow, flow.getCloseBlockAfterLine(),"closeBlockAfterLine of flow ["+flow.getRecordKey()+"]", blocks);
-				openBlock(session, resultHandler, streamId, flow, flow.getOpenBlockAfterLine(), blocks);
-
 				// get the manager for the next record
 				currentManager = flow.getNextRecordHandlerManager();
 			}
+			while (!pendingRecords.isEmpty()) {
+				handlePendingRecord(session, streamId, pendingRecords.removeFirst(), state, blocks);
+			}
 			return finalizeResult(session, streamId, false, blocks);
 		} catch(Exception e) {
+			pendingRecords.forEach(pendingRecord -> pendingRecord.transformedRecord().cancel(true));
 			try {
 				finalizeResult(session, streamId, true, blocks);
 			} catch(Throwable t) {
@@ -519,6 +491,148 @@ public class StreamTransformerPipe extends FixedForwardPipe {
 		}
 	}
 
+	/**
+	 * Parses and transforms a single record. This is the CPU intensive part of the transformation, that does not
+	 * depend on other records, and can therefore be executed in parallel.
+	 */
+	private TransformedRecord transformRecord(PipeLineSession session, RecordHandlingFlow flow, String rawRecord) throws Exception {
+		IRecordHandler curHandler = flow.getRecordHandler();
+		if (curHandler == null) {
+			return null;
+		}
+		List<String> parsedRecord = curHandler.parse(session, rawRecord);
+		return new TransformedRecord(parsedRecord, curHandler.handleRecord(session, parsedRecord));
+	}
+
+	private Future<TransformedRecord> submitTransformation(PipeLineSession session, RecordHandlingFlow flow, String rawRecord, ResourceLimiter transformerLimiter) throws InterruptedException {
+		transformerLimiter.acquire();
+		FutureTask<TransformedRecord> task = new FutureTask<>(() -> {
+			try {
+				return transformRecord(session, flow, rawRecord);
+			} finally {
+				transformerLimiter.release();
+			}
+		});
+		try {
+			getTaskExecutor().execute(task);
+		} catch (RuntimeException e) {
+			transformerLimiter.release();
+			throw e;
+		}
+		return task;
+	}
+
+	private void handlePendingRecord(PipeLineSession session, String streamId, PendingRecord pendingRecord, TransformationState state, Map<String, Object> blocks) throws Exception {
+		TransformedRecord transformedRecord;
+		try {
+			transformedRecord = pendingRecord.transformedRecord().get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			throw e;
+		}
+		handleRecord(session, streamId, pendingRecord.linenumber(), pendingRecord.manager(), pendingRecord.flow(), pendingRecord.rawRecord(), transformedRecord, state, blocks);
+	}
+
+	/**
+	 * Handles the blocks and the result of a transformed record. Must be called in the order of the records in the input.
+	 */
+	private void handleRecord(PipeLineSession session, String streamId, int linenumber, IRecordHandlerManager currentManager, RecordHandlingFlow flow, String rawRecord, TransformedRecord transformedRecord, TransformationState state, Map<String, Object> blocks) throws Exception {
+		IResultHandler resultHandler = flow.getResultHandler();
+		closeBlock(session, resultHandler, streamId, flow, flow.getCloseBlockBeforeLine(),"closeBlockBeforeLine of flow ["+flow.getRecordKey()+"]",blocks);
+		String obbl = null;
+		if (flow.getOpenBlockBeforeLineNumber()>0) {
+			if (state.counter%flow.getOpenBlockBeforeLineNumber()==0) {
+				obbl = flow.getOpenBlockBeforeLine();
+			}
+		} else {
+			obbl = flow.getOpenBlockBeforeLine();
+		}
+		openBlock(session, resultHandler, streamId, flow, obbl, blocks);
+
+		if (isStoreOriginalBlock()) {
+			if (resultHandler instanceof ResultBlock2Sender) {
+				// If blocks does not contain a previous block, it never existed, or has been removed by closing the block.
+				// In both cases a new block has just started
+				if (!blocks.containsKey(originalBlockKey)) {
+					state.originalBlock = new StringBuilder();
+				}
+
+				if (!state.originalBlock.isEmpty()) {
+					state.originalBlock.append(System.getProperty("line.separator"));
+				}
+				state.originalBlock.append(rawRecord);
+				// already put the block in the blocks, also if the block is not yet complete.
+				blocks.put(originalBlockKey, state.originalBlock.toString());
+			}
+		}
+
+		IRecordHandler curHandler = flow.getRecordHandler();
+		if (curHandler != null) {
+			if (log.isDebugEnabled())
+				log.debug("manager [{}] key [{}] record handler [{}] line [{}] record [{}]", currentManager.getName(), flow.getRecordKey(), curHandler.getName(), linenumber, rawRecord);
+			// there is a record handler, so the line has been transformed
+			List<String> parsedRecord = transformedRecord.parsedRecord();
+			String result = transformedRecord.result();
+			state.counter++;
+
+			// if there is a result handler, write the transformed result
+			if (result != null && resultHandler != null) {
+				boolean recordTypeChanged = curHandler.isNewRecordType(session, curHandler.equals(state.prevHandler), state.prevParsedRecord, parsedRecord);
+				if (log.isTraceEnabled())
+					log.trace("manager [{}] key [{}] record handler [{}] recordTypeChanged [{}]", currentManager.getName(), flow.getRecordKey(), curHandler.getName(), recordTypeChanged);
+				if (recordTypeChanged && state.prevHandler!=null && resultHandler.isBlockByRecordType()) {
+					String prevRecordType = state.prevHandler.getRecordType(state.prevParsedRecord);
+					if (log.isDebugEnabled())
+						log.debug("record handler [{}] result handler [{}] closing block for record type [{}]", state.prevHandler.getName(), resultHandler.getName(), prevRecordType);
+					closeBlock(session, resultHandler, streamId, flow, prevRecordType, "record type change", blocks);
+				}
+				// the hasPrefix() call allows users use a suffix without a prefix.
+				// The suffix is then only written at the end of the file.
+				if (recordTypeChanged && resultHandler.hasPrefix()) {
+					if (state.prevHandler != null)  {
+						resultHandler.closeRecordType(session, streamId);
+					}
+					resultHandler.openRecordType(session, streamId);
+				}
+				if (recordTypeChanged && resultHandler.isBlockByRecordType()) {
+					String recordType = curHandler.getRecordType(parsedRecord);
+					if (log.isDebugEnabled())
+						log.debug("record handler [{}] result handler [{}] opening block [{}]", curHandler.getName(), resultHandler.getName(), recordType);
+					openBlock(session, resultHandler, streamId, flow, recordType, blocks);
+				}
+				resultHandler.handleResult(session, streamId, flow.getRecordKey(), result);
+			}
+			state.prevParsedRecord = parsedRecord;
+			state.prevHandler = curHandler;
+		} else {
+			if (log.isDebugEnabled())
+				log.debug("manager [{}] key [{}], no record handler, line [{}] record [{}]", currentManager.getName(), flow.getRecordKey(), linenumber, rawRecord);
+		}
+
+		closeBlock(session, resultHandler, streamId, flow, flow.getCloseBlockAfterLine(),"closeBlockAfterLine of flow ["+flow.getRecordKey()+"]", blocks);
+		openBlock(session, resultHandler, streamId, flow, flow.getOpenBlockAfterLine(), blocks);
+	}
+
+	/** Result of the record handler for a single record */
+	private record TransformedRecord(List<String> parsedRecord, String result) {}
+
+	/** A record that has been read, of which the transformation may still be in progress */
+	private record PendingRecord(int linenumber, IRecordHandlerManager manager, RecordHandlingFlow flow, String rawRecord, Future<TransformedRecord> transformedRecord) {}
+
+	/** State that is carried over from one record to the next while handling the results */
+	private static class TransformationState {
+		private int counter = 0;
+		private StringBuilder originalBlock = null;
+		private List<String> prevParsedRecord = null;
+		private IRecordHandler prevHandler = null;
+	}
+
+	private boolean isParallel() {
+		return getTransformerThreads() > 0;
+	}
+
 	private void openDocument(PipeLineSession session, String inputFilename) throws Exception {
 		for (IResultHandler resultHandler: registeredResultHandlers.values()) {
 			resultHandler.openDocument(session, inputFilename);
@@ -575,6 +689,24 @@ public class StreamTransformerPipe extends FixedForwardPipe {
 		charset = string;
 	}
 
+	/**
+	 * Number of threads used to parse and transform records in parallel. Results are still handled in the order of the input.
+	 * The default value of 0 transforms all records on the calling thread.
+	 * @ff.default 0
+	 */
+	public void setTransformerThreads(int transformerThreads) {
+		this.transformerThreads = transformerThreads;
+	}
+
+	/**
+	 * Maximum number of records that have been read but of which the result has not yet been handled, when {@literal transformerThreads} is set.
+	 * Reading of the input is paused when this number is reached.
+	 * @ff.default 4 times transformerThreads
+	 */
+	public void setTransformerQueueSize(int transformerQueueSize) {
+		this.transformerQueueSize = transformerQueueSize;
+	}
+
 	/** Factory for the <code>reader</code>. The default implementation {@link InputStreamReaderFactory} converts using the specified character set. */
 	public void setReaderFactory(IReaderFactory factory) {
 		readerFactory = factory;
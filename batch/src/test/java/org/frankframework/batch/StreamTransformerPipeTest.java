@@ -0,0 +1,207 @@
+package org.frankframework.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.configuration.ConfigurationException;
+import org.frankframework.core.PipeLineSession;
+import org.frankframework.core.PipeRunResult;
+import org.frankframework.pipes.PipeTestBase;
+import org.frankframework.senders.EchoSender;
+import org.frankframework.stream.Message;
+
+@Log4j2
+class StreamTransformerPipeTest extends PipeTestBase<StreamTransformerPipe> {
+
+	private static final String INPUT = """
+			A,even,1
+			A,odd,2
+			B,even,3
+			B,odd,4
+			A,even,5
+			""";
+
+	private static final String EXPECTED = """
+			<document name="cid">
+			<A>
+			1E
+			2O
+			</A>
+			<B>
+			3E
+			4O
+			</B>
+			<A>
+			5E
+			</A>
+			</document>
+			""";
+
+	private ExecutorService executorService;
+
+	@Override
+	public StreamTransformerPipe createPipe() {
+		return new StreamTransformerPipe();
+	}
+
+	@BeforeEach
+	void setUpSession() {
+		session.put(PipeLineSession.CORRELATION_ID_KEY, "cid");
+		executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	void shutdownExecutor() {
+		executorService.shutdownNow();
+	}
+
+	private void addHandlers(ResultWriter resultWriter) throws ConfigurationException {
+		RecordTransformer recordTransformer = new RecordTransformer();
+		recordTransformer.setName("transformer");
+		recordTransformer.setInputSeparator(",");
+		recordTransformer.setRecordIdentifyingFields("1");
+		recordTransformer.setOutputFields("incopy(3);if(2,eq,even);string(E);elseif(2,eq,odd);string(O);endif()");
+		pipe.addRecordHandler(recordTransformer);
+
+		resultWriter.setName("writer");
+		resultWriter.setBlockByRecordType(true);
+		pipe.addResultHandler(resultWriter);
+	}
+
+	@Test
+	void testSequentialTransformation() throws Exception {
+		addHandlers(new Result2StringWriter());
+		configureAndStartPipe();
+
+		PipeRunResult prr = doPipe(INPUT);
+
+		assertEquals(EXPECTED, prr.getResult().asString());
+	}
+
+	@Test
+	void testParallelTransformationPreservesOrderAndBlocks() throws Exception {
+		addHandlers(new Result2StringWriter());
+		pipe.setTransformerThreads(4);
+		pipe.setTransformerQueueSize(2);
+		pipe.setTaskExecutor(new ConcurrentTaskExecutor(executorService));
+		configureAndStartPipe();
+
+		PipeRunResult prr = doPipe(INPUT);
+
+		assertEquals(EXPECTED, prr.getResult().asString());
+	}
+
+	@Test
+	void testParallelTransformationOfLargeInput() throws Exception {
+		addHandlers(new Result2StringWriter());
+		pipe.setTransformerThreads(4);
+		pipe.setTaskExecutor(new ConcurrentTaskExecutor(executorService));
+		configureAndStartPipe();
+
+		String parallelResult = doPipe(new Message(new SyntheticRecordReader(10_000))).getResult().asString();
+		pipe.setTransformerThreads(0);
+		String sequentialResult = doPipe(new Message(new SyntheticRecordReader(10_000))).getResult().asString();
+
+		assertEquals(sequentialResult, parallelResult);
+	}
+
+	@Test
+	void testStoreOriginalBlockNotSupportedInParallel() throws Exception {
+		addHandlers(new Result2StringWriter());
+		pipe.setTransformerThreads(2);
+		pipe.setStoreOriginalBlock(true);
+		pipe.setTaskExecutor(new ConcurrentTaskExecutor(executorService));
+
+		ConfigurationException e = assertThrows(ConfigurationException.class, this::configurePipe);
+		assertEquals("storeOriginalBlock cannot be used in combination with transformerThreads", e.getMessage());
+	}
+
+	@Test
+	void testRecordHandlerWithSenderNotSupportedInParallel() throws Exception {
+		RecordXml2Sender recordHandler = new RecordXml2Sender();
+		recordHandler.setName("sender");
+		recordHandler.setSender(new EchoSender());
+		pipe.addRecordHandler(recordHandler);
+		pipe.setTransformerThreads(2);
+		pipe.setTaskExecutor(new ConcurrentTaskExecutor(executorService));
+
+		ConfigurationException e = assertThrows(ConfigurationException.class, this::configurePipe);
+		assertEquals("recordHandler [sender] calls a sender, which cannot be used in combination with transformerThreads", e.getMessage());
+	}
+
+	@Test
+	@Tag("slow")
+	void benchmarkParallelTransformation() throws Exception {
+		final int records = 5_000_000;
+		addHandlers(new DiscardingResultWriter());
+		pipe.setTransformerThreads(4);
+		pipe.setTaskExecutor(new ConcurrentTaskExecutor(executorService));
+		configureAndStartPipe();
+
+		long start = System.nanoTime();
+		doPipe(new Message(new SyntheticRecordReader(records)));
+		long parallelMillis = (System.nanoTime() - start) / 1_000_000;
+
+		pipe.setTransformerThreads(0);
+		start = System.nanoTime();
+		doPipe(new Message(new SyntheticRecordReader(records)));
+		long sequentialMillis = (System.nanoTime() - start) / 1_000_000;
+
+		log.info("transformed [{}] records sequentially in [{}] ms, with 4 transformer threads in [{}] ms", records, sequentialMillis, parallelMillis);
+	}
+
+	/**
+	 * Generates records like the test input, in runs of three records per record type, without keeping them in memory.
+	 */
+	private static class SyntheticRecordReader extends Reader {
+		private final int numberOfRecords;
+		private int recordNumber = 0;
+		private String currentRecord = "";
+		private int position = 0;
+
+		SyntheticRecordReader(int numberOfRecords) {
+			this.numberOfRecords = numberOfRecords;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			if (position >= currentRecord.length()) {
+				if (recordNumber >= numberOfRecords) {
+					return -1;
+				}
+				currentRecord = "T" + (recordNumber / 3 % 4) + "," + (recordNumber % 2 == 0 ? "even" : "odd") + "," + recordNumber + "\n";
+				position = 0;
+				recordNumber++;
+			}
+			int count = Math.min(len, currentRecord.length() - position);
+			currentRecord.getChars(position, position + count, cbuf, off);
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+			// nothing to close
+		}
+	}
+
+	private static class DiscardingResultWriter extends ResultWriter {
+		@Override
+		protected Writer createWriter(PipeLineSession session, String streamId) {
+			return Writer.nullWriter();
+		}
+	}
+}
@@ -84,6 +84,14 @@ public class ServerDetails {
 		return frankApiService.callSyncGateway(RequestMessageBuilder.create(BusTopic.APPLICATION, BusAction.WARNINGS), true);
 	}
 
+	@AllowAllIbisUserRoles
+	@Relation("configuration")
+	@Description("view the startup timings of all configurations and adapters")
+	@GetMapping(value = "/configurations/startup", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<?> getStartupTimings() {
+		return frankApiService.callSyncGateway(RequestMessageBuilder.create(BusTopic.CONFIGURATION, BusAction.STATUS));
+	}
+
 	@PermitAll
 	@GetMapping(value = "/health", produces = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<?> getFrankHealth(@RequestParam(value = "strict", required = false, defaultValue = "true") boolean strictMode) {
@@ -16,6 +16,11 @@ public class ServerDetailsTest extends FrankApiTestBase {
 		this.testActionAndTopicHeaders("/server/configurations", "CONFIGURATION", "FIND");
 	}
 
+	@Test
+	public void testStartupTimings() throws Exception {
+		this.testActionAndTopicHeaders("/server/configurations/startup", "CONFIGURATION", "STATUS");
+	}
+
 	@Test
 	public void testServerWarnings() throws Exception {
 		this.testActionAndTopicHeaders("/server/warnings", "APPLICATION", "WARNINGS");
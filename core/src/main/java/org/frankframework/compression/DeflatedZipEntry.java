@@ -0,0 +1,88 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+import org.frankframework.stream.Message;
+import org.frankframework.stream.MessageBuilder;
+import org.frankframework.stream.SerializableFileReference;
+import org.frankframework.util.CloseUtils;
+
+/**
+ * Contents of a {@link MessageZipEntry} that have already been compressed, possibly in another thread, together with
+ * the checksum and sizes required to append them to an archive without compressing them again.
+ * The compressed data is kept in memory, or on disk when it is large.
+ */
+class DeflatedZipEntry implements AutoCloseable {
+	private final ZipArchiveEntry entry;
+	private final Message compressedData;
+
+	private DeflatedZipEntry(ZipArchiveEntry entry, Message compressedData) {
+		this.entry = entry;
+		this.compressedData = compressedData;
+	}
+
+	static DeflatedZipEntry deflate(MessageZipEntry source, InputStream contents) throws IOException {
+		CRC32 crc = new CRC32();
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true); // ZIP entries contain raw deflate data, without zlib header
+		MessageBuilder messageBuilder = new MessageBuilder();
+		ZipArchiveEntry entry = new ZipArchiveEntry(source);
+		try {
+			try (CheckedInputStream checkedContents = new CheckedInputStream(contents, crc);
+					OutputStream deflaterStream = new DeflaterOutputStream(messageBuilder.asOutputStream(), deflater)) {
+				checkedContents.transferTo(deflaterStream);
+			}
+			entry.setSize(deflater.getBytesRead());
+			entry.setCompressedSize(deflater.getBytesWritten());
+		} finally {
+			deflater.end();
+		}
+		entry.setMethod(ZipEntry.DEFLATED);
+		entry.setCrc(crc.getValue());
+		if (entry.getTime() == -1) {
+			entry.setTime(System.currentTimeMillis());
+		}
+		return new DeflatedZipEntry(entry, messageBuilder.build());
+	}
+
+	void writeEntry(ZipArchiveOutputStream outputStream) throws IOException {
+		try (InputStream is = compressedData.asInputStream()) {
+			outputStream.addRawArchiveEntry(entry, is != null ? is : InputStream.nullInputStream());
+		}
+	}
+
+	/**
+	 * Removes the temporary file of compressed data that did not fit in memory, as soon as the entry has been written.
+	 */
+	@Override
+	public void close() {
+		if (compressedData.isRequestOfType(SerializableFileReference.class)) {
+			SerializableFileReference fileReference = compressedData.getValueAsType();
+			CloseUtils.closeSilently(fileReference);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
-   Copyright 2023, 2025 WeAreFrank!
+   Copyright 2023, 2025-2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -86,6 +86,15 @@ public class MessageZipEntry extends ZipEntry {
 		}
 	}
 
+	/**
+	 * Compresses the contents into a {@link DeflatedZipEntry}, that can be appended to the archive later on. Note: this consumes the {@link Message}.
+	 */
+	DeflatedZipEntry deflate() throws IOException {
+		try (InputStream is = message.asInputStream()) {
+			return DeflatedZipEntry.deflate(this, is != null ? is : InputStream.nullInputStream());
+		}
+	}
+
 	public void writeEntry(ZipOutputStream outputStream) throws IOException {
 		outputStream.putNextEntry(this);
 		writeTo(outputStream);
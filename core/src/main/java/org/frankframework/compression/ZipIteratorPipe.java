@@ -1,5 +1,5 @@
 /*
-   Copyright 2013 Nationale-Nederlanden, 2020 - 2024 WeAreFrank!
+   Copyright 2013 Nationale-Nederlanden, 2020 - 2024, 2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.frankframework.compression;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -32,6 +33,7 @@ import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.SenderException;
 import org.frankframework.pipes.IteratingPipe;
 import org.frankframework.stream.Message;
+import org.frankframework.stream.MessageBuilder;
 import org.frankframework.stream.MessageContext;
 import org.frankframework.util.CloseUtils;
 import org.frankframework.util.StreamUtil;
@@ -46,6 +48,9 @@ import org.frankframework.util.StreamUtil;
  * The message sent each time to the sender is the filename of the entry found in the archive.
  * The contents of the archive is available as a Stream or a String in a session variable.
  * <p>
+ * Set {@literal parallel=true} to process the entries with at most {@literal maxChildThreads} threads at a time. In that case the contents
+ * of each entry is copied before it is handed to a thread, in memory or, for large entries, to a temporary file.
+ * </p>
  * <br/>
  *
  * @author Gerrit van Brakel
@@ -185,8 +190,19 @@ public class ZipIteratorPipe extends IteratingPipe<String> {
 						context.withModificationTime(current.getTime());
 					}
 
-					log.debug("storing stream to contents of zip entries under session key [{}]", ZipIteratorPipe.this::getContentsSessionKey);
-					Message message = new Message(CloseUtils.dontClose(source), context);
+					Message message;
+					if (isParallel()) {
+						// The entry is processed in another thread while the iterator moves on, so its contents cannot be streamed from the archive
+						log.debug("storing copy of contents of zip entry under session key [{}]", ZipIteratorPipe.this::getContentsSessionKey);
+						MessageBuilder messageBuilder = new MessageBuilder();
+						try (OutputStream outputStream = messageBuilder.asOutputStream()) {
+							StreamUtil.streamToStream(CloseUtils.dontClose(source), outputStream);
+						}
+						message = messageBuilder.build(context);
+					} else {
+						log.debug("storing stream to contents of zip entries under session key [{}]", ZipIteratorPipe.this::getContentsSessionKey);
+						message = new Message(CloseUtils.dontClose(source), context);
+					}
 					session.put(getContentsSessionKey(), message); // do this each time, to allow reuse of the session key when an item is optionally encoded
 				} else {
 					log.debug("storing contents of zip entry under session key [{}]", ZipIteratorPipe.this::getContentsSessionKey);
@@ -16,12 +16,22 @@
 package org.frankframework.compression;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.MediaType;
 
 import lombok.extern.log4j.Log4j2;
@@ -33,6 +43,7 @@ import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.parameters.ParameterList;
 import org.frankframework.parameters.ParameterValueList;
+import org.frankframework.receivers.ResourceLimiter;
 import org.frankframework.stream.Message;
 import org.frankframework.stream.MessageBuilder;
 
@@ -45,6 +56,8 @@ public class ZipWriter implements ICollector<MessageZipEntry> {
 
 	private final boolean includeFileHeaders;
 	private final String zipLocation;
+	private final int compressionThreads;
+	private final @Nullable TaskExecutor taskExecutor;
 
 	static void validateParametersForAction(@NonNull Action action, @NonNull ParameterList parameterList) throws ConfigurationException {
 		switch (action) {
@@ -76,8 +89,18 @@ public class ZipWriter implements ICollector<MessageZipEntry> {
 	 * @param zipLocation if exists the file should be placed here, for legacy / deprecated purposes only!
 	 */
 	public ZipWriter(boolean includeFileHeaders, String zipLocation) {
+		this(includeFileHeaders, zipLocation, 0, null);
+	}
+
+	/**
+	 * Create a new ZipWriterCollector that compresses the entries in parallel.
+	 * @param compressionThreads number of entries that are compressed simultaneously, using the taskExecutor. Entries are compressed on the calling thread when 0.
+	 */
+	public ZipWriter(boolean includeFileHeaders, String zipLocation, int compressionThreads, @Nullable TaskExecutor taskExecutor) {
 		this.includeFileHeaders = includeFileHeaders;
 		this.zipLocation = zipLocation;
+		this.compressionThreads = compressionThreads;
+		this.taskExecutor = taskExecutor;
 	}
 
 	@Override
@@ -111,9 +134,13 @@ public class ZipWriter implements ICollector<MessageZipEntry> {
 			messageBuilder = new MessageBuilder(Paths.get(zipLocation));
 		}
 
-		try (ZipOutputStream zipoutput = new ZipOutputStream(messageBuilder.asOutputStream())) {
-			for(MessageZipEntry entry : parts) {
-				entry.writeEntry(zipoutput);
+		if (isParallel()) {
+			writeEntriesInParallel(parts, messageBuilder.asOutputStream());
+		} else {
+			try (ZipOutputStream zipoutput = new ZipOutputStream(messageBuilder.asOutputStream())) {
+				for(MessageZipEntry entry : parts) {
+					entry.writeEntry(zipoutput);
+				}
 			}
 		}
 
@@ -122,6 +149,70 @@ public class ZipWriter implements ICollector<MessageZipEntry> {
 		return result;
 	}
 
+	private boolean isParallel() {
+		// Entries with complete file headers are stored without compression, there is nothing to parallelize
+		return compressionThreads > 0 && taskExecutor != null && !includeFileHeaders;
+	}
+
+	/**
+	 * Entries are deflated by worker threads, and appended to the archive in the original order as soon as they are ready.
+	 * The number of compressed entries waiting to be appended is limited, to limit the memory and disk space used.
+	 */
+	private void writeEntriesInParallel(List<MessageZipEntry> parts, OutputStream outputStream) throws IOException {
+		ResourceLimiter compressionLimiter = new ResourceLimiter(compressionThreads);
+		Deque<Future<DeflatedZipEntry>> pendingEntries = new ArrayDeque<>();
+		try (ZipArchiveOutputStream zipoutput = new ZipArchiveOutputStream(outputStream)) {
+			for(MessageZipEntry entry : parts) {
+				pendingEntries.addLast(submitDeflate(entry, compressionLimiter));
+				while (pendingEntries.size() > compressionThreads * 2) {
+					writeDeflatedEntry(pendingEntries.removeFirst(), zipoutput);
+				}
+			}
+			while (!pendingEntries.isEmpty()) {
+				writeDeflatedEntry(pendingEntries.removeFirst(), zipoutput);
+			}
+		} finally {
+			pendingEntries.forEach(pendingEntry -> pendingEntry.cancel(true));
+		}
+	}
+
+	private Future<DeflatedZipEntry> submitDeflate(MessageZipEntry entry, ResourceLimiter compressionLimiter) throws IOException {
+		try {
+			compressionLimiter.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for compression thread");
+		}
+		FutureTask<DeflatedZipEntry> task = new FutureTask<>(() -> {
+			try {
+				return entry.deflate();
+			} finally {
+				compressionLimiter.release();
+			}
+		});
+		try {
+			taskExecutor.execute(task);
+		} catch (RuntimeException e) {
+			compressionLimiter.release();
+			throw e;
+		}
+		return task;
+	}
+
+	private void writeDeflatedEntry(Future<DeflatedZipEntry> pendingEntry, ZipArchiveOutputStream zipoutput) throws IOException {
+		try (DeflatedZipEntry deflatedEntry = pendingEntry.get()) {
+			deflatedEntry.writeEntry(zipoutput);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for compression of zip entry");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException("cannot compress zip entry", e.getCause());
+		}
+	}
+
 	@Override
 	public void close() throws Exception {
 		// nothing to close
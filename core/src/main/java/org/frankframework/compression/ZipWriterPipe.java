@@ -15,11 +15,15 @@
 */
 package org.frankframework.compression;
 
+import org.springframework.core.task.TaskExecutor;
+
 import lombok.Getter;
+import lombok.Setter;
 
 import org.frankframework.collection.AbstractCollectorPipe;
 import org.frankframework.collection.CollectionException;
 import org.frankframework.configuration.ConfigurationException;
+import org.frankframework.configuration.ConfigurationWarnings;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.stream.Message;
 
@@ -29,6 +33,10 @@ import org.frankframework.stream.Message;
  * A chain of zipWriterPipes can be used to create a ZIP archive. You can use the pipe with different actions (see specified below).
  * Action <code>CLOSE</code> will generate the ZIP archive which is returned as the pipe ouput.
  * </p>
+ * <p>
+ * Set {@literal compressionThreads} on the pipe with action <code>OPEN</code> to compress the entries of large archives on multiple threads.
+ * The entries are still written to the archive in the order in which they were added.
+ * </p>
  *
  * @ff.parameter filename only for <code>action=WRITE</code>: the filename of the zip-entry
  * @ff.parameter contents only for <code>action=WRITE</code>: contents of the zip-entry, If not specified, the input is used.
@@ -40,6 +48,9 @@ import org.frankframework.stream.Message;
 public class ZipWriterPipe extends AbstractCollectorPipe<ZipWriter, MessageZipEntry> {
 
 	private @Getter boolean includeFileHeaders = false;
+	private @Getter int compressionThreads = 0;
+
+	private @Getter @Setter TaskExecutor taskExecutor;
 
 	public ZipWriterPipe() {
 		setCollectionName("zipwriterhandle");
@@ -49,12 +60,21 @@ public class ZipWriterPipe extends AbstractCollectorPipe<ZipWriter, MessageZipEn
 	public void configure() throws ConfigurationException {
 		super.configure();
 		ZipWriter.validateParametersForAction(getAction(), getParameterList());
+		if (getCompressionThreads() > 0) {
+			if (getAction() != Action.OPEN) {
+				ConfigurationWarnings.add(this, log, "attribute [compressionThreads] is only used on action [OPEN]");
+			} else if (isIncludeFileHeaders()) {
+				ConfigurationWarnings.add(this, log, "attribute [compressionThreads] has no effect in combination with [completeFileHeader], entries are stored without compression");
+			} else if (getTaskExecutor() == null) {
+				throw new ConfigurationException("no taskExecutor available to compress entries in parallel");
+			}
+		}
 	}
 
 	@Override
 	protected ZipWriter createCollector(Message input, PipeLineSession session) throws CollectionException {
 		String filename = getParameterValueList(input, session).getValue(ZipWriter.PARAMETER_FILENAME, "");
-		return new ZipWriter(includeFileHeaders, filename);
+		return new ZipWriter(includeFileHeaders, filename, getCompressionThreads(), getTaskExecutor());
 	}
 
 	/**
@@ -64,4 +84,13 @@ public class ZipWriterPipe extends AbstractCollectorPipe<ZipWriter, MessageZipEn
 	public void setCompleteFileHeader(boolean b) {
 		includeFileHeaders = b;
 	}
+
+	/**
+	 * Only for action='open': Number of threads used to compress the entries of the archive in parallel, when it is closed.
+	 * The default value of 0 compresses all entries on the thread that closes the archive.
+	 * @ff.default 0
+	 */
+	public void setCompressionThreads(int compressionThreads) {
+		this.compressionThreads = compressionThreads;
+	}
 }
@@ -19,7 +19,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NonNull;
@@ -52,7 +52,7 @@ public class ClassLoaderManager {
 	private final AppConstants APP_CONSTANTS = AppConstants.getInstance();
 
 	private final int MAX_CLASSLOADER_ITEMS = APP_CONSTANTS.getInt("classloader.items.max", 100);
-	private final Map<String, ClassLoader> classLoaders = new TreeMap<>();
+	private final Map<String, ClassLoader> classLoaders = new ConcurrentSkipListMap<>(); // ClassLoaders may be created concurrently when configurations are loaded in parallel
 	private final ClassLoader classPathClassLoader;
 
 	public static final String CLASSLOADER_PACKAGE_LOCATION = "org.frankframework.configuration.classloaders.%s";
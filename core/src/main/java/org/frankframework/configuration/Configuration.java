@@ -100,6 +100,11 @@ public class Configuration extends ClassPathXmlApplicationContext implements Con
 
 	private @Getter ConfigurationException configurationException = null;
 
+	// Durations of the startup phases in milliseconds, or -1 when the phase has not (yet) completed
+	private @Getter long digestDuration = -1;
+	private @Getter long configureDuration = -1;
+	private @Getter long startDuration = -1;
+
 	public Configuration() {
 		setConfigLocation(SpringContextScope.CONFIGURATION.getContextFile()); // Don't call the super(..), it will trigger a refresh.
 	}
@@ -212,6 +217,7 @@ public class Configuration extends ClassPathXmlApplicationContext implements Con
 		try (final CloseableThreadContext.Instance ctc = CloseableThreadContext.put("configuration", getName())) {
 			ConfigurationDigester configurationDigester = getBean(ConfigurationDigester.class);
 			configurationDigester.digest();
+			digestDuration = System.currentTimeMillis() - start;
 
 			// Trigger a configure on all (Configurable) Lifecycle beans
 			LifecycleProcessor lifecycle = getBean(LIFECYCLE_PROCESSOR_BEAN_NAME, LifecycleProcessor.class);
@@ -234,10 +240,13 @@ public class Configuration extends ClassPathXmlApplicationContext implements Con
 			throw e;
 		}
 		configured = true;
+		configureDuration = System.currentTimeMillis() - start;
 
 		String msg;
 		if (isAutoStartup()) {
+			long startTime = System.currentTimeMillis();
 			start(); // Calls ConfiguringLifecycleProcessor#start() which starts all newly (non-started) registered beans.
+			startDuration = System.currentTimeMillis() - startTime;
 			msg = "startup in " + (System.currentTimeMillis() - start) + " ms";
 		} else {
 			msg = "configured in " + (System.currentTimeMillis() - start) + " ms";
@@ -17,14 +17,21 @@ package org.frankframework.configuration;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeanInstantiationException;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
@@ -67,6 +74,7 @@ import org.frankframework.util.flow.FlowDiagramManager;
 public class IbisContext extends IbisApplicationContext {
 	private static final Logger LOG = LogUtil.getLogger(IbisContext.class);
 	private static final Logger APPLICATION_LOG = LogUtil.getLogger("APPLICATION");
+	public static final String CONFIGURATIONS_LOAD_THREADS_KEY = "configurations.load.threads";
 
 	static {
 		checkForDeprecations();
@@ -97,7 +105,7 @@ public class IbisContext extends IbisApplicationContext {
 	private @Getter IbisManager ibisManager;
 	private FlowDiagramManager flowDiagramManager;
 	private ClassLoaderManager classLoaderManager = null;
-	private static final List<String> loadingConfigs = new ArrayList<>();
+	private static final List<String> loadingConfigs = Collections.synchronizedList(new ArrayList<>());
 
 	private Thread ibisContextReconnectThread = null;
 
@@ -281,6 +289,10 @@ public class IbisContext extends IbisApplicationContext {
 	/**
 	 * Loads, digests and starts the specified configuration, or all configurations
 	 * Does not check if the configuration already exists. Does not unload old configurations!
+	 * <p>
+	 * When all configurations are loaded and {@value #CONFIGURATIONS_LOAD_THREADS_KEY} is larger than 1, independent configurations are
+	 * loaded concurrently. A configuration with a {@code parentConfig} is only loaded after its parent configuration has been loaded.
+	 * </p>
 	 *
 	 * @param configurationName name of the configuration to load or null when you want to load all configurations
 	 *
@@ -293,41 +305,18 @@ public class IbisContext extends IbisApplicationContext {
 
 		// We have an ordered list with all configurations, lets loop through!
 		Map<String, Class<? extends IConfigurationClassLoader>> allConfigNamesItems = retrieveAllConfigNames();
-		for (Entry<String, Class<? extends IConfigurationClassLoader>> currentConfigNameItem : allConfigNamesItems.entrySet()) {
-			String currentConfigurationName = currentConfigNameItem.getKey();
-			String classLoaderType = currentConfigNameItem.getValue() == null ? null : currentConfigNameItem.getValue().getCanonicalName();
-
-			if (configurationName == null || configurationName.equals(currentConfigurationName)) {
-				LOG.info("loading configuration [{}]", currentConfigurationName);
-				configFound = true;
-
-				ClassLoaderException classLoaderException = null;
-				ClassLoader classLoader = null;
-				try {
-					classLoader = classLoaderManager.get(currentConfigurationName, classLoaderType);
-
-					// An error occurred but we don't want to throw any exceptions.
-					// Skip configuration digesting so it can be done at a later time.
-					if(classLoader == null)
-						continue;
-
-				} catch (ClassLoaderException e) {
-					classLoaderException = e;
-					if(LOG.isDebugEnabled())
-						LOG.debug("configuration [{}] got exception creating/retrieving classloader type [{}] errorMessage [{}]", currentConfigurationName, classLoaderType, e.getMessage());
-				}
+		int loadThreads = AppConstants.getInstance().getInt(CONFIGURATIONS_LOAD_THREADS_KEY, 1);
+		if (configurationName == null && loadThreads > 1 && allConfigNamesItems.size() > 1) {
+			loadInParallel(allConfigNamesItems, loadThreads);
+			configFound = true;
+		} else {
+			for (Entry<String, Class<? extends IConfigurationClassLoader>> currentConfigNameItem : allConfigNamesItems.entrySet()) {
+				String currentConfigurationName = currentConfigNameItem.getKey();
 
-				if(LOG.isDebugEnabled()) LOG.debug("configuration [{}] found classloader [{}]", currentConfigurationName, ClassUtils.nameOf(classLoader));
-				try {
-					loadingConfigs.add(currentConfigurationName);
-					createAndConfigureConfigurationWithClassLoader(classLoader, currentConfigurationName, classLoaderException);
-				} catch (Exception e) {
-					log("an exception occurred while loading configuration ["+currentConfigurationName+"]", MessageEventLevel.ERROR, e);
-				} finally {
-					loadingConfigs.remove(currentConfigurationName);
+				if (configurationName == null || configurationName.equals(currentConfigurationName)) {
+					configFound = true;
+					loadConfiguration(currentConfigurationName, currentConfigNameItem.getValue());
 				}
-
-				LOG.info("configuration [{}] loaded successfully", currentConfigurationName);
 			}
 		}
 
@@ -338,6 +327,72 @@ public class IbisContext extends IbisApplicationContext {
 		}
 	}
 
+	/**
+	 * Loads the configurations on a bounded pool of threads. Each configuration is scheduled after its parent configuration, if it has one,
+	 * so the ClassLoader of the parent exists before the child is created. The configurations are sorted in their declared order afterwards.
+	 */
+	private void loadInParallel(Map<String, Class<? extends IConfigurationClassLoader>> allConfigNamesItems, int loadThreads) {
+		long start = System.currentTimeMillis();
+		int threads = Math.min(loadThreads, allConfigNamesItems.size());
+		LOG.info("loading [{}] configurations using [{}] threads", allConfigNamesItems.size(), threads);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("ConfigurationLoader-", 1).factory());
+		try {
+			Map<String, CompletableFuture<Void>> loadedConfigurations = new HashMap<>();
+			for (Entry<String, Class<? extends IConfigurationClassLoader>> currentConfigNameItem : allConfigNamesItems.entrySet()) {
+				String currentConfigurationName = currentConfigNameItem.getKey();
+				Runnable loader = () -> loadConfiguration(currentConfigurationName, currentConfigNameItem.getValue());
+
+				String parentConfig = AppConstants.getInstance().getString("configurations." + currentConfigurationName + ".parentConfig", null);
+				CompletableFuture<Void> parent = parentConfig != null ? loadedConfigurations.get(parentConfig) : null;
+				CompletableFuture<Void> future = parent != null ? parent.thenRunAsync(loader, executor) : CompletableFuture.runAsync(loader, executor);
+				loadedConfigurations.put(currentConfigurationName, future);
+			}
+
+			CompletableFuture.allOf(loadedConfigurations.values().toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			log("an exception occurred while loading configurations in parallel", MessageEventLevel.ERROR, e.getCause() instanceof Exception cause ? cause : e);
+		} finally {
+			executor.shutdown();
+		}
+
+		ibisManager.sortConfigurations(List.copyOf(allConfigNamesItems.keySet()));
+		LOG.info("loaded [{}] configurations in [{}] ms", allConfigNamesItems.size(), System.currentTimeMillis() - start);
+	}
+
+	private void loadConfiguration(String currentConfigurationName, @Nullable Class<? extends IConfigurationClassLoader> classLoaderClass) {
+		String classLoaderType = classLoaderClass == null ? null : classLoaderClass.getCanonicalName();
+		LOG.info("loading configuration [{}]", currentConfigurationName);
+
+		ClassLoaderException classLoaderException = null;
+		ClassLoader classLoader = null;
+		try {
+			classLoader = classLoaderManager.get(currentConfigurationName, classLoaderType);
+
+			// An error occurred but we don't want to throw any exceptions.
+			// Skip configuration digesting so it can be done at a later time.
+			if(classLoader == null)
+				return;
+
+		} catch (ClassLoaderException e) {
+			classLoaderException = e;
+			if(LOG.isDebugEnabled())
+				LOG.debug("configuration [{}] got exception creating/retrieving classloader type [{}] errorMessage [{}]", currentConfigurationName, classLoaderType, e.getMessage());
+		}
+
+		if(LOG.isDebugEnabled()) LOG.debug("configuration [{}] found classloader [{}]", currentConfigurationName, ClassUtils.nameOf(classLoader));
+		try {
+			loadingConfigs.add(currentConfigurationName);
+			createAndConfigureConfigurationWithClassLoader(classLoader, currentConfigurationName, classLoaderException);
+		} catch (Exception e) {
+			log("an exception occurred while loading configuration ["+currentConfigurationName+"]", MessageEventLevel.ERROR, e);
+		} finally {
+			loadingConfigs.remove(currentConfigurationName);
+		}
+
+		LOG.info("configuration [{}] loaded successfully", currentConfigurationName);
+	}
+
 	/** Helper method to create stubbed configurations used in JunitTests */
 	protected Map<String, Class<? extends IConfigurationClassLoader>> retrieveAllConfigNames() {
 		return ConfigurationUtils.retrieveAllConfigNames(getApplicationContext());
@@ -15,9 +15,10 @@
 */
 package org.frankframework.configuration;
 
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.logging.log4j.Logger;
@@ -47,7 +48,7 @@ public class IbisManager implements ApplicationContextAware {
 	private final Logger secLog = LogUtil.getLogger("SEC");
 
 	private IbisContext ibisContext;
-	private final List<Configuration> configurations = new ArrayList<>();
+	private final List<Configuration> configurations = new CopyOnWriteArrayList<>(); // Configurations may be added concurrently when they are loaded in parallel
 	private @Getter @Setter ApplicationContext applicationContext; // Only here for the DatabaseClassLoader to create a FixedQuerySender bean.
 
 	public void setIbisContext(IbisContext ibisContext) {
@@ -62,6 +63,17 @@ public class IbisManager implements ApplicationContextAware {
 		configurations.add(configuration);
 	}
 
+	/**
+	 * Orders the configurations by the given names, for instance after they have been loaded in parallel.
+	 * Configurations that are not in the list are placed at the end.
+	 */
+	void sortConfigurations(List<String> configurationNames) {
+		configurations.sort(Comparator.comparingInt(configuration -> {
+			int index = configurationNames.indexOf(configuration.getName());
+			return index < 0 ? Integer.MAX_VALUE : index;
+		}));
+	}
+
 	public List<Configuration> getConfigurations() {
 		return Collections.unmodifiableList(configurations);
 	}
@@ -189,6 +189,11 @@ public class ConfigurationDigester implements ConfigurationAware {
 	/**
 	 * Performs an Identity-transform, which resolves entities with content from files found on the ClassPath.
 	 * Resolve all non-attribute properties
+	 * <p>
+	 * When a {@link ConfigurationSnapshot} of the configuration is available, the preprocessed configuration is read from the snapshot instead.
+	 * The configuration and its includes are still read, to verify that they have not changed since the snapshot was stored.
+	 * Configurations that produce warnings while being preprocessed are not stored in a snapshot, so the warnings are reported on every startup.
+	 * </p>
 	 */
 	// Test method
 	protected void parseAndResolveEntitiesAndProperties(ContentHandler digester, ApplicationContext applicationContext, Resource resource, PropertyLoader properties) throws IOException, SAXException, TransformerConfigurationException {
@@ -199,25 +204,47 @@ public class ConfigurationDigester implements ConfigurationAware {
 		handler = new AttributePropertyResolver(handler, properties, getPropsToHide(properties));
 		handler = new XmlTee(digester, handler);
 
-		handler = getStub4TesttoolContentHandler(handler, applicationContext::getClassLoader, properties);
-		handler = getConfigurationCanonicalizer(handler);
-		handler = new OnlyActiveFilter(handler, properties);
-		handler = new ElementPropertyResolver(handler, properties);
+		ConfigurationSnapshot snapshot = applicationContext instanceof Configuration config ? ConfigurationSnapshot.forConfiguration(config, properties) : null;
+		ConfigurationSnapshot.Contents snapshotContents = snapshot != null ? snapshot.read(readOriginalConfiguration(resource)) : null;
+		if (snapshotContents != null) {
+			XmlUtils.parseXml(snapshotContents.preprocessedConfiguration(), handler);
+			originalConfiguration = snapshotContents.originalConfiguration();
+		} else {
+			XmlWriter preprocessedWriter = new XmlWriter();
+			if (snapshot != null) {
+				handler = new XmlTee(handler, preprocessedWriter);
+			}
+			Properties resolverProperties = snapshot != null ? snapshot.recordingProperties() : properties;
+
+			XmlErrorHandler validationErrorHandler = new XmlErrorHandler(ConfigurationUtils.FRANK_CONFIG_XSD);
+			handler = getStub4TesttoolContentHandler(handler, applicationContext::getClassLoader, properties);
+			handler = getConfigurationCanonicalizer(handler, ConfigurationUtils.FRANK_CONFIG_XSD, validationErrorHandler);
+			handler = new OnlyActiveFilter(handler, resolverProperties);
+			handler = new ElementPropertyResolver(handler, resolverProperties);
+
+			ClassNameRewriter classNameRewriter = null;
+			boolean rewriteLegacyClassNames = properties.getBoolean(MIGRATION_REWRITE_LEGACY_CLASS_NAMES_KEY, true);
+			if (rewriteLegacyClassNames) {
+				classNameRewriter = new ClassNameRewriter(handler, applicationContext);
+				handler = classNameRewriter;
+			}
 
-		boolean rewriteLegacyClassNames = properties.getBoolean(MIGRATION_REWRITE_LEGACY_CLASS_NAMES_KEY, true);
-		if (rewriteLegacyClassNames) {
-			handler = new ClassNameRewriter(handler, applicationContext);
-		}
+			XmlWriter originalConfigWriter = new XmlWriter();
+			handler = new XmlTee(handler, originalConfigWriter);
 
-		XmlWriter originalConfigWriter = new XmlWriter();
-		handler = new XmlTee(handler, originalConfigWriter);
+			handler = new IncludeFilter(handler, resource);
+
+			XmlUtils.parseXml(resource, handler);
 
-		handler = new IncludeFilter(handler, resource);
+			// After parsing we know the values.
+			originalConfiguration = originalConfigWriter.toString();
 
-		XmlUtils.parseXml(resource, handler);
+			boolean hasWarnings = validationErrorHandler.getNumberOfWarnings() > 0 || (classNameRewriter != null && classNameRewriter.getNumberOfWarnings() > 0);
+			if (snapshot != null && !hasWarnings) {
+				snapshot.write(originalConfiguration, preprocessedWriter.toString());
+			}
+		}
 
-		// After parsing we know the values.
-		originalConfiguration = originalConfigWriter.toString();
 		if (originalConfiguration.startsWith("<PipelinePart")) {
 			// Ensure plugins have a root element. Yes I know....
 			// See Ladybug's PipeDescriptionProvider
@@ -227,6 +254,15 @@ public class ConfigurationDigester implements ConfigurationAware {
 		}
 	}
 
+	/**
+	 * Reads the configuration with its includes and entities resolved, without validating or preprocessing it.
+	 */
+	private String readOriginalConfiguration(Resource resource) throws IOException, SAXException {
+		XmlWriter originalConfigWriter = new XmlWriter();
+		XmlUtils.parseXml(resource, new IncludeFilter(originalConfigWriter, resource));
+		return originalConfigWriter.toString();
+	}
+
 	/**
 	 * Determine what the default ConfigurationFile is, typically {@value ConfigurationUtils#DEFAULT_CONFIGURATION_FILE}.
 	 * If the file cannot be found, see if it's optional, see {@link ConfigurationUtils#isConfigurationXmlOptional(Configuration)}.
@@ -258,11 +294,6 @@ public class ConfigurationDigester implements ConfigurationAware {
 		return propsToHide;
 	}
 
-	private ContentHandler getConfigurationCanonicalizer(ContentHandler writer) throws IOException {
-		String frankConfigXSD = ConfigurationUtils.FRANK_CONFIG_XSD;
-		return getConfigurationCanonicalizer(writer, frankConfigXSD, new XmlErrorHandler(frankConfigXSD));
-	}
-
 	// Test method
 	protected ContentHandler getConfigurationCanonicalizer(ContentHandler handler, String frankConfigXSD, ErrorHandler errorHandler) throws IOException {
 		try {
@@ -310,6 +341,7 @@ public class ConfigurationDigester implements ConfigurationAware {
 
 	private class XmlErrorHandler implements ErrorHandler {
 		private final String schema;
+		private @Getter int numberOfWarnings = 0;
 		public XmlErrorHandler(String schema) {
 			this.schema = schema;
 		}
@@ -328,6 +360,7 @@ public class ConfigurationDigester implements ConfigurationAware {
 		}
 
 		private void logErrorMessage(String prefix, SAXParseException exception) {
+			numberOfWarnings++;
 			String msg = prefix+" in ["+exception.getSystemId()+"] at line ["+exception.getLineNumber()+"] when validating against schema ["+schema+"]: " + exception.getMessage();
 			if (!suppressValidationWarnings) {
 				configurationWarnings.add((Object)null, log, msg);
@@ -0,0 +1,231 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.configuration.digester;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.configuration.Configuration;
+import org.frankframework.configuration.util.ConfigurationUtils;
+import org.frankframework.util.PropertyLoader;
+
+/**
+ * Local copy of the preprocessed XML of a configuration, so an unchanged configuration does not have to resolve its includes,
+ * validate against the FrankConfig XSD and apply the stub XSLTs again on the next startup.
+ * <p>
+ * A snapshot is identified by the name and version of the configuration and the version of the framework. The original configuration, with
+ * its includes and entities resolved, and a hash of the properties that were resolved while preprocessing are stored in the snapshot as well.
+ * When the configuration or one of its includes has changed, e.g. during development or with a SNAPSHOT version, or when one of these
+ * properties has a different value, the snapshot is ignored and replaced. Attribute values are not resolved during preprocessing, so they do
+ * not end up in the snapshot.
+ * </p>
+ */
+@Log4j2
+final class ConfigurationSnapshot {
+	static final String SNAPSHOT_ENABLED_KEY = "configurations.snapshot.enabled";
+	static final String SNAPSHOT_DIRECTORY_KEY = "configurations.snapshot.directory";
+
+	private static final int FORMAT_VERSION = 1;
+
+	private final Path file;
+	private final PropertyLoader properties;
+	private final Map<String, String> usedProperties = new TreeMap<>();
+
+	record Contents(@NonNull String originalConfiguration, @NonNull String preprocessedConfiguration) {}
+
+	private ConfigurationSnapshot(Path file, PropertyLoader properties) {
+		this.file = file;
+		this.properties = properties;
+
+		// These properties are read directly from the PropertyLoader while preprocessing
+		recordProperty(ConfigurationUtils.STUB4TESTTOOL_CONFIGURATION_KEY);
+		recordProperty(ConfigurationUtils.STUB4TESTTOOL_XSLT_KEY);
+		recordProperty(ConfigurationUtils.STUB4TESTTOOL_VALIDATORS_DISABLED_KEY);
+		recordProperty(ConfigurationDigester.MIGRATION_REWRITE_LEGACY_CLASS_NAMES_KEY);
+	}
+
+	/**
+	 * Returns the snapshot of the configuration, or {@code null} when snapshots are disabled or the configuration does not have a version.
+	 */
+	static @Nullable ConfigurationSnapshot forConfiguration(@NonNull Configuration configuration, @NonNull PropertyLoader properties) {
+		if (!properties.getBoolean(SNAPSHOT_ENABLED_KEY, false)) {
+			return null;
+		}
+		String directory = properties.getString(SNAPSHOT_DIRECTORY_KEY, null);
+		if (StringUtils.isEmpty(directory) || StringUtils.isEmpty(configuration.getVersion())) {
+			log.debug("not using a snapshot for configuration [{}], it has no version or no snapshot directory has been set", configuration::getName);
+			return null;
+		}
+
+		String key = computeKey(configuration.getName(), configuration.getVersion(), properties.getProperty("application.version"));
+		String fileName = configuration.getName().replaceAll("[^A-Za-z0-9._-]", "_") + "-" + key + ".snapshot";
+		return new ConfigurationSnapshot(Path.of(directory, fileName), properties);
+	}
+
+	private static String computeKey(String... values) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (String value : values) {
+				if (value != null) {
+					digest.update(value.getBytes(StandardCharsets.UTF_8));
+				}
+				digest.update((byte) 0);
+			}
+			return HexFormat.of().formatHex(digest.digest(), 0, 16);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("cannot compute snapshot key", e);
+		}
+	}
+
+	private void recordProperty(String key) {
+		usedProperties.put(key, properties.getProperty(key));
+	}
+
+	/**
+	 * Returns a view of the properties that records which properties are resolved, so they can be compared when the snapshot is read.
+	 */
+	@NonNull Properties recordingProperties() {
+		return new Properties() {
+			@Override
+			public String getProperty(String key) {
+				String value = properties.getProperty(key);
+				usedProperties.put(key, value);
+				return value;
+			}
+
+			@Override
+			public String getProperty(String key, String defaultValue) {
+				String value = getProperty(key);
+				return value != null ? value : defaultValue;
+			}
+		};
+	}
+
+	/**
+	 * Returns the contents of the snapshot, or {@code null} when there is no snapshot or it is outdated.
+	 *
+	 * @param originalConfiguration the current configuration, with its includes and entities resolved
+	 */
+	@Nullable Contents read(@NonNull String originalConfiguration) {
+		try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				log.info("ignoring snapshot [{}], it has been written in an unsupported format", file);
+				return null;
+			}
+			int numberOfProperties = in.readInt();
+			for (int i = 0; i < numberOfProperties; i++) {
+				String key = readString(in);
+				String valueHash = readString(in);
+				if (!Objects.equals(valueHash, computeKey(properties.getProperty(key)))) {
+					log.info("ignoring snapshot [{}], the value of property [{}] has changed", file, key);
+					return null;
+				}
+			}
+			Contents contents = new Contents(Objects.requireNonNull(readString(in)), Objects.requireNonNull(readString(in)));
+			if (!originalConfiguration.equals(contents.originalConfiguration())) {
+				log.info("ignoring snapshot [{}], the configuration has changed", file);
+				return null;
+			}
+			log.info("using snapshot [{}] of the preprocessed configuration", file);
+			return contents;
+		} catch (NoSuchFileException e) {
+			log.debug("no snapshot [{}] found", file);
+			return null;
+		} catch (IOException | RuntimeException e) {
+			log.warn("unable to read snapshot [{}], configuration will be preprocessed", file, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the snapshot to a temporary file first and moves it in place, so instances that share the directory never read a partial snapshot.
+	 * Failures are logged, as the snapshot only serves to speed up the next startup.
+	 */
+	void write(@NonNull String originalConfiguration, @NonNull String preprocessedConfiguration) {
+		Path tempFile = null;
+		try {
+			Files.createDirectories(file.getParent());
+			tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+			try (OutputStream fileStream = Files.newOutputStream(tempFile); DataOutputStream out = new DataOutputStream(new GZIPOutputStream(fileStream))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(usedProperties.size());
+				for (Map.Entry<String, String> entry : usedProperties.entrySet()) {
+					writeString(out, entry.getKey());
+					writeString(out, computeKey(entry.getValue()));
+				}
+				writeString(out, originalConfiguration);
+				writeString(out, preprocessedConfiguration);
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			log.info("stored snapshot [{}] of the preprocessed configuration", file);
+		} catch (IOException e) {
+			log.warn("unable to store snapshot [{}]", file, e);
+			if (tempFile != null) {
+				try {
+					Files.deleteIfExists(tempFile);
+				} catch (IOException e2) {
+					log.debug("unable to remove temporary file [{}]", tempFile, e2);
+				}
+			}
+		}
+	}
+
+	Path getFile() {
+		return file;
+	}
+
+	private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static @Nullable String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
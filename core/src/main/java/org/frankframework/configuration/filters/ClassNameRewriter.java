@@ -22,6 +22,7 @@ import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 import org.frankframework.configuration.ConfigurationWarnings;
@@ -41,6 +42,7 @@ public class ClassNameRewriter extends FullXmlFilter {
 			"org.frankframework.pipes.LargeBlockTester", "org.frankframework.extensions.sap.jco3.SapLUWManager", "org.frankframework.extensions.rekenbox.RekenBoxCaller");
 
 	private final ConfigurationWarnings configWarning;
+	private @Getter int numberOfWarnings = 0;
 
 	public ClassNameRewriter(ContentHandler handler, ApplicationContext applicationContext) {
 		super(handler);
@@ -79,6 +81,7 @@ public class ClassNameRewriter extends FullXmlFilter {
 	}
 
 	private void addDeprecationWarning(String message) {
+		numberOfWarnings++;
 		if (configWarning == null) {
 			log.warn(message);
 		} else {
@@ -323,6 +323,8 @@ public class Adapter extends GenericApplicationContext implements ManagableLifec
 
 	private final RunStateManager runState = new RunStateManager();
 	private @Getter boolean isConfigured = false;
+	private @Getter long configureDuration = -1; // Milliseconds it took to configure the adapter, -1 when not configured
+	private @Getter volatile long startDuration = -1; // Milliseconds it took to start the adapter and its receivers, -1 when not started
 	private final boolean msgLogHumanReadable = appConstants.getBoolean("msg.log.humanReadable", false);
 
 	private @Getter @Setter TaskExecutor taskExecutor;
@@ -467,6 +469,7 @@ public class Adapter extends GenericApplicationContext implements ManagableLifec
 				configurable.configure();
 			}
 
+			configureDuration = System.currentTimeMillis() - startTime;
 			log.info("configured adapter in {}", () -> Misc.getDurationInMs(startTime));
 		}
 
@@ -994,6 +997,7 @@ public class Adapter extends GenericApplicationContext implements ManagableLifec
 			log.trace("Start Adapter thread - lock released on Adapter runState[{}]", runState);
 		}
 
+		final long startTime = System.currentTimeMillis();
 		Runnable runnable = new Runnable() {
 			@Override
 			public void run() {
@@ -1008,6 +1012,7 @@ public class Adapter extends GenericApplicationContext implements ManagableLifec
 						receiver.start();
 					}
 
+					startDuration = System.currentTimeMillis() - startTime;
 					log.info("Adapter [{}] and receivers up and running", name);
 					log.trace("Start Adapter thread - finished and completed");
 				}
@@ -0,0 +1,36 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.core;
+
+/**
+ * PullingListener extension that can be notified when new messages may be available, e.g. by a database trigger.
+ * When the receiver is idle, it waits for a notification instead of for the full pollInterval. The pollInterval
+ * remains the maximum time between polls, so messages that arrive without a notification are received as well.
+ */
+public interface INotifyingListener<M> extends IPullingListener<M> {
+
+	/**
+	 * Returns true if notifications are used. When false, e.g. because the dbms does not support them, the receiver only polls.
+	 */
+	boolean isNotificationEnabled();
+
+	/**
+	 * Waits at most {@code timeout} milliseconds for a notification. Is called by a single thread of the receiver only.
+	 *
+	 * @return true if a notification was received, and messages may be available
+	 */
+	boolean awaitNotification(long timeout) throws ListenerException, InterruptedException;
+}
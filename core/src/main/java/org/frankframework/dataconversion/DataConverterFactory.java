@@ -25,6 +25,7 @@ import org.jspecify.annotations.Nullable;
 import org.w3c.dom.Node;
 
 import org.frankframework.functional.ThrowingSupplier;
+import org.frankframework.stream.SegmentedByteArray;
 import org.frankframework.stream.SerializableFileReference;
 import org.frankframework.util.ClassUtils;
 
@@ -41,6 +42,7 @@ public class DataConverterFactory {
 	static final StringableDataConverter.DateConverter dateConverter = new StringableDataConverter.DateConverter();
 	static final StringableDataConverter.TemporalAccessorConverter temporalAccessorConverter = new StringableDataConverter.TemporalAccessorConverter();
 	static final ByteArrayConverter byteArrayConverter = new ByteArrayConverter();
+	static final SegmentedByteArrayConverter segmentedByteArrayConverter = new SegmentedByteArrayConverter();
 
 	private DataConverterFactory() {
 		// Private constructor to avoid instance creation
@@ -61,6 +63,7 @@ public class DataConverterFactory {
 			case String string -> new CharacterDataConverter<>(string, stringConverter);
 			case Node node -> new CharacterDataConverter<>(node, nodeConverter);
 			case byte[] bytes -> new BinaryDataConverter<>(bytes, byteArrayConverter, charsetSupplier);
+			case SegmentedByteArray segmentedByteArray -> new BinaryDataConverter<>(segmentedByteArray, segmentedByteArrayConverter, charsetSupplier);
 			case SerializableFileReference serializableFileReference -> new BinaryDataConverter<>(serializableFileReference, serializableFileReferenceConverter, charsetSupplier);
 			case ThrowingSupplier<?, ?> throwingSupplier -> //noinspection unchecked
 					new BinaryDataConverter<>((ThrowingSupplier<InputStream, Exception>) throwingSupplier, throwingSupplierConverter, charsetSupplier);
@@ -0,0 +1,48 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.dataconversion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+
+import org.frankframework.stream.SegmentedByteArray;
+
+/**
+ * Streams {@link SegmentedByteArray} data directly from its segments, the segments are only concatenated when a {@code byte[]} is requested.
+ */
+class SegmentedByteArrayConverter implements TypedBinaryDataConverter<SegmentedByteArray> {
+
+	@Override
+	public long size(SegmentedByteArray data) {
+		return data.size();
+	}
+
+	@Override
+	public byte[] asByteArray(SegmentedByteArray data) throws IOException {
+		return data.toByteArray();
+	}
+
+	@Override
+	public InputStream asInputStream(SegmentedByteArray data) throws IOException {
+		return data.asInputStream();
+	}
+
+	@Override
+	public Serializable asSerializable(SegmentedByteArray data) throws IOException {
+		return data.toByteArray();
+	}
+}
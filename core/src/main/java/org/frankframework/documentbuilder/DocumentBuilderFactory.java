@@ -19,7 +19,9 @@ import java.io.Writer;
 
 import org.xml.sax.SAXException;
 
+import org.frankframework.documentbuilder.json.JsonWriter;
 import org.frankframework.stream.MessageBuilder;
+import org.frankframework.xml.XmlWriter;
 
 @SuppressWarnings("resource")
 public class DocumentBuilderFactory {
@@ -46,6 +48,17 @@ public class DocumentBuilderFactory {
 		return startDocument(format, rootElement, outputStream, prettyPrint).asObjectBuilder();
 	}
 
+	/**
+	 * Starts a document that is written to the writer, which is not closed when the document ends.
+	 */
+	public static ObjectBuilder startObjectDocument(DocumentFormat format, String rootElement, Writer writer, boolean prettyPrint) throws SAXException {
+		IDocumentBuilder documentBuilder = switch (format) {
+			case XML -> new XmlDocumentBuilder(rootElement, new XmlWriter(writer), prettyPrint);
+			case JSON -> new JsonDocumentBuilder(new JsonWriter(writer));
+		};
+		return documentBuilder.asObjectBuilder();
+	}
+
 	public static ArrayBuilder startArrayDocument(DocumentFormat format, String rootElement, String elementName, MessageBuilder outputStream, boolean prettyPrint) throws SAXException {
 		return startDocument(format, rootElement, outputStream, prettyPrint).asArrayBuilder(elementName);
 	}
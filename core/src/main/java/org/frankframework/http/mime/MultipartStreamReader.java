@@ -0,0 +1,252 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.http.mime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetHeaders;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.frankframework.util.StreamUtil;
+
+/**
+ * Reads the parts of a multipart stream one by one, without reading ahead further than a single buffer.
+ * <p>
+ *     The content of a part is returned as an {@link InputStream} that ends at the next boundary. Requesting the next part skips the remainder
+ *     of the current part. Unlike {@link jakarta.mail.internet.MimeMultipart}, the stream is never read completely up front.
+ * </p>
+ */
+final class MultipartStreamReader {
+	private static final int MAX_HEADER_SIZE = 64 * 1024;
+
+	private final InputStream source;
+	private final byte[] delimiter;
+	private final byte[] buffer;
+	private int position = 0;
+	private int limit = 0;
+	private boolean endOfStream = false;
+	private boolean finished = false;
+	private @Nullable PartInputStream currentPart = null;
+
+	record StreamedPart(@NonNull InternetHeaders headers, @NonNull InputStream content) {}
+
+	MultipartStreamReader(@NonNull InputStream source, @NonNull String boundary) {
+		this.source = source;
+		this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+		this.buffer = new byte[Math.max(StreamUtil.BUFFER_SIZE, delimiter.length * 4)];
+		// The first boundary is not preceded by a line break, add one so every boundary can be found in the same way
+		buffer[limit++] = '\r';
+		buffer[limit++] = '\n';
+	}
+
+	/**
+	 * Skips the remainder of the current part and returns the next part, or {@code null} when the closing boundary has been read.
+	 */
+	@Nullable StreamedPart nextPart() throws IOException {
+		if (finished) {
+			return null;
+		}
+		if (currentPart == null) {
+			new PartInputStream().skipRemainder(); // The preamble
+		} else {
+			currentPart.skipRemainder();
+		}
+
+		fill(2);
+		if (limit - position >= 2 && buffer[position] == '-' && buffer[position + 1] == '-') {
+			finished = true;
+			currentPart = null;
+			return null;
+		}
+		readLine(); // Transport padding and the line break after the boundary
+
+		ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+		byte[] line;
+		do {
+			line = readLine();
+			headerBytes.write(line);
+			headerBytes.write('\r');
+			headerBytes.write('\n');
+			if (headerBytes.size() > MAX_HEADER_SIZE) {
+				throw new IOException("headers of multipart part exceed [" + MAX_HEADER_SIZE + "] bytes");
+			}
+		} while (line.length > 0);
+
+		try {
+			InternetHeaders headers = new InternetHeaders(new ByteArrayInputStream(headerBytes.toByteArray()));
+			currentPart = new PartInputStream();
+			return new StreamedPart(headers, currentPart);
+		} catch (MessagingException e) {
+			throw new IOException("unable to parse headers of multipart part", e);
+		}
+	}
+
+	private byte[] readLine() throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		while (true) {
+			fill(2);
+			if (limit - position < 2) {
+				throw new EOFException("multipart stream ended before the closing boundary");
+			}
+			if (buffer[position] == '\r' && buffer[position + 1] == '\n') {
+				position += 2;
+				return line.toByteArray();
+			}
+			line.write(buffer[position++]);
+			if (line.size() > MAX_HEADER_SIZE) {
+				throw new IOException("line in multipart stream exceeds [" + MAX_HEADER_SIZE + "] bytes");
+			}
+		}
+	}
+
+	/**
+	 * Reads from the source until at least {@code required} bytes are buffered, or the end of the source has been reached.
+	 */
+	private void fill(int required) throws IOException {
+		if (limit - position >= required || endOfStream) {
+			return;
+		}
+		if (position > 0) {
+			System.arraycopy(buffer, position, buffer, 0, limit - position);
+			limit -= position;
+			position = 0;
+		}
+		while (limit < required && !endOfStream) {
+			int read = source.read(buffer, limit, buffer.length - limit);
+			if (read < 0) {
+				endOfStream = true;
+			} else {
+				limit += read;
+			}
+		}
+	}
+
+	private int indexOfDelimiter() {
+		int last = limit - delimiter.length;
+		outer:
+		for (int i = position; i <= last; i++) {
+			for (int j = 0; j < delimiter.length; j++) {
+				if (buffer[i + j] != delimiter[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * The content of a single part. Ends at the next boundary, which is consumed when the end of the part is reached.
+	 */
+	private class PartInputStream extends InputStream {
+		private boolean ended = false;
+		private int knownContent = 0; // Number of buffered bytes that are known to belong to this part
+		private boolean delimiterFollows = false;
+
+		/**
+		 * Returns the number of bytes that can be read without passing a boundary, {@code 0} when the boundary is next.
+		 */
+		private int scan() throws IOException {
+			if (knownContent > 0 || delimiterFollows) {
+				return knownContent;
+			}
+			fill(delimiter.length);
+			int index = indexOfDelimiter();
+			if (index >= 0) {
+				knownContent = index - position;
+				delimiterFollows = true;
+			} else if (endOfStream) {
+				if (limit == position) {
+					throw new EOFException("multipart stream ended before the closing boundary");
+				}
+				knownContent = limit - position;
+			} else {
+				// The end of the buffer may contain the start of the delimiter
+				knownContent = limit - position - delimiter.length + 1;
+			}
+			return knownContent;
+		}
+
+		private void endOfPart() {
+			position += delimiter.length;
+			delimiterFollows = false;
+			ended = true;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (ended) {
+				return -1;
+			}
+			if (scan() == 0) {
+				endOfPart();
+				return -1;
+			}
+			knownContent--;
+			return buffer[position++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte @NonNull [] b, int off, int len) throws IOException {
+			if (ended) {
+				return -1;
+			}
+			if (len == 0) {
+				return 0;
+			}
+			int available = scan();
+			if (available == 0) {
+				endOfPart();
+				return -1;
+			}
+			int count = Math.min(len, available);
+			System.arraycopy(buffer, position, b, off, count);
+			position += count;
+			knownContent -= count;
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return ended ? 0 : knownContent;
+		}
+
+		void skipRemainder() throws IOException {
+			while (!ended) {
+				int available = scan();
+				if (available == 0) {
+					endOfPart();
+				} else {
+					position += available;
+					knownContent = 0;
+				}
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			// The remainder is skipped when the next part is requested
+		}
+	}
+}
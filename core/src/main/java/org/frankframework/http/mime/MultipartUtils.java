@@ -239,27 +239,8 @@ public class MultipartUtils {
 				// If MTOM use attachment, else fieldName. MTOM may use the same name twice.
 				String partName = bodyPart.getHeader("Content-ID") != null ? (ATTACHMENT + i) : fieldName;
 
-				final XmlBuilder attachment = new XmlBuilder("part");
-				attachment.addAttribute("name", fieldName);
-				attachment.addAttribute("sessionKey", partName);
 				parts.put(partName, message);
-
-				if (!isBinary(bodyPart)) {
-					// Process regular form field (input type="text|radio|checkbox|etc", select, etc).
-					log.trace("setting multipart formField [{}] to [{}]", fieldName, message);
-					attachment.addAttribute("type", "text");
-					attachment.addAttribute("value", message.asString());
-				} else {
-					// Process form file field (input type="file").
-					final String fileName = getFileName(bodyPart);
-					log.trace("setting parameter [{}] to input stream of file [{}]", fieldName, fileName);
-
-					attachment.addAttribute("type", "file");
-					attachment.addAttribute("filename", fileName);
-					attachment.addAttribute("size", message.size());
-					attachment.addAttribute("mimeType", extractMimeType(bodyPart.getContentType()));
-				}
-				attachments.addSubElement(attachment);
+				attachments.addSubElement(describePart(bodyPart, fieldName, partName, message));
 			}
 
 			return new MultipartMessages(attachments.asMessage(), body, parts);
@@ -268,6 +249,32 @@ public class MultipartUtils {
 		}
 	}
 
+	/**
+	 * Describes a part in the {@value #MULTIPART_ATTACHMENTS_SESSION_KEY} XML. Text fields contain their value, files their name, size and mime type.
+	 */
+	static XmlBuilder describePart(Part bodyPart, String fieldName, String partName, Message message) throws IOException, MessagingException {
+		final XmlBuilder attachment = new XmlBuilder("part");
+		attachment.addAttribute("name", fieldName);
+		attachment.addAttribute("sessionKey", partName);
+
+		if (!isBinary(bodyPart)) {
+			// Process regular form field (input type="text|radio|checkbox|etc", select, etc).
+			log.trace("setting multipart formField [{}] to [{}]", fieldName, message);
+			attachment.addAttribute("type", "text");
+			attachment.addAttribute("value", message.asString());
+		} else {
+			// Process form file field (input type="file").
+			final String fileName = getFileName(bodyPart);
+			log.trace("setting parameter [{}] to input stream of file [{}]", fieldName, fileName);
+
+			attachment.addAttribute("type", "file");
+			attachment.addAttribute("filename", fileName);
+			attachment.addAttribute("size", message.size());
+			attachment.addAttribute("mimeType", extractMimeType(bodyPart.getContentType()));
+		}
+		return attachment;
+	}
+
 	public static MultipartMessages parseMultipart(Iterator<AttachmentPart> attachmentParts) {
 		final XmlBuilder attachments = new XmlBuilder("parts");
 		final Map<String, Message> parts = new LinkedHashMap<>();
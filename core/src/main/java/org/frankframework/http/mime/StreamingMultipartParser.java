@@ -0,0 +1,159 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.http.mime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.ContentType;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeUtility;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.http.mime.MultipartStreamReader.StreamedPart;
+import org.frankframework.http.mime.MultipartUtils.MultipartMessages;
+import org.frankframework.stream.Message;
+import org.frankframework.stream.MessageBuilder;
+import org.frankframework.stream.MessageContext;
+import org.frankframework.stream.StreamingMessage;
+import org.frankframework.util.XmlBuilder;
+
+/**
+ * Parses a multipart request in the order of its parts, while the request is being read.
+ * <p>
+ *     Parts before the body part are read into memory, or a temporary file when they are large, as the body can only be reached by reading them.
+ *     The body part is returned as a {@link StreamingMessage}, so it is read directly from the connection by the pipeline. Parts after the
+ *     body are read once the body has been read completely, and are then passed to the {@code trailingPartsHandler}.
+ * </p>
+ * <p>
+ *     The parts are described in the same way as {@link MultipartUtils#parseMultipart(InputStream, String, String)} does.
+ * </p>
+ */
+@Log4j2
+public class StreamingMultipartParser {
+	private final MultipartStreamReader reader;
+	private final @Nullable String bodyName;
+	private final LongConsumer bytesStreamed;
+	private final LongConsumer bytesSpilled;
+	private final XmlBuilder attachments = new XmlBuilder("parts");
+	private int partIndex = 0;
+	private boolean bodyFound = false;
+
+	/**
+	 * @param bodyName      name of the part to use as body, the first part is used when {@code null}
+	 * @param bytesStreamed receives the number of bytes of the body that have been read directly from the request
+	 * @param bytesSpilled  receives the number of bytes of the other parts, that have been copied to memory or a temporary file
+	 */
+	public StreamingMultipartParser(@NonNull InputStream inputStream, @NonNull String contentType, @Nullable String bodyName, @NonNull LongConsumer bytesStreamed, @NonNull LongConsumer bytesSpilled) throws IOException {
+		this.reader = new MultipartStreamReader(inputStream, getBoundary(contentType));
+		this.bodyName = bodyName;
+		this.bytesStreamed = bytesStreamed;
+		this.bytesSpilled = bytesSpilled;
+	}
+
+	private static String getBoundary(String contentType) throws IOException {
+		try {
+			String boundary = new ContentType(contentType).getParameter("boundary");
+			if (StringUtils.isEmpty(boundary)) {
+				throw new IOException("no boundary found in content type [" + contentType + "]");
+			}
+			return boundary;
+		} catch (MessagingException e) {
+			throw new IOException("could not parse content type [" + contentType + "]", e);
+		}
+	}
+
+	/**
+	 * Reads the parts up to the body. The returned {@link MultipartMessages} contain the body and the parts before it.
+	 *
+	 * @param trailingPartsHandler receives the parts after the body, together with the description of all parts, when the end of the body has been read
+	 */
+	public MultipartMessages parse(@Nullable Consumer<MultipartMessages> trailingPartsHandler) throws IOException {
+		final Map<String, Message> parts = new LinkedHashMap<>();
+		Message body = readParts(parts, trailingPartsHandler);
+		return new MultipartMessages(attachments.asMessage(), body, parts);
+	}
+
+	/**
+	 * Reads the parts into the map, until the body part has been found. Returns the body, or {@code null} when all parts have been read.
+	 */
+	private @Nullable Message readParts(Map<String, Message> parts, @Nullable Consumer<MultipartMessages> trailingPartsHandler) throws IOException {
+		try {
+			StreamedPart part;
+			while ((part = reader.nextPart()) != null) {
+				final MimeBodyPart bodyPart = new MimeBodyPart(part.headers(), new byte[0]);
+				final int index = partIndex++;
+				final String fieldName = MultipartUtils.getFieldName(bodyPart);
+				if (StringUtils.isEmpty(fieldName)) {
+					log.info("unable to determine fieldname skipping part");
+					continue;
+				}
+
+				if (!bodyFound && (bodyName == null || fieldName.equalsIgnoreCase(bodyName))) {
+					bodyFound = true;
+					MessageContext context = MultipartUtils.getContext(bodyPart).withoutSize();
+					return new StreamingMessage(decode(part.content(), bodyPart), context, bytesStreamed, () -> readTrailingParts(trailingPartsHandler));
+				}
+				addPart(part, bodyPart, fieldName, index, parts);
+			}
+			return null;
+		} catch (MessagingException e) {
+			throw new IOException("could not read mime multipart request", e);
+		}
+	}
+
+	private void readTrailingParts(@Nullable Consumer<MultipartMessages> trailingPartsHandler) throws IOException {
+		final Map<String, Message> parts = new LinkedHashMap<>();
+		readParts(parts, trailingPartsHandler);
+
+		log.debug("read [{}] parts after the multipart body", parts::size);
+		if (trailingPartsHandler != null) {
+			trailingPartsHandler.accept(new MultipartMessages(attachments.asMessage(), null, parts));
+		}
+	}
+
+	private void addPart(StreamedPart part, MimeBodyPart bodyPart, String fieldName, int index, Map<String, Message> parts) throws IOException, MessagingException {
+		// If MTOM use attachment, else fieldName. MTOM may use the same name twice.
+		final String partName = bodyPart.getHeader("Content-ID") != null ? (MultipartUtils.ATTACHMENT + index) : fieldName;
+
+		final MessageBuilder messageBuilder = new MessageBuilder();
+		final long size;
+		try (InputStream content = decode(part.content(), bodyPart); OutputStream outputStream = messageBuilder.asOutputStream()) {
+			size = content.transferTo(outputStream);
+		}
+		bytesSpilled.accept(size);
+
+		Message message = messageBuilder.build(MultipartUtils.getContext(bodyPart).withSize(size));
+		parts.put(partName, message);
+		attachments.addSubElement(MultipartUtils.describePart(bodyPart, fieldName, partName, message));
+	}
+
+	private static InputStream decode(InputStream content, MimeBodyPart bodyPart) throws MessagingException {
+		String encoding = bodyPart.getEncoding();
+		return encoding == null ? content : MimeUtility.decode(content, encoding);
+	}
+}
@@ -29,6 +29,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.util.MimeType;
 
 import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Counter;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -51,6 +52,8 @@ import org.frankframework.lifecycle.ServletManager;
 import org.frankframework.lifecycle.servlets.ServletConfiguration;
 import org.frankframework.receivers.Receiver;
 import org.frankframework.receivers.ReceiverAware;
+import org.frankframework.statistics.FrankMeterType;
+import org.frankframework.statistics.MetricsInitializer;
 import org.frankframework.stream.Message;
 import org.frankframework.util.AppConstants;
 import org.frankframework.util.StringUtil;
@@ -109,6 +112,7 @@ public class ApiListener extends PushingListenerAdapter implements HasPhysicalDe
 
 	private @Getter String uriPattern;
 	private @Getter boolean updateEtag = AppConstants.getInstance().getBoolean("api.etag.enabled", false);
+	private @Getter boolean compressResponse = AppConstants.getInstance().getBoolean("api.compression.enabled", false);
 	private @Getter String operationId;
 
 	private List<HttpMethod> methods = List.of(HttpMethod.GET);
@@ -124,6 +128,7 @@ public class ApiListener extends PushingListenerAdapter implements HasPhysicalDe
 	private @Getter MediaTypes produces = MediaTypes.ANY;
 	private @Getter MimeType contentType;
 	private String multipartBodyName = null;
+	private @Getter boolean streamRequestBody = false;
 
 	private @Getter @Setter Receiver<Message> receiver;
 
@@ -149,6 +154,9 @@ public class ApiListener extends PushingListenerAdapter implements HasPhysicalDe
 
 	private @Getter JwtValidator<SecurityContext> jwtValidator;
 	private @Setter ServletManager servletManager;
+	private @Setter MetricsInitializer configurationMetrics;
+	private @Nullable Counter bytesStreamedCounter;
+	private @Nullable Counter bytesSpilledCounter;
 
 	private @NonNull Set<@NonNull String> responseHeaderSessionKeys = Set.of();
 
@@ -275,6 +283,10 @@ public class ApiListener extends PushingListenerAdapter implements HasPhysicalDe
 
 	@Override
 	public void start() {
+		if (streamRequestBody && configurationMetrics != null && receiver != null) {
+			bytesStreamedCounter = configurationMetrics.createCounter(receiver, FrankMeterType.LISTENER_BYTES_STREAMED);
+			bytesSpilledCounter = configurationMetrics.createCounter(receiver, FrankMeterType.LISTENER_BYTES_SPILLED);
+		}
 		ApiServiceDispatcher.getInstance().registerServiceClient(this);
 		if (getAuthenticationMethod() == AuthenticationMethods.JWT) {
 			try {
@@ -444,6 +456,17 @@ public class ApiListener extends PushingListenerAdapter implements HasPhysicalDe
 		this.updateEtag = updateEtag;
 	}
 
+	/**
+	 * Compress textual responses with gzip or deflate, when the client accepts this in its <code>Accept-Encoding</code> header.
+	 * Responses smaller than <code>api.compression.minSize</code> bytes are sent uncompressed. When etags are enabled, the compressed
+	 * response is cached along with the etag, so an unchanged resource does not have to be compressed again.
+	 *
+	 * @ff.default <code>false</code>, can be changed by setting the property <code>api.compression.enabled</code>.
+	 */
+	public void setCompressResponse(boolean compressResponse) {
+		this.compressResponse = compressResponse;
+	}
+
 	// TODO add authenticationType
 
 	/**
@@ -502,6 +525,32 @@ public class ApiListener extends PushingListenerAdapter implements HasPhysicalDe
 		return null;
 	}
 
+	/**
+	 * If set to <code>true</code>, the request body is not read before the pipeline is started, but passed to the pipeline as a stream that is
+	 * read directly from the connection. This avoids copying large uploads to memory or a temporary file, but the body can be read only once.
+	 * <br/>
+	 * For multipart requests only the body part is streamed. The parts before it are read when the request is received. The parts after it
+	 * become available as session variables once the body has been read completely, so the body is best sent as the last part.
+	 * The number of bytes streamed and the number of bytes of other parts that had to be stored are published as metrics of the receiver.
+	 *
+	 * @ff.default false
+	 */
+	public void setStreamRequestBody(boolean streamRequestBody) {
+		this.streamRequestBody = streamRequestBody;
+	}
+
+	void countBytesStreamed(long bytes) {
+		if (bytesStreamedCounter != null) {
+			bytesStreamedCounter.increment(bytes);
+		}
+	}
+
+	void countBytesSpilled(long bytes) {
+		if (bytesSpilledCounter != null) {
+			bytesSpilledCounter.increment(bytes);
+		}
+	}
+
 	/**
 	 * Name of the header which contains the Message-Id.
 	 */
@@ -15,7 +15,9 @@
 */
 package org.frankframework.http.rest;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -35,6 +37,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
 import org.apache.commons.text.StringEscapeUtils;
@@ -56,6 +59,9 @@ import org.frankframework.http.AbstractHttpServlet;
 import org.frankframework.http.HttpHeaderUtils;
 import org.frankframework.http.mime.MultipartUtils;
 import org.frankframework.http.mime.MultipartUtils.MultipartMessages;
+import org.frankframework.http.mime.StreamingMultipartParser;
+import org.frankframework.http.rest.ResponseCompression.CompressedVariant;
+import org.frankframework.http.rest.ResponseCompression.ContentEncoding;
 import org.frankframework.jwt.AuthorizationException;
 import org.frankframework.jwt.JwtSecurityHandler;
 import org.frankframework.lifecycle.IbisInitializer;
@@ -63,6 +69,7 @@ import org.frankframework.lifecycle.servlets.URLRequestMatcher;
 import org.frankframework.management.bus.BusMessageUtils;
 import org.frankframework.stream.Message;
 import org.frankframework.stream.MessageContext;
+import org.frankframework.stream.StreamingMessage;
 import org.frankframework.util.AppConstants;
 import org.frankframework.util.CookieUtil;
 import org.frankframework.util.DateFormatUtils;
@@ -379,11 +386,16 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 				 */
 				response.addHeader("Allow", (String) pipelineSession.get("allowedMethods"));
 
+				ContentEncoding contentEncoding = null;
 				if (!Message.isEmpty(result) || method == ApiListener.HttpMethod.HEAD) {
 					MimeType contentType = determineContentType(pipelineSession, listener, result);
 					result.getContext().withMimeType(contentType);
 					response.setContentType(contentType.toString());
-					if (result.size() != Message.MESSAGE_SIZE_UNKNOWN) {
+					if (listener.isCompressResponse() && method != ApiListener.HttpMethod.HEAD) {
+						contentEncoding = ResponseCompression.negotiate(request.getHeader("Accept-Encoding"), contentType, result.size());
+					}
+					// The length of a compressed response is only known once it has been compressed
+					if (contentEncoding == null && result.size() != Message.MESSAGE_SIZE_UNKNOWN) {
 						response.setContentLengthLong(result.size());
 					}
 				}
@@ -411,7 +423,7 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 					/*
 					 * Finalize the pipeline and write the result to the response
 					 */
-					final boolean outputWritten = writeToResponseStream(listener, response, result, pipelineSession);
+					final boolean outputWritten = writeToResponseStream(listener, response, result, pipelineSession, contentEncoding, method, etagCacheKey);
 					if (!outputWritten) {
 						LOG.debug("No output written, set content-type header to null");
 						response.resetBuffer();
@@ -568,21 +580,24 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 	private @Nullable String isEtagCacheMatch(HttpServletRequest request, HttpServletResponse response, ApiListener.HttpMethod method, String uri, ApiListener listener, String remoteUser) {
 		String etagCacheKey = ApiCacheManager.buildCacheKey(uri);
 		LOG.debug("Evaluating preconditions for listener[{}] etagKey[{}]", listener.getName(), etagCacheKey);
-		if (cache.containsKey(etagCacheKey)) {
-			String cachedEtag = (String) cache.get(etagCacheKey);
+		// A single lookup, the entry may be evicted between a containsKey and a get
+		String cachedEtag = (String) cache.get(etagCacheKey);
+		if (cachedEtag != null) {
 			LOG.debug("found etag value[{}] for key[{}]", cachedEtag, etagCacheKey);
 
-			if (method == ApiListener.HttpMethod.GET) {
+			if (method == ApiListener.HttpMethod.GET || method == ApiListener.HttpMethod.HEAD) {
 				String ifNoneMatch = request.getHeader("If-None-Match");
-				if (ifNoneMatch != null && ifNoneMatch.equals(cachedEtag)) {
+				String matchingEtag = ifNoneMatch != null ? findMatchingEtag(ifNoneMatch, cachedEtag) : null;
+				if (matchingEtag != null) {
 					response.setStatus(304);
+					response.setHeader("etag", matchingEtag);
 					if (LOG.isDebugEnabled()) LOG.debug("{} matched if-none-match [{}]", ()->createAbortMessage(remoteUser, 304), ()->ifNoneMatch);
 					return null;
 				}
 			}
 			else {
 				String ifMatch = request.getHeader("If-Match");
-				if (ifMatch != null && !ifMatch.equals(cachedEtag)) {
+				if (ifMatch != null && findMatchingEtag(ifMatch, cachedEtag) == null) {
 					response.setStatus(412);
 					LOG.warn("{} matched if-match [{}] method [{}]", ()->createAbortMessage(remoteUser, 412), ()->ifMatch, ()-> method);
 					return null;
@@ -592,6 +607,37 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 		return etagCacheKey;
 	}
 
+	/**
+	 * Checks whether an {@code If-None-Match} or {@code If-Match} header value, e.g. {@code "abc", W/"def"}, contains the etag or the etag of
+	 * one of its compressed variants. The comparison is weak: quotes and the {@code W/} prefix are ignored.
+	 *
+	 * @return the etag that matched, i.e. the etag of the compressed variant when the client sent that one, or {@code null} when none matched.
+	 */
+	static @Nullable String findMatchingEtag(String headerValue, String etag) {
+		String normalizedEtag = normalizeEtag(etag);
+		for (String candidate : headerValue.split(",")) {
+			String normalizedCandidate = normalizeEtag(candidate);
+			if ("*".equals(normalizedCandidate) || normalizedCandidate.equals(normalizedEtag)) {
+				return etag;
+			}
+			for (ContentEncoding contentEncoding : ContentEncoding.values()) {
+				String variantEtag = ResponseCompression.getVariantEtag(etag, contentEncoding);
+				if (normalizedCandidate.equals(normalizeEtag(variantEtag))) {
+					return variantEtag;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static String normalizeEtag(String etag) {
+		String normalized = etag.trim();
+		if (normalized.startsWith("W/")) {
+			normalized = normalized.substring(2);
+		}
+		return Strings.CS.removeEnd(Strings.CS.removeStart(normalized, "\""), "\"");
+	}
+
 	private static void mapUriIdentifiersToSession(String uri, ApiListener listener, PipeLineSession pipelineSession) {
 		String[] patternSegments = listener.getUriPattern().split("/");
 		String[] uriSegments = uri.split("/");
@@ -632,6 +678,9 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 		else {
 			LOG.debug("removing etag with key[{}]", etagCacheKey);
 			cache.remove(etagCacheKey);
+			for (ContentEncoding contentEncoding : ContentEncoding.values()) {
+				cache.remove(ResponseCompression.getVariantCacheKey(etagCacheKey, contentEncoding));
+			}
 
 			// Not only remove the eTag for the selected resources but also the collection
 			String key = ApiCacheManager.getParentCacheKey(listener, uri, method);
@@ -649,7 +698,7 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 		// TODO fix HttpSender#handleMultipartResponse(..)
 		if (!MultipartUtils.isMultipart(request)) {
 			try {
-				return MessageUtils.parseContentAsMessage(request);
+				return readRequestBody(request, listener);
 			} catch (IOException e) {
 				LOG.warn(() -> "%s Could not read request: %s".formatted(createAbortMessage(remoteUser, 400), e.getMessage()), e);
 				response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Could not read request");
@@ -660,17 +709,16 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 		final Message body;
 		final String multipartBodyName = listener.getMultipartBodyName();
 		try {
-			MultipartMessages parts = MultipartUtils.parseMultipart(request.getInputStream(), request.getContentType(), multipartBodyName);
-			body = parts.body();
-			for (Entry<String, Message> entry : parts.messages().entrySet()) {
-				String fieldName = entry.getKey();
-				if (!listener.isParameterAllowed(fieldName)) {
-					LOG.warn("Request contains multipart field [{}] which is not allowed", fieldName);
-					continue;
-				}
-				pipelineSession.put(fieldName, entry.getValue());
+			final MultipartMessages parts;
+			if (listener.isStreamRequestBody()) {
+				StreamingMultipartParser parser = new StreamingMultipartParser(request.getInputStream(), request.getContentType(), multipartBodyName, listener::countBytesStreamed, listener::countBytesSpilled);
+				// Parts after the body are only read once the pipeline has read the body
+				parts = parser.parse(trailingParts -> putMultipartMessages(trailingParts, listener, pipelineSession));
+			} else {
+				parts = MultipartUtils.parseMultipart(request.getInputStream(), request.getContentType(), multipartBodyName);
 			}
-			pipelineSession.put(MultipartUtils.MULTIPART_ATTACHMENTS_SESSION_KEY, parts.multipartXml());
+			body = parts.body();
+			putMultipartMessages(parts, listener, pipelineSession);
 		} catch(IOException e) {
 			LOG.warn(() -> "%s Could not read mime multipart request: %s".formatted(createAbortMessage(remoteUser, 400), e.getMessage()), e);
 			response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Could not read mime multipart request");
@@ -684,6 +732,28 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 		return body;
 	}
 
+	private Message readRequestBody(HttpServletRequest request, ApiListener listener) throws IOException {
+		if (!listener.isStreamRequestBody()) {
+			return MessageUtils.parseContentAsMessage(request);
+		}
+		if (request.getContentLength() > 0 || request.getHeader("transfer-encoding") != null) {
+			return new StreamingMessage(request.getInputStream(), MessageUtils.getContext(request), listener::countBytesStreamed, null);
+		}
+		return Message.nullMessage(MessageUtils.getContext(request));
+	}
+
+	private void putMultipartMessages(MultipartMessages parts, ApiListener listener, PipeLineSession pipelineSession) {
+		for (Entry<String, Message> entry : parts.messages().entrySet()) {
+			String fieldName = entry.getKey();
+			if (!listener.isParameterAllowed(fieldName)) {
+				LOG.warn("Request contains multipart field [{}] which is not allowed", fieldName);
+				continue;
+			}
+			pipelineSession.put(fieldName, entry.getValue());
+		}
+		pipelineSession.put(MultipartUtils.MULTIPART_ATTACHMENTS_SESSION_KEY, parts.multipartXml());
+	}
+
 	@NonNull
 	private Map<String, Object> extractRequestParams(HttpServletRequest request, ApiListener listener) {
 		if (listener.getAllowedParameterSet().isEmpty() && !listener.isAllowAllParams()) {
@@ -775,7 +845,7 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 	 * @return {@code true} if data was written, {@code false} if not.
 	 * @throws IOException Thrown if reading or writing to / from any of the streams throws  an IOException.
 	 */
-	private static boolean writeToResponseStream(ApiListener listener, HttpServletResponse response, Message result, PipeLineSession session) throws IOException {
+	private boolean writeToResponseStream(ApiListener listener, HttpServletResponse response, Message result, PipeLineSession session, @Nullable ContentEncoding contentEncoding, ApiListener.HttpMethod method, String etagCacheKey) throws IOException {
 		response.resetBuffer();
 		for (String headerName : listener.getResponseHeaderSessionKeySet()) {
 			String headerValue = session.getString(headerName);
@@ -789,13 +859,21 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 		if (contentLength == 0L) {
 			return false;
 		}
-		if (contentLength != Message.MESSAGE_SIZE_UNKNOWN) {
-			response.setContentLengthLong(contentLength);
-		}
 
 		// Content-type might not be same as set before if we have a form. However, it might also not be set.
 		if (entity.getContentType() != null) {
 			response.setContentType(entity.getContentType().getValue());
+			if (contentEncoding != null && !ResponseCompression.isCompressible(parseMimeType(entity.getContentType().getValue()))) {
+				contentEncoding = null;
+			}
+		}
+		if (contentEncoding != null) {
+			writeCompressed(response, entity, contentEncoding, method, etagCacheKey);
+			return true;
+		}
+
+		if (contentLength != Message.MESSAGE_SIZE_UNKNOWN) {
+			response.setContentLengthLong(contentLength);
 		}
 		entity.writeTo(response.getOutputStream());
 
@@ -806,6 +884,55 @@ public class ApiListenerServlet extends AbstractHttpServlet {
 		return true;
 	}
 
+	/**
+	 * Writes the entity compressed. Small GET responses that have an etag are compressed in memory and cached, so the compressed variant can be
+	 * reused as long as the etag of the resource does not change.
+	 */
+	private void writeCompressed(HttpServletResponse response, HttpEntity entity, ContentEncoding contentEncoding, ApiListener.HttpMethod method, String etagCacheKey) throws IOException {
+		response.setHeader("Content-Encoding", contentEncoding.getToken());
+		response.addHeader("Vary", "Accept-Encoding");
+
+		String etag = response.getHeader("etag");
+		if (etag != null) {
+			response.setHeader("etag", ResponseCompression.getVariantEtag(etag, contentEncoding));
+		}
+		long contentLength = entity.getContentLength();
+		boolean cacheable = method == ApiListener.HttpMethod.GET && etag != null
+				&& contentLength != Message.MESSAGE_SIZE_UNKNOWN && contentLength <= ResponseCompression.MAX_CACHED_VARIANT_SIZE;
+		if (!cacheable) {
+			try (OutputStream compressed = contentEncoding.wrap(CloseShieldOutputStream.wrap(response.getOutputStream()))) {
+				entity.writeTo(compressed);
+			}
+			return;
+		}
+
+		String variantCacheKey = ResponseCompression.getVariantCacheKey(etagCacheKey, contentEncoding);
+		byte[] content;
+		if (cache.get(variantCacheKey) instanceof CompressedVariant variant && variant.etag().equals(etag)) {
+			LOG.debug("reusing compressed variant with key[{}] etag[{}]", variantCacheKey, etag);
+			content = variant.content();
+		} else {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+			try (OutputStream compressed = contentEncoding.wrap(buffer)) {
+				entity.writeTo(compressed);
+			}
+			content = buffer.toByteArray();
+			LOG.debug("caching compressed variant with key[{}] etag[{}] size [{}] compressed [{}]", variantCacheKey, etag, contentLength, content.length);
+			cache.put(variantCacheKey, new CompressedVariant(etag, content));
+		}
+		response.setContentLength(content.length);
+		response.getOutputStream().write(content);
+	}
+
+	private static @Nullable MimeType parseMimeType(String contentType) {
+		try {
+			return MimeType.valueOf(contentType);
+		} catch (InvalidMimeTypeException e) {
+			LOG.debug("unable to parse content-type [{}]", contentType, e);
+			return null;
+		}
+	}
+
 	private String getHeaderOrDefault(HttpServletRequest request, String headerName, String defaultValue) {
 		if (StringUtils.isBlank(headerName)) {
 			return defaultValue;
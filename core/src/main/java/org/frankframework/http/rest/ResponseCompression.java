@@ -0,0 +1,180 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.http.rest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.MimeType;
+
+import lombok.Getter;
+
+import org.frankframework.stream.Message;
+import org.frankframework.util.AppConstants;
+import org.frankframework.util.StreamUtil;
+
+/**
+ * Negotiation of the {@code Content-Encoding} of ApiListener responses.
+ * <p>
+ *     Only textual content is compressed, as images and archives are usually compressed already. Responses that are known to be smaller than
+ *     {@code api.compression.minSize} are not compressed, because the overhead would outweigh the gain.
+ * </p>
+ */
+final class ResponseCompression {
+	static final long MIN_SIZE = AppConstants.getInstance().getLong("api.compression.minSize", 1024L);
+	static final int MAX_CACHED_VARIANT_SIZE = AppConstants.getInstance().getInt("api.compression.cache.maxSize", 1024 * 1024);
+
+	private ResponseCompression() {
+		throw new IllegalStateException("Don't construct utility class");
+	}
+
+	enum ContentEncoding {
+		// In order of preference, when the client accepts both equally
+		GZIP("gzip"),
+		DEFLATE("deflate");
+
+		private final @Getter String token;
+
+		ContentEncoding(String token) {
+			this.token = token;
+		}
+
+		static @Nullable ContentEncoding fromToken(String token) {
+			if ("x-gzip".equals(token)) {
+				return GZIP;
+			}
+			for (ContentEncoding contentEncoding : values()) {
+				if (contentEncoding.token.equals(token)) {
+					return contentEncoding;
+				}
+			}
+			return null;
+		}
+
+		OutputStream wrap(OutputStream outputStream) throws IOException {
+			return switch (this) {
+				case GZIP -> new GZIPOutputStream(outputStream, StreamUtil.BUFFER_SIZE);
+				case DEFLATE -> new DeflaterOutputStream(outputStream);
+			};
+		}
+	}
+
+	/**
+	 * A compressed response body, stored in the etag cache. It is only valid as long as the etag of the resource (without the suffix of
+	 * the variant) is the same.
+	 */
+	record CompressedVariant(@NonNull String etag, byte @NonNull [] content) implements Serializable {
+		@Serial
+		private static final long serialVersionUID = 1L;
+	}
+
+	static String getVariantCacheKey(String etagCacheKey, ContentEncoding contentEncoding) {
+		return etagCacheKey + ";" + contentEncoding.getToken();
+	}
+
+	/**
+	 * Returns the etag of the compressed variant of a response with the given etag, e.g. {@code "abc-gzip"}. A strong etag must be different
+	 * for every content-coding of a resource (RFC 9110, section 8.8.3), as the bytes that are sent differ.
+	 */
+	static String getVariantEtag(String etag, ContentEncoding contentEncoding) {
+		String suffix = "-" + contentEncoding.getToken();
+		if (etag.length() > 1 && etag.endsWith("\"")) {
+			return etag.substring(0, etag.length() - 1) + suffix + "\"";
+		}
+		return etag + suffix;
+	}
+
+	/**
+	 * Returns the encoding to use for the response, or {@code null} when it should not be compressed.
+	 */
+	static @Nullable ContentEncoding negotiate(@Nullable String acceptEncoding, @Nullable MimeType contentType, long size) {
+		if (size != Message.MESSAGE_SIZE_UNKNOWN && size < MIN_SIZE || !isCompressible(contentType)) {
+			return null;
+		}
+		return selectEncoding(acceptEncoding);
+	}
+
+	/**
+	 * Selects the supported encoding with the highest quality value in the {@code Accept-Encoding} header, e.g. {@code br;q=1.0, gzip;q=0.8, *;q=0.1}.
+	 */
+	static @Nullable ContentEncoding selectEncoding(@Nullable String acceptEncoding) {
+		if (StringUtils.isBlank(acceptEncoding)) {
+			return null;
+		}
+		// Encodings that are not listed explicitly get the quality of the wildcard, if present
+		Double[] qualities = new Double[ContentEncoding.values().length];
+		double wildcardQuality = 0.0;
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parameters = coding.split(";");
+			String token = parameters[0].trim().toLowerCase(Locale.ROOT);
+			double quality = parseQuality(parameters);
+			if ("*".equals(token)) {
+				wildcardQuality = quality;
+			}
+			ContentEncoding contentEncoding = ContentEncoding.fromToken(token);
+			if (contentEncoding != null) {
+				qualities[contentEncoding.ordinal()] = quality;
+			}
+		}
+
+		ContentEncoding selected = null;
+		double selectedQuality = 0.0;
+		for (ContentEncoding contentEncoding : ContentEncoding.values()) {
+			Double quality = qualities[contentEncoding.ordinal()];
+			double effectiveQuality = quality != null ? quality : wildcardQuality;
+			if (effectiveQuality > selectedQuality) {
+				selected = contentEncoding;
+				selectedQuality = effectiveQuality;
+			}
+		}
+		return selected;
+	}
+
+	private static double parseQuality(String[] parameters) {
+		for (int i = 1; i < parameters.length; i++) {
+			String parameter = parameters[i].trim();
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2).trim());
+				} catch (NumberFormatException e) {
+					return 0.0;
+				}
+			}
+		}
+		return 1.0;
+	}
+
+	static boolean isCompressible(@Nullable MimeType contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		String type = contentType.getType();
+		String subtype = contentType.getSubtype();
+		if ("text".equals(type)) {
+			return true;
+		}
+		return "application".equals(type) && (subtype.endsWith("json") || subtype.endsWith("xml") || subtype.endsWith("javascript")
+				|| "yaml".equals(subtype) || "x-yaml".equals(subtype) || "csv".equals(subtype));
+	}
+}
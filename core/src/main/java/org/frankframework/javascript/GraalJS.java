@@ -1,5 +1,5 @@
 /*
-   Copyright 2024-2025 WeAreFrank!
+   Copyright 2024-2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -16,6 +16,11 @@
 package org.frankframework.javascript;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Handler;
 import java.util.logging.LogRecord;
 
@@ -28,6 +33,7 @@ import org.apache.logging.log4j.jul.LevelTranslator;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 
 import lombok.extern.log4j.Log4j2;
@@ -43,6 +49,12 @@ import org.frankframework.util.flow.ResultHandler;
  * Javascript engine implementation of GraalJS. If high performance execution of JavaScript code is required, enable the following JVM options:
  * "-XX:+UnlockExperimentalVMOptions -XX:+EnableJVMCI" or use the GraalVM Java distribution. Otherwise, the Javascript code is interpreted on every execution.
  * <p/>
+ * All contexts are created on a single shared {@link Engine}, and loaded scripts are kept by the runtime as {@link Source} objects.
+ * The parsed code and the compiled code of a script are therefore reused by every context that evaluates the same script.
+ * <p/>
+ * Contexts are not reused: {@link #resetRuntime()} replaces a context that has been used by a new one. A pooled GraalJS runtime therefore
+ * only saves creating the engine and parsing the scripts, the context is still created and the scripts are still evaluated for every message.
+ * <p/>
  * GraalJS is in Beta phase, so it is not supported by Frank!Framework yet.
  * @since 8.2
  */
@@ -57,6 +69,19 @@ public class GraalJS implements JavascriptEngine<ScriptEngine> {
 	private ScriptEngine scriptEngine; // Please avoid usage; preferred is through the 'context'
 	private Context context;
 	private boolean libraryLoaded = false;
+	private final List<Source> sources = new ArrayList<>();
+	private final Map<String, JavaCallback> callbacks = new LinkedHashMap<>();
+	private boolean used = false; // Whether code has been executed since the scripts were loaded
+
+	/**
+	 * Lazily created, so the engine is only started when GraalJS is used. It lives as long as the application, as the code caches are stored in it.
+	 */
+	private static class SharedEngine {
+		static final Engine INSTANCE = Engine.newBuilder()
+				.logHandler(LOG_HANDLER)
+				.option("engine.WarnInterpreterOnly", "false")
+				.build();
+	}
 
 	@Override
 	public void setGlobalAlias(String alias) {
@@ -66,21 +91,19 @@ public class GraalJS implements JavascriptEngine<ScriptEngine> {
 	@Override
 	public void startRuntime() throws JavascriptException {
 		log.info("Creating a new GraalJS context");
+		context = createContext();
+	}
 
+	private static Context createContext() throws JavascriptException {
 		try {
-			Engine engine = Engine.newBuilder()
-					.logHandler(LOG_HANDLER)
-					.option("engine.WarnInterpreterOnly", "false")
-					.build();
-
-			context = Context.newBuilder(LANGUAGE_ID)
+			return Context.newBuilder(LANGUAGE_ID)
 					.logHandler(LOG_HANDLER)
 					.allowHostClassLookup(className -> true)
 					.allowAllAccess(true)
 					.currentWorkingDirectory(TemporaryDirectoryUtils.getTempDirectory("graaljs"))
 					.option("js.nashorn-compat", NASHORN_COMPATIBILITY)
 					.allowExperimentalOptions(true)
-					.engine(engine)
+					.engine(SharedEngine.INSTANCE)
 					.build();
 		} catch (IOException e) {
 			throw new JavascriptException("unable to create temporary directory", e);
@@ -89,6 +112,7 @@ public class GraalJS implements JavascriptEngine<ScriptEngine> {
 
 	@Override
 	public void executeScript(String script) throws JavascriptException {
+		used = true;
 		try {
 			context.eval(LANGUAGE_ID, script);
 		} catch (Exception e) {
@@ -96,6 +120,21 @@ public class GraalJS implements JavascriptEngine<ScriptEngine> {
 		}
 	}
 
+	@Override
+	public void loadScript(String script) throws JavascriptException {
+		Source source = Source.create(LANGUAGE_ID, script);
+		sources.add(source);
+		evaluate(source);
+	}
+
+	private void evaluate(Source source) throws JavascriptException {
+		try {
+			context.eval(source);
+		} catch (Exception e) {
+			throw new JavascriptException("error executing script", e);
+		}
+	}
+
 	@Override
 	public Object executeFunction(String name, Object... parameters) throws JavascriptException {
 		final Value function;
@@ -109,6 +148,7 @@ public class GraalJS implements JavascriptEngine<ScriptEngine> {
 			throw new JavascriptException("unable to find function [" + name + "]");
 		}
 
+		used = true;
 		try {
 			log.debug("executing function [{}]", name);
 			return function.execute(parameters);
@@ -117,9 +157,32 @@ public class GraalJS implements JavascriptEngine<ScriptEngine> {
 		}
 	}
 
+	/**
+	 * A context cannot be reset in place, as top level {@code let} and {@code const} declarations cannot be removed. The context is therefore
+	 * not reused: it is closed, and a new context is created on the shared engine, in which the callbacks are registered and the loaded sources
+	 * are evaluated again. This reuses their parsed code, but not the warmed-up state of the context.
+	 */
+	@Override
+	public boolean resetRuntime() throws JavascriptException {
+		if (!used) {
+			return true;
+		}
+		used = false;
+		context.close(true);
+		context = createContext();
+		Value bindings = context.getBindings(LANGUAGE_ID);
+		callbacks.forEach(bindings::putMember);
+		for (Source source : sources) {
+			evaluate(source);
+		}
+		return true;
+	}
+
 	@Override
 	public void closeRuntime() {
 		context.close(true);
+		sources.clear();
+		callbacks.clear();
 		scriptEngine = null;
 		libraryLoaded = false;
 	}
@@ -143,17 +206,19 @@ public class GraalJS implements JavascriptEngine<ScriptEngine> {
 	}
 
 	@Override
-	public void registerCallback(final ISender sender, final PipeLineSession session) {
+	public void registerCallback(final ISender sender, final Supplier<PipeLineSession> sessionSupplier) {
 		if (sender.getName() == null) {
 			throw new IllegalStateException("Sender name is required for call backs");
 		}
-		context.getBindings(LANGUAGE_ID).putMember(sender.getName(), (JavaCallback) s -> {
+		JavaCallback callback = s -> {
 			try {
-				return sender.sendMessageOrThrow(Message.asMessage(s[0]), session).asString();
+				return sender.sendMessageOrThrow(Message.asMessage(s[0]), sessionSupplier.get()).asString();
 			} catch (Exception e) {
 				throw new IllegalStateException(e);
 			}
-		});
+		};
+		callbacks.put(sender.getName(), callback);
+		context.getBindings(LANGUAGE_ID).putMember(sender.getName(), callback);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*
-   Copyright 2019-2025 WeAreFrank!
+   Copyright 2019-2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -17,12 +17,16 @@ package org.frankframework.javascript;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import com.eclipsesource.v8.JavaCallback;
 import com.eclipsesource.v8.JavaVoidCallback;
 import com.eclipsesource.v8.V8;
 import com.eclipsesource.v8.V8Array;
+import com.eclipsesource.v8.V8Locker;
 import com.eclipsesource.v8.V8Object;
 import com.eclipsesource.v8.V8Value;
 
@@ -37,6 +41,9 @@ public class J2V8 implements JavascriptEngine<V8> {
 	private V8 v8;
 	private String alias = null;
 	private final List<V8Value> objectsToRelease = new ArrayList<>();
+	private final List<String> scripts = new ArrayList<>();
+	private final Set<String> preservedGlobals = new HashSet<>(); // The builtins and the registered Java methods
+	private boolean used = false; // Whether code has been executed since the scripts were loaded
 
 	private static boolean j2v8LibraryLoaded = false;
 	private static final Object j2v8Lock = new Object();
@@ -72,10 +79,23 @@ public class J2V8 implements JavascriptEngine<V8> {
 			}
 		}
 		v8 = V8.createV8Runtime(alias, tempDirectory);
+		preservedGlobals.addAll(List.of(v8.getKeys()));
+	}
+
+	/**
+	 * A V8 runtime may only be used by the thread that holds its lock. The thread that created it holds it initially.
+	 */
+	private void lock() {
+		V8Locker locker = v8.getLocker();
+		if (!locker.hasLock()) {
+			locker.acquire();
+		}
 	}
 
 	@Override
 	public void executeScript(String script) throws JavascriptException {
+		lock();
+		used = true;
 		try {
 			v8.executeScript(script);
 		} catch(Exception e) {
@@ -83,8 +103,17 @@ public class J2V8 implements JavascriptEngine<V8> {
 		}
 	}
 
+	@Override
+	public void loadScript(String script) throws JavascriptException {
+		scripts.add(script);
+		executeScript(script);
+		used = false;
+	}
+
 	@Override
 	public Object executeFunction(String name, Object... parameters) throws JavascriptException {
+		lock();
+		used = true;
 		try {
 			Object result = v8.executeJSFunction(name, parameters);
 			if (result instanceof V8Value v8Value) {
@@ -99,8 +128,45 @@ public class J2V8 implements JavascriptEngine<V8> {
 		}
 	}
 
+	/**
+	 * Removes the global variables that have been created since the runtime was started, and executes the loaded scripts again. This restores
+	 * the top level declarations of the scripts, as {@code let} and {@code const} have been replaced by {@code var}. Variables declared with
+	 * {@code var} cannot be deleted, they are set to {@code undefined} first. Releases the lock, so the runtime can be used by another thread.
+	 */
+	@Override
+	public boolean resetRuntime() throws JavascriptException {
+		lock();
+		objectsToRelease.forEach(V8Value::release);
+		objectsToRelease.clear();
+		if (used) {
+			restoreGlobals();
+			used = false;
+		}
+		v8.getLocker().release();
+		return true;
+	}
+
+	private void restoreGlobals() throws JavascriptException {
+		try {
+			for (String key : v8.getKeys()) {
+				if (!preservedGlobals.contains(key)) {
+					v8.executeVoidScript("delete this['" + key.replace("\\", "\\\\").replace("'", "\\'") + "']");
+					if (v8.contains(key)) {
+						v8.addUndefined(key);
+					}
+				}
+			}
+			for (String script : scripts) {
+				v8.executeVoidScript(script);
+			}
+		} catch (Exception e) {
+			throw new JavascriptException("unable to reset runtime", e);
+		}
+	}
+
 	@Override
 	public void closeRuntime() {
+		lock();
 		objectsToRelease.forEach(V8Value::release);
 		objectsToRelease.clear();
 		v8.release(true);
@@ -112,12 +178,14 @@ public class J2V8 implements JavascriptEngine<V8> {
 	}
 
 	@Override
-	public void registerCallback(final ISender sender, final PipeLineSession session) {
+	public void registerCallback(final ISender sender, final Supplier<PipeLineSession> sessionSupplier) {
+		lock();
+		preservedGlobals.add(sender.getName());
 		v8.registerJavaMethod(new JavaCallback() {
 			@Override
 			public Object invoke(V8Object receiver, V8Array parameters) {
 				try {
-					return sender.sendMessageOrThrow(Message.asMessage(parameters.get(0)), session).asString();
+					return sender.sendMessageOrThrow(Message.asMessage(parameters.get(0)), sessionSupplier.get()).asString();
 				} catch (Exception e) {
 					throw new IllegalStateException(e);
 				}
@@ -127,6 +195,9 @@ public class J2V8 implements JavascriptEngine<V8> {
 
 	@Override
 	public void setResultHandler(ResultHandler resultHandler) {
+		lock();
+		preservedGlobals.add("result");
+		preservedGlobals.add("error");
 		getEngine().registerJavaMethod(new JavaVoidCallback() {
 			@Override
 			public void invoke(V8Object receiver, V8Array parameters) {
@@ -1,5 +1,5 @@
 /*
-   Copyright 2019-2024 WeAreFrank!
+   Copyright 2019-2024, 2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
 */
 package org.frankframework.javascript;
 
+import java.util.function.Supplier;
+
 import org.frankframework.core.ISender;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.util.flow.ResultHandler;
@@ -47,6 +49,16 @@ public interface JavascriptEngine<E> {
 	 */
 	void executeScript(String script) throws JavascriptException;
 
+	/**
+	 * Executes a script that declares the function(s) to be executed. Unlike {@link #executeScript(String)}, the script is retained by the runtime,
+	 * and executed again when the runtime is reset.
+	 *
+	 * @param script		String containing the contents of the javascript file in which the function(s) to be executed are specified.
+	 */
+	default void loadScript(String script) throws JavascriptException {
+		executeScript(script);
+	}
+
 	/**
 	 * Executes a javascript function and returns the result of that function
 	 *
@@ -56,6 +68,16 @@ public interface JavascriptEngine<E> {
 	 */
 	Object executeFunction(String name, Object... parameters) throws JavascriptException;
 
+	/**
+	 * Restores the runtime to the state directly after the scripts were loaded, so it can be used for another message without
+	 * seeing the global state of the previous one. After a reset the runtime may be used by another thread.
+	 *
+	 * @return {@code false} when the runtime cannot be reset, it must then be closed instead.
+	 */
+	default boolean resetRuntime() throws JavascriptException {
+		return false;
+	}
+
 	/**
 	 * Closes the runtime for the specified engine
 	 */
@@ -74,7 +96,18 @@ public interface JavascriptEngine<E> {
 	 *
 	 * @param sender		The sender given in the adapter configuration
 	 */
-	void registerCallback(ISender sender, PipeLineSession session);
+	default void registerCallback(ISender sender, PipeLineSession session) {
+		registerCallback(sender, () -> session);
+	}
+
+	/**
+	 * Registers a callback for the sender, that calls it with the session that is returned by the {@code sessionSupplier} at the moment
+	 * the function is invoked. Allows the runtime to be reused for multiple messages.
+	 *
+	 * @param sender			The sender given in the adapter configuration
+	 * @param sessionSupplier	Supplies the session of the message that is being processed
+	 */
+	void registerCallback(ISender sender, Supplier<PipeLineSession> sessionSupplier);
 
 	/**
 	 * Registers the result and error functions to be handled by the given result handler.
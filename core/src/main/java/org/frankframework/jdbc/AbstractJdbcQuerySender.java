@@ -22,6 +22,7 @@ import java.io.Reader;
 import java.io.Writer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -34,8 +35,10 @@ import java.sql.Types;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -109,6 +112,7 @@ public abstract class AbstractJdbcQuerySender<H> extends AbstractJdbcSender<H> {
 	private @Getter QueryType queryType = QueryType.OTHER;
 	private @Getter int maxRows=-1; // return all rows
 	private @Getter int startRow=1;
+	private @Getter int fetchSize=0;
 	private @Getter boolean scalar=false;
 	private @Getter boolean scalarExtended=false;
 	private @Getter boolean synchronous=true;
@@ -336,11 +340,8 @@ public abstract class AbstractJdbcQuerySender<H> extends AbstractJdbcSender<H> {
 				case OTHER:
 					Message result = executeOtherQuery(queryExecutionContext, message, session);
 					if (getBatchSize()>0 && ++queryExecutionContext.iteration>=getBatchSize()) {
-						int[] results=statement.executeBatch();
-						int numRowsAffected = Arrays.stream(results).sum();
+						int numRowsAffected = executeBatch(queryExecutionContext);
 						result = new Message("<result><rowsupdated>" + numRowsAffected + "</rowsupdated></result>");
-						statement.clearBatch();
-						queryExecutionContext.iteration=0;
 					}
 					return new SenderResult(result);
 				default:
@@ -358,6 +359,49 @@ public abstract class AbstractJdbcQuerySender<H> extends AbstractJdbcSender<H> {
 		}
 	}
 
+	/**
+	 * Executes the statements that have been added to the batch. When the batch fails, the exception reports which rows of the block could not be executed.
+	 *
+	 * @return the number of rows affected, as far as reported by the driver
+	 */
+	protected int executeBatch(@NonNull QueryExecutionContext queryExecutionContext) throws SenderException {
+		PreparedStatement statement = queryExecutionContext.getStatement();
+		int firstRow = queryExecutionContext.batchOffset + 1;
+		int batchRows = queryExecutionContext.iteration;
+		try {
+			int[] results = statement.executeBatch();
+			return Arrays.stream(results).filter(count -> count > 0).sum(); // the count can be SUCCESS_NO_INFO
+		} catch (BatchUpdateException e) {
+			throw new SenderException("failed to execute batch, " + describeFailedRows(e.getUpdateCounts(), firstRow, batchRows), e);
+		} catch (SQLException e) {
+			throw new SenderException("failed to execute batch of rows [" + firstRow + "-" + (firstRow + batchRows - 1) + "] of the block", e);
+		} finally {
+			queryExecutionContext.batchOffset += batchRows;
+			queryExecutionContext.iteration = 0;
+			try {
+				statement.clearBatch();
+			} catch (SQLException e) {
+				log.warn("could not clear batch", e);
+			}
+		}
+	}
+
+	private static String describeFailedRows(int[] updateCounts, int firstRow, int batchRows) {
+		if (updateCounts.length < batchRows) {
+			// the driver stopped at the first row that failed
+			int failedRow = firstRow + updateCounts.length;
+			int lastRow = firstRow + batchRows - 1;
+			return "row [" + failedRow + "] of the block failed" + (failedRow < lastRow ? ", rows [" + (failedRow + 1) + "-" + lastRow + "] were not executed" : "");
+		}
+		List<Integer> failedRows = new ArrayList<>();
+		for (int i = 0; i < updateCounts.length; i++) {
+			if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+				failedRows.add(firstRow + i);
+			}
+		}
+		return "rows " + failedRows + " of the block failed";
+	}
+
 	@Nullable
 	private Path legacyBlobOrClobFilename(PipeLineSession session) {
 		if (StringUtils.isNotEmpty(getBlobSessionKey())) {
@@ -482,12 +526,7 @@ public abstract class AbstractJdbcQuerySender<H> extends AbstractJdbcSender<H> {
 				DB2XMLWriter db2xml = buildDb2XMLWriter();
 				db2xml.getXML(getDbmsSupport(), resultset, getMaxRows(), isIncludeFieldDefinition(), messageBuilder.asXmlWriter(), isPrettyPrint());
 			} else {
-				DB2DocumentWriter db2document = new DB2DocumentWriter();
-				db2document.setNullValue(getNullValue());
-				db2document.setTrimSpaces(isTrimSpaces());
-				if (StringUtils.isNotEmpty(getBlobCharset())) db2document.setBlobCharset(getBlobCharset());
-				db2document.setDecompressBlobs(isBlobsCompressed());
-				db2document.setGetBlobSmart(isBlobSmartGet());
+				DB2DocumentWriter db2document = buildDb2DocumentWriter();
 				db2document.writeDocument(getOutputFormat(), getDbmsSupport(), resultset, getMaxRows(), isIncludeFieldDefinition(), messageBuilder, isPrettyPrint());
 			}
 			return messageBuilder.build();
@@ -496,6 +535,27 @@ public abstract class AbstractJdbcQuerySender<H> extends AbstractJdbcSender<H> {
 		}
 	}
 
+	/**
+	 * Returns the rows of the ResultSet in the {@code outputFormat}, rendered while they are read. The ResultSet must stay open until the
+	 * end of the stream has been read. The stream is UTF-8 encoded.
+	 */
+	protected InputStream getResultAsInputStream(ResultSet resultset) {
+		if (getOutputFormat()==null) {
+			return buildDb2XMLWriter().asInputStream(getDbmsSupport(), resultset, getMaxRows(), isIncludeFieldDefinition(), isPrettyPrint());
+		}
+		return buildDb2DocumentWriter().asInputStream(getOutputFormat(), getDbmsSupport(), resultset, getMaxRows(), isIncludeFieldDefinition(), isPrettyPrint());
+	}
+
+	protected DB2DocumentWriter buildDb2DocumentWriter() {
+		DB2DocumentWriter db2document = new DB2DocumentWriter();
+		db2document.setNullValue(getNullValue());
+		db2document.setTrimSpaces(isTrimSpaces());
+		if (StringUtils.isNotEmpty(getBlobCharset())) db2document.setBlobCharset(getBlobCharset());
+		db2document.setDecompressBlobs(isBlobsCompressed());
+		db2document.setGetBlobSmart(isBlobSmartGet());
+		return db2document;
+	}
+
 	protected DB2XMLWriter buildDb2XMLWriter() {
 		DB2XMLWriter db2xml = new DB2XMLWriter();
 		db2xml.setNullValue(getNullValue());
@@ -584,24 +644,38 @@ public abstract class AbstractJdbcQuerySender<H> extends AbstractJdbcSender<H> {
 	}
 
 	private SenderResult executeSelectQuery(PreparedStatement statement, @Nullable Path blobOrClobFilename) throws SenderException {
-		try {
-			if (getMaxRows()>0) {
-				statement.setMaxRows(getMaxRows()+ ( getStartRow()>1 ? getStartRow()-1 : 0));
-			}
-
-			log.debug("executing a SELECT SQL command");
-			try (ResultSet resultset = statement.executeQuery()) {
-				if (getStartRow()>1) {
-					resultset.absolute(getStartRow()-1);
-					log.debug("Index set at position: {}", resultset.getRow());
-				}
-				return new SenderResult(getResult(resultset, blobOrClobFilename));
-			}
+		try (ResultSet resultset = executeSelect(statement)) {
+			return new SenderResult(getResult(resultset, blobOrClobFilename));
 		} catch (SQLException|JdbcException|IOException e) {
 			throw new SenderException("got exception executing a SELECT SQL command", e );
 		}
 	}
 
+	/**
+	 * Executes a select statement. The returned ResultSet is positioned before the first row to be returned, as set by {@code startRow}.
+	 */
+	protected ResultSet executeSelect(PreparedStatement statement) throws SQLException {
+		if (getMaxRows()>0) {
+			statement.setMaxRows(getMaxRows()+ ( getStartRow()>1 ? getStartRow()-1 : 0));
+		}
+		if (getFetchSize()>0) {
+			statement.setFetchSize(getFetchSize());
+		}
+
+		log.debug("executing a SELECT SQL command");
+		ResultSet resultset = statement.executeQuery();
+		if (getStartRow()>1) {
+			try {
+				resultset.absolute(getStartRow()-1);
+			} catch (SQLException e) {
+				CloseUtils.closeSilently(resultset);
+				throw e;
+			}
+			log.debug("Index set at position: {}", resultset.getRow());
+		}
+		return resultset;
+	}
+
 	protected Message executePackageQuery(QueryExecutionContext queryExecutionContext) throws SenderException, JdbcException, IOException {
 		Connection connection = queryExecutionContext.getConnection();
 		String query = queryExecutionContext.getQuery();
@@ -866,6 +940,15 @@ public abstract class AbstractJdbcQuerySender<H> extends AbstractJdbcSender<H> {
 		startRow = i;
 	}
 
+	/**
+	 * The number of rows that are fetched from the database at once by <code>select</code> queries, 0 leaves it to the JDBC driver.
+	 * Some drivers, like the one of PostgreSQL, only fetch rows in batches when the connection is not in auto-commit mode, i.e. in a transaction.
+	 * @ff.default 0
+	 */
+	public void setFetchSize(int i) {
+		fetchSize = i;
+	}
+
 	/**
 	 * Value used in result as contents of fields that contain no value (sql-null)
 	 * @ff.default <i>empty string</i>
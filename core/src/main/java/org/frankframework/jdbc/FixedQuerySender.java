@@ -1,5 +1,5 @@
 /*
-   Copyright 2013 Nationale-Nederlanden, 2020, 2022-2023 WeAreFrank!
+   Copyright 2013 Nationale-Nederlanden, 2020, 2022-2023, 2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -15,21 +15,34 @@
 */
 package org.frankframework.jdbc;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
 
 import lombok.Getter;
 
 import org.frankframework.configuration.ConfigurationException;
+import org.frankframework.core.ParameterException;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.SenderException;
 import org.frankframework.core.SenderResult;
 import org.frankframework.core.TimeoutException;
+import org.frankframework.dbms.DbmsException;
+import org.frankframework.dbms.IDbmsSupport;
 import org.frankframework.dbms.JdbcException;
+import org.frankframework.documentbuilder.DocumentFormat;
+import org.frankframework.parameters.ParameterValueList;
 import org.frankframework.stream.Message;
+import org.frankframework.stream.MessageContext;
+import org.frankframework.stream.StreamingMessage;
+import org.frankframework.util.CloseUtils;
 import org.frankframework.util.DB2XMLWriter;
+import org.frankframework.util.JdbcUtil;
 
 /**
  * QuerySender that assumes a fixed query, possibly with attributes.
@@ -73,6 +86,8 @@ public class FixedQuerySender extends AbstractJdbcQuerySender<QueryExecutionCont
 
 	private @Getter String query=null;
 	private @Getter int batchSize;
+	private @Getter boolean streamResult=false;
+	private @Getter boolean multiRowInsert=false;
 
 	@Override
 	public void configure() throws ConfigurationException {
@@ -83,6 +98,22 @@ public class FixedQuerySender extends AbstractJdbcQuerySender<QueryExecutionCont
 			setUseNamedParams(true);
 		}
 		super.configure();
+		if (isStreamResult() && (getQueryType() != QueryType.SELECT || isScalar())) {
+			throw new ConfigurationException("streamResult is only supported for queryType 'select' with scalar=false");
+		}
+		if (isMultiRowInsert()) {
+			if (getBatchSize() <= 0) {
+				throw new ConfigurationException("multiRowInsert requires batchSize>0");
+			}
+			if (StringUtils.isNotEmpty(getRowIdSessionKey()) || StringUtils.isNotEmpty(getResultQuery()) || getColumnsReturnedList() != null) {
+				throw new ConfigurationException("multiRowInsert cannot be used in combination with rowIdSessionKey, resultQuery or columnsReturned");
+			}
+			try {
+				getDbmsSupport().getMultiRowInsertQuery(getQuery(), 2);
+			} catch (DbmsException e) {
+				throw new ConfigurationException("multiRowInsert requires an INSERT statement with a single row of VALUES", e);
+			}
+		}
 	}
 
 	@Override
@@ -99,6 +130,9 @@ public class FixedQuerySender extends AbstractJdbcQuerySender<QueryExecutionCont
 				QueryExecutionContext result1 = getQueryExecutionContext(connection, null);
 				if (getBatchSize()>0) {
 					result1.getStatement().clearBatch();
+					if (isMultiRowInsert()) {
+						result1.setMultiRowInsertBatch(createMultiRowInsertBatch(connection, result1));
+					}
 				}
 				result = result1;
 			} catch (JdbcException | SQLException e) {
@@ -111,13 +145,47 @@ public class FixedQuerySender extends AbstractJdbcQuerySender<QueryExecutionCont
 	}
 
 	@Override
-	public void closeBlock(QueryExecutionContext blockHandle, PipeLineSession session) {
+	public void closeBlock(QueryExecutionContext blockHandle, PipeLineSession session) throws SenderException {
+		if (blockHandle.isResultStreamed()) {
+			// closed by the StreamedResultCloser, when the result has been read or the session is closed
+			return;
+		}
 		try {
-			super.closeStatementSet(blockHandle);
-		} catch (Exception e) {
-			log.warn("Unhandled exception closing statement-set", e);
+			executeRemainingBatch(blockHandle);
+		} finally {
+			try {
+				super.closeStatementSet(blockHandle);
+			} catch (Exception e) {
+				log.warn("Unhandled exception closing statement-set", e);
+			}
+			closeConnectionForSendMessage(blockHandle.getConnection(), session);
 		}
-		closeConnectionForSendMessage(blockHandle.getConnection(), session);
+	}
+
+	private void executeRemainingBatch(QueryExecutionContext blockHandle) throws SenderException {
+		MultiRowInsertBatch multiRowInsertBatch = blockHandle.getMultiRowInsertBatch();
+		if (multiRowInsertBatch != null) {
+			try (multiRowInsertBatch) {
+				multiRowInsertBatch.execute();
+			}
+		} else if (getBatchSize() > 0 && blockHandle.iteration > 0) {
+			executeBatch(blockHandle);
+		}
+	}
+
+	/**
+	 * Returns the batch that inserts the rows of a block with multi-row INSERT statements, or {@code null} when the dbms does not support them,
+	 * or the driver already executes a batch in a single round trip. The batch is then executed using {@link PreparedStatement#executeBatch()}.
+	 */
+	private MultiRowInsertBatch createMultiRowInsertBatch(Connection connection, QueryExecutionContext queryExecutionContext) throws JdbcException {
+		IDbmsSupport dbmsSupport = getDbmsSupport();
+		int rowsPerStatement = Math.min(getBatchSize(), dbmsSupport.getMaxMultiRowInsertRows(queryExecutionContext.getParameterList().size()));
+		if (rowsPerStatement < 2) {
+			log.debug("not using multi-row inserts for [{}], batches are executed as a whole", dbmsSupport::getDbmsName);
+			return null;
+		}
+		String query = queryExecutionContext.getQuery();
+		return new MultiRowInsertBatch(dbmsSupport, rowsPerStatement, rows -> getStatement(connection, dbmsSupport.getMultiRowInsertQuery(query, rows), QueryType.OTHER));
 	}
 
 	@Override
@@ -128,9 +196,82 @@ public class FixedQuerySender extends AbstractJdbcQuerySender<QueryExecutionCont
 	@Override
 	// implements IBlockEnabledSender.sendMessage()
 	public SenderResult sendMessage(QueryExecutionContext blockHandle, Message message, PipeLineSession session) throws SenderException, TimeoutException {
+		if (isStreamResult()) {
+			return streamSelectResult(blockHandle, message, session);
+		}
+		if (blockHandle.getMultiRowInsertBatch() != null) {
+			return addToMultiRowInsert(blockHandle, message, session);
+		}
 		return executeStatementSet(blockHandle, message, session);
 	}
 
+	private SenderResult addToMultiRowInsert(QueryExecutionContext blockHandle, Message message, PipeLineSession session) throws SenderException {
+		try {
+			ParameterValueList parameterValues = blockHandle.getParameterList().getValues(message, session);
+			int rowsInserted = blockHandle.getMultiRowInsertBatch().add(parameterValues);
+			if (rowsInserted < 0) {
+				return new SenderResult(new Message("<result>addedToBatch</result>"));
+			}
+			return new SenderResult(new Message("<result><rowsupdated>" + rowsInserted + "</rowsupdated></result>"));
+		} catch (ParameterException e) {
+			throw new SenderException("got exception evaluating parameters", e);
+		}
+	}
+
+	private SenderResult streamSelectResult(QueryExecutionContext blockHandle, Message message, PipeLineSession session) throws SenderException, TimeoutException {
+		if (blockHandle.isResultStreamed()) {
+			throw new SenderException("the result of a previous message is still being read, streamResult cannot be used for multiple messages in one block");
+		}
+		PreparedStatement statement = blockHandle.getStatement();
+		try {
+			JdbcUtil.applyParameters(getDbmsSupport(), statement, blockHandle.getParameterList(), message, session);
+			ResultSet resultset = executeSelect(statement);
+			StreamedResultCloser closer = new StreamedResultCloser(resultset, blockHandle, session);
+			blockHandle.setResultStreamed(true);
+			session.scheduleCloseOnSessionExit(closer);
+
+			MessageContext context = new MessageContext()
+					.withMimeType(getOutputFormat() == DocumentFormat.JSON ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_XML)
+					.withCharset(StandardCharsets.UTF_8);
+			return new SenderResult(new StreamingMessage(getResultAsInputStream(resultset), context, bytes -> {}, closer::close));
+		} catch (SQLException e) {
+			if (e.getErrorCode() == 1013) {
+				throw new TimeoutException("Timeout of ["+getTimeout()+"] sec expired");
+			}
+			throw new SenderException("got exception executing a SELECT SQL command", e);
+		} catch (JdbcException | ParameterException e) {
+			throw new SenderException("got exception applying parameters", e);
+		}
+	}
+
+	/**
+	 * Closes the ResultSet, the statements and the connection of a streamed result, when the end of the result has been read or, at the latest, when the session is closed.
+	 */
+	private class StreamedResultCloser implements AutoCloseable {
+		private final ResultSet resultset;
+		private final QueryExecutionContext queryExecutionContext;
+		private final PipeLineSession session;
+		private boolean closed = false;
+
+		StreamedResultCloser(ResultSet resultset, QueryExecutionContext queryExecutionContext, PipeLineSession session) {
+			this.resultset = resultset;
+			this.queryExecutionContext = queryExecutionContext;
+			this.session = session;
+		}
+
+		@Override
+		public synchronized void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			log.debug("closing streamed result");
+			CloseUtils.closeSilently(resultset);
+			FixedQuerySender.super.closeStatementSet(queryExecutionContext);
+			closeConnectionForSendMessage(queryExecutionContext.getConnection(), session);
+		}
+	}
+
 	/** The SQL query text to be executed each time sendMessage() is called
 	 * @ff.mandatory
 	 */
@@ -138,6 +279,16 @@ public class FixedQuerySender extends AbstractJdbcQuerySender<QueryExecutionCont
 		this.query = query;
 	}
 
+	/**
+	 * If set to {@code true}, the result of a <code>select</code> query is rendered while it is read, instead of being read into memory or a temporary
+	 * file first. The result can then be read only once. The statement and connection stay open until the end of the result has been read or the
+	 * session has ended, so the result should be consumed in the same pipeline. Only for queryType=select with scalar=false.
+	 * @ff.default false
+	 */
+	public void setStreamResult(boolean streamResult) {
+		this.streamResult = streamResult;
+	}
+
 	/** When set larger than 0 and used as a child of an IteratingPipe, then the database calls are made in batches of this size. Only for queryType=other.
 	  * @ff.default 0
 	  */
@@ -145,4 +296,16 @@ public class FixedQuerySender extends AbstractJdbcQuerySender<QueryExecutionCont
 		this.batchSize = batchSize;
 	}
 
+	/**
+	 * If set to {@code true}, an <code>INSERT INTO ... VALUES (...)</code> query inserts the messages of a batch with a single statement, that has
+	 * a row of VALUES for each message, instead of executing a batch of statements. This takes a single round trip to the database per batch,
+	 * also for drivers that send every statement of a batch separately. The number of rows per statement is limited to batchSize and by the
+	 * maximum number of parameters the database allows in a statement. For databases whose driver already executes a batch in a single
+	 * round trip, like Oracle, a batch of statements is used. Only in combination with batchSize.
+	 * @ff.default false
+	 */
+	public void setMultiRowInsert(boolean multiRowInsert) {
+		this.multiRowInsert = multiRowInsert;
+	}
+
 }
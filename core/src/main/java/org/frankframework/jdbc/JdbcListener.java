@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -44,7 +45,9 @@ import lombok.Lombok;
 import lombok.Setter;
 
 import org.frankframework.configuration.ConfigurationException;
+import org.frankframework.configuration.ConfigurationWarnings;
 import org.frankframework.core.IHasProcessState;
+import org.frankframework.core.INotifyingListener;
 import org.frankframework.core.IPeekableListener;
 import org.frankframework.core.IRedeliveringListener;
 import org.frankframework.core.ListenerException;
@@ -73,9 +76,10 @@ import org.frankframework.util.StringUtil;
  * @since   4.7
  */
 @SuppressWarnings("SynchronizeOnNonFinalField")
-public class JdbcListener<M> extends JdbcFacade implements IPeekableListener<M>, IHasProcessState<M>, IRedeliveringListener<M>, ReceiverAware<M> {
+public class JdbcListener<M> extends JdbcFacade implements IPeekableListener<M>, INotifyingListener<M>, IHasProcessState<M>, IRedeliveringListener<M>, ReceiverAware<M> {
 
 	public static final String ADDITIONAL_QUERY_FIELDS_KEY = "ADDITIONAL_QUERY_FIELDS";
+	private static final Pattern CHANNEL_NAME_PATTERN = Pattern.compile("[A-Za-z_]\\w*");
 
 	private @Getter @Setter Receiver<M> receiver;
 
@@ -97,11 +101,14 @@ public class JdbcListener<M> extends JdbcFacade implements IPeekableListener<M>,
 
 	private @Setter @Getter boolean trace=false;
 	private @Getter boolean peekUntransacted=true;
+	private @Getter String notificationChannel;
+	private @Getter boolean notificationEnabled=false;
 
 	private Map<ProcessState, String> updateStatusQueries = new EnumMap<>(ProcessState.class);
 	private Map<ProcessState, Set<ProcessState>> targetProcessStates = new EnumMap<>(ProcessState.class);
 
 	protected Connection connection = null;
+	private Connection notificationConnection = null;
 
 	private String preparedSelectQuery;
 	private String preparedPeekQuery;
@@ -141,6 +148,15 @@ public class JdbcListener<M> extends JdbcFacade implements IPeekableListener<M>,
 		if (!fieldsNotInQuery.isEmpty()) {
 			throw new ConfigurationException("additionalFields contains fields not in the select query: " + fieldsNotInQuery);
 		}
+		if (StringUtils.isNotEmpty(getNotificationChannel())) {
+			if (!CHANNEL_NAME_PATTERN.matcher(getNotificationChannel()).matches()) {
+				throw new ConfigurationException("notificationChannel [" + getNotificationChannel() + "] must be a valid identifier");
+			}
+			notificationEnabled = getDbmsSupport().isNotificationSupported();
+			if (!notificationEnabled) {
+				ConfigurationWarnings.add(this, log, "Database [" + getDbmsSupport().getDbmsName() + "] does not support notifications, notificationChannel is ignored");
+			}
+		}
 	}
 
 	@Override
@@ -163,6 +179,7 @@ public class JdbcListener<M> extends JdbcFacade implements IPeekableListener<M>,
 
 	@Override
 	public void stop() {
+		closeNotificationConnection();
 		try {
 			if (connection != null) {
 				connection.close();
@@ -175,6 +192,38 @@ public class JdbcListener<M> extends JdbcFacade implements IPeekableListener<M>,
 		}
 	}
 
+	/**
+	 * Waits for a notification on the {@code notificationChannel}, using a connection that is dedicated to receiving notifications.
+	 * When the connection fails, it is closed, and a new one is opened at the next call.
+	 */
+	@Override
+	public boolean awaitNotification(long timeout) throws ListenerException {
+		try {
+			if (notificationConnection == null) {
+				notificationConnection = getConnection();
+				notificationConnection.setAutoCommit(true);
+				getDbmsSupport().listen(notificationConnection, getNotificationChannel());
+				log.debug("{}listening for notifications on channel [{}]", this::getLogPrefix, this::getNotificationChannel);
+			}
+			return getDbmsSupport().awaitNotification(notificationConnection, (int) timeout);
+		} catch (JdbcException | SQLException e) {
+			closeNotificationConnection();
+			throw new ListenerException(getLogPrefix() + "cannot receive notifications on channel [" + getNotificationChannel() + "]", e);
+		}
+	}
+
+	private void closeNotificationConnection() {
+		try {
+			if (notificationConnection != null) {
+				notificationConnection.close();
+			}
+		} catch (SQLException e) {
+			log.warn("{}caught exception closing notification connection", getLogPrefix(), e);
+		} finally {
+			notificationConnection = null;
+		}
+	}
+
 	@NonNull
 	@Override
 	public Map<String,Object> openThread() throws ListenerException {
@@ -459,6 +508,15 @@ public class JdbcListener<M> extends JdbcFacade implements IPeekableListener<M>,
 		peekUntransacted = b;
 	}
 
+	/**
+	 * Name of the channel to receive notifications on when rows are inserted or updated, e.g. by a trigger. When the receiver is idle, it polls as soon as a notification
+	 * is received, instead of waiting for the pollInterval. The pollInterval remains the maximum time between polls. Only supported for PostgreSQL (<code>LISTEN</code>/<code>NOTIFY</code>),
+	 * for other databases the receiver only polls.
+	 */
+	public void setNotificationChannel(String notificationChannel) {
+		this.notificationChannel = notificationChannel;
+	}
+
 	/**
 	 * (only used when <code>peekUntransacted</code>=<code>true</code>) peek query to determine if the select query should be executed. Peek queries are, unlike select queries, executed without a transaction and without a rowlock
 	 * @ff.default selectQuery
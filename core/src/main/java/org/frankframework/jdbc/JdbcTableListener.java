@@ -18,6 +18,7 @@ package org.frankframework.jdbc;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
@@ -59,6 +60,7 @@ public class JdbcTableListener<M> extends JdbcListener<M> implements IProvidesMe
 	private @Getter String commentField;
 	private @Getter String selectCondition;
 	private @Getter int maxCommentLength=ITransactionalStorage.MAXCOMMENTLEN;
+	private @Getter boolean createNotificationTrigger=false;
 
 	private final Map<ProcessState, String> statusValues = new EnumMap<>(ProcessState.class);
 
@@ -109,6 +111,20 @@ public class JdbcTableListener<M> extends JdbcListener<M> implements IProvidesMe
 		super.start();
 		// Validate this in start not configure, because a broken configuration could otherwise prevent the startup of the entire application.
 		validateQueryFields();
+		if (isCreateNotificationTrigger() && isNotificationEnabled()) {
+			createNotificationTrigger();
+		}
+	}
+
+	private void createNotificationTrigger() throws LifecycleException {
+		try (Connection conn = getConnection(); Statement stmt = conn.createStatement()) {
+			for (String statement : getDbmsSupport().getNotificationTriggerStatements(getTableName(), getNotificationChannel())) {
+				log.debug("{}executing [{}]", getLogPrefix(), statement);
+				stmt.execute(statement);
+			}
+		} catch (JdbcException | SQLException e) {
+			throw new LifecycleException("cannot create notification trigger on table [" + getTableName() + "]", e);
+		}
 	}
 
 	private void validateQueryFields() throws LifecycleException {
@@ -356,4 +372,13 @@ public class JdbcTableListener<M> extends JdbcListener<M> implements IProvidesMe
 		selectCondition = string;
 	}
 
+	/**
+	 * If set to <code>true</code> and <code>notificationChannel</code> is set, a trigger is created on the table at startup, that notifies the channel when rows are inserted or updated.
+	 * An existing trigger for the channel is replaced.
+	 * @ff.default false
+	 */
+	public void setCreateNotificationTrigger(boolean createNotificationTrigger) {
+		this.createNotificationTrigger = createNotificationTrigger;
+	}
+
 }
@@ -0,0 +1,124 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import lombok.Getter;
+
+import org.frankframework.core.SenderException;
+import org.frankframework.dbms.IDbmsSupport;
+import org.frankframework.dbms.JdbcException;
+import org.frankframework.parameters.ParameterValueList;
+import org.frankframework.util.CloseUtils;
+import org.frankframework.util.JdbcUtil;
+
+/**
+ * Collects the parameter values of the messages of a block, and inserts them with a single INSERT statement that has a row of VALUES for
+ * each message, instead of with a statement per message. The parameter values of all rows are bound to the statement at once when the batch
+ * is executed, so a batch of messages takes only a single round trip to the database.
+ */
+class MultiRowInsertBatch implements AutoCloseable {
+
+	/** Prepares a statement for the INSERT query with the given number of rows */
+	@FunctionalInterface
+	interface StatementFactory {
+		PreparedStatement prepare(int rows) throws SQLException, JdbcException;
+	}
+
+	private final IDbmsSupport dbmsSupport;
+	private final StatementFactory statementFactory;
+	private final @Getter int rowsPerStatement;
+	private final List<ParameterValueList> rows;
+	private @Nullable PreparedStatement fullBatchStatement;
+	private int rowsExecuted = 0;
+
+	MultiRowInsertBatch(@NonNull IDbmsSupport dbmsSupport, int rowsPerStatement, @NonNull StatementFactory statementFactory) {
+		this.dbmsSupport = dbmsSupport;
+		this.rowsPerStatement = rowsPerStatement;
+		this.statementFactory = statementFactory;
+		this.rows = new ArrayList<>(rowsPerStatement);
+	}
+
+	/**
+	 * Adds a row to the batch, and executes the batch when it is full.
+	 *
+	 * @return the number of rows inserted, or -1 when the batch has not been executed yet
+	 */
+	int add(@NonNull ParameterValueList parameterValues) throws SenderException {
+		rows.add(parameterValues);
+		if (rows.size() < rowsPerStatement) {
+			return -1;
+		}
+		return execute();
+	}
+
+	/**
+	 * Executes the rows that have been added since the batch was last executed.
+	 *
+	 * @return the number of rows inserted
+	 */
+	int execute() throws SenderException {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+		int firstRow = rowsExecuted + 1;
+		int lastRow = rowsExecuted + rows.size();
+		PreparedStatement statement = null;
+		try {
+			statement = getStatement(rows.size());
+			int offset = 0;
+			for (ParameterValueList row : rows) {
+				JdbcUtil.applyParameters(dbmsSupport, statement, row, offset);
+				offset += row.size();
+			}
+			return statement.executeUpdate();
+		} catch (SQLException e) {
+			throw new SenderException("failed to insert rows [" + firstRow + "-" + lastRow + "] of the block", e);
+		} catch (JdbcException e) {
+			throw new SenderException("could not apply parameters of rows [" + firstRow + "-" + lastRow + "] of the block", e);
+		} finally {
+			if (statement != fullBatchStatement) {
+				CloseUtils.closeSilently(statement);
+			}
+			rowsExecuted = lastRow;
+			rows.clear();
+		}
+	}
+
+	private PreparedStatement getStatement(int rowCount) throws SQLException, JdbcException {
+		if (rowCount < rowsPerStatement) {
+			// the remainder at the end of a block
+			return statementFactory.prepare(rowCount);
+		}
+		if (fullBatchStatement == null) {
+			fullBatchStatement = statementFactory.prepare(rowsPerStatement);
+		}
+		return fullBatchStatement;
+	}
+
+	@Override
+	public void close() {
+		CloseUtils.closeSilently(fullBatchStatement);
+		fullBatchStatement = null;
+	}
+}
@@ -18,7 +18,9 @@ package org.frankframework.jdbc;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 
 import org.frankframework.jdbc.AbstractJdbcQuerySender.QueryType;
 import org.frankframework.parameters.ParameterList;
@@ -33,6 +35,11 @@ public class QueryExecutionContext {
 	@Getter private final PreparedStatement statement;
 	@Getter private final PreparedStatement resultQueryStatement;
 	protected int iteration;
+	/** Number of rows of the block that have been executed in previous batches */
+	protected int batchOffset;
+	@Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE) private MultiRowInsertBatch multiRowInsertBatch;
+	/** Set when the statement and connection stay open after the message has been sent, until its result has been read */
+	@Getter @Setter private boolean resultStreamed;
 
 	public QueryExecutionContext(String query, String resultQuery, QueryType queryType, ParameterList parameterList, Connection connection, PreparedStatement statement, PreparedStatement resultQueryStatement) {
 		this.query = query;
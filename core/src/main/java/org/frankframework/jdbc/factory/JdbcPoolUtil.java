@@ -15,6 +15,9 @@
 */
 package org.frankframework.jdbc.factory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import javax.sql.DataSource;
 import javax.sql.XADataSource;
 
@@ -39,20 +42,46 @@ public class JdbcPoolUtil {
 
 	/** Returns pool info or NULL when it's not able to do so. */
 	public static @Nullable String getConnectionPoolInfo(@Nullable DataSource datasource) {
+		GenericObjectPool<?> pool = getConnectionPool(datasource);
+		if (pool == null) {
+			return null;
+		}
+
 		StringBuilder info = new StringBuilder();
+		addPoolMetadata(pool, info);
+		return info.toString();
+	}
 
-		if (datasource instanceof OpenManagedDataSource<?> targetDataSource) {
-			addPoolMetadata(targetDataSource.getPool(), info);
-		} else if (datasource instanceof org.apache.tomcat.dbcp.dbcp2.PoolingDataSource) {
-			OpenPoolingDataSource<?> dataSource = (OpenPoolingDataSource<?>) datasource;
-			addPoolMetadata(dataSource.getPool(), info);
-		} else if (datasource instanceof DelegatingDataSource source) { // Perhaps it's wrapped?
-			return getConnectionPoolInfo(source.getTargetDataSource());
-		} else {
+	/** Returns the current state of the connection pool or NULL when it's not able to do so. Durations are in milliseconds. */
+	public static @Nullable Map<String, Object> getConnectionPoolStatistics(@Nullable DataSource datasource) {
+		GenericObjectPool<?> pool = getConnectionPool(datasource);
+		if (pool == null) {
 			return null;
 		}
 
-		return info.toString();
+		Map<String, Object> statistics = new LinkedHashMap<>();
+		statistics.put("maxTotal", pool.getMaxTotal());
+		statistics.put("numActive", pool.getNumActive());
+		statistics.put("numIdle", pool.getNumIdle());
+		statistics.put("numWaiters", pool.getNumWaiters());
+		statistics.put("meanBorrowWaitTime", pool.getMeanBorrowWaitDuration().toMillis());
+		statistics.put("maxBorrowWaitTime", pool.getMaxBorrowWaitDuration().toMillis());
+		if (pool instanceof OpenConnectionPool connectionPool) {
+			double hitRatio = connectionPool.getStatementCacheHitRatio();
+			statistics.put("statementCacheHitRatio", Double.isNaN(hitRatio) ? null : hitRatio);
+		}
+		return statistics;
+	}
+
+	private static @Nullable GenericObjectPool<?> getConnectionPool(@Nullable DataSource datasource) {
+		if (datasource instanceof OpenManagedDataSource<?> targetDataSource) {
+			return targetDataSource.getPool();
+		} else if (datasource instanceof OpenPoolingDataSource<?> dataSource) {
+			return dataSource.getPool();
+		} else if (datasource instanceof DelegatingDataSource source) { // Perhaps it's wrapped?
+			return getConnectionPool(source.getTargetDataSource());
+		}
+		return null;
 	}
 
 	static void addPoolMetadata(@NonNull GenericObjectPool<?> pool, @NonNull StringBuilder info) {
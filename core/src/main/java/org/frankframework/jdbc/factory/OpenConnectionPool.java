@@ -0,0 +1,80 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.jdbc.factory;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.tomcat.dbcp.dbcp2.PoolableConnection;
+import org.apache.tomcat.dbcp.dbcp2.PoolableConnectionFactory;
+import org.apache.tomcat.dbcp.dbcp2.PoolingConnection;
+import org.apache.tomcat.dbcp.pool2.impl.GenericKeyedObjectPool;
+import org.apache.tomcat.dbcp.pool2.impl.GenericObjectPool;
+
+/**
+ * Extension of {@link GenericObjectPool} that exposes statistics of the prepared statement caches of its connections.
+ * <p>
+ *     When statement pooling is enabled, every connection has its own statement cache. The caches are collected when their connection
+ *     is borrowed, and the numbers of closed caches are retained, so the statistics cover the whole lifetime of the pool.
+ * </p>
+ */
+public class OpenConnectionPool extends GenericObjectPool<PoolableConnection> {
+
+	private final Set<GenericKeyedObjectPool<?, ?>> statementCaches = ConcurrentHashMap.newKeySet();
+	private long retiredStatementRequests = 0L;
+	private long retiredStatementsCreated = 0L;
+
+	public OpenConnectionPool(PoolableConnectionFactory factory) {
+		super(factory);
+	}
+
+	@Override
+	public PoolableConnection borrowObject() throws Exception {
+		PoolableConnection connection = super.borrowObject();
+		if (connection.getDelegate() instanceof PoolingConnection poolingConnection
+				&& poolingConnection.getStatementPool() instanceof GenericKeyedObjectPool<?, ?> statementCache) {
+			statementCaches.add(statementCache);
+		}
+		return connection;
+	}
+
+	/**
+	 * Returns the fraction of requested statements that have been served from a statement cache, or {@code NaN} when no statements have been
+	 * requested from a cache (yet).
+	 */
+	public synchronized double getStatementCacheHitRatio() {
+		long requests = retiredStatementRequests;
+		long created = retiredStatementsCreated;
+		Iterator<GenericKeyedObjectPool<?, ?>> iterator = statementCaches.iterator();
+		while (iterator.hasNext()) {
+			GenericKeyedObjectPool<?, ?> statementCache = iterator.next();
+			long cacheRequests = statementCache.getBorrowedCount();
+			long cacheCreated = statementCache.getCreatedCount();
+			if (statementCache.isClosed()) { // The connection has been closed, it will not be used anymore
+				retiredStatementRequests += cacheRequests;
+				retiredStatementsCreated += cacheCreated;
+				iterator.remove();
+			}
+			requests += cacheRequests;
+			created += cacheCreated;
+		}
+		if (requests == 0L) {
+			return Double.NaN;
+		}
+		return (double) (requests - Math.min(created, requests)) / requests;
+	}
+}
@@ -17,6 +17,9 @@ package org.frankframework.jdbc.factory;
 
 import java.sql.Connection;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.CommonDataSource;
 import javax.sql.ConnectionPoolDataSource;
@@ -29,6 +32,12 @@ import org.apache.tomcat.dbcp.dbcp2.PoolableConnection;
 import org.apache.tomcat.dbcp.dbcp2.PoolableConnectionFactory;
 import org.apache.tomcat.dbcp.pool2.impl.GenericObjectPool;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -40,6 +49,8 @@ import org.frankframework.util.AppConstants;
  *
  * Already created DataSources are stored in a ConcurrentHashMap.
  * Every DataSource can be augmented before it is added.
+ *
+ * When a {@link MeterRegistry} is available, the state of every connection pool is published as metrics with a {@value #DATASOURCE_TAG} tag.
  */
 public class PoolingDataSourceFactory extends DataSourceFactory {
 
@@ -49,6 +60,14 @@ public class PoolingDataSourceFactory extends DataSourceFactory {
 	@Getter @Setter protected int maxLifeTime = 0;
 	@Getter @Setter protected int connectionCheckInterval = 300;
 	@Getter @Setter protected String testQuery = null;
+	/** Maximum number of prepared statements that are cached per connection. Statement caching is disabled when 0. */
+	@Getter @Setter protected int statementCacheSize = 0;
+
+	static final String DATASOURCE_TAG = "datasource";
+	private static final String METRICS_PREFIX = "frank.jdbc.pool.";
+
+	private @Setter @Nullable MeterRegistry meterRegistry;
+	private final List<Meter> meters = new ArrayList<>();
 
 	public PoolingDataSourceFactory() {
 		super();
@@ -59,6 +78,7 @@ public class PoolingDataSourceFactory extends DataSourceFactory {
 		maxLifeTime = appConstants.getInt("transactionmanager.jdbc.connection.maxLifeTime", maxLifeTime);
 		connectionCheckInterval = appConstants.getInt("transactionmanager.jdbc.connection.checkInterval", connectionCheckInterval);
 		testQuery = appConstants.getString("transactionmanager.jdbc.connection.testQuery", testQuery);
+		statementCacheSize = appConstants.getInt("transactionmanager.jdbc.connection.statementCacheSize", statementCacheSize);
 	}
 
 	@NonNull
@@ -87,7 +107,7 @@ public class PoolingDataSourceFactory extends DataSourceFactory {
 		ConnectionFactory cf = new DataSourceConnectionFactory(dataSource);
 		PoolableConnectionFactory poolableConnectionFactory = new PoolableConnectionFactory(cf, null);
 
-		GenericObjectPool<PoolableConnection> connectionPool = createConnectionPool(poolableConnectionFactory);
+		GenericObjectPool<PoolableConnection> connectionPool = createConnectionPool(poolableConnectionFactory, dataSourceName);
 		OpenPoolingDataSource<PoolableConnection> ds = new OpenPoolingDataSource<>(connectionPool);
 		log.info("registered PoolingDataSource [{}]", ds);
 		return ds;
@@ -95,6 +115,15 @@ public class PoolingDataSourceFactory extends DataSourceFactory {
 
 	@NonNull
 	protected GenericObjectPool<PoolableConnection> createConnectionPool(@NonNull PoolableConnectionFactory poolableConnectionFactory) {
+		return createConnectionPool(poolableConnectionFactory, null);
+	}
+
+	/**
+	 * Creates the connection pool for a DataSource. When a name is given, the pool is configured with the settings of the DataSource
+	 * and its state is published as metrics.
+	 */
+	@NonNull
+	protected GenericObjectPool<PoolableConnection> createConnectionPool(@NonNull PoolableConnectionFactory poolableConnectionFactory, @Nullable String dataSourceName) {
 		poolableConnectionFactory.setAutoCommitOnReturn(false);
 		poolableConnectionFactory.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
 		if (maxLifeTime > 0) {
@@ -106,7 +135,13 @@ public class PoolingDataSourceFactory extends DataSourceFactory {
 			poolableConnectionFactory.setValidationQueryTimeout(Duration.ofSeconds(5));
 		}
 		poolableConnectionFactory.setFastFailValidation(true);
-		GenericObjectPool<PoolableConnection> connectionPool = new GenericObjectPool<>(poolableConnectionFactory);
+		int cacheSize = getStatementCacheSize(dataSourceName);
+		if (cacheSize > 0) {
+			log.debug("caching [{}] prepared statements per connection of datasource [{}]", cacheSize, dataSourceName);
+			poolableConnectionFactory.setPoolStatements(true);
+			poolableConnectionFactory.setMaxOpenPreparedStatements(cacheSize);
+		}
+		OpenConnectionPool connectionPool = new OpenConnectionPool(poolableConnectionFactory);
 		connectionPool.setMinIdle(minIdle);
 		connectionPool.setMaxTotal(maxPoolSize);
 		connectionPool.setMaxIdle(maxIdle);
@@ -117,6 +152,50 @@ public class PoolingDataSourceFactory extends DataSourceFactory {
 		}
 		connectionPool.setBlockWhenExhausted(true);
 		poolableConnectionFactory.setPool(connectionPool);
+		if (dataSourceName != null) {
+			registerMetrics(connectionPool, dataSourceName);
+		}
 		return connectionPool;
 	}
+
+	/**
+	 * Returns the statement cache size of the DataSource, which can be set with the property
+	 * {@code transactionmanager.jdbc.connection.<name>.statementCacheSize}, where the name is without the resource prefix.
+	 */
+	protected int getStatementCacheSize(@Nullable String dataSourceName) {
+		if (dataSourceName == null) {
+			return statementCacheSize;
+		}
+		String name = StringUtils.removeStart(dataSourceName, getResourcePrefix() + "/");
+		return AppConstants.getInstance().getInt("transactionmanager.jdbc.connection." + name + ".statementCacheSize", statementCacheSize);
+	}
+
+	private void registerMetrics(@NonNull OpenConnectionPool pool, @NonNull String dataSourceName) {
+		if (meterRegistry == null) {
+			return;
+		}
+
+		synchronized (meters) {
+			meters.add(Gauge.builder(METRICS_PREFIX + "active", pool, GenericObjectPool::getNumActive).tag(DATASOURCE_TAG, dataSourceName).register(meterRegistry));
+			meters.add(Gauge.builder(METRICS_PREFIX + "idle", pool, GenericObjectPool::getNumIdle).tag(DATASOURCE_TAG, dataSourceName).register(meterRegistry));
+			meters.add(Gauge.builder(METRICS_PREFIX + "waiting", pool, GenericObjectPool::getNumWaiters).tag(DATASOURCE_TAG, dataSourceName).register(meterRegistry));
+			meters.add(TimeGauge.builder(METRICS_PREFIX + "borrowWait.mean", pool, TimeUnit.MILLISECONDS, p -> p.getMeanBorrowWaitDuration().toMillis())
+					.tag(DATASOURCE_TAG, dataSourceName).register(meterRegistry));
+			meters.add(TimeGauge.builder(METRICS_PREFIX + "borrowWait.max", pool, TimeUnit.MILLISECONDS, p -> p.getMaxBorrowWaitDuration().toMillis())
+					.tag(DATASOURCE_TAG, dataSourceName).register(meterRegistry));
+			meters.add(Gauge.builder(METRICS_PREFIX + "statementCache.hitRatio", pool, OpenConnectionPool::getStatementCacheHitRatio)
+					.tag(DATASOURCE_TAG, dataSourceName).register(meterRegistry));
+		}
+	}
+
+	@Override
+	protected void postDestroy() throws Exception {
+		synchronized (meters) {
+			if (meterRegistry != null) {
+				meters.forEach(meterRegistry::remove);
+			}
+			meters.clear();
+		}
+		super.postDestroy();
+	}
 }
@@ -51,6 +51,7 @@ import ujson.Value;
 
 import org.frankframework.core.ISender;
 import org.frankframework.core.PipeLineSession;
+import org.frankframework.functional.ThrowingSupplier;
 import org.frankframework.parameters.DateParameter;
 import org.frankframework.parameters.IParameter;
 import org.frankframework.parameters.Parameter;
@@ -78,21 +79,40 @@ public class DataSonnetUtil {
 	/**
 	 * DataSonnet library that allows you to call another process from within a DataSonnet translation.
 	 * The 'namespace' field is the 'object' in the translation file. For now this has been fixed to 'sender'.
+	 * <p>
+	 * The library is part of a {@link Mapper} that is built once and used concurrently. The session that the senders are called with
+	 * is therefore not part of the library, but bound to the current thread for the duration of a transformation, see {@link #withSession}.
+	 * </p>
 	 *
 	 * nb. the extended class 'library' is made in Scala.
 	 */
 	public static class DataSonnetToSenderConnector extends Library {
 		private final List<ISender> senders;
-		private final PipeLineSession session;
+		private final ThreadLocal<PipeLineSession> boundSession = new ThreadLocal<>();
 
-		public DataSonnetToSenderConnector(@NonNull List<ISender> senders, @NonNull PipeLineSession session) {
+		public DataSonnetToSenderConnector(@NonNull List<ISender> senders) {
 			this.senders = senders;
 
 			if (senders.stream().anyMatch(s -> StringUtils.isBlank(s.getName()))) {
 				throw new IllegalArgumentException("one or more senders does not have a name");
 			}
+		}
 
-			this.session = session;
+		/**
+		 * Performs the action, typically a transformation, with the session bound to the senders that are called from the translation.
+		 */
+		public <T, E extends Exception> T withSession(@NonNull PipeLineSession session, @NonNull ThrowingSupplier<T, E> action) throws E {
+			PipeLineSession previous = boundSession.get();
+			boundSession.set(session);
+			try {
+				return action.get();
+			} finally {
+				if (previous == null) {
+					boundSession.remove();
+				} else {
+					boundSession.set(previous);
+				}
+			}
 		}
 
 		@Override
@@ -127,6 +147,10 @@ public class DataSonnetUtil {
 					.findFirst()
 					.orElseThrow(() -> new IllegalArgumentException("no value provided for call to sender [" + sender.getName() + "]"));
 
+			PipeLineSession session = boundSession.get();
+			if (session == null) {
+				throw new IllegalStateException("no session bound for call to sender [" + sender.getName() + "]");
+			}
 			try {
 				Message result = sender.sendMessageOrThrow(arg, session);
 				return messageToVal(result);
@@ -65,7 +65,7 @@ public class NarayanaDataSourceFactory extends AbstractXADataSourceFactory {
 			XAConnectionFactory cf = new DataSourceXAConnectionFactory(requireNonNull(transactionManager.getTransactionManager()), xaDataSource);
 			PoolableConnectionFactory poolableConnectionFactory = new PoolableManagedConnectionFactory(cf, null);
 
-			GenericObjectPool<PoolableConnection> connectionPool = createConnectionPool(poolableConnectionFactory);
+			GenericObjectPool<PoolableConnection> connectionPool = createConnectionPool(poolableConnectionFactory, dataSourceName);
 
 			ds = new OpenManagedDataSource<>(connectionPool, cf.getTransactionRegistry());
 			log.info("created XA-enabled PoolingDataSource [{}]", ds);
@@ -24,6 +24,7 @@ import java.sql.ResultSet;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,7 @@ import org.frankframework.configuration.Configuration;
 import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.configuration.digester.ConfigurationDigester;
 import org.frankframework.configuration.util.ConfigurationUtils;
+import org.frankframework.core.Adapter;
 import org.frankframework.jdbc.FixedQuerySender;
 import org.frankframework.jdbc.IDataSourceFactory;
 import org.frankframework.management.bus.ActionSelector;
@@ -124,6 +126,44 @@ public class ConfigManagement extends BusEndpointBase {
 		return new JsonMessage(configs);
 	}
 
+	/**
+	 * header configuration The name of the Configuration to report on, or all configurations when not set
+	 * @return The duration of the startup phases of the configuration(s) and their adapters, in milliseconds. A duration of -1 means the phase has not completed.
+	 */
+	@ActionSelector(BusAction.STATUS)
+	@RolesAllowed({"IbisObserver", "IbisDataAdmin", "IbisAdmin", "IbisTester"})
+	public Message<String> getStartupTimings(Message<?> message) {
+		String configurationName = BusMessageUtils.getHeader(message, BusMessageUtils.HEADER_CONFIGURATION_NAME_KEY);
+		List<Configuration> configurations = StringUtils.isNotEmpty(configurationName)
+				? List.of(getConfigurationByName(configurationName))
+				: getIbisManager().getConfigurations();
+
+		List<Map<String, Object>> timings = new ArrayList<>();
+		for (Configuration configuration : configurations) {
+			Map<String, Object> configurationTimings = new LinkedHashMap<>();
+			configurationTimings.put("name", configuration.getName());
+			if (configuration.getVersion() != null) {
+				configurationTimings.put("version", configuration.getVersion());
+			}
+			configurationTimings.put("digest", configuration.getDigestDuration());
+			configurationTimings.put("configure", configuration.getConfigureDuration());
+			configurationTimings.put("start", configuration.getStartDuration());
+
+			List<Map<String, Object>> adapterTimings = new ArrayList<>();
+			for (Adapter adapter : configuration.getRegisteredAdapters()) {
+				Map<String, Object> adapterTiming = new LinkedHashMap<>();
+				adapterTiming.put("name", adapter.getName());
+				adapterTiming.put("configure", adapter.getConfigureDuration());
+				adapterTiming.put("start", adapter.getStartDuration());
+				adapterTimings.add(adapterTiming);
+			}
+			adapterTimings.sort(Comparator.comparing(timing -> (String) timing.get("name")));
+			configurationTimings.put("adapters", adapterTimings);
+			timings.add(configurationTimings);
+		}
+		return new JsonMessage(timings);
+	}
+
 	/**
 	 * header configuration The name of the Configuration to manage
 	 * header version The version of the Configuration to find
@@ -21,6 +21,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.sql.DataSource;
+
 import jakarta.annotation.security.RolesAllowed;
 
 import org.springframework.core.annotation.AnnotationUtils;
@@ -34,6 +36,8 @@ import org.frankframework.core.IListener;
 import org.frankframework.core.IPipe;
 import org.frankframework.core.ISender;
 import org.frankframework.core.PipeLine;
+import org.frankframework.jdbc.IDataSourceFactory;
+import org.frankframework.jdbc.factory.JdbcPoolUtil;
 import org.frankframework.management.bus.BusAware;
 import org.frankframework.management.bus.BusTopic;
 import org.frankframework.management.bus.TopicSelector;
@@ -88,10 +92,30 @@ public class ConnectionOverview extends BusEndpointBase {
 
 		Map<String, List<Object>> allConnections = new LinkedHashMap<>();
 		allConnections.put("data", connectionsIncoming);
+		allConnections.put("datasources", getDataSourcePools());
 
 		return new JsonMessage(allConnections);
 	}
 
+	/**
+	 * Returns the state of the connection pools of all DataSources that are in use.
+	 */
+	private List<Object> getDataSourcePools() {
+		List<Object> pools = new ArrayList<>();
+		IDataSourceFactory dataSourceFactory = getBean("dataSourceFactory", IDataSourceFactory.class);
+		for (String dataSourceName : dataSourceFactory.getDataSourceNames()) {
+			DataSource dataSource = dataSourceFactory.getDataSource(dataSourceName);
+			Map<String, Object> statistics = JdbcPoolUtil.getConnectionPoolStatistics(dataSource);
+			if (statistics != null) {
+				Map<String, Object> pool = new LinkedHashMap<>();
+				pool.put("name", dataSourceName);
+				pool.putAll(statistics);
+				pools.add(pool);
+			}
+		}
+		return pools;
+	}
+
 	private Map<String, Object> addToMap(String adapterName, String destination, String name, String direction, String domain) {
 		Map<String, Object> connection = new HashMap<>();
 		connection.put("adapterName", adapterName);
@@ -0,0 +1,196 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package org.frankframework.pipes;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.xml.sax.SAXException;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.Getter;
+
+import org.frankframework.configuration.ConfigurationException;
+import org.frankframework.core.IDataIterator;
+import org.frankframework.core.PipeLineSession;
+import org.frankframework.core.SenderException;
+import org.frankframework.pipes.CsvParserPipe.HeaderCase;
+import org.frankframework.pipes.CsvParserPipe.OutputFormat;
+import org.frankframework.statistics.FrankMeterType;
+import org.frankframework.stream.Message;
+
+/**
+ * Sends a message to a Sender for each record of its CSV input. Each record is passed as a {@code record} element, or as
+ * a JSON object when {@literal outputFormat=JSON_LINES}, in the same format as the {@link CsvParserPipe} produces.
+ * <p>
+ * Records are parsed while iterating, so the input is never materialized as a whole. Use {@literal blockSize} to
+ * send the records in blocks, and set {@literal collectResults=false} to process very large files in constant memory.
+ * </p>
+ *
+ * @since 10.3
+ */
+public class CsvIteratingPipe extends StringIteratorPipe {
+
+	private @Getter Boolean fileContainsHeader;
+	private @Getter String fieldNames;
+	private @Getter String fieldSeparator;
+	private @Getter HeaderCase headerCase=null;
+	private boolean useControlCodes;
+	private @Getter boolean trimWhitespace;
+	private @Getter OutputFormat outputFormat = OutputFormat.XML;
+	private @Getter String columnTypes;
+
+	private Counter recordCounter;
+
+	private CSVFormat format;
+	private CsvRecordConverter converter;
+
+	@Override
+	public void configure() throws ConfigurationException {
+		super.configure();
+
+		format = CsvRecordConverter.createFormat(getFieldNames(), getFileContainsHeader(), getFieldSeparator(), useControlCodes);
+		converter = new CsvRecordConverter(getHeaderCase(), isTrimWhitespace(), CsvRecordConverter.parseColumnTypes(getColumnTypes()));
+
+		if (configurationMetrics != null) {
+			recordCounter = configurationMetrics.createCounter(this, FrankMeterType.PIPE_RECORDS_PROCESSED);
+		}
+	}
+
+	@Override
+	protected IDataIterator<String> getIterator(Message input, PipeLineSession session, Map<String, Object> threadContext) throws SenderException {
+		try {
+			Reader reader = input.asReader();
+			if (reader == null) {
+				throw new SenderException("cannot obtain reader from null input");
+			}
+			return new CsvRecordIterator(format.parse(reader));
+		} catch (IOException e) {
+			throw new SenderException("cannot open stream", e);
+		}
+	}
+
+	private class CsvRecordIterator implements IDataIterator<String> {
+		private final CSVParser parser;
+		private final Iterator<CSVRecord> records;
+
+		CsvRecordIterator(CSVParser parser) {
+			this.parser = parser;
+			this.records = parser.iterator();
+		}
+
+		@Override
+		public boolean hasNext() throws SenderException {
+			try {
+				return records.hasNext();
+			} catch (UncheckedIOException e) {
+				throw new SenderException("cannot read CSV record", e.getCause());
+			}
+		}
+
+		@Override
+		public String next() throws SenderException {
+			CSVRecord csvRecord;
+			try {
+				csvRecord = records.next();
+			} catch (UncheckedIOException e) {
+				throw new SenderException("cannot read CSV record", e.getCause());
+			}
+			try {
+				String item = getOutputFormat() == OutputFormat.JSON_LINES ? converter.toJson(csvRecord) : converter.toXml(csvRecord);
+				if (recordCounter != null) {
+					recordCounter.increment();
+				}
+				return item;
+			} catch (SAXException | NumberFormatException e) {
+				throw new SenderException("cannot convert record at line ["+ csvRecord.getRecordNumber()+"] pos ["+ csvRecord.getCharacterPosition()+"]", e);
+			}
+		}
+
+		@Override
+		public void close() throws SenderException {
+			try {
+				parser.close();
+			} catch (IOException e) {
+				throw new SenderException(e);
+			}
+		}
+	}
+
+	/**
+	 * Specifies if the first line should be treated as a header or as data.
+	 * @ff.default true
+	 */
+	public void setFileContainsHeader(Boolean fileContainsHeader) {
+		this.fileContainsHeader = fileContainsHeader;
+	}
+
+	/** Comma separated list of header names. If set, then {@code fileContainsHeader} defaults to false. If not set, headers are taken from the first line. */
+	public void setFieldNames(String fieldNames) {
+		this.fieldNames = fieldNames;
+	}
+
+	/**
+	 * Character that separates fields.
+	 * @ff.default ,
+	 */
+	public void setFieldSeparator(String fieldSeparator) {
+		this.fieldSeparator = fieldSeparator;
+	}
+
+	/** When set, character casing will be changed for the header. */
+	public void setHeaderCase(HeaderCase headerCase) {
+		this.headerCase = headerCase;
+	}
+
+	/**
+	 * Format in which each record is passed to the sender.
+	 * @ff.default XML
+	 */
+	public void setOutputFormat(OutputFormat outputFormat) {
+		this.outputFormat = outputFormat;
+	}
+
+	/**
+	 * Comma separated list of {@code name:type} pairs, to write the values of these columns as JSON numbers or booleans when
+	 * {@literal outputFormat=JSON_LINES}, e.g. {@code amount:number,active:boolean}.
+	 */
+	public void setColumnTypes(String columnTypes) {
+		this.columnTypes = columnTypes;
+	}
+
+	/**
+	 * Enables the ASCII {@code (RS) Record Separator} and {@code (US) Unit Separator} Control Code field delimiters.
+	 * This may not be used in combination with attribute {@code fieldSeparator}.
+	 */
+	public void setUseControlCodes(boolean useControlCodes) {
+		this.useControlCodes = useControlCodes;
+	}
+
+	/**
+	 * When set to true, whitespace is trimmed from the beginning and end of each header and field value.
+	 * @ff.default false
+	 */
+	public void setTrimWhitespace(boolean trimWhitespace) {
+		this.trimWhitespace = trimWhitespace;
+	}
+}
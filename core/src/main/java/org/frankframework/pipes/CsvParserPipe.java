@@ -17,16 +17,17 @@ package org.frankframework.pipes;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.util.Map.Entry;
+import java.io.Writer;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
-import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NonNull;
 import org.xml.sax.SAXException;
 
+import io.micrometer.core.instrument.Counter;
 import lombok.Getter;
+import lombok.Setter;
 
 import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.core.PipeLineSession;
@@ -34,13 +35,18 @@ import org.frankframework.core.PipeRunException;
 import org.frankframework.core.PipeRunResult;
 import org.frankframework.doc.EnterpriseIntegrationPattern;
 import org.frankframework.doc.EnterpriseIntegrationPattern.Type;
+import org.frankframework.statistics.FrankMeterType;
+import org.frankframework.statistics.MetricsInitializer;
 import org.frankframework.stream.Message;
 import org.frankframework.stream.MessageBuilder;
 import org.frankframework.xml.SaxDocumentBuilder;
-import org.frankframework.xml.SaxElementBuilder;
 
 /**
- * Reads a message in CSV format and turns it into XML.
+ * Reads a message in CSV format and turns it into XML, or into JSON lines when {@literal outputFormat=JSON_LINES}.
+ * <p>
+ * Records are parsed one at a time and written directly to the output, which is spilled to disk when it becomes large.
+ * To process each record (or block of records) with a sender, use the {@link CsvIteratingPipe}.
+ * </p>
  *
  * @author Gerrit van Brakel
  *
@@ -55,48 +61,43 @@ public class CsvParserPipe extends FixedForwardPipe {
 	private @Getter boolean prettyPrint;
 	private boolean useControlCodes;
 	private @Getter boolean trimWhitespace;
+	private @Getter OutputFormat outputFormat = OutputFormat.XML;
+	private @Getter String columnTypes;
+
+	private @Setter MetricsInitializer configurationMetrics;
+	private Counter recordCounter;
 
 	private CSVFormat format;
+	private CsvRecordConverter converter;
 
 	public enum HeaderCase {
 		LOWERCASE,
 		UPPERCASE
 	}
 
+	public enum OutputFormat {
+		/** A {@code csv} root element, with a {@code record} element for each record */
+		XML,
+		/** A JSON object for each record, each on a separate line */
+		JSON_LINES
+	}
+
+	public enum ColumnType {
+		STRING,
+		NUMBER,
+		BOOLEAN
+	}
+
 	@Override
 	public void configure() throws ConfigurationException {
 		super.configure();
 
-		CSVFormat.Builder builder = CSVFormat.Builder.create(CSVFormat.DEFAULT);
-
-		if (StringUtils.isNotEmpty(getFieldNames())) {
-			builder.setHeader(getFieldNames().split(","));
-			builder.setSkipHeaderRecord(getFileContainsHeader()!=null && getFileContainsHeader());
-		} else {
-			if (getFileContainsHeader()==null || getFileContainsHeader()) {
-				builder.setHeader();
-				builder.setSkipHeaderRecord(true);
-			} else {
-				throw new ConfigurationException("No fieldNames specified, and fileContainsHeader=false");
-			}
-		}
+		format = CsvRecordConverter.createFormat(getFieldNames(), getFileContainsHeader(), getFieldSeparator(), useControlCodes);
+		converter = new CsvRecordConverter(getHeaderCase(), isTrimWhitespace(), CsvRecordConverter.parseColumnTypes(getColumnTypes()));
 
-		if (StringUtils.isNotEmpty(getFieldSeparator()) && useControlCodes) {
-			throw new ConfigurationException("cannot use fieldSeparator in combination with useControlCodes");
+		if (configurationMetrics != null) {
+			recordCounter = configurationMetrics.createCounter(this, FrankMeterType.PIPE_RECORDS_PROCESSED);
 		}
-
-		if (useControlCodes) {
-			builder.setRecordSeparator((char) 30);
-			builder.setDelimiter((char) 31);
-		} else if (StringUtils.isNotEmpty(getFieldSeparator())) {
-			String separator = getFieldSeparator();
-			if (separator.length() > 1) {
-				throw new ConfigurationException("Illegal value for fieldSeparator ["+separator+"], can only be a single character");
-			}
-			builder.setDelimiter(getFieldSeparator().charAt(0));
-		}
-
-		format = builder.build();
 	}
 
 	@NonNull
@@ -104,11 +105,10 @@ public class CsvParserPipe extends FixedForwardPipe {
 	public PipeRunResult doPipe(@NonNull Message message, @NonNull PipeLineSession session) throws PipeRunException {
 		try {
 			MessageBuilder messageBuilder = new MessageBuilder();
-			try (Reader reader = message.asReader(); SaxDocumentBuilder document = new SaxDocumentBuilder("csv", messageBuilder.asXmlWriter(), isPrettyPrint())) {
-				CSVParser csvParser = format.parse(reader);
-				for (CSVRecord csvRecord : csvParser) {
-					processCsvRecord(csvRecord, document);
-				}
+			if (getOutputFormat() == OutputFormat.JSON_LINES) {
+				writeJsonLines(message, messageBuilder);
+			} else {
+				writeXml(message, messageBuilder);
 			}
 			return new PipeRunResult(getSuccessForward(), messageBuilder.build());
 		} catch (IOException | SAXException e) {
@@ -116,46 +116,39 @@ public class CsvParserPipe extends FixedForwardPipe {
 		}
 	}
 
-	private void processCsvRecord(final CSVRecord csvRecord, final SaxDocumentBuilder document) throws PipeRunException {
-		try (SaxElementBuilder element = document.startElement("record")) {
-			for (Entry<String,String> entry: csvRecord.toMap().entrySet()) {
-				String key = getKey(entry.getKey());
-
-				element.addElement(key, getValue(entry.getValue()));
+	private void writeXml(Message message, MessageBuilder messageBuilder) throws IOException, SAXException, PipeRunException {
+		try (Reader reader = message.asReader(); SaxDocumentBuilder document = new SaxDocumentBuilder("csv", messageBuilder.asXmlWriter(), isPrettyPrint())) {
+			CSVParser csvParser = format.parse(reader);
+			for (CSVRecord csvRecord : csvParser) {
+				try {
+					converter.writeXml(csvRecord, document);
+				} catch (SAXException e) {
+					throw new PipeRunException(this, "Exception caught at line ["+ csvRecord.getRecordNumber()+"] pos ["+ csvRecord.getCharacterPosition()+"]", e);
+				}
+				countRecord();
 			}
-		} catch (SAXException e) {
-			throw new PipeRunException(this, "Exception caught at line ["+ csvRecord.getRecordNumber()+"] pos ["+ csvRecord.getCharacterPosition()+"]", e);
 		}
 	}
 
-	/**
-	 * Returns the value for the field, trimmed if configured to do so.
-	 * @param value the original field value
-	 * @return the processed field value
-	 */
-	private String getValue(String value) {
-		if (isTrimWhitespace()) {
-			return StringUtils.trim(value);
+	private void writeJsonLines(Message message, MessageBuilder messageBuilder) throws IOException, PipeRunException {
+		try (Reader reader = message.asReader(); Writer writer = messageBuilder.asWriter()) {
+			CSVParser csvParser = format.parse(reader);
+			for (CSVRecord csvRecord : csvParser) {
+				try {
+					writer.write(converter.toJson(csvRecord));
+				} catch (NumberFormatException e) {
+					throw new PipeRunException(this, "Cannot convert value at line ["+ csvRecord.getRecordNumber()+"] pos ["+ csvRecord.getCharacterPosition()+"]", e);
+				}
+				writer.write('\n');
+				countRecord();
+			}
 		}
-		return value;
 	}
 
-	/**
-	 * Returns the key for the header, possibly trimmed and in the specified case.
-	 * @param key the original header key
-	 * @return the processed header key
-	 */
-	private String getKey(String key) {
-		String processedKey = key;
-		if (isTrimWhitespace()) {
-			processedKey = StringUtils.trim(processedKey);
-		}
-
-		if (getHeaderCase() != null) {
-			return getHeaderCase() == HeaderCase.LOWERCASE ? processedKey.toLowerCase() : processedKey.toUpperCase();
+	private void countRecord() {
+		if (recordCounter != null) {
+			recordCounter.increment();
 		}
-
-		return processedKey;
 	}
 
 	/**
@@ -184,6 +177,23 @@ public class CsvParserPipe extends FixedForwardPipe {
 		this.headerCase = headerCase;
 	}
 
+	/**
+	 * Format of the output.
+	 * @ff.default XML
+	 */
+	public void setOutputFormat(OutputFormat outputFormat) {
+		this.outputFormat = outputFormat;
+	}
+
+	/**
+	 * Comma separated list of {@code name:type} pairs, to write the values of these columns as JSON numbers or booleans when
+	 * {@literal outputFormat=JSON_LINES}, e.g. {@code amount:number,active:boolean}. Names refer to the header names as they appear
+	 * in the output. Empty values of typed columns are written as {@code null}.
+	 */
+	public void setColumnTypes(String columnTypes) {
+		this.columnTypes = columnTypes;
+	}
+
 	/** Format the XML output in an easily legible way. */
 	public void setPrettyPrint(boolean prettyPrint) {
 		this.prettyPrint = prettyPrint;
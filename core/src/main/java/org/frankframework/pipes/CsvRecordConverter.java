@@ -0,0 +1,190 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package org.frankframework.pipes;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.xml.sax.SAXException;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+import org.frankframework.configuration.ConfigurationException;
+import org.frankframework.pipes.CsvParserPipe.ColumnType;
+import org.frankframework.pipes.CsvParserPipe.HeaderCase;
+import org.frankframework.xml.SaxElementBuilder;
+import org.frankframework.xml.XmlWriter;
+
+/**
+ * Converts {@link CSVRecord CSVRecords} to XML elements or JSON objects, shared by {@link CsvParserPipe} and {@link CsvIteratingPipe}.
+ */
+class CsvRecordConverter {
+	private static final JsonGeneratorFactory JSON_GENERATOR_FACTORY = Json.createGeneratorFactory(null);
+
+	private final @Nullable HeaderCase headerCase;
+	private final boolean trimWhitespace;
+	private final Map<String, ColumnType> columnTypes;
+
+	CsvRecordConverter(@Nullable HeaderCase headerCase, boolean trimWhitespace, @NonNull Map<String, ColumnType> columnTypes) {
+		this.headerCase = headerCase;
+		this.trimWhitespace = trimWhitespace;
+		this.columnTypes = columnTypes;
+	}
+
+	static @NonNull CSVFormat createFormat(String fieldNames, Boolean fileContainsHeader, String fieldSeparator, boolean useControlCodes) throws ConfigurationException {
+		CSVFormat.Builder builder = CSVFormat.Builder.create(CSVFormat.DEFAULT);
+
+		if (StringUtils.isNotEmpty(fieldNames)) {
+			builder.setHeader(fieldNames.split(","));
+			builder.setSkipHeaderRecord(fileContainsHeader!=null && fileContainsHeader);
+		} else {
+			if (fileContainsHeader==null || fileContainsHeader) {
+				builder.setHeader();
+				builder.setSkipHeaderRecord(true);
+			} else {
+				throw new ConfigurationException("No fieldNames specified, and fileContainsHeader=false");
+			}
+		}
+
+		if (StringUtils.isNotEmpty(fieldSeparator) && useControlCodes) {
+			throw new ConfigurationException("cannot use fieldSeparator in combination with useControlCodes");
+		}
+
+		if (useControlCodes) {
+			builder.setRecordSeparator((char) 30);
+			builder.setDelimiter((char) 31);
+		} else if (StringUtils.isNotEmpty(fieldSeparator)) {
+			if (fieldSeparator.length() > 1) {
+				throw new ConfigurationException("Illegal value for fieldSeparator ["+fieldSeparator+"], can only be a single character");
+			}
+			builder.setDelimiter(fieldSeparator.charAt(0));
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Parses a comma separated list of {@code name:type} pairs, e.g. {@code amount:number,active:boolean}.
+	 */
+	static @NonNull Map<String, ColumnType> parseColumnTypes(@Nullable String columnTypes) throws ConfigurationException {
+		if (StringUtils.isBlank(columnTypes)) {
+			return Collections.emptyMap();
+		}
+		Map<String, ColumnType> result = new HashMap<>();
+		for (String columnType : columnTypes.split(",")) {
+			String[] nameAndType = columnType.split(":");
+			if (nameAndType.length != 2 || StringUtils.isBlank(nameAndType[0])) {
+				throw new ConfigurationException("Illegal value for columnTypes ["+columnType+"], must be in the form name:type");
+			}
+			try {
+				result.put(nameAndType[0].trim(), ColumnType.valueOf(nameAndType[1].trim().toUpperCase()));
+			} catch (IllegalArgumentException e) {
+				throw new ConfigurationException("Illegal column type ["+nameAndType[1]+"] for column ["+nameAndType[0]+"]", e);
+			}
+		}
+		return result;
+	}
+
+	void writeXml(@NonNull CSVRecord csvRecord, @NonNull SaxElementBuilder parent) throws SAXException {
+		try (SaxElementBuilder element = parent.startElement("record")) {
+			for (Entry<String,String> entry: csvRecord.toMap().entrySet()) {
+				element.addElement(getKey(entry.getKey()), getValue(entry.getValue()));
+			}
+		}
+	}
+
+	@NonNull String toXml(@NonNull CSVRecord csvRecord) throws SAXException {
+		XmlWriter writer = new XmlWriter();
+		try (SaxElementBuilder element = new SaxElementBuilder("record", writer)) {
+			for (Entry<String,String> entry: csvRecord.toMap().entrySet()) {
+				element.addElement(getKey(entry.getKey()), getValue(entry.getValue()));
+			}
+		}
+		return writer.toString();
+	}
+
+	/**
+	 * Renders the record as a single line JSON object. Columns for which a {@link ColumnType} has been configured are written as
+	 * JSON numbers or booleans, empty values of these columns are written as {@code null}.
+	 *
+	 * @throws NumberFormatException when a value cannot be converted to the configured column type.
+	 */
+	@NonNull String toJson(@NonNull CSVRecord csvRecord) {
+		StringWriter writer = new StringWriter();
+		try (JsonGenerator generator = JSON_GENERATOR_FACTORY.createGenerator(writer)) {
+			generator.writeStartObject();
+			for (Entry<String,String> entry: csvRecord.toMap().entrySet()) {
+				String key = getKey(entry.getKey());
+				writeJsonValue(generator, key, getValue(entry.getValue()), columnTypes.getOrDefault(key, ColumnType.STRING));
+			}
+			generator.writeEnd();
+		}
+		return writer.toString();
+	}
+
+	private static void writeJsonValue(JsonGenerator generator, String key, String value, ColumnType columnType) {
+		if (value == null || (columnType != ColumnType.STRING && StringUtils.isBlank(value))) {
+			generator.writeNull(key);
+			return;
+		}
+		switch (columnType) {
+			case NUMBER -> generator.write(key, new BigDecimal(value.trim()));
+			case BOOLEAN -> generator.write(key, Boolean.parseBoolean(value.trim()));
+			default -> generator.write(key, value);
+		}
+	}
+
+	/**
+	 * Returns the value for the field, trimmed if configured to do so.
+	 * @param value the original field value
+	 * @return the processed field value
+	 */
+	private String getValue(String value) {
+		if (trimWhitespace) {
+			return StringUtils.trim(value);
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the key for the header, possibly trimmed and in the specified case.
+	 * @param key the original header key
+	 * @return the processed header key
+	 */
+	private String getKey(String key) {
+		String processedKey = key;
+		if (trimWhitespace) {
+			processedKey = StringUtils.trim(processedKey);
+		}
+
+		if (headerCase != null) {
+			return headerCase == HeaderCase.LOWERCASE ? processedKey.toLowerCase() : processedKey.toUpperCase();
+		}
+
+		return processedKey;
+	}
+}
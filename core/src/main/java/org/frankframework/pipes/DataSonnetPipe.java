@@ -25,6 +25,7 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
+import com.datasonnet.Mapper;
 import com.datasonnet.MapperBuilder;
 import com.datasonnet.document.Document;
 
@@ -111,11 +112,11 @@ public class DataSonnetPipe extends FixedForwardPipe {
 	@SuppressWarnings({ "NullAway.Init", "java:S2637" })
 	private String styleSheetName;
 	@SuppressWarnings({ "NullAway.Init", "java:S2637" })
-	private String resolvedStyleSheet;
+	private Mapper mapper;
+	private @Nullable DataSonnetToSenderConnector senderConnector;
 	private @Nullable String imports;
 
 	private final List<ISender> senderList = new ArrayList<>();
-	private Map<String, String> importMap = Map.of();
 	private DataSonnetOutputType outputFileFormat = DataSonnetOutputType.JSON;
 
 	@Override
@@ -131,10 +132,23 @@ public class DataSonnetPipe extends FixedForwardPipe {
 			sender.configure();
 		}
 
-		importMap = StringUtil.splitToStream(imports, ",;")
+		Map<String, String> importMap = StringUtil.splitToStream(imports, ",;")
 				.collect(Collectors.toMap(n -> n, n -> FunctionalUtil.throwingLambda(()-> Misc.getStyleSheet(this, n))));
 
-		resolvedStyleSheet = Misc.getStyleSheet(this, styleSheetName);
+		// The mapper is compiled once and used concurrently, only the session that senders are called with differs per message
+		try {
+			MapperBuilder builder = new MapperBuilder(Misc.getStyleSheet(this, styleSheetName))
+					.withImports(importMap)
+					.withInputNames(getParameterList().getParameterNames());
+
+			if (!senderList.isEmpty()) {
+				senderConnector = new DataSonnetToSenderConnector(senderList);
+				builder.withLibrary(senderConnector);
+			}
+			mapper = builder.build();
+		} catch (RuntimeException e) { // Typically an IllegalArgumentException
+			throw new ConfigurationException("cannot compile DataSonnet stylesheet [" + styleSheetName + "]", e);
+		}
 	}
 
 	@Override
@@ -155,16 +169,13 @@ public class DataSonnetPipe extends FixedForwardPipe {
 	public PipeRunResult doPipe(@NonNull Message message, @NonNull PipeLineSession session) throws PipeRunException {
 		ParameterValueList pvl = getParameters(message, session);
 
-		MapperBuilder builder = new MapperBuilder(resolvedStyleSheet)
-				.withImports(importMap)
-				.withInputNames(getParameterList().getParameterNames());
-
-		if (!senderList.isEmpty()) {
-			builder.withLibrary(new DataSonnetToSenderConnector(senderList, session));
-		}
-
 		try {
-			Message output = DataSonnetUtil.transform(builder.build(), message, pvl, outputFileFormat);
+			Message output;
+			if (senderConnector != null) {
+				output = senderConnector.withSession(session, () -> DataSonnetUtil.transform(mapper, message, pvl, outputFileFormat));
+			} else {
+				output = DataSonnetUtil.transform(mapper, message, pvl, outputFileFormat);
+			}
 			return new PipeRunResult(getSuccessForward(), output);
 		} catch (Exception e) { // Typically an IllegalArgumentException
 			throw new PipeRunException(this, "error transforming input", e);
@@ -28,12 +28,14 @@ import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import io.micrometer.core.instrument.Counter;
 import lombok.Getter;
 import lombok.Setter;
 
 import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.configuration.ConfigurationWarnings;
 import org.frankframework.configuration.SuppressKeys;
+import org.frankframework.core.IBlockEnabledSender;
 import org.frankframework.core.ParameterException;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.SenderException;
@@ -41,7 +43,9 @@ import org.frankframework.core.TimeoutException;
 import org.frankframework.doc.Category;
 import org.frankframework.jta.IThreadConnectableTransactionManager;
 import org.frankframework.parameters.IParameter;
+import org.frankframework.statistics.FrankMeterType;
 import org.frankframework.stream.Message;
+import org.frankframework.stream.MessageBuilder;
 import org.frankframework.threading.IThreadCreator;
 import org.frankframework.threading.ThreadConnector;
 import org.frankframework.threading.ThreadLifeCycleEventListener;
@@ -78,6 +82,7 @@ public class ForEachChildElementPipe extends StringIteratorPipe implements IThre
 	private @Getter String elementXPathExpression = null;
 	private @Getter int xsltVersion = DEFAULT_XSLT_VERSION;
 	private @Getter boolean removeNamespaces = true;
+	private @Getter boolean streamBlocks = false;
 
 	private TransformerPool extractElementsTp = null;
 	private @Setter ThreadLifeCycleEventListener<Object> threadLifeCycleEventListener;
@@ -85,10 +90,29 @@ public class ForEachChildElementPipe extends StringIteratorPipe implements IThre
 	private @Getter @Setter IXmlDebugger xmlDebugger;
 
 	private boolean createThreadConnectorForXsltStreaming;
+	private Counter recordCounter;
 
 	@Override
 	public void configure() throws ConfigurationException {
+		if (isStreamBlocks()) {
+			// Items are passed to the block enabled sender one by one, in the block that the sender has opened
+			setCombineBlocks(false);
+		}
 		super.configure();
+		if (isStreamBlocks()) {
+			if (!(getSender() instanceof IBlockEnabledSender<?>)) {
+				throw new ConfigurationException("streamBlocks requires a block enabled sender, sender [" + getSender().getName() + "] is not");
+			}
+			if (isParallel()) {
+				throw new ConfigurationException("streamBlocks cannot be combined with parallel");
+			}
+			if (StringUtils.isNotEmpty(getLinePrefix()) || StringUtils.isNotEmpty(getLineSuffix()) || isEscapeXml() || getStartPosition() >= 0 || isRemoveDuplicates()) {
+				throw new ConfigurationException("streamBlocks cannot be combined with linePrefix, lineSuffix, escapeXml, startPosition or removeDuplicates, as these require each item as a String");
+			}
+		}
+		if (configurationMetrics != null) {
+			recordCounter = configurationMetrics.createCounter(this, FrankMeterType.PIPE_RECORDS_PROCESSED);
+		}
 		try {
 			if (StringUtils.isNotEmpty(getElementXPathExpression())) {
 				if (getXsltVersion() == 0) {
@@ -158,15 +182,20 @@ public class ForEachChildElementPipe extends StringIteratorPipe implements IThre
 
 	private static class ItemCallbackCallingHandler extends NodeSetFilter {
 		private final ItemCallback callback;
+		private final boolean streamItems;
+		private final Counter recordCounter;
 
 		private XmlWriter xmlWriter;
+		private MessageBuilder messageBuilder;
 
 		private StopReason stopReason=null;
 
-		public ItemCallbackCallingHandler(ItemCallback callback) {
+		public ItemCallbackCallingHandler(ItemCallback callback, boolean streamItems, Counter recordCounter) {
 			super(null, null, false, false, null);
 			setContentHandler(xmlWriter);
 			this.callback=callback;
+			this.streamItems=streamItems;
+			this.recordCounter=recordCounter;
 		}
 
 		@Override
@@ -196,7 +225,17 @@ public class ForEachChildElementPipe extends StringIteratorPipe implements IThre
 		 */
 		@Override
 		public void startNode(String uri, String localName, String qName) throws SAXException {
-			xmlWriter= new XmlWriter();
+			if (streamItems) {
+				// Serialize the element directly into the message for the sender, that overflows to disk when it is large
+				try {
+					messageBuilder = new MessageBuilder();
+				} catch (IOException e) {
+					throw new SaxException("cannot create buffer for item", e);
+				}
+				xmlWriter = messageBuilder.asXmlWriter();
+			} else {
+				xmlWriter = new XmlWriter();
+			}
 			setContentHandler(xmlWriter);
 			xmlWriter.startDocument();
 		}
@@ -204,8 +243,15 @@ public class ForEachChildElementPipe extends StringIteratorPipe implements IThre
 		@Override
 		public void endNode(String uri, String localName, String qName) throws SAXException {
 			xmlWriter.endDocument();
+			if (recordCounter != null) {
+				recordCounter.increment();
+			}
 			try {
-				stopReason = callback.handleItem(xmlWriter.toString());
+				if (streamItems) {
+					stopReason = callback.handleMessage(messageBuilder.build());
+				} else {
+					stopReason = callback.handleItem(xmlWriter.toString());
+				}
 			} catch (TimeoutException e) {
 				throw new SaxTimeoutException(e);
 			} catch (Exception e) {
@@ -295,7 +341,7 @@ public class ForEachChildElementPipe extends StringIteratorPipe implements IThre
 	}
 
 	private void createHandler(HandlerRecord result, ThreadConnector<?> threadConnector, Message input, PipeLineSession session, ItemCallback callback) throws TransformerConfigurationException {
-		result.itemHandler = new ItemCallbackCallingHandler(callback);
+		result.itemHandler = new ItemCallbackCallingHandler(callback, isStreamBlocks(), recordCounter);
 		result.inputHandler=result.itemHandler;
 
 		if (getXmlDebugger()!=null && (StringUtils.isNotEmpty(getContainerElement()) || StringUtils.isNotEmpty(getTargetElement()) || getExtractElementsTp()!=null)) {
@@ -454,6 +500,18 @@ public class ForEachChildElementPipe extends StringIteratorPipe implements IThre
 		removeNamespaces = b;
 	}
 
+	/**
+	 * If set to {@code true}, each child element is serialized directly into the message for the sender, without creating an intermediate String,
+	 * and the messages are sent one by one into the block that is opened by the sender. This requires a block enabled sender, such as a
+	 * FixedQuerySender with a <code>batchSize</code>, and allows very large files with many elements to be processed efficiently.
+	 * The number of elements in each block is controlled by <code>blockSize</code>, the elements are never combined into a single message.
+	 * Cannot be used together with <code>parallel</code>, <code>linePrefix</code>, <code>lineSuffix</code>, <code>escapeXml</code>, <code>startPosition</code> and <code>removeDuplicates</code>.
+	 * @ff.default false
+	 */
+	public void setStreamBlocks(boolean streamBlocks) {
+		this.streamBlocks = streamBlocks;
+	}
+
 	/**
 	 * SAXException thrown to signal that the consumer of a stream does not want to receive more of it.
 	 */
@@ -308,7 +308,7 @@ public class IfPipe extends AbstractPipe {
 					parameterValues = parameterList.getValues(message, session, namespaceAware).getValueMap();
 				}
 
-				String transform = transformerPool.transformToString(message.asString(), parameterValues, namespaceAware);
+				String transform = transformerPool.transformToString(message, parameterValues, namespaceAware);
 
 				return (StringUtils.isEmpty(transform)) ? null : transform;
 			} catch (Exception ioe) {
@@ -19,9 +19,12 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
@@ -112,6 +115,8 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 	private @Getter boolean closeIteratorOnExit=true;
 	private @Getter boolean parallel = false;
 	private @Getter int maxChildThreads = 0;
+	private @Getter int workQueueSize = 0;
+	private @Getter boolean preserveOrder = true;
 
 	private @Getter int blockSize=0;
 
@@ -122,6 +127,7 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 	private final Map<String, DistributionSummary> statisticsMap = new ConcurrentHashMap<>();
 
 	private ResourceLimiter childLimiter = null;
+	private DistributionSummary throughputStatistics = null;
 
 	protected enum StopReason {
 		MAX_ITEMS_REACHED(MAX_ITEMS_REACHED_FORWARD),
@@ -152,13 +158,23 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 			setMaxChildThreads(20);
 			ConfigurationWarnings.add(this, log, "\"parallel\" is set to \"true\" but \"maxChildThreads\" is not set. Defaulting \"maxChildThreads\" to 20");
 		}
-		if (getMaxChildThreads() > 0) {
-			// Create semaphore with "fair" policy, meaning first-come-first-serve. If a child thread asks for a resource but doesn't get it before the
-			// parent thread tries to wait until all tasks are done, the child gets the semaphore before parent is signalled it can continue.
+		if (getWorkQueueSize() > 0 && !isParallel()) {
+			ConfigurationWarnings.add(this, log, "\"workQueueSize\" is only used when \"parallel\" is set to \"true\"");
+		}
+		if (isWorkQueueEnabled()) {
+			if (configurationMetrics != null) {
+				throughputStatistics = configurationMetrics.createDistributionSummary(this, FrankMeterType.PIPE_THROUGHPUT);
+			}
+		} else if (getMaxChildThreads() > 0) {
+			// Create semaphore with "fair" policy, meaning first-come-first-serve, so that concurrent calls of this pipe get their threads in turn.
 			childLimiter = new ResourceLimiter(getMaxChildThreads(), true);
 		}
 	}
 
+	private boolean isWorkQueueEnabled() {
+		return isParallel() && getWorkQueueSize() > 0;
+	}
+
 	protected IDataIterator<I> getIterator(Message input, PipeLineSession session, Map<String,Object> threadContext) throws SenderException {
 		return null;
 	}
@@ -215,14 +231,26 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 		private boolean blockOpen=false;
 		private Object blockHandle;
 		private final List<I> inputItems = Collections.synchronizedList(new ArrayList<>());
-		private List<ParallelSenderExecutor> executorList;
+		private WorkQueue workQueue;
+		private ParallelResultCollector resultCollector;
+		private BlockingQueue<ParallelSenderExecutor> completedExecutors;
+		private Map<ParallelSenderExecutor, Integer> pendingItems; // item numbers of the executors whose results have not been collected yet
+		private final List<Throwable> exceptions = new ArrayList<>();
+		private int writtenItems = 0;
 
 		public ItemCallback(PipeLineSession session, ISender sender, Writer out) {
 			this.session=session;
 			this.sender=sender;
 			this.results=out;
-			if (isParallel() && isCollectResults()) {
-				executorList = new ArrayList<>();
+			if (isWorkQueueEnabled()) {
+				ParallelResultCollector collector = isCollectResults()
+						? new ParallelResultCollector(isPreserveOrder(), this::addResult)
+						: new ParallelResultCollector(false, (itemNo, message, itemResult) -> {});
+				workQueue = new WorkQueue(getMaxChildThreads(), getWorkQueueSize(), this::sendItem, collector);
+			} else if (isParallel() && isCollectResults()) {
+				resultCollector = new ParallelResultCollector(isPreserveOrder(), this::addResult);
+				completedExecutors = new LinkedBlockingQueue<>();
+				pendingItems = new IdentityHashMap<>();
 			}
 		}
 
@@ -230,6 +258,9 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 			if (isCollectResults()) {
 				results.append("<results>\n");
 			}
+			if (workQueue != null) {
+				workQueue.start(getTaskExecutor());
+			}
 			if (!isParallel() && sender instanceof IBlockEnabledSender<?> enabledSender) {
 				blockHandle = enabledSender.openBlock(session);
 				blockOpen=true;
@@ -239,6 +270,12 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 			if (blockOpen && sender instanceof IBlockEnabledSender<?>) {
 				((IBlockEnabledSender)sender).closeBlock(blockHandle, session);
 			}
+			if (workQueue != null) {
+				workQueue.finish();
+				if (throughputStatistics != null) {
+					throughputStatistics.record(workQueue.getThroughput());
+				}
+			}
 			if (isCollectResults()) {
 				waitForResults();
 				results.append("</results>");
@@ -275,8 +312,15 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 				}
 				inputItems.add(item);
 			}
+			return handleMessage(itemToMessage(item));
+		}
 
-			// This session will be closed in either the ParallelSenderExecutor or the finally statement below.
+		/**
+		 * Sends an item that is already available as a {@link Message}, bypassing {@link #itemToMessage(Object)}.
+		 * @return a non-null StopReason when stop is required
+		 */
+		public StopReason handleMessage(Message item) throws SenderException, TimeoutException, IOException {
+			// This session will be closed in either the ParallelSenderExecutor, the WorkQueue or the finally statement below.
 			PipeLineSession childSession = new PipeLineSession(session);
 			String itemResult=null;
 			totalItems++;
@@ -285,7 +329,7 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 				childSession.put(getItemNoSessionKey(), ""+totalItems);
 			}
 
-			Message message = itemToMessage(item);
+			Message message = item;
 			// TODO check for bug: sessionKey params not resolved when only parameters set on sender. Next line should check sender.parameterlist too.
 			if (msgTransformerPool != null) {
 				Message transformedMessage = transformMessage(message);
@@ -304,57 +348,34 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 				}
 			}
 			try {
-				try {
-					DistributionSummary senderStatistics = getStatisticsKeeper(sender.getName());
-					if (isParallel()) {
-						ParallelSenderExecutor pse = new ParallelSenderExecutor(sender, message, childSession, senderStatistics);
-						pse.setShouldCloseSession(true);
-						pse.setThreadLimiter(childLimiter);
-						if (isCollectResults()) {
-							executorList.add(pse);
-						}
+				if (workQueue != null) {
+					workQueue.submit(totalItems, message, childSession);
+				} else if (isParallel()) {
+					ParallelSenderExecutor pse = new ParallelSenderExecutor(sender, message, childSession, getStatisticsKeeper(sender.getName()));
+					pse.setShouldCloseSession(true);
+					pse.setThreadLimiter(childLimiter);
+					if (isCollectResults()) {
+						pse.setCompletionListener(completedExecutors::add);
+						pendingItems.put(pse, totalItems);
+					}
+					try {
 						getTaskExecutor().execute(pse);
-					} else {
-						if (getBlockSize()>0 && itemsInBlock==0) {
-							startBlock();
-						}
-						long senderStartTime= System.currentTimeMillis();
-						Message resultMessage;
-						if (sender instanceof IBlockEnabledSender<?>) {
-							// noinspection unchecked
-							SenderResult senderResult=((IBlockEnabledSender<Object>)sender).sendMessage(blockHandle, message, childSession);
-							resultMessage = senderResult.getResult();
-							if (!senderResult.isSuccess()) {
-								throw new SenderException(senderResult.getErrorMessage());
-							}
-						} else {
-							resultMessage = sender.sendMessageOrThrow(message, childSession);
-						}
-						itemResult = resultMessage.asString();
-						senderStatistics.record((double) System.currentTimeMillis() - senderStartTime);
-						if (getBlockSize()>0 && ++itemsInBlock >= getBlockSize()) {
-							endBlock();
+					} catch (RuntimeException e) {
+						if (isCollectResults()) {
+							pendingItems.remove(pse);
 						}
+						throw e;
 					}
-					if (StringUtils.isNotEmpty(getTimeoutOnResult()) && getTimeoutOnResult().equals(itemResult)) {
-						throw new TimeoutException("timeoutOnResult ["+ getTimeoutOnResult()+"]");
-					}
-					if (StringUtils.isNotEmpty(getExceptionOnResult()) && getExceptionOnResult().equals(itemResult)) {
-						throw new SenderException("exceptionOnResult ["+getExceptionOnResult()+"]");
+					if (isCollectResults()) {
+						collectCompletedResults();
 					}
-				} catch (SenderException e) {
-					if (isIgnoreExceptions()) {
-						log.info("ignoring SenderException after execution of sender for item [{}]", item, e);
-						itemResult="<exception>"+ XmlEncodingUtils.encodeChars(e.getMessage())+"</exception>";
-					} else {
-						throw e;
+				} else {
+					if (getBlockSize()>0 && itemsInBlock==0) {
+						startBlock();
 					}
-				} catch (TimeoutException e) {
-					if (isIgnoreExceptions()) {
-						log.info("ignoring TimeOutException after execution of sender item [{}]", item, e);
-						itemResult="<timeout>"+ XmlEncodingUtils.encodeChars(e.getMessage())+"</timeout>";
-					} else {
-						throw e;
+					itemResult = sendItem(totalItems, message, childSession);
+					if (getBlockSize()>0 && ++itemsInBlock >= getBlockSize()) {
+						endBlock();
 					}
 				}
 				try {
@@ -396,6 +417,53 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 			}
 		}
 
+		/**
+		 * Sends a single item and checks its result, in the iterating thread or in one of the consumer threads of the {@link WorkQueue}.
+		 * When <code>ignoreExceptions</code> is <code>true</code>, a failure is returned as the result of the item.
+		 */
+		private String sendItem(int itemNo, Message message, PipeLineSession childSession) throws SenderException, TimeoutException, IOException {
+			try {
+				DistributionSummary senderStatistics = getStatisticsKeeper(sender.getName());
+				long senderStartTime = System.currentTimeMillis();
+				Message resultMessage;
+				if (blockOpen) {
+					// noinspection unchecked
+					SenderResult senderResult = ((IBlockEnabledSender<Object>) sender).sendMessage(blockHandle, message, childSession);
+					resultMessage = senderResult.getResult();
+					if (!senderResult.isSuccess()) {
+						throw new SenderException(senderResult.getErrorMessage());
+					}
+				} else {
+					resultMessage = sender.sendMessageOrThrow(message, childSession);
+				}
+				String itemResult = resultMessage.asString();
+				senderStatistics.record((double) System.currentTimeMillis() - senderStartTime);
+				checkItemResult(itemResult);
+				return itemResult;
+			} catch (SenderException e) {
+				if (isIgnoreExceptions()) {
+					log.info("ignoring SenderException after execution of sender for item [{}]", itemNo, e);
+					return "<exception>"+ XmlEncodingUtils.encodeChars(e.getMessage())+"</exception>";
+				}
+				throw e;
+			} catch (TimeoutException e) {
+				if (isIgnoreExceptions()) {
+					log.info("ignoring TimeOutException after execution of sender item [{}]", itemNo, e);
+					return "<timeout>"+ XmlEncodingUtils.encodeChars(e.getMessage())+"</timeout>";
+				}
+				throw e;
+			}
+		}
+
+		private void checkItemResult(String itemResult) throws SenderException, TimeoutException {
+			if (StringUtils.isNotEmpty(getTimeoutOnResult()) && getTimeoutOnResult().equals(itemResult)) {
+				throw new TimeoutException("timeoutOnResult ["+ getTimeoutOnResult()+"]");
+			}
+			if (StringUtils.isNotEmpty(getExceptionOnResult()) && getExceptionOnResult().equals(itemResult)) {
+				throw new SenderException("exceptionOnResult ["+getExceptionOnResult()+"]");
+			}
+		}
+
 		private Message transformMessage(Message message) throws SenderException {
 			try {
 				long preprocessingStartTime = System.currentTimeMillis();
@@ -424,44 +492,59 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 		}
 
 		public void waitForResults() throws SenderException, IOException {
-			if (isParallel()) {
+			if (pendingItems != null) {
 				try {
-					// ChildLimiter is an extended semaphore that is used to track created threads when running in parallel.
-					// Here we wait until all child threads have finished.
-					childLimiter.waitUntilAllResourcesAvailable();
+					while (!pendingItems.isEmpty()) {
+						collectResult(completedExecutors.take());
+					}
 				} catch (InterruptedException e) {
 					Thread.currentThread().interrupt();
 					throw new SenderException("interrupted while waiting for results", e);
 				}
-				collectResultsOrThrowExceptions();
+				if (!isIgnoreExceptions() && !exceptions.isEmpty()) {
+					SenderException se = new SenderException("an error occurred during parallel execution");
+					exceptions.forEach(se::addSuppressed);
+					throw se;
+				}
 			}
 		}
 
-		private void collectResultsOrThrowExceptions() throws SenderException, IOException {
-			int count = 0;
-			List<Throwable> exceptions = new ArrayList<>();
-			for(ParallelSenderExecutor pse : executorList) {
-				count++;
-				final String itemResult;
-				if(pse.getThrowable() == null) {
-					SenderResult senderResult = pse.getReply();
-					if(senderResult.isSuccess()) {
-						itemResult = senderResult.getResult().asString();
-					} else {
-						itemResult = "<exception>" + XmlEncodingUtils.encodeChars(senderResult.getResult().asString()) + "</exception>";
-						exceptions.add(new SenderException(senderResult.getResult().asString()));
-					}
-				} else {
-					itemResult = "<exception>" + XmlEncodingUtils.encodeChars(pse.getThrowable().getMessage()) + "</exception>";
-					exceptions.add(pse.getThrowable());
+		/**
+		 * Writes the results of the items that have completed, releasing their executors. When the order of the items is preserved, the results
+		 * of later items wait for the result of an earlier item. To limit the number of waiting results, the iteration waits when more than
+		 * twice <code>maxChildThreads</code> results have not been written.
+		 */
+		private void collectCompletedResults() throws SenderException, IOException {
+			ParallelSenderExecutor pse;
+			while ((pse = completedExecutors.poll()) != null) {
+				collectResult(pse);
+			}
+			try {
+				while (totalItems - writtenItems > 2 * getMaxChildThreads()) {
+					collectResult(completedExecutors.take());
 				}
-				addResult(count, pse.getRequest(), itemResult);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SenderException("interrupted while waiting for results", e);
 			}
-			if(!isIgnoreExceptions() && !exceptions.isEmpty()) {
-				SenderException se = new SenderException("an error occurred during parallel execution");
-				exceptions.forEach(se::addSuppressed);
-				throw se;
+		}
+
+		private void collectResult(ParallelSenderExecutor pse) throws IOException {
+			int itemNo = pendingItems.remove(pse);
+			final String itemResult;
+			if(pse.getThrowable() == null) {
+				SenderResult senderResult = pse.getReply();
+				if(senderResult.isSuccess()) {
+					itemResult = senderResult.getResult().asString();
+				} else {
+					itemResult = "<exception>" + XmlEncodingUtils.encodeChars(senderResult.getResult().asString()) + "</exception>";
+					exceptions.add(new SenderException(senderResult.getResult().asString()));
+				}
+			} else {
+				itemResult = "<exception>" + XmlEncodingUtils.encodeChars(pse.getThrowable().getMessage()) + "</exception>";
+				exceptions.add(pse.getThrowable());
 			}
+			writtenItems += resultCollector.add(itemNo, pse.getRequest(), itemResult);
 		}
 
 		public int getCount() {
@@ -616,7 +699,8 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 	}
 
 	/**
-	 * When set <code>true</code>, the calls for all items are done in parallel (a new thread is started for each call). when collectresults set <code>true</code>, this pipe will wait for all calls to finish before results are collected and pipe result is returned
+	 * When set <code>true</code>, the calls for all items are done in parallel (a new thread is started for each call). when collectresults set <code>true</code>, the results
+	 * are added to the pipe result as soon as they are available, and this pipe will wait for all calls to finish before the pipe result is returned
 	 * @ff.default false
 	 */
 	public void setParallel(boolean parallel) {
@@ -631,6 +715,27 @@ public abstract class IteratingPipe<I> extends MessageSendingPipe {
 		this.maxChildThreads = maxChildThreads;
 	}
 
+	/**
+	 * When set to a value greater than 0 and <code>parallel</code> is <code>true</code>, the items are put on a queue of this size, from which they are
+	 * taken by <code>maxChildThreads</code> threads that are dedicated to this call, instead of starting a new thread for each item.
+	 * The iteration waits while the queue is full, so the memory that is used does not depend on the number of items, and the results are written
+	 * as soon as they are available. Unlike parallel execution without a work queue, which sends all items and reports their failures at the end,
+	 * the iteration stops at the first item that fails and the items that are still queued are skipped, unless <code>ignoreExceptions</code> is <code>true</code>.
+	 * @ff.default 0
+	 */
+	public void setWorkQueueSize(int workQueueSize) {
+		this.workQueueSize = workQueueSize;
+	}
+
+	/**
+	 * Only used when <code>parallel</code> and <code>collectResults</code> are <code>true</code>. When <code>true</code>, the results are written in the order
+	 * of the items, otherwise in the order in which they are completed. The <code>item</code> attribute of each result contains the position of the item in both cases.
+	 * @ff.default true
+	 */
+	public void setPreserveOrder(boolean preserveOrder) {
+		this.preserveOrder = preserveOrder;
+	}
+
 	/**
 	 * Controls multiline behaviour. When set to a value greater than 0, it specifies the number of rows send, in a one block, to the sender.
 	 * @ff.default 0
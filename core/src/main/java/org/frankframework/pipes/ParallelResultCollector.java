@@ -0,0 +1,93 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.pipes;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.frankframework.stream.Message;
+
+/**
+ * Collects the results of the items of an iteration that are processed in parallel, and writes each result as soon as possible.
+ * <p>
+ *     When the order of the items is preserved, a result that becomes available before the results of all earlier items have been written
+ *     is held in a reorder buffer, until the earlier results have been written. Otherwise results are written in the order they complete.
+ *     Items are numbered from 1, and every item must be either added or skipped for the results of later items to be written.
+ * </p>
+ */
+class ParallelResultCollector {
+
+	@FunctionalInterface
+	interface ResultWriter {
+		void write(int itemNo, Message item, String result) throws IOException;
+	}
+
+	/** A result that waits for the results of earlier items. Skipped items have no result. */
+	private record PendingResult(@Nullable Message item, @Nullable String result) {}
+
+	private final boolean preserveOrder;
+	private final ResultWriter writer;
+	private final Map<Integer, PendingResult> reorderBuffer = new HashMap<>();
+	private int nextItemNo = 1;
+
+	ParallelResultCollector(boolean preserveOrder, ResultWriter writer) {
+		this.preserveOrder = preserveOrder;
+		this.writer = writer;
+	}
+
+	/**
+	 * Adds the result of an item.
+	 *
+	 * @return the number of items that have been completed by this call, i.e. whose results have been written or that have been skipped
+	 */
+	synchronized int add(int itemNo, Message item, String result) throws IOException {
+		if (!preserveOrder) {
+			writer.write(itemNo, item, result);
+			return 1;
+		}
+		reorderBuffer.put(itemNo, new PendingResult(item, result));
+		return writeAvailableResults();
+	}
+
+	/**
+	 * Registers that an item has no result, e.g. because the iteration was cancelled before it was processed.
+	 *
+	 * @return the number of items that have been completed by this call
+	 */
+	synchronized int skip(int itemNo) throws IOException {
+		if (!preserveOrder) {
+			return 1;
+		}
+		reorderBuffer.put(itemNo, new PendingResult(null, null));
+		return writeAvailableResults();
+	}
+
+	private int writeAvailableResults() throws IOException {
+		int completed = 0;
+		PendingResult pending;
+		while ((pending = reorderBuffer.remove(nextItemNo)) != null) {
+			if (pending.result() != null) {
+				writer.write(nextItemNo, pending.item(), pending.result());
+			}
+			nextItemNo++;
+			completed++;
+		}
+		return completed;
+	}
+}
@@ -0,0 +1,178 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.pipes;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.task.TaskExecutor;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.core.PipeLineSession;
+import org.frankframework.core.SenderException;
+import org.frankframework.stream.Message;
+import org.frankframework.util.CloseUtils;
+
+/**
+ * Processes the items of an iteration with a fixed number of consumer threads, that take the items from a bounded queue.
+ * <p>
+ *     The thread that iterates over the input is the producer. It blocks when the queue is full and all consumers are busy, or when the
+ *     results of later items wait for the result of an earlier item in the {@link ParallelResultCollector}. The memory that is used therefore
+ *     does not depend on the number of items.
+ * </p>
+ * <p>
+ *     When an item fails, the iteration is cancelled: items that are still queued are skipped, and the producer stops with the exception
+ *     of the first item that failed.
+ * </p>
+ */
+@Log4j2
+class WorkQueue {
+	private static final long POLL_INTERVAL_MS = 1000L;
+	private static final WorkItem END_OF_ITEMS = new WorkItem(0, null, null);
+
+	/** Processes an item, and returns its result */
+	@FunctionalInterface
+	interface ItemProcessor {
+		String process(int itemNo, Message message, PipeLineSession session) throws Exception;
+	}
+
+	private record WorkItem(int itemNo, Message message, PipeLineSession session) {}
+
+	private final int consumers;
+	private final BlockingQueue<WorkItem> queue;
+	private final Semaphore itemsInProgress; // items that are queued, processed, or of which the result waits to be written
+	private final CountDownLatch consumersDone;
+	private final ItemProcessor processor;
+	private final ParallelResultCollector collector;
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+	private final AtomicInteger processedItems = new AtomicInteger();
+	private final long startTime = System.currentTimeMillis();
+
+	WorkQueue(int consumers, int queueSize, ItemProcessor processor, ParallelResultCollector collector) {
+		this.consumers = consumers;
+		this.queue = new ArrayBlockingQueue<>(queueSize + consumers);
+		this.itemsInProgress = new Semaphore(queueSize + consumers);
+		this.consumersDone = new CountDownLatch(consumers);
+		this.processor = processor;
+		this.collector = collector;
+	}
+
+	void start(TaskExecutor taskExecutor) {
+		for (int i = 0; i < consumers; i++) {
+			taskExecutor.execute(this::consume);
+		}
+	}
+
+	/**
+	 * Puts an item on the queue, waiting while the maximum number of items is in progress. The session is closed when the item has been processed.
+	 *
+	 * @throws SenderException when an earlier item has failed, and the iteration has been cancelled
+	 */
+	void submit(int itemNo, Message message, PipeLineSession session) throws SenderException {
+		try {
+			while (!itemsInProgress.tryAcquire(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+				throwIfFailed();
+			}
+			throwIfFailed();
+			queue.put(new WorkItem(itemNo, message, session));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			CloseUtils.closeSilently(session);
+			throw new SenderException("interrupted while waiting to queue item [" + itemNo + "]", e);
+		} catch (SenderException e) {
+			CloseUtils.closeSilently(session);
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits until all items have been processed and the consumers have ended.
+	 *
+	 * @throws SenderException when an item has failed
+	 */
+	void finish() throws SenderException {
+		try {
+			for (int i = 0; i < consumers; i++) {
+				while (!queue.offer(END_OF_ITEMS, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+					if (consumersDone.getCount() == 0L) {
+						throw new SenderException("all consumers have ended before the items were processed");
+					}
+				}
+			}
+			consumersDone.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SenderException("interrupted while waiting for results", e);
+		}
+		throwIfFailed();
+	}
+
+	private void throwIfFailed() throws SenderException {
+		Throwable t = failure.get();
+		if (t != null) {
+			throw new SenderException("an error occurred during parallel execution", t);
+		}
+	}
+
+	private void consume() {
+		try {
+			WorkItem item;
+			while ((item = queue.take()) != END_OF_ITEMS) {
+				process(item);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, e);
+		} finally {
+			consumersDone.countDown();
+		}
+	}
+
+	@SuppressWarnings("java:S1181") // any failure must cancel the iteration
+	private void process(WorkItem item) {
+		int completed = 0;
+		try {
+			if (failure.get() != null) {
+				log.debug("skipping item [{}], the iteration has been cancelled", item.itemNo());
+				completed = collector.skip(item.itemNo());
+				return;
+			}
+			String result = processor.process(item.itemNo(), item.message(), item.session());
+			processedItems.incrementAndGet();
+			completed = collector.add(item.itemNo(), item.message(), result);
+		} catch (Throwable t) {
+			log.warn("item [{}] failed, cancelling iteration", item.itemNo(), t);
+			failure.compareAndSet(null, t);
+		} finally {
+			CloseUtils.closeSilently(item.session());
+			itemsInProgress.release(completed);
+		}
+	}
+
+	/**
+	 * Returns the number of items that have been processed per second, since the queue was created.
+	 */
+	double getThroughput() {
+		long duration = Math.max(System.currentTimeMillis() - startTime, 1L);
+		return processedItems.get() * 1000.0 / duration;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.receivers;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Determines how long an idle {@link PullingListenerContainer} waits before it polls again.
+ * <p>
+ *     With a fixed interval, the maximum interval is waited after every empty poll. With an adaptive interval, the minimum interval is waited
+ *     after the first empty poll, and the interval doubles after every next empty poll until the maximum is reached. A poll that returns a
+ *     message resets it, and as long as messages keep arriving the receiver polls again immediately. The adaptive interval is shortened randomly
+ *     by up to 10% of its length, so receivers that have been started at the same time do not keep polling at the same time. The jitter only
+ *     shortens the wait, so the maximum interval is never exceeded.
+ * </p>
+ */
+class PollInterval {
+	static final double JITTER = 0.1;
+	private static final double RATIO_WEIGHT = 0.05; // weight of the latest poll in the empty-poll ratio
+
+	private final long minInterval;
+	private final long maxInterval;
+	private final boolean adaptive;
+	private long currentInterval = 0L;
+	private double emptyPollRatio = 0.0;
+
+	/**
+	 * @param minInterval minimum interval in milliseconds, only used when adaptive
+	 * @param maxInterval maximum interval in milliseconds
+	 */
+	PollInterval(long minInterval, long maxInterval, boolean adaptive) {
+		this.maxInterval = Math.max(maxInterval, 0L);
+		this.minInterval = Math.min(Math.max(minInterval, 1L), this.maxInterval);
+		this.adaptive = adaptive;
+	}
+
+	synchronized void pollDone(boolean empty) {
+		emptyPollRatio += RATIO_WEIGHT * ((empty ? 1.0 : 0.0) - emptyPollRatio);
+		if (!empty) {
+			currentInterval = 0L;
+		} else if (!adaptive) {
+			currentInterval = maxInterval;
+		} else if (currentInterval < minInterval) {
+			currentInterval = minInterval;
+		} else {
+			currentInterval = Math.min(currentInterval * 2, maxInterval);
+		}
+	}
+
+	/**
+	 * Returns the time to wait before the next poll, in milliseconds.
+	 */
+	long nextWait() {
+		long interval = getCurrentInterval();
+		if (!adaptive || interval == 0L) {
+			return interval;
+		}
+		long jitter = (long) (interval * JITTER);
+		return interval - ThreadLocalRandom.current().nextLong(jitter + 1);
+	}
+
+	/**
+	 * The interval that is waited after the last poll, in milliseconds, without jitter.
+	 */
+	synchronized long getCurrentInterval() {
+		return currentInterval;
+	}
+
+	/**
+	 * The fraction of recent polls that did not return a message, as a moving average in which older polls have exponentially less weight.
+	 */
+	synchronized double getEmptyPollRatio() {
+		return emptyPollRatio;
+	}
+}
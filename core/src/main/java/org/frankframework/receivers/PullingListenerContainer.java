@@ -37,6 +37,7 @@ import lombok.Setter;
 
 import org.frankframework.core.HasName;
 import org.frankframework.core.IHasProcessState;
+import org.frankframework.core.INotifyingListener;
 import org.frankframework.core.IPeekableListener;
 import org.frankframework.core.IPullingListener;
 import org.frankframework.core.IThreadCountControllable;
@@ -76,6 +77,7 @@ public class PullingListenerContainer<M> implements IThreadCountControllable {
 	private ResourceLimiter processToken = null; // guard against to many messages being processed at the same time
 	private ResourceLimiter pollToken = null; // guard against to many threads polling at the same time
 	private final AtomicBoolean idle = new AtomicBoolean(false); // true if the last messages received was null, will cause wait loop
+	private PollInterval pollInterval;
 	private int retryInterval = 1;
 
 	/**
@@ -102,6 +104,10 @@ public class PullingListenerContainer<M> implements IThreadCountControllable {
 		}
 
 		messageReceivingStatistics = metricsInitializer.createSubDistributionSummary(receiver, receiver.getListener(), FrankMeterType.LISTENER_MESSAGE_RECEIVING);
+
+		pollInterval = new PollInterval(receiver.getMinPollIntervalMs(), receiver.getPollInterval() * 1000L, receiver.isAdaptivePolling());
+		metricsInitializer.createGauge(receiver, FrankMeterType.RECEIVER_EMPTY_POLL_RATIO, pollInterval::getEmptyPollRatio);
+		metricsInitializer.createGauge(receiver, FrankMeterType.RECEIVER_POLL_INTERVAL, pollInterval::getCurrentInterval);
 	}
 
 	public void start() {
@@ -170,10 +176,7 @@ public class PullingListenerContainer<M> implements IThreadCountControllable {
 						pollToken.acquire();
 					}
 					if (isIdle() && receiver.getPollInterval()>0) {
-						if (log.isDebugEnabled() && receiver.getPollInterval()>600) log.debug("is idle, sleeping for [{}] seconds", receiver.getPollInterval());
-						for (int i=0; i<receiver.getPollInterval() && receiver.isInRunState(RunState.STARTED); i++) {
-							Thread.sleep(1000);
-						}
+						waitWhileIdle();
 					}
 					taskExecutor.execute(new ListenTask());
 				}
@@ -192,6 +195,34 @@ public class PullingListenerContainer<M> implements IThreadCountControllable {
 		}
 	}
 
+	/**
+	 * Waits for the pollInterval, or until a notification has been received when the listener supports notifications.
+	 * When notifications cannot be received, the remainder of the pollInterval is waited for.
+	 */
+	private void waitWhileIdle() throws InterruptedException {
+		long wait = pollInterval.nextWait();
+		if (log.isDebugEnabled() && wait>600_000) log.debug("is idle, sleeping for [{}] seconds", wait / 1000);
+		INotifyingListener<M> notifyingListener = receiver.getListener() instanceof INotifyingListener<M> listener && listener.isNotificationEnabled() ? listener : null;
+		long waitUntil = System.currentTimeMillis() + wait;
+		long remaining;
+		while ((remaining = waitUntil - System.currentTimeMillis()) > 0 && receiver.isInRunState(RunState.STARTED)) {
+			long timeout = Math.min(remaining, 1000L);
+			if (notifyingListener == null) {
+				Thread.sleep(timeout);
+				continue;
+			}
+			try {
+				if (notifyingListener.awaitNotification(timeout)) {
+					log.debug("received notification, polling for messages");
+					return;
+				}
+			} catch (ListenerException e) {
+				log.warn("{}cannot receive notifications, will poll", receiver.getLogPrefix(), e);
+				notifyingListener = null;
+			}
+		}
+	}
+
 	private class ListenTask implements SchedulingAwareRunnable, HasName, NameAware {
 
 		private @Getter @Setter String name;
@@ -251,6 +282,7 @@ public class PullingListenerContainer<M> implements IThreadCountControllable {
 									messageReceivingStatistics.record((double) end - start);
 								}
 								resetRetryInterval();
+								pollInterval.pollDone(rawMessage==null);
 								setIdle(rawMessage==null);
 							} catch (Exception e) {
 								if (txStatus!=null) {
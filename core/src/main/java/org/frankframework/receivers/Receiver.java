@@ -274,6 +274,8 @@ public class Receiver<M> extends TransactionAttributes implements ManagableLifec
 	// the number of threads that are actively polling for messages (concurrently, only for pulling listeners)
 	private @Getter int numThreadsPolling = 1;
 	private @Getter int pollInterval = 10;
+	private @Getter boolean adaptivePolling = false;
+	private @Getter int minPollIntervalMs = 100;
 	private @Getter int startTimeout = 60;
 	private @Getter int stopTimeout = 60;
 
@@ -2178,13 +2180,32 @@ public class Receiver<M> extends TransactionAttributes implements ManagableLifec
 	}
 
 	/**
-	 * The number of seconds waited after an unsuccessful poll attempt, before another poll attempt is made. Only for polling listeners, not for e.g. jms, webservice or javaListeners
+	 * The number of seconds waited after an unsuccessful poll attempt, before another poll attempt is made. Only for polling listeners, not for e.g. jms, webservice or javaListeners.
+	 * The value is read when the receiver is configured, changing it afterwards has no effect.
 	 * @ff.default 10
 	 */
 	public void setPollInterval(int i) {
 		pollInterval = i;
 	}
 
+	/**
+	 * If set to <code>true</code>, the time waited after an unsuccessful poll attempt starts at <code>minPollIntervalMs</code>, and doubles after every
+	 * next unsuccessful attempt until <code>pollInterval</code> is reached. A successful poll resets it. The interval is shortened randomly by up to 10%,
+	 * so receivers do not all poll at the same time, and <code>pollInterval</code> stays the maximum wait. Only for polling listeners.
+	 * @ff.default false
+	 */
+	public void setAdaptivePolling(boolean adaptivePolling) {
+		this.adaptivePolling = adaptivePolling;
+	}
+
+	/**
+	 * The number of milliseconds waited after the first unsuccessful poll attempt, when <code>adaptivePolling</code> is used.
+	 * @ff.default 100
+	 */
+	public void setMinPollIntervalMs(int minPollIntervalMs) {
+		this.minPollIntervalMs = minPollIntervalMs;
+	}
+
 	/**
 	 *  timeout (in seconds) to start receiver. If this timeout is exceeded, the Receiver startup is
 	 *  aborted and all resources closed and the receiver will be in state {@code EXCEPTION_STARTING}
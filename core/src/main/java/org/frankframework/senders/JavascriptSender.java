@@ -21,8 +21,14 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import io.micrometer.core.instrument.Counter;
 import lombok.Getter;
 
 import org.frankframework.configuration.ConfigurationException;
@@ -40,6 +46,7 @@ import org.frankframework.javascript.JavascriptEngine;
 import org.frankframework.javascript.JavascriptException;
 import org.frankframework.parameters.ParameterValue;
 import org.frankframework.parameters.ParameterValueList;
+import org.frankframework.statistics.FrankMeterType;
 import org.frankframework.stream.Message;
 import org.frankframework.util.ClassLoaderUtils;
 import org.frankframework.util.ClassUtils;
@@ -76,6 +83,12 @@ import org.frankframework.util.StreamUtil;
  * }
  * }</pre>
  * Will trigger the inner-sender with data: 'echo me'.
+ * </p>
+ * <p>
+ * The Javascript runtimes are pooled, so the script does not have to be loaded for every message. After each message the global state of the
+ * runtime is reset to the state directly after the script was loaded, so a message cannot see the global variables set by a previous one.
+ * Objects that were created by the script itself, and that are modified by a message, are restored as well, as the script is evaluated again.
+ * </p>
  *
  * @ff.info J2V8 is not compatible with ARM based environments.
  * @ff.warning The default Javascript runtime has been changed from J2V8 to GraalJS.
@@ -93,6 +106,10 @@ public class JavascriptSender extends SenderSeries {
 	private final Pattern es6VarPattern = Pattern.compile("(?:^|[\\s(;])(let|const)\\s+");
 
 	private String javascriptFileContents;
+	private @Getter int poolSize = 4;
+
+	private @Nullable GenericObjectPool<JavascriptRuntime> pool;
+	private @Nullable Counter runtimesCreated;
 
 
 	public enum JavaScriptEngines {
@@ -135,6 +152,43 @@ public class JavascriptSender extends SenderSeries {
 		} catch (IOException e) {
 			throw new ConfigurationException("got exception reading [" + getJsFileName() + "]", e);
 		}
+
+		if (configurationMetrics != null) {
+			runtimesCreated = configurationMetrics.createCounter(this, FrankMeterType.SENDER_JAVASCRIPT_RUNTIMES_CREATED);
+			if (poolSize > 0) {
+				configurationMetrics.createGauge(this, FrankMeterType.SENDER_JAVASCRIPT_POOL_ACTIVE, () -> pool != null ? pool.getNumActive() : 0);
+				configurationMetrics.createGauge(this, FrankMeterType.SENDER_JAVASCRIPT_POOL_IDLE, () -> pool != null ? pool.getNumIdle() : 0);
+			}
+		}
+	}
+
+	@Override
+	public void start() {
+		super.start();
+
+		if (poolSize > 0) {
+			// Not limited, a message should not wait for a runtime. Runtimes in excess of the poolSize are closed when they are returned.
+			pool = new GenericObjectPool<>(new JavascriptRuntimeFactory());
+			pool.setMaxTotal(-1);
+			pool.setMaxIdle(poolSize);
+			try {
+				pool.addObjects(poolSize);
+			} catch (Exception e) {
+				log.warn("{}unable to create Javascript runtimes in advance", getLogPrefix(), e);
+			}
+		}
+	}
+
+	@Override
+	public void stop() {
+		try {
+			super.stop();
+		} finally {
+			if (pool != null) {
+				pool.close();
+				pool = null;
+			}
+		}
 	}
 
 	@Override
@@ -142,16 +196,101 @@ public class JavascriptSender extends SenderSeries {
 		return true;
 	}
 
-	@Override
-	public @NonNull SenderResult sendMessage(@NonNull Message message, @NonNull PipeLineSession session) throws SenderException {
+	/**
+	 * A started runtime in which the script has been loaded. The callbacks to the senders use the session of the message being processed.
+	 */
+	private static class JavascriptRuntime {
+		private final JavascriptEngine<?> engine;
+		private volatile @Nullable PipeLineSession session;
+
+		JavascriptRuntime(JavascriptEngine<?> engine) {
+			this.engine = engine;
+		}
+
+		@Nullable PipeLineSession getSession() {
+			return session;
+		}
+	}
+
+	private JavascriptRuntime createRuntime() throws JavascriptException {
 		JavascriptEngine<?> jsInstance = engine.create();
+		jsInstance.setGlobalAlias(jsFunctionName);
+		jsInstance.startRuntime();
+		JavascriptRuntime runtime = new JavascriptRuntime(jsInstance);
 		try {
-			jsInstance.setGlobalAlias(jsFunctionName);
-			jsInstance.startRuntime();
-		} catch (JavascriptException e) {
+			for (ISender sender : getSenders()) {
+				jsInstance.registerCallback(sender, runtime::getSession);
+			}
+			jsInstance.loadScript(javascriptFileContents);
+		} catch (JavascriptException | RuntimeException e) {
+			jsInstance.closeRuntime();
+			throw e;
+		}
+		if (runtimesCreated != null) {
+			runtimesCreated.increment();
+		}
+		return runtime;
+	}
+
+	private class JavascriptRuntimeFactory extends BasePooledObjectFactory<JavascriptRuntime> {
+
+		@Override
+		public JavascriptRuntime create() throws JavascriptException {
+			return createRuntime();
+		}
+
+		@Override
+		public PooledObject<JavascriptRuntime> wrap(JavascriptRuntime runtime) {
+			return new DefaultPooledObject<>(runtime);
+		}
+
+		/**
+		 * Resets the global state of the runtime before it is reused. The pool closes the runtime when this fails.
+		 */
+		@Override
+		public void passivateObject(PooledObject<JavascriptRuntime> pooledObject) throws JavascriptException {
+			JavascriptRuntime runtime = pooledObject.getObject();
+			runtime.session = null;
+			try {
+				if (!runtime.engine.resetRuntime()) {
+					throw new JavascriptException("Javascript engine [" + engine + "] does not support reusing a runtime");
+				}
+			} catch (JavascriptException e) {
+				log.warn("{}unable to reset Javascript runtime, it will be closed", getLogPrefix(), e);
+				throw e;
+			}
+		}
+
+		@Override
+		public void destroyObject(PooledObject<JavascriptRuntime> pooledObject) {
+			pooledObject.getObject().engine.closeRuntime();
+		}
+	}
+
+	private JavascriptRuntime obtainRuntime() throws SenderException {
+		try {
+			GenericObjectPool<JavascriptRuntime> runtimePool = pool;
+			return runtimePool != null ? runtimePool.borrowObject() : createRuntime();
+		} catch (Exception e) {
 			throw new SenderException("unable to start Javascript engine", e);
 		}
+	}
 
+	private void releaseRuntime(JavascriptRuntime runtime) {
+		GenericObjectPool<JavascriptRuntime> runtimePool = pool;
+		if (runtimePool == null) {
+			runtime.engine.closeRuntime();
+			return;
+		}
+		try {
+			runtimePool.returnObject(runtime);
+		} catch (Exception e) {
+			log.warn("{}unable to return Javascript runtime to the pool", getLogPrefix(), e);
+		}
+	}
+
+	@Override
+	public @NonNull SenderResult sendMessage(@NonNull Message message, @NonNull PipeLineSession session) throws SenderException {
 		// Create a Parameter Value List
 		ParameterValueList pvl;
 		try {
@@ -174,20 +313,17 @@ public class JavascriptSender extends SenderSeries {
 			}
 		}
 
-		for (ISender sender : getSenders()) {
-			jsInstance.registerCallback(sender, session);
-		}
-
+		JavascriptRuntime runtime = obtainRuntime();
 		String result;
 		try {
-			// Compile the given Javascript and execute the given Javascript function
-			jsInstance.executeScript(javascriptFileContents);
-			Object jsResult = jsInstance.executeFunction(jsFunctionName, jsParameters);
+			// Execute the given Javascript function, the script has been loaded when the runtime was created
+			runtime.session = session;
+			Object jsResult = runtime.engine.executeFunction(jsFunctionName, jsParameters);
 			result = String.valueOf(jsResult);
 		} catch (JavascriptException e) {
 			throw new SenderException("unable to execute script/function", e);
 		} finally {
-			jsInstance.closeRuntime();
+			releaseRuntime(runtime);
 		}
 
 		// Pass jsResult, the result of the Javascript function.
@@ -239,6 +375,16 @@ public class JavascriptSender extends SenderSeries {
 		this.jsFunctionName = jsFunctionName;
 	}
 
+	/**
+	 * The maximum number of idle Javascript runtimes that are kept to process the next messages. When more messages are processed concurrently,
+	 * additional runtimes are created and closed afterwards. If set to {@code 0}, a new runtime is created for every message.
+	 * GraalJS does not reuse its context, so for GraalJS the pool only avoids parsing the script again.
+	 * @ff.default 4
+	 */
+	public void setPoolSize(int poolSize) {
+		this.poolSize = poolSize;
+	}
+
 	/**
 	 * the name of the JavaScript engine to use.
 	 * @ff.default J2V8
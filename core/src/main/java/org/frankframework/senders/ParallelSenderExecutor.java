@@ -16,6 +16,7 @@
 package org.frankframework.senders;
 
 import java.util.concurrent.Phaser;
+import java.util.function.Consumer;
 
 import io.micrometer.core.instrument.DistributionSummary;
 import lombok.Getter;
@@ -35,6 +36,7 @@ public class ParallelSenderExecutor extends AbstractRequestReplyExecutor {
 	@Setter private boolean shouldCloseSession = false;
 	@Setter private ResourceLimiter threadLimiter; // support limiting the number of threads processing in parallel
 	@Setter private Phaser guard; // support waiting for all threads to end
+	@Setter private Consumer<ParallelSenderExecutor> completionListener; // support processing the result as soon as it is available
 	private final DistributionSummary summary;
 	private @Getter long duration;
 
@@ -72,6 +74,9 @@ public class ParallelSenderExecutor extends AbstractRequestReplyExecutor {
 				guard.arrive();
 				log.debug("Arrived sender, remaining senders: {}", guard.getUnarrivedParties());
 			}
+			if (completionListener != null) {
+				completionListener.accept(this);
+			}
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*
-   Copyright 2024 WeAreFrank!
+   Copyright 2024, 2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -26,6 +26,8 @@ public enum FrankMeterType {
 	PIPE_SIZE_IN("frank.pipe.size.in", Meter.Type.DISTRIBUTION_SUMMARY, FrankMeterType.SIZE_UNIT),
 	PIPE_SIZE_OUT("frank.pipe.size.out", Meter.Type.DISTRIBUTION_SUMMARY, FrankMeterType.SIZE_UNIT),
 	PIPE_WAIT_TIME("frank.pipe.wait", Meter.Type.DISTRIBUTION_SUMMARY, FrankMeterType.TIME_UNIT),
+	PIPE_RECORDS_PROCESSED("frank.pipe.recordsProcessed", Meter.Type.COUNTER),
+	PIPE_THROUGHPUT("frank.pipe.throughput", Meter.Type.DISTRIBUTION_SUMMARY), // items per second of an iteration
 
 	PIPELINE_DURATION("frank.pipeline.duration", Meter.Type.DISTRIBUTION_SUMMARY, FrankMeterType.TIME_UNIT),
 	PIPELINE_SIZE("frank.pipeline.size", Meter.Type.DISTRIBUTION_SUMMARY, FrankMeterType.SIZE_UNIT), // "- pipeline in"
@@ -38,6 +40,8 @@ public enum FrankMeterType {
 	RECEIVER_RECEIVED("frank.receiver.messagesReceived", Meter.Type.COUNTER),
 	RECEIVER_REJECTED("frank.receiver.messagesRejected", Meter.Type.COUNTER),
 	RECEIVER_RETRIED("frank.receiver.messagesRetried", Meter.Type.COUNTER),
+	RECEIVER_EMPTY_POLL_RATIO("frank.receiver.emptyPollRatio", Meter.Type.GAUGE),
+	RECEIVER_POLL_INTERVAL("frank.receiver.pollInterval", Meter.Type.GAUGE, FrankMeterType.TIME_UNIT),
 
 	SENDER_HTTP("frank.http.requests", Meter.Type.TIMER),
 	SENDER_HTTP_POOL_MAX("frank.http.pool.max", Meter.Type.GAUGE),
@@ -45,8 +49,18 @@ public enum FrankMeterType {
 	SENDER_HTTP_POOL_LEASED("frank.http.pool.leased", Meter.Type.GAUGE),
 	SENDER_HTTP_POOL_PENDING("frank.http.pool.pending", Meter.Type.GAUGE),
 
+	SENDER_JAVASCRIPT_POOL_ACTIVE("frank.javascript.pool.active", Meter.Type.GAUGE),
+	SENDER_JAVASCRIPT_POOL_IDLE("frank.javascript.pool.idle", Meter.Type.GAUGE),
+	SENDER_JAVASCRIPT_RUNTIMES_CREATED("frank.javascript.runtimesCreated", Meter.Type.COUNTER),
+
+	SENDER_DELIVERIES_ACKNOWLEDGED("frank.sender.deliveries.acknowledged", Meter.Type.COUNTER),
+	SENDER_DELIVERIES_FAILED("frank.sender.deliveries.failed", Meter.Type.COUNTER),
+	SENDER_DELIVERIES_IN_FLIGHT("frank.sender.deliveries.inFlight", Meter.Type.GAUGE),
+
 	LISTENER_MESSAGE_PEEKING("frank.listener.messagePeeking", Meter.Type.DISTRIBUTION_SUMMARY, FrankMeterType.TIME_UNIT),
-	LISTENER_MESSAGE_RECEIVING("frank.listener.messageReceiving", Meter.Type.DISTRIBUTION_SUMMARY, FrankMeterType.TIME_UNIT);
+	LISTENER_MESSAGE_RECEIVING("frank.listener.messageReceiving", Meter.Type.DISTRIBUTION_SUMMARY, FrankMeterType.TIME_UNIT),
+	LISTENER_BYTES_STREAMED("frank.listener.bytesStreamed", Meter.Type.COUNTER, FrankMeterType.SIZE_UNIT),
+	LISTENER_BYTES_SPILLED("frank.listener.bytesSpilled", Meter.Type.COUNTER, FrankMeterType.SIZE_UNIT);
 
 	public static final String TIME_UNIT = "ms";
 	public static final String SIZE_UNIT = "B";
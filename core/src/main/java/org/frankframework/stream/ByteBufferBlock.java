@@ -1,5 +1,5 @@
 /*
-   Copyright 2024-2025 WeAreFrank!
+   Copyright 2024-2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -15,13 +15,24 @@
 */
 package org.frankframework.stream;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.frankframework.util.AppConstants;
 import org.frankframework.util.StreamUtil;
 
 /**
  * A buffer of bytes to be used when buffering binary message data. This buffer can be used as part
  * of a list that grows memory usage linearly.
+ * <p>
+ * Blocks that are no longer referenced can be {@link #release(ByteBufferBlock) released} to a bounded pool,
+ * so they can be reused by the next {@link OverflowToDiskOutputStream} instead of being allocated again.
+ * Blocks that have been handed to a {@link Message} must never be released, as their contents are still in use.
+ * </p>
  */
 class ByteBufferBlock {
+	static final String POOL_SIZE_PROPERTY = "message.bufferPool.size";
+	private static final BlockingQueue<ByteBufferBlock> POOL = new ArrayBlockingQueue<>(Math.max(1, AppConstants.getInstance().getInt(POOL_SIZE_PROPERTY, 32)));
 
 	final byte[] buffer = new byte[StreamUtil.BUFFER_SIZE];
 
@@ -30,4 +41,31 @@ class ByteBufferBlock {
 	boolean isFull() {
 		return count == buffer.length;
 	}
+
+	int remaining() {
+		return buffer.length - count;
+	}
+
+	/**
+	 * Returns an empty block from the pool, or a new block when the pool is empty.
+	 */
+	static ByteBufferBlock obtain() {
+		ByteBufferBlock block = POOL.poll();
+		if (block == null) {
+			return new ByteBufferBlock();
+		}
+		block.count = 0;
+		return block;
+	}
+
+	/**
+	 * Returns the block to the pool. When the pool is full the block is left for the garbage collector.
+	 */
+	static void release(ByteBufferBlock block) {
+		POOL.offer(block);
+	}
+
+	static int pooledBlocks() {
+		return POOL.size();
+	}
 }
@@ -119,6 +119,13 @@ public class Message implements Serializable {
 		this(new MessageContext(), request);
 	}
 
+	/**
+	 * Binary data that is kept in memory in multiple segments, represented as a {@code byte[]} message.
+	 */
+	Message(SegmentedByteArray request, MessageContext context) {
+		this(context, request, byte[].class);
+	}
+
 	public Message(Reader request, MessageContext context) throws IOException {
 		this.context = context;
 		this.requestClass = ClassUtils.nameOf(request);
@@ -252,7 +259,19 @@ public class Message implements Serializable {
 	@SuppressWarnings("java:S1133")
 	@Nullable
 	public Object asObject() {
-		return request.asRawObject();
+		return getRawObject();
+	}
+
+	/**
+	 * Returns the raw object of the request. Binary data that is kept in memory in segments is materialised as a {@code byte[]} first,
+	 * so the internal {@link SegmentedByteArray} is never exposed. The segments keep that array for subsequent reads.
+	 */
+	private @Nullable Object getRawObject() {
+		Object data = request.asRawObject();
+		if (data instanceof SegmentedByteArray segmentedByteArray) {
+			return segmentedByteArray.toByteArray();
+		}
+		return data;
 	}
 
 	/**
@@ -271,7 +290,7 @@ public class Message implements Serializable {
 			throw new IllegalStateException("Value is not of [" + type.getName() + "], check first Message#isRequestOfType before calling this method");
 		}
 		//noinspection unchecked,DataFlowIssue
-		return (T)request.asRawObject();
+		return (T)getRawObject();
 	}
 
 	public boolean isBinary() {
@@ -379,7 +398,8 @@ public class Message implements Serializable {
 		if (data == null) {
 			return false;
 		}
-		return clazz.equals(data.getClass()) || clazz.isAssignableFrom(data.getClass());
+		Class<?> dataClass = data instanceof SegmentedByteArray ? byte[].class : data.getClass(); // answered without concatenating the segments
+		return clazz.equals(dataClass) || clazz.isAssignableFrom(dataClass);
 	}
 
 	/**
@@ -552,15 +572,27 @@ public class Message implements Serializable {
 	 * may be preserved if it was not repeatable. Thus this operation may modify the
 	 * state of the message object.
 	 * </p>
+	 * <p>
+	 * Messages that are backed by a temporary file share that file with the copy, instead of copying its contents.
+	 * Each message gets its own {@link SerializableFileReference} to the file. The file is removed when the last of these references
+	 * has been closed, or when all of them have been garbage collected.
+	 * </p>
 	 *
 	 * @return A new Message object that is a copy of this Message.
 	 * @throws IOException If an I/O error occurs during the copying process.
 	 */
 	public Message copyMessage() throws IOException {
 		Object data = request.asRawObject();
-		if (!(data instanceof SerializableFileReference)) {
+		if (data instanceof SegmentedByteArray segmentedByteArray) {
+			return new Message(segmentedByteArray, copyContext());
+		}
+		if (!(data instanceof SerializableFileReference fileReference)) {
 			return new Message(copyContext(), data);
 		}
+		SerializableFileReference sharedRef = fileReference.share();
+		if (sharedRef != null) {
+			return new Message(copyContext(), sharedRef);
+		}
 		final SerializableFileReference newRef;
 		if (isBinary() || StreamUtil.AUTO_DETECT_CHARSET.equalsIgnoreCase(getCharset())) {
 			newRef = SerializableFileReference.of(asInputStream());
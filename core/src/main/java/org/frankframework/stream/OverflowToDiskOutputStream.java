@@ -25,7 +25,6 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
@@ -71,7 +70,7 @@ public class OverflowToDiskOutputStream extends OutputStream implements AutoClos
 		// either the buffer or outputStream exists, but not both at the same time.
 		if (maxSize > 0 && maxSize <= MAX_MEM_BUFFER_SIZE) { // Don't allow arbitrarily large memory buffer allocations
 			buffers = new ArrayList<>();
-			lastBlock = new ByteBufferBlock();
+			lastBlock = ByteBufferBlock.obtain();
 			buffers.add(lastBlock);
 			this.maxBufferSize = Math.toIntExact(maxSize);
 		} else {
@@ -131,10 +130,12 @@ public class OverflowToDiskOutputStream extends OutputStream implements AutoClos
 		OutputStream overflow = createFileOnDisk();
 		for (ByteBufferBlock b : buffers) {
 			overflow.write(b.buffer, 0, b.count);
+			ByteBufferBlock.release(b);
 		}
 
 		// empty the buffer, there is no need to keep this in memory any longer.
 		buffers = null;
+		lastBlock = null;
 		currentBufferSize = 0;
 
 		return overflow;
@@ -169,11 +170,11 @@ public class OverflowToDiskOutputStream extends OutputStream implements AutoClos
 		while (len > 0) {
 			ByteBufferBlock s = lastBlock;
 			if (s.isFull()) {
-				s = new ByteBufferBlock();
+				s = ByteBufferBlock.obtain();
 				buffers.add(s);
 				lastBlock = s;
 			}
-			final int n = Math.min(s.buffer.length - s.count, len);
+			final int n = Math.min(s.remaining(), len);
 			System.arraycopy(b, off, s.buffer, s.count, n);
 			s.count += n;
 			len -= n;
@@ -193,7 +194,8 @@ public class OverflowToDiskOutputStream extends OutputStream implements AutoClos
 	}
 
 	/**
-	 * If the contents was small enough to be kept in memory a ByteArray-message will be returned.
+	 * If the contents was small enough to be kept in memory a binary message will be returned, that reads directly from the
+	 * in-memory buffer, or a String-message when the contents is character data.
 	 * If the contents was written to disk a {@link PathMessage TemporaryMessage} will be returned.
 	 * Once read the buffer will be removed.
 	 * @return A new {@link Message} object representing the contents written to this {@link OutputStream}.
@@ -211,26 +213,33 @@ public class OverflowToDiskOutputStream extends OutputStream implements AutoClos
 			CleanerProvider.clean(cleanable);
 
 			return result;
+		}
+
+		log.trace("creating message from in-memory buffer");
+		List<ByteBufferBlock> blocks = buffers;
+		buffers = null; // clear everything that's kept in memory
+		lastBlock = null;
+
+		if (binary) {
+			// The message takes ownership of the blocks, they cannot be returned to the pool.
+			return new Message(new SegmentedByteArray(blocks), new MessageContext());
+		}
+
+		final String result;
+		if (blocks.size() == 1) {
+			ByteBufferBlock block = blocks.get(0);
+			result = new String(block.buffer, 0, block.count, StandardCharsets.UTF_8);
 		} else {
-			log.trace("creating message from in-memory buffer");
 			final byte[] out = new byte[currentBufferSize];
-
 			int outPtr = 0;
-			Iterator<ByteBufferBlock> i = buffers.iterator();
-			while (i.hasNext()) {
-				ByteBufferBlock b = i.next();
+			for (ByteBufferBlock b : blocks) {
 				System.arraycopy(b.buffer, 0, out, outPtr, b.count);
 				outPtr += b.count;
-				i.remove();
-			}
-
-			buffers = null; // clear everything that's kept in memory
-			if (binary) {
-				return new Message(out);
-			} else {
-				return new Message(new String(out, StandardCharsets.UTF_8));
 			}
+			result = new String(out, StandardCharsets.UTF_8);
 		}
+		blocks.forEach(ByteBufferBlock::release);
+		return new Message(result);
 	}
 
 	/**
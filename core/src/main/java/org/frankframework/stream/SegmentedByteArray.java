@@ -0,0 +1,224 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable binary data, stored as a sequence of segments instead of a single contiguous array.
+ * <p>
+ * This allows the in-memory buffer of an {@link OverflowToDiskOutputStream} to be turned into a {@link Message} without copying it.
+ * The data can be streamed directly from the segments. Only when the data is requested as a single {@code byte[]} the segments are
+ * concatenated, after which the contiguous copy is used for all subsequent reads.
+ * </p>
+ */
+public final class SegmentedByteArray {
+	private final long size;
+	private byte @Nullable [][] segments;
+	private final int[] lengths;
+	private volatile byte @Nullable [] contiguous;
+
+	/**
+	 * Takes ownership of the given blocks. When the last block is less than half full, its contents are copied
+	 * into an array of the exact size and the block is released, to avoid retaining the unused part of the block.
+	 */
+	SegmentedByteArray(@NonNull List<ByteBufferBlock> blocks) {
+		int numberOfSegments = blocks.size();
+		segments = new byte[numberOfSegments][];
+		lengths = new int[numberOfSegments];
+		long total = 0;
+		for (int i = 0; i < numberOfSegments; i++) {
+			ByteBufferBlock block = blocks.get(i);
+			if (i == numberOfSegments - 1 && block.count < block.buffer.length / 2) {
+				byte[] trimmed = new byte[block.count];
+				System.arraycopy(block.buffer, 0, trimmed, 0, block.count);
+				segments[i] = trimmed;
+				ByteBufferBlock.release(block);
+			} else {
+				segments[i] = block.buffer;
+			}
+			lengths[i] = block.count;
+			total += block.count;
+		}
+		size = total;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	int numberOfSegments() {
+		byte[][] currentSegments = segments;
+		return currentSegments != null ? currentSegments.length : 1;
+	}
+
+	/**
+	 * Returns the data as a single array. The first call concatenates the segments, subsequent calls return the same array.
+	 * The returned array must not be modified.
+	 */
+	public byte @NonNull [] toByteArray() {
+		byte[] result = contiguous;
+		if (result == null) {
+			synchronized (this) {
+				result = contiguous;
+				if (result == null) {
+					result = concatenate();
+					contiguous = result;
+					segments = null; // streams that are still open keep their own reference to the segments
+				}
+			}
+		}
+		return result;
+	}
+
+	private byte[] concatenate() {
+		byte[] result = new byte[Math.toIntExact(size)];
+		byte[][] currentSegments = Objects.requireNonNull(segments);
+		int position = 0;
+		for (int i = 0; i < currentSegments.length; i++) {
+			System.arraycopy(currentSegments[i], 0, result, position, lengths[i]);
+			position += lengths[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a new {@link InputStream} that reads the segments directly. The stream supports {@link InputStream#mark(int) mark and reset}.
+	 */
+	public @NonNull InputStream asInputStream() {
+		byte[] result = contiguous;
+		if (result != null) {
+			return new ByteArrayInputStream(result);
+		}
+		synchronized (this) {
+			if (contiguous != null) {
+				return new ByteArrayInputStream(contiguous);
+			}
+			return new SegmentedInputStream(Objects.requireNonNull(segments), lengths);
+		}
+	}
+
+	private static class SegmentedInputStream extends InputStream {
+		private final byte[][] segments;
+		private final int[] lengths;
+		private int segment = 0;
+		private int offset = 0;
+		private int markSegment = 0;
+		private int markOffset = 0;
+
+		SegmentedInputStream(byte[][] segments, int[] lengths) {
+			this.segments = segments;
+			this.lengths = lengths;
+		}
+
+		/**
+		 * Moves to the next segment that has data available, returns {@code false} when the end of the data has been reached.
+		 */
+		private boolean ensureAvailable() {
+			while (segment < segments.length && offset >= lengths[segment]) {
+				segment++;
+				offset = 0;
+			}
+			return segment < segments.length;
+		}
+
+		@Override
+		public int read() {
+			if (!ensureAvailable()) {
+				return -1;
+			}
+			return segments[segment][offset++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte @NonNull [] b, int off, int len) {
+			Objects.checkFromIndexSize(off, len, b.length);
+			if (len == 0) {
+				return 0;
+			}
+			int total = 0;
+			while (len > 0 && ensureAvailable()) {
+				int n = Math.min(len, lengths[segment] - offset);
+				System.arraycopy(segments[segment], offset, b, off, n);
+				offset += n;
+				off += n;
+				len -= n;
+				total += n;
+			}
+			return total == 0 ? -1 : total;
+		}
+
+		@Override
+		public long skip(long n) {
+			long skipped = 0;
+			while (skipped < n && ensureAvailable()) {
+				int step = (int) Math.min(n - skipped, lengths[segment] - offset);
+				offset += step;
+				skipped += step;
+			}
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			if (!ensureAvailable()) {
+				return 0;
+			}
+			long available = (long) lengths[segment] - offset;
+			for (int i = segment + 1; i < segments.length; i++) {
+				available += lengths[i];
+			}
+			return (int) Math.min(Integer.MAX_VALUE, available);
+		}
+
+		@Override
+		public long transferTo(OutputStream out) throws IOException {
+			long transferred = 0;
+			while (ensureAvailable()) {
+				int n = lengths[segment] - offset;
+				out.write(segments[segment], offset, n);
+				offset += n;
+				transferred += n;
+			}
+			return transferred;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return true;
+		}
+
+		@Override
+		public void mark(int readlimit) {
+			markSegment = segment;
+			markOffset = offset;
+		}
+
+		@Override
+		public void reset() {
+			segment = markSegment;
+			offset = markOffset;
+		}
+	}
+}
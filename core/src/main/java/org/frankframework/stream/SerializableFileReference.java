@@ -28,12 +28,20 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.io.StringReader;
 import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.input.ReaderInputStream;
 import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import lombok.Getter;
@@ -41,6 +49,7 @@ import lombok.extern.log4j.Log4j2;
 
 import org.frankframework.util.ClassUtils;
 import org.frankframework.util.CleanerProvider;
+import org.frankframework.util.CloseUtils;
 import org.frankframework.util.StreamUtil;
 import org.frankframework.util.TemporaryDirectoryUtils;
 
@@ -48,6 +57,11 @@ import org.frankframework.util.TemporaryDirectoryUtils;
  * A reference to a file {@link Path} that can be serialized. When serialized it will write all the file data to
  * the serialization stream.
  * When deserialized, it will copy all file-data to a new temporary file.
+ * <p>
+ * Temporary files that are owned by a reference are treated as immutable, and can be {@link #share() shared} with other references
+ * instead of being copied. The file is deleted when the last reference to it is closed. Streams on a shared file use positional reads
+ * on a single {@link FileChannel}, so concurrent consumers do not interfere with each other.
+ * </p>
  */
 @Log4j2
 public class SerializableFileReference implements Serializable, AutoCloseable {
@@ -61,6 +75,7 @@ public class SerializableFileReference implements Serializable, AutoCloseable {
 	@Nullable private String charset;
 	@Getter private transient Path path;
 	private transient Cleaner.@Nullable Cleanable cleanable;
+	private transient @Nullable SharedTemporaryFile sharedFile;
 
 	/**
 	 * Create a new {@link SerializableFileReference} from the given {@link InputStream}. The {@link InputStream} will be copied
@@ -142,30 +157,110 @@ public class SerializableFileReference implements Serializable, AutoCloseable {
 		this.charset = charset;
 		this.path = path;
 		if (isFileOwner) {
-			createCleanerAction(path);
+			createCleanerAction(new SharedTemporaryFile(path));
 		}
 	}
 
-	private void createCleanerAction(final Path path) {
-		CleanupFileAction cleanupFileAction = new CleanupFileAction(path);
-		cleanable = CleanerProvider.register(this, cleanupFileAction);
+	private SerializableFileReference(SerializableFileReference original, SharedTemporaryFile sharedFile) {
+		this.charset = original.charset;
+		this.size = original.size;
+		this.path = sharedFile.path;
+		createCleanerAction(sharedFile);
 	}
 
+	private void createCleanerAction(final SharedTemporaryFile sharedFile) {
+		this.sharedFile = sharedFile;
+		cleanable = CleanerProvider.register(this, new CleanupFileAction(sharedFile));
+	}
+
+	/**
+	 * Releases the reference to the shared file. Each reference has its own action, so the file is released once per reference,
+	 * either when the reference is closed or when it has been garbage collected.
+	 */
 	private static class CleanupFileAction implements Runnable {
-		private final Path fileToClean;
+		private final SharedTemporaryFile fileToClean;
 
-		private CleanupFileAction(Path fileToClean) {
+		private CleanupFileAction(SharedTemporaryFile fileToClean) {
 			this.fileToClean = fileToClean;
 		}
 
 		@Override
 		public void run() {
+			fileToClean.release();
+		}
+	}
+
+	/**
+	 * A temporary file that can be shared by multiple references. The file is deleted when the last reference has been released.
+	 */
+	private static class SharedTemporaryFile {
+		private final Path path;
+		private final AtomicInteger references = new AtomicInteger(1);
+		private @Nullable FileChannel channel;
+
+		private SharedTemporaryFile(Path path) {
+			this.path = path;
+		}
+
+		/**
+		 * Adds a reference, unless the file has already been released by all previous holders.
+		 */
+		boolean retain() {
+			int current;
+			do {
+				current = references.get();
+				if (current <= 0) {
+					return false;
+				}
+			} while (!references.compareAndSet(current, current + 1));
+			return true;
+		}
+
+		void release() {
+			if (references.decrementAndGet() != 0) {
+				return;
+			}
+			closeChannel();
 			try {
-				Files.deleteIfExists(fileToClean);
+				Files.deleteIfExists(path);
 			} catch (Exception e) {
-				log.warn("failed to remove file reference [{}]. Exception message: {}", fileToClean, e.getMessage());
+				log.warn("failed to remove file reference [{}]. Exception message: {}", path, e.getMessage());
+			}
+		}
+
+		/**
+		 * Returns the channel that is shared by all streams on this file. A channel that has been closed, for instance because
+		 * a reading thread was interrupted, is replaced by a new one.
+		 */
+		synchronized FileChannel getChannel() throws IOException {
+			if (references.get() <= 0) {
+				throw new ClosedChannelException();
+			}
+			if (channel == null || !channel.isOpen()) {
+				channel = FileChannel.open(path, StandardOpenOption.READ);
 			}
+			return channel;
 		}
+
+		private synchronized void closeChannel() {
+			CloseUtils.closeSilently(channel);
+			channel = null;
+		}
+	}
+
+	/**
+	 * Creates a new reference to the same temporary file, without copying its contents. The file will only be deleted when both
+	 * this and the new reference have been closed.
+	 *
+	 * @return A new {@link SerializableFileReference} with the same contents and charset, or {@code null} when this reference does not
+	 * own the file it refers to, or has already been closed. The file must then be copied instead.
+	 */
+	public @Nullable SerializableFileReference share() {
+		SharedTemporaryFile file = sharedFile;
+		if (file == null || !file.retain()) {
+			return null;
+		}
+		return new SerializableFileReference(this, file);
 	}
 
 	public boolean isBinary() {
@@ -188,6 +283,10 @@ public class SerializableFileReference implements Serializable, AutoCloseable {
 	}
 
 	public InputStream getInputStream() throws IOException {
+		SharedTemporaryFile file = sharedFile;
+		if (file != null && file.retain()) {
+			return new SharedFileInputStream(file);
+		}
 		InputStream in = Files.newInputStream(path);
 		if (in.markSupported()) {
 			return in;
@@ -209,6 +308,7 @@ public class SerializableFileReference implements Serializable, AutoCloseable {
 		if (cleanable != null) {
 			CleanerProvider.clean(cleanable);
 		}
+		sharedFile = null;
 	}
 
 	@Serial
@@ -243,7 +343,7 @@ public class SerializableFileReference implements Serializable, AutoCloseable {
 			charset = storedCharset;
 		}
 		path = copyToTempFile(in, size);
-		createCleanerAction(path);
+		createCleanerAction(new SharedTemporaryFile(path));
 	}
 
 	/**
@@ -265,4 +365,133 @@ public class SerializableFileReference implements Serializable, AutoCloseable {
 		}
 		return destination;
 	}
+
+	/**
+	 * Buffered {@link InputStream} that reads from the shared {@link FileChannel} of a {@link SharedTemporaryFile} using positional reads,
+	 * so multiple streams can read the same file concurrently without an open file handle per stream.
+	 * <p>
+	 * The stream holds a reference to the file, so the file remains available when the {@link SerializableFileReference} it was obtained from
+	 * is closed or collected while the stream is still being read. The reference is released when the stream is closed, or collected.
+	 * </p>
+	 */
+	private static class SharedFileInputStream extends InputStream {
+		private final SharedTemporaryFile file;
+		private final Cleaner.Cleanable cleanable;
+		private final ByteBuffer buffer = ByteBuffer.allocate(16384);
+		private long bufferStart = 0;
+		private long position = 0;
+		private long mark = 0;
+		private boolean closed = false;
+
+		/**
+		 * @param file a file of which a reference has been retained for this stream
+		 */
+		SharedFileInputStream(SharedTemporaryFile file) {
+			this.file = file;
+			this.cleanable = CleanerProvider.register(this, new CleanupFileAction(file));
+			buffer.limit(0);
+		}
+
+		private int readAt(ByteBuffer target, long filePosition) throws IOException {
+			if (closed) {
+				throw new IOException("stream already closed");
+			}
+			try {
+				return file.getChannel().read(target, filePosition);
+			} catch (ClosedByInterruptException e) {
+				throw e;
+			} catch (ClosedChannelException e) {
+				// Another reader was interrupted, which closes the channel for everyone. Retry once on a new channel.
+				return file.getChannel().read(target, filePosition);
+			}
+		}
+
+		/**
+		 * Makes sure the buffer contains the byte at the current position, returns {@code false} at the end of the file.
+		 */
+		private boolean fillBuffer() throws IOException {
+			if (position >= bufferStart && position < bufferStart + buffer.limit()) {
+				return true;
+			}
+			buffer.clear();
+			int n = readAt(buffer, position);
+			buffer.flip();
+			bufferStart = position;
+			return n > 0;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (!fillBuffer()) {
+				return -1;
+			}
+			return buffer.get((int) (position++ - bufferStart)) & 0xFF;
+		}
+
+		@Override
+		public int read(byte @NonNull [] b, int off, int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, b.length);
+			if (len == 0) {
+				return 0;
+			}
+			boolean inBuffer = position >= bufferStart && position < bufferStart + buffer.limit();
+			if (!inBuffer && len >= buffer.capacity()) {
+				int n = readAt(ByteBuffer.wrap(b, off, len), position);
+				if (n > 0) {
+					position += n;
+				}
+				return n > 0 ? n : -1;
+			}
+			if (!fillBuffer()) {
+				return -1;
+			}
+			int offsetInBuffer = (int) (position - bufferStart);
+			int n = Math.min(len, buffer.limit() - offsetInBuffer);
+			buffer.get(offsetInBuffer, b, off, n);
+			position += n;
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			if (n <= 0) {
+				return 0;
+			}
+			long skipped = Math.max(0, Math.min(n, file.getChannel().size() - position));
+			position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			if (closed) {
+				return 0;
+			}
+			return (int) Math.min(Integer.MAX_VALUE, Math.max(0, file.getChannel().size() - position));
+		}
+
+		@Override
+		public boolean markSupported() {
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readlimit) {
+			mark = position;
+		}
+
+		@Override
+		public synchronized void reset() {
+			position = mark;
+		}
+
+		@Override
+		public void close() {
+			// The channel is shared with other streams, it is closed when the last reference to the file is released
+			if (!closed) {
+				closed = true;
+				CleanerProvider.clean(cleanable);
+			}
+		}
+	}
 }
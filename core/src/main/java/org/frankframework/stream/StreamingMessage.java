@@ -0,0 +1,139 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.stream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serial;
+import java.util.function.LongConsumer;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import org.frankframework.functional.ThrowingRunnable;
+import org.frankframework.functional.ThrowingSupplier;
+
+/**
+ * Message that is read directly from its source, e.g. the body of a request or the result of a query, while it is consumed by the pipeline.
+ * <p>
+ *     The body is not copied to memory or a temporary file first, and can therefore be read only once. The first {@value #REPLAY_LIMIT} bytes
+ *     are kept, so the message can be peeked at and checked for emptiness before it is read. Smaller bodies can be read repeatedly.
+ *     Reading a larger body a second time results in an {@link IOException}.
+ * </p>
+ */
+public class StreamingMessage extends Message {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	static final int REPLAY_LIMIT = 64 * 1024;
+
+	/**
+	 * @param bytesStreamed   receives the number of bytes that have been read from the source, each byte is counted once
+	 * @param endOfBodyAction is executed once, when the end of the body has been read
+	 */
+	public StreamingMessage(@NonNull InputStream inputStream, @NonNull MessageContext context, @NonNull LongConsumer bytesStreamed, @Nullable ThrowingRunnable<IOException> endOfBodyAction) {
+		super(new OneShotInputStreamSupplier(inputStream, bytesStreamed, endOfBodyAction), context, inputStream.getClass());
+	}
+
+	private static class OneShotInputStreamSupplier implements ThrowingSupplier<InputStream, Exception> {
+		private final BufferedInputStream source;
+		private final LongConsumer bytesStreamed;
+		private final @Nullable ThrowingRunnable<IOException> endOfBodyAction;
+		private long streamed = 0L;
+		private boolean endOfBody = false;
+
+		OneShotInputStreamSupplier(InputStream source, LongConsumer bytesStreamed, @Nullable ThrowingRunnable<IOException> endOfBodyAction) {
+			this.source = new BufferedInputStream(source);
+			this.bytesStreamed = bytesStreamed;
+			this.endOfBodyAction = endOfBodyAction;
+			this.source.mark(REPLAY_LIMIT);
+		}
+
+		@Override
+		public synchronized InputStream get() throws IOException {
+			try {
+				source.reset();
+			} catch (IOException e) {
+				throw new IOException("message has already been read and can be read only once", e);
+			}
+			source.mark(REPLAY_LIMIT);
+			return new BodyInputStream();
+		}
+
+		private void advanced(long position) {
+			if (position > streamed) {
+				bytesStreamed.accept(position - streamed);
+				streamed = position;
+			}
+		}
+
+		private void endReached() throws IOException {
+			if (!endOfBody) {
+				endOfBody = true;
+				if (endOfBodyAction != null) {
+					endOfBodyAction.run();
+				}
+			}
+		}
+
+		/**
+		 * View on the body that starts at the beginning. Does not support mark and reset itself, as they would move the mark used for replaying.
+		 */
+		private class BodyInputStream extends InputStream {
+			private long position = 0L;
+
+			@Override
+			public int read() throws IOException {
+				int b = source.read();
+				if (b < 0) {
+					endReached();
+				} else {
+					advanced(++position);
+				}
+				return b;
+			}
+
+			@Override
+			public int read(byte @NonNull [] b, int off, int len) throws IOException {
+				int count = source.read(b, off, len);
+				if (count < 0) {
+					endReached();
+				} else {
+					position += count;
+					advanced(position);
+				}
+				return count;
+			}
+
+			@Override
+			public int available() throws IOException {
+				return source.available();
+			}
+
+			@Override
+			public boolean markSupported() {
+				return false;
+			}
+
+			@Override
+			public void close() {
+				// The source is closed by its owner, e.g. the servlet container
+			}
+		}
+	}
+}
@@ -15,6 +15,9 @@
 */
 package org.frankframework.util;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -57,6 +60,45 @@ public class DB2DocumentWriter {
 		}
 	}
 
+	/**
+	 * Returns the ResultSet as a document that is rendered while it is read, a row at a time. The ResultSet must stay open until the end of the
+	 * stream has been read. An error reading a row is not skipped, but results in an {@link IOException}.
+	 */
+	public InputStream asInputStream(DocumentFormat format, IDbmsSupport dbmsSupport, ResultSet rs, int maxlength, boolean includeFieldDefinition, boolean prettyPrint) {
+		return new ResultSetInputStream(rs, maxlength) {
+			private ObjectBuilder documentBuilder;
+			private ArrayBuilder rows;
+
+			@Override
+			protected void startDocument(Writer writer, ResultSetMetaData rsmeta) throws SAXException, SQLException {
+				documentBuilder = DocumentBuilderFactory.startObjectDocument(format, docname, writer, prettyPrint);
+				try {
+					Statement stmt = rs.getStatement();
+					if (stmt != null) {
+						JdbcUtil.warningsToDocument(stmt.getWarnings(), documentBuilder);
+					}
+				} catch (SQLException e) {
+					log.warn("exception obtaining statement warnings", e);
+				}
+				if (includeFieldDefinition) {
+					addFieldDefinitions(documentBuilder, rsmeta);
+				}
+				rows = documentBuilder.addArrayField(recordname, "row");
+			}
+
+			@Override
+			protected void writeRow(ResultSetMetaData rsmeta, int rowNumber) throws SAXException, SQLException, SenderException {
+				DB2DocumentWriter.writeRow(rows, dbmsSupport, rs, rsmeta, getBlobCharset(), decompressBlobs, trimSpaces, getBlobSmart);
+			}
+
+			@Override
+			protected void endDocument() throws SAXException {
+				rows.close();
+				documentBuilder.close();
+			}
+		};
+	}
+
 	public void writeDocument(IDbmsSupport dbmsSupport, ResultSet rs, int maxlength, boolean includeFieldDefinition, ObjectBuilder documentBuilder) throws SAXException {
 
 		if (null == rs) {
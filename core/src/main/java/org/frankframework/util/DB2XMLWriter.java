@@ -16,6 +16,8 @@
 package org.frankframework.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
 import java.sql.CallableStatement;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
@@ -132,6 +134,46 @@ public class DB2XMLWriter {
 		}
 	}
 
+	/**
+	 * Retrieve the Resultset as XML that is rendered while it is read, a row at a time. The ResultSet must stay open until the end of the
+	 * stream has been read. Unlike {@link #getXML(IDbmsSupport, ResultSet, int, boolean, ContentHandler, boolean)}, an error reading a row is
+	 * not skipped, but results in an {@link IOException}.
+	 */
+	public InputStream asInputStream(@NonNull IDbmsSupport dbmsSupport, @NonNull ResultSet rs, int maxRows, boolean includeFieldDefinition, boolean prettyPrint) {
+		return new ResultSetInputStream(rs, maxRows) {
+			private SaxDocumentBuilder root;
+			private SaxElementBuilder rows;
+
+			@Override
+			protected void startDocument(Writer writer, ResultSetMetaData rsmeta) throws SAXException, SQLException {
+				root = new SaxDocumentBuilder(docname, new XmlWriter(writer), prettyPrint);
+				try {
+					Statement stmt = rs.getStatement();
+					if (stmt != null) {
+						JdbcUtil.warningsToXml(stmt.getWarnings(), root);
+					}
+				} catch (SQLException e) {
+					log.warn("exception obtaining statement warnings", e);
+				}
+				if (includeFieldDefinition) {
+					addFieldDefinitions(root, rsmeta);
+				}
+				rows = root.startElement(recordname);
+			}
+
+			@Override
+			protected void writeRow(ResultSetMetaData rsmeta, int rowNumber) throws SAXException, SQLException, SenderException {
+				getRowXml(rows, dbmsSupport, rs, rowNumber, rsmeta, getBlobCharset(), decompressBlobs, nullValue, trimSpaces, getBlobSmart);
+			}
+
+			@Override
+			protected void endDocument() throws SAXException {
+				rows.close();
+				root.close();
+			}
+		};
+	}
+
 	public String getXML(@NonNull IDbmsSupport dbmsSupport, @NonNull CallableStatement callableStatement, boolean alsoGetResultSets, @NonNull Map<Integer, IParameter> outputParameters, int maxRows, boolean includeFieldDefinition) {
 		try {
 			XmlWriter xmlWriter = new XmlWriter();
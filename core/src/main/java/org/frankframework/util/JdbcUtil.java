@@ -585,6 +585,14 @@ public class JdbcUtil {
 	}
 
 	public static void applyParameters(@NonNull IDbmsSupport dbmsSupport, @NonNull PreparedStatement statement, @NonNull ParameterValueList parameters) throws JdbcException {
+		applyParameters(dbmsSupport, statement, parameters, 0);
+	}
+
+	/**
+	 * Applies the parameters to the statement, starting after the first {@code offset} parameters of the statement. Used to bind multiple rows
+	 * of parameter values to a single statement.
+	 */
+	public static void applyParameters(@NonNull IDbmsSupport dbmsSupport, @NonNull PreparedStatement statement, @NonNull ParameterValueList parameters, int offset) throws JdbcException {
 		boolean parameterTypeMatchRequired = dbmsSupport.isParameterTypeMatchRequired();
 		for (int i = 0; i < parameters.size(); i++) {
 			ParameterValue parameterValue = parameters.getValue(i);
@@ -592,7 +600,7 @@ public class JdbcUtil {
 				continue;
 			}
 			try {
-				applyParameter(statement, parameterValue, i + 1, parameterTypeMatchRequired);
+				applyParameter(statement, parameterValue, offset + i + 1, parameterTypeMatchRequired);
 			} catch (SQLException | IOException e) {
 				throw new JdbcException(
 						"Could not set parameter [" + parameterValue.getName() +
@@ -0,0 +1,125 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.jspecify.annotations.NonNull;
+import org.xml.sax.SAXException;
+
+import org.frankframework.core.SenderException;
+
+/**
+ * Renders a {@link ResultSet} as a document, while the document is being read. Rows are fetched from the ResultSet only when the bytes
+ * rendered so far have been read, so the result is never held in memory or written to a temporary file as a whole.
+ * <p>
+ *     The ResultSet, and the statement and connection it belongs to, must stay open until the end of the stream has been read.
+ * </p>
+ */
+abstract class ResultSetInputStream extends InputStream {
+	private final ResultSet resultSet;
+	private final int maxRows;
+	private final StringWriter rendered = new StringWriter();
+	private ResultSetMetaData metaData = null;
+	private int rowCounter = 0;
+	private boolean finished = false;
+	private byte[] chunk = new byte[0];
+	private int position = 0;
+
+	/**
+	 * @param maxRows the maximum number of rows to render, all rows are rendered when negative
+	 */
+	protected ResultSetInputStream(@NonNull ResultSet resultSet, int maxRows) {
+		this.resultSet = resultSet;
+		this.maxRows = maxRows < 0 ? Integer.MAX_VALUE : maxRows;
+	}
+
+	protected abstract void startDocument(Writer writer, ResultSetMetaData rsmeta) throws SAXException, SQLException;
+
+	protected abstract void writeRow(ResultSetMetaData rsmeta, int rowNumber) throws SAXException, SQLException, SenderException;
+
+	protected abstract void endDocument() throws SAXException;
+
+	/**
+	 * Renders the next part of the document, until at least {@link StreamUtil#BUFFER_SIZE} characters are available or the document has ended.
+	 * Returns {@code false} when everything has been read.
+	 */
+	private boolean fill() throws IOException {
+		if (position < chunk.length) {
+			return true;
+		}
+		if (finished) {
+			return false;
+		}
+		try {
+			do {
+				renderNext();
+			} while (!finished && rendered.getBuffer().length() < StreamUtil.BUFFER_SIZE);
+		} catch (SAXException | SQLException | SenderException e) {
+			throw new IOException("cannot render row [" + rowCounter + "] of the result", e);
+		}
+		chunk = rendered.toString().getBytes(StandardCharsets.UTF_8);
+		rendered.getBuffer().setLength(0);
+		position = 0;
+		return chunk.length > 0;
+	}
+
+	private void renderNext() throws SAXException, SQLException, SenderException {
+		if (metaData == null) {
+			metaData = resultSet.getMetaData();
+			startDocument(rendered, metaData);
+		} else if (rowCounter < maxRows && resultSet.next()) {
+			writeRow(metaData, rowCounter++);
+		} else {
+			endDocument();
+			finished = true;
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return chunk[position++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte @NonNull [] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int count = Math.min(len, chunk.length - position);
+		System.arraycopy(chunk, position, b, off, count);
+		position += count;
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return chunk.length - position;
+	}
+}
@@ -68,6 +68,7 @@ import org.frankframework.stream.MessageContext;
 import org.frankframework.threading.ThreadConnector;
 import org.frankframework.xml.ClassLoaderURIResolver;
 import org.frankframework.xml.NonResolvingURIResolver;
+import org.frankframework.xml.StreamingXPathEvaluator;
 import org.frankframework.xml.ThreadConnectingFilter;
 import org.frankframework.xml.TransformerFilter;
 
@@ -93,6 +94,7 @@ public class TransformerPool {
 	private final URIResolver classLoaderURIResolver;
 
 	private ObjectPool<Transformer> pool;
+	private @Nullable StreamingXPathEvaluator streamingXPathEvaluator;
 
 	public enum OutputType {
 		TEXT,
@@ -323,7 +325,11 @@ public class TransformerPool {
 		String xslt = XmlUtils.createXPathEvaluatorSource(namespaceDefs,xPathExpression, outputType, includeXmlDeclaration, params, true, StringUtils.isEmpty(namespaceDefs), xsltVersion);
 		log.debug("xpath [{}] resulted in xslt [{}]", xPathExpression, xslt);
 
-		return new TransformerPool(xslt, null, xsltVersion == 0 ? XmlUtils.DEFAULT_XSLT_VERSION : xsltVersion, null);
+		TransformerPool transformerPool = new TransformerPool(xslt, null, xsltVersion == 0 ? XmlUtils.DEFAULT_XSLT_VERSION : xsltVersion, null);
+		if (outputType == OutputType.TEXT || !includeXmlDeclaration) {
+			transformerPool.streamingXPathEvaluator = StreamingXPathEvaluator.compile(namespaceDefs, xPathExpression, outputType, xsltVersion);
+		}
+		return transformerPool;
 	}
 
 	public void open() {
@@ -409,6 +415,9 @@ public class TransformerPool {
 	}
 
 	public String transformToString(Message m, Map<String,Object> parameters, boolean namespaceAware) throws TransformerException, IOException, SAXException {
+		if (namespaceAware && streamingXPathEvaluator != null) {
+			return streamingXPathEvaluator.evaluate(m);
+		}
 		if (namespaceAware) {
 			// TODO: This does not appear to properly honour namespaceAware=false
 			return transformToString(XmlUtils.inputSourceToSAXSource(m.asInputSource(), namespaceAware, null), parameters);
@@ -422,14 +431,17 @@ public class TransformerPool {
 	}
 
 	public String transformToString(String s) throws TransformerException, IOException, SAXException {
-		return transformToString(XmlUtils.stringToSourceForSingleUse(s), null);
+		return transformToString(s, null);
 	}
 
 	public String transformToString(String s, Map<String,Object> parameters) throws TransformerException, IOException, SAXException {
-		return transformToString(XmlUtils.stringToSourceForSingleUse(s), parameters);
+		return transformToString(s, parameters, XmlUtils.isNamespaceAwareByDefault());
 	}
 
 	public String transformToString(String s, Map<String,Object> parameters, boolean namespaceAware) throws TransformerException, IOException, SAXException {
+		if (namespaceAware && streamingXPathEvaluator != null) {
+			return streamingXPathEvaluator.evaluate(s);
+		}
 		return transformToString(XmlUtils.stringToSourceForSingleUse(s, namespaceAware), parameters);
 	}
 
@@ -438,6 +450,9 @@ public class TransformerPool {
 	}
 
 	public String transformToString(@NonNull Message input) throws TransformerException, IOException, SAXException {
+		if (streamingXPathEvaluator != null) {
+			return streamingXPathEvaluator.evaluate(input);
+		}
 		return transformToString(input.asSource(), null);
 	}
 
@@ -0,0 +1,106 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.core.IScopeProvider;
+import org.frankframework.xml.ClassLoaderEntityResolver;
+import org.frankframework.xml.NonResolvingExternalEntityResolver;
+
+/**
+ * Bounded pool of {@link XMLReader}s with the same namespace-awareness, to avoid creating a new parser (with its symbol tables and buffers)
+ * for every parse.
+ * <p>
+ *     A reader is borrowed for a single parse, and must only be released when the parse has completed normally. Released readers are reset:
+ *     the handlers that were set for the parse are removed, and the entity resolver of the scope they were borrowed for is replaced by one that
+ *     does not resolve external entities, which is also the resolver of a reader borrowed without a scope.
+ *     When the pool is empty a new reader is created, and when it is full a released reader is discarded, so the pool never blocks.
+ * </p>
+ */
+@NullMarked
+@Log4j2
+class XmlReaderPool {
+	private static final String LEXICAL_HANDLER_PROPERTY = "http://xml.org/sax/properties/lexical-handler";
+	private static final EntityResolver NON_RESOLVING_ENTITY_RESOLVER = new NonResolvingExternalEntityResolver();
+
+	private final SAXParserFactory factory;
+	private final BlockingQueue<XMLReader> idleReaders;
+
+	XmlReaderPool(boolean namespaceAware, int maxIdle) {
+		factory = XmlUtils.getSAXParserFactory(namespaceAware);
+		try {
+			factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+		} catch (ParserConfigurationException | SAXException e) {
+			throw new IllegalStateException("cannot enable secure processing of SAXParserFactory [" + factory.getClass().getName() + "]", e);
+		}
+		idleReaders = new ArrayBlockingQueue<>(Math.max(maxIdle, 1));
+	}
+
+	/**
+	 * Creates a new reader, that is not managed by the pool. Used when the lifetime of the reader is not controlled by the caller, e.g. when it is
+	 * part of a {@link javax.xml.transform.sax.SAXSource}.
+	 */
+	XMLReader createReader(@Nullable IScopeProvider scopeProvider) throws ParserConfigurationException, SAXException {
+		XMLReader xmlReader;
+		synchronized (factory) { // SAXParserFactory is not guaranteed to be thread-safe
+			xmlReader = factory.newSAXParser().getXMLReader();
+		}
+		xmlReader.setEntityResolver(getEntityResolver(scopeProvider));
+		return xmlReader;
+	}
+
+	XMLReader borrow(@Nullable IScopeProvider scopeProvider) throws ParserConfigurationException, SAXException {
+		XMLReader xmlReader = idleReaders.poll();
+		if (xmlReader == null) {
+			return createReader(scopeProvider);
+		}
+		if (scopeProvider != null) {
+			xmlReader.setEntityResolver(getEntityResolver(scopeProvider));
+		}
+		return xmlReader;
+	}
+
+	void release(XMLReader xmlReader) {
+		try {
+			xmlReader.setContentHandler(null);
+			xmlReader.setErrorHandler(null);
+			xmlReader.setProperty(LEXICAL_HANDLER_PROPERTY, null);
+			xmlReader.setEntityResolver(NON_RESOLVING_ENTITY_RESOLVER);
+		} catch (SAXException | RuntimeException e) {
+			log.debug("cannot reset XMLReader [{}], discarding it", xmlReader.getClass().getName(), e);
+			return;
+		}
+		idleReaders.offer(xmlReader);
+	}
+
+	private static EntityResolver getEntityResolver(@Nullable IScopeProvider scopeProvider) {
+		return scopeProvider != null ? new ClassLoaderEntityResolver(scopeProvider) : NON_RESOLVING_ENTITY_RESOLVER;
+	}
+}
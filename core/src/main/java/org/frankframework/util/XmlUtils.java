@@ -111,7 +111,6 @@ import org.frankframework.validation.XmlValidatorContentHandler;
 import org.frankframework.validation.XmlValidatorErrorHandler;
 import org.frankframework.xml.BodyOnlyFilter;
 import org.frankframework.xml.CanonicalizeFilter;
-import org.frankframework.xml.ClassLoaderEntityResolver;
 import org.frankframework.xml.NamespaceRemovingFilter;
 import org.frankframework.xml.NonResolvingExternalEntityResolver;
 import org.frankframework.xml.PrettyPrintFilter;
@@ -136,12 +135,18 @@ public class XmlUtils {
 	public static final String XSLT_BUFFERSIZE_KEY = "xslt.bufsize";
 	public static final int XSLT_BUFFERSIZE_DEFAULT = 4096;
 	public static final String INCLUDE_FIELD_DEFINITION_BY_DEFAULT_KEY = "query.includeFieldDefinition.default";
+	public static final String XML_READER_POOL_SIZE_KEY = "xml.readerPool.size";
 
-	private static @Nullable Boolean namespaceAwareByDefault = null;
-	private static @Nullable Boolean xsltStreamingByDefault = null;
-	private static @Nullable Boolean includeFieldDefinitionByDefault = null;
-	private static @Nullable Boolean autoReload = null;
-	private static @Nullable Integer bufferSize = null;
+	// Read once; a concurrent first read at worst reads the same property twice
+	private static volatile @Nullable Boolean namespaceAwareByDefault = null;
+	private static volatile @Nullable Boolean xsltStreamingByDefault = null;
+	private static volatile @Nullable Boolean includeFieldDefinitionByDefault = null;
+	private static volatile @Nullable Boolean autoReload = null;
+	private static volatile @Nullable Integer bufferSize = null;
+
+	// Created on first use; a concurrent first use at worst creates a pool that is discarded, readers are released to the pool that remains
+	private static volatile @Nullable XmlReaderPool namespaceAwareReaders = null;
+	private static volatile @Nullable XmlReaderPool namespaceUnawareReaders = null;
 
 	public static final String XPATH_GETROOTNODENAME = "name(/node()[position()=last()])";
 
@@ -182,48 +187,71 @@ public class XmlUtils {
 		return new GDate(s).getDate();
 	}
 
-	public static synchronized boolean isNamespaceAwareByDefault() {
-		if (namespaceAwareByDefault == null) {
-			namespaceAwareByDefault = AppConstants.getInstance().getBoolean(NAMESPACE_AWARE_BY_DEFAULT_KEY, true);
+	public static boolean isNamespaceAwareByDefault() {
+		Boolean value = namespaceAwareByDefault;
+		if (value == null) {
+			value = AppConstants.getInstance().getBoolean(NAMESPACE_AWARE_BY_DEFAULT_KEY, true);
+			namespaceAwareByDefault = value;
 		}
-		return namespaceAwareByDefault;
+		return value;
 	}
 
-	public static synchronized boolean isXsltStreamingByDefault() {
-		if (xsltStreamingByDefault == null) {
-			xsltStreamingByDefault = AppConstants.getInstance().getBoolean(XSLT_STREAMING_BY_DEFAULT_KEY, false);
+	public static boolean isXsltStreamingByDefault() {
+		Boolean value = xsltStreamingByDefault;
+		if (value == null) {
+			value = AppConstants.getInstance().getBoolean(XSLT_STREAMING_BY_DEFAULT_KEY, false);
+			xsltStreamingByDefault = value;
 		}
-		return xsltStreamingByDefault;
+		return value;
 	}
 
-	public static synchronized boolean isIncludeFieldDefinitionByDefault() {
-		if (includeFieldDefinitionByDefault == null) {
-			includeFieldDefinitionByDefault = AppConstants.getInstance().getBoolean(INCLUDE_FIELD_DEFINITION_BY_DEFAULT_KEY, true);
+	public static boolean isIncludeFieldDefinitionByDefault() {
+		Boolean value = includeFieldDefinitionByDefault;
+		if (value == null) {
+			value = AppConstants.getInstance().getBoolean(INCLUDE_FIELD_DEFINITION_BY_DEFAULT_KEY, true);
+			includeFieldDefinitionByDefault = value;
 		}
-		return includeFieldDefinitionByDefault;
+		return value;
 	}
 
-	public static synchronized boolean isAutoReload() {
-		if (autoReload == null) {
-			autoReload = AppConstants.getInstance().getBoolean(AUTO_RELOAD_KEY, false);
+	public static boolean isAutoReload() {
+		Boolean value = autoReload;
+		if (value == null) {
+			value = AppConstants.getInstance().getBoolean(AUTO_RELOAD_KEY, false);
+			autoReload = value;
 		}
-		return autoReload;
+		return value;
 	}
 
-	public static synchronized int getBufSize() {
-		if (bufferSize == null) {
-			bufferSize = AppConstants.getInstance().getInt(XSLT_BUFFERSIZE_KEY, XSLT_BUFFERSIZE_DEFAULT);
+	public static int getBufSize() {
+		Integer value = bufferSize;
+		if (value == null) {
+			value = AppConstants.getInstance().getInt(XSLT_BUFFERSIZE_KEY, XSLT_BUFFERSIZE_DEFAULT);
+			bufferSize = value;
 		}
-		return bufferSize;
+		return value;
 	}
 
-	public static void parseXml(Resource resource, ContentHandler handler) throws IOException, SAXException {
-		try {
-			XMLReader reader = getXMLReader(resource, handler);
-			reader.parse(resource.asInputSource());
-		} catch (ParserConfigurationException e) {
-			throw new SaxException("Cannot configure parser",e);
+	private static XmlReaderPool getNamespaceAwareReaders() {
+		XmlReaderPool value = namespaceAwareReaders;
+		if (value == null) {
+			value = new XmlReaderPool(true, AppConstants.getInstance().getInt(XML_READER_POOL_SIZE_KEY, 16));
+			namespaceAwareReaders = value;
 		}
+		return value;
+	}
+
+	private static XmlReaderPool getNamespaceUnawareReaders() {
+		XmlReaderPool value = namespaceUnawareReaders;
+		if (value == null) {
+			value = new XmlReaderPool(false, AppConstants.getInstance().getInt(XML_READER_POOL_SIZE_KEY, 16));
+			namespaceUnawareReaders = value;
+		}
+		return value;
+	}
+
+	public static void parseXml(Resource resource, ContentHandler handler) throws IOException, SAXException {
+		parseXml(resource.asInputSource(), handler, null, resource);
 	}
 
 	public static void parseXml(String source, ContentHandler handler) throws IOException, SAXException {
@@ -248,16 +276,26 @@ public class XmlUtils {
 	}
 
 	public static void parseXml(InputSource inputSource, ContentHandler handler, @Nullable ErrorHandler errorHandler) throws IOException, SAXException {
+		parseXml(inputSource, handler, errorHandler, null);
+	}
+
+	/**
+	 * Parses with a pooled {@link XMLReader}. The reader is only returned to the pool when the parse has completed normally, as
+	 * its state is undefined after a failure.
+	 */
+	private static void parseXml(InputSource inputSource, ContentHandler handler, @Nullable ErrorHandler errorHandler, @Nullable IScopeProvider scopeProvider) throws IOException, SAXException {
 		XMLReader xmlReader;
 		try {
-			xmlReader = getXMLReader(null, handler);
-			if (errorHandler != null) {
-				xmlReader.setErrorHandler(errorHandler);
-			}
+			xmlReader = getNamespaceAwareReaders().borrow(scopeProvider);
 		} catch (ParserConfigurationException e) {
 			throw new SaxException("Cannot configure parser",e);
 		}
+		setHandlers(xmlReader, handler);
+		if (errorHandler != null) {
+			xmlReader.setErrorHandler(errorHandler);
+		}
 		xmlReader.parse(inputSource);
+		getNamespaceAwareReaders().release(xmlReader);
 	}
 
 	public static XMLReader getXMLReader(ContentHandler handler) throws ParserConfigurationException, SAXException {
@@ -270,6 +308,11 @@ public class XmlUtils {
 
 	private static XMLReader getXMLReader(@Nullable IScopeProvider scopeProvider, ContentHandler handler) throws ParserConfigurationException, SAXException {
 		XMLReader xmlReader = getXMLReader(true, scopeProvider);
+		setHandlers(xmlReader, handler);
+		return xmlReader;
+	}
+
+	private static void setHandlers(XMLReader xmlReader, ContentHandler handler) throws SAXException {
 		xmlReader.setContentHandler(handler);
 		if (handler instanceof LexicalHandler) {
 			xmlReader.setProperty("http://xml.org/sax/properties/lexical-handler", handler);
@@ -277,19 +320,14 @@ public class XmlUtils {
 		if (handler instanceof ErrorHandler errorHandler) {
 			xmlReader.setErrorHandler(errorHandler);
 		}
-		return xmlReader;
 	}
 
+	/**
+	 * Returns a new reader, as the caller controls its lifetime.
+	 */
 	private static XMLReader getXMLReader(boolean namespaceAware, @Nullable IScopeProvider scopeProvider) throws ParserConfigurationException, SAXException {
-		SAXParserFactory factory = getSAXParserFactory(namespaceAware);
-		factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-		XMLReader xmlReader = factory.newSAXParser().getXMLReader();
-		if (scopeProvider != null) {
-			xmlReader.setEntityResolver(new ClassLoaderEntityResolver(scopeProvider));
-		} else {
-			xmlReader.setEntityResolver(new NonResolvingExternalEntityResolver());
-		}
-		return xmlReader;
+		XmlReaderPool readers = namespaceAware ? getNamespaceAwareReaders() : getNamespaceUnawareReaders();
+		return readers.createReader(scopeProvider);
 	}
 
 	public static Document buildDomDocument(Reader in) throws DomBuilderException {
@@ -750,11 +788,11 @@ public class XmlUtils {
 		return factory;
 	}
 
-	public static synchronized DocumentBuilderFactory getDocumentBuilderFactory() {
+	public static DocumentBuilderFactory getDocumentBuilderFactory() {
 		return getDocumentBuilderFactory(isNamespaceAwareByDefault());
 	}
 
-	public static synchronized DocumentBuilderFactory getDocumentBuilderFactory(boolean namespaceAware) {
+	public static DocumentBuilderFactory getDocumentBuilderFactory(boolean namespaceAware) {
 		DocumentBuilderFactory factory;
 		factory = new org.apache.xerces.jaxp.DocumentBuilderFactoryImpl();
 		factory.setNamespaceAware(namespaceAware);
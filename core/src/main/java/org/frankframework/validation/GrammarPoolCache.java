@@ -0,0 +1,135 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.validation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.ref.WeakReference;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.configuration.ConfigurationException;
+
+/**
+ * Application wide cache of preparsed schema sets, to share the compiled grammars between validators that use the same schemas.
+ * The grammar pool of a {@link PreparseResult} is locked after it has been populated, so it can safely be used by multiple validators.
+ * <p>
+ * Entries are keyed by a hash of the contents of the schemas and the settings that influence the compilation. They are kept per
+ * classloader, because imported schemas are resolved via the classloader of the configuration. The entries of a configuration are
+ * released when its classloader is garbage collected, e.g. after a reload.
+ * </p>
+ * <p>
+ * The cache only holds weak references to the results. A result stays available as long as a validator uses it, and can be
+ * collected once all validators that use it have released it, e.g. after eviction when {@code xmlValidator.maxInitialised} is set.
+ * </p>
+ */
+@Log4j2
+final class GrammarPoolCache {
+	private static final Map<ClassLoader, Map<String, WeakReference<PreparseResult>>> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+	@FunctionalInterface
+	interface Preparser {
+		PreparseResult preparse() throws ConfigurationException;
+	}
+
+	private GrammarPoolCache() {
+		// Private constructor to prevent instantiation
+	}
+
+	/**
+	 * Returns the cached {@link PreparseResult} for the schemas, or preparses and caches them when they are not present yet.
+	 * Concurrent calls for the same schemas may both preparse them, only the first result is kept.
+	 * The result must be kept reachable by the caller for as long as it is used, see {@link PreparseResult#withSchemasId(String)}.
+	 */
+	static @NonNull PreparseResult getOrPreparse(@Nullable ClassLoader scope, @NonNull String key, @NonNull Preparser preparser) throws ConfigurationException {
+		Map<String, WeakReference<PreparseResult>> entries = CACHE.computeIfAbsent(scope, k -> new ConcurrentHashMap<>());
+		PreparseResult cachedResult = get(entries, key);
+		if (cachedResult != null) {
+			log.debug("reusing preparsed schemas [{}] for key [{}]", cachedResult::getSchemasId, () -> key);
+			return cachedResult;
+		}
+
+		PreparseResult preparseResult = preparser.preparse();
+		entries.values().removeIf(reference -> reference.refersTo(null));
+		WeakReference<PreparseResult> reference = entries.compute(key, (k, existing) -> existing == null || existing.refersTo(null) ? new WeakReference<>(preparseResult) : existing);
+		PreparseResult result = reference.get();
+		return result != null ? result : preparseResult;
+	}
+
+	private static @Nullable PreparseResult get(Map<String, WeakReference<PreparseResult>> entries, String key) {
+		WeakReference<PreparseResult> reference = entries.get(key);
+		return reference != null ? reference.get() : null;
+	}
+
+	/**
+	 * Computes a key from the contents and system ids of the schemas, and the given compilation settings.
+	 */
+	static @NonNull String computeKey(@NonNull List<Schema> schemas, Object... settings) throws ConfigurationException {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (Object setting : settings) {
+				update(digest, String.valueOf(setting));
+			}
+			char[] buffer = new char[8192];
+			for (Schema schema : schemas) {
+				update(digest, schema.getSystemId());
+				try (Reader reader = schema.getReader()) {
+					int len;
+					while ((len = reader.read(buffer)) >= 0) {
+						digest.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(buffer, 0, len)));
+					}
+				}
+				digest.update((byte) 0);
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (IOException | NoSuchAlgorithmException e) {
+			throw new ConfigurationException("cannot compute hash of schemas", e);
+		}
+	}
+
+	private static void update(MessageDigest digest, @Nullable String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte) 0);
+	}
+
+	static int size() {
+		synchronized (CACHE) {
+			return (int) CACHE.values().stream()
+					.flatMap(entries -> entries.values().stream())
+					.filter(reference -> !reference.refersTo(null))
+					.count();
+		}
+	}
+
+	static void clear() {
+		CACHE.clear();
+	}
+}
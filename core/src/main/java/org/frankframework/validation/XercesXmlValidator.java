@@ -105,6 +105,7 @@ public class XercesXmlValidator extends AbstractXmlValidator {
 	private static final int maxInitialised = AppConstants.getInstance().getInt("xmlValidator.maxInitialised", -1);
 	private static final boolean sharedSymbolTable = AppConstants.getInstance().getBoolean("xmlValidator.sharedSymbolTable", false);
 	private static final int sharedSymbolTableSize = AppConstants.getInstance().getInt("xmlValidator.sharedSymbolTable.size", BIG_PRIME);
+	private static final boolean sharedGrammarPool = AppConstants.getInstance().getBoolean("xmlValidator.sharedGrammarPool", true);
 	private final int entityExpansionLimit = AppConstants.getInstance().getInt("xmlValidator.entityExpansionLimit", 100000);
 
 	private static final AtomicLong counter = new AtomicLong();
@@ -184,7 +185,15 @@ public class XercesXmlValidator extends AbstractXmlValidator {
 	}
 
 	private PreparseResult preparse() throws ConfigurationException {
-		return preparse(schemasProvider.getSchemasId(), schemasProvider.getSchemas());
+		String schemasId = schemasProvider.getSchemasId();
+		List<Schema> schemas = schemasProvider.getSchemas();
+		if (!sharedGrammarPool) {
+			return preparse(schemasId, schemas);
+		}
+		// Validators that use the same schemas share the (locked) grammar pool, instead of each compiling the schemas again
+		String key = GrammarPoolCache.computeKey(schemas, getXmlSchemaVersion(), isFullSchemaChecking(), sharedSymbolTable);
+		PreparseResult sharedResult = GrammarPoolCache.getOrPreparse(getGrammarPoolScope(), key, () -> preparse(schemasId, schemas));
+		return sharedResult.withSchemasId(schemasId);
 	}
 
 
@@ -251,6 +260,10 @@ public class XercesXmlValidator extends AbstractXmlValidator {
 		}
 	}
 
+	private ClassLoader getGrammarPoolScope() {
+		return getApplicationContext() != null ? getConfigurationClassLoader() : null;
+	}
+
 	protected PreparseResult getPreparseResult(PipeLineSession session) throws ConfigurationException, PipeRunException {
 		PreparseResult preparseResult;
 		String schemasId = schemasProvider.getSchemasId();
@@ -408,6 +421,21 @@ class PreparseResult {
 	private @Getter @Setter XMLGrammarPool grammarPool;
 	private @Getter @Setter Set<String> namespaceSet;
 	private @Setter List<XSModel> xsModels = null;
+	@SuppressWarnings("unused")
+	private PreparseResult sharedResult; // keeps the result in the GrammarPoolCache reachable while this copy is used
+
+	/**
+	 * Returns a PreparseResult for another set of schemas with the same contents, that shares the compiled grammars.
+	 */
+	PreparseResult withSchemasId(String schemasId) {
+		PreparseResult result = new PreparseResult();
+		result.sharedResult = this;
+		result.setSchemasId(schemasId);
+		result.setSymbolTable(symbolTable);
+		result.setGrammarPool(grammarPool);
+		result.setNamespaceSet(namespaceSet);
+		return result;
+	}
 
 	public List<XSModel> getXsModels() {
 		if (xsModels == null) {
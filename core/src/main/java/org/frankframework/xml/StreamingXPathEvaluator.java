@@ -0,0 +1,634 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.DefaultHandler2;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.stream.Message;
+import org.frankframework.util.AppConstants;
+import org.frankframework.util.TransformerPool.OutputType;
+import org.frankframework.util.XmlUtils;
+
+/**
+ * Evaluates a subset of XPath while parsing the input, without building a source tree, and stops parsing as soon as the result is known.
+ * <p>
+ * Supported are absolute (or root-relative) paths of element steps on the child ({@code /}) and descendant ({@code //}) axes, with name tests
+ * or {@code *}, optionally ending with an attribute step {@code @name} or {@code text()}. Steps may have predicates on position, like {@code [1]},
+ * and on the value of an attribute, like {@code [@type='x']}. The result is the same as that of the stylesheet generated by
+ * {@link XmlUtils#createXPathEvaluatorSource}: namespaces are ignored when no namespaceDefs are specified (except for XSLT 1), whitespace-only
+ * text is stripped, and for XSLT 2 the values of all matching nodes are concatenated.
+ * </p>
+ * <p>
+ * Parsing stops when no further nodes can match. For XSLT 1 this is after the first match. For XSLT 2 this requires positional predicates,
+ * e.g. {@code /Envelope/Header[1]/MessageId[1]} stops after the first MessageId, where {@code /Envelope/Header/MessageId} reads the whole message.
+ * </p>
+ * Expressions outside this subset are not compiled, and must be evaluated by the full XSLT engine.
+ */
+@Log4j2
+public final class StreamingXPathEvaluator {
+	public static final String STREAMING_XPATH_ENABLED_KEY = "xpath.streaming.enabled";
+
+	private static final String XML_NAMESPACE = XMLConstants.XML_NS_URI;
+
+	private final String expression;
+	private final List<Step> steps;
+	private final @Nullable NameTest attribute;
+	private final boolean selectText;
+	private final boolean firstOnly;
+	private final boolean escapeXml;
+	private final boolean ignoreNamespaces;
+
+	private enum Axis { CHILD, DESCENDANT }
+
+	/** Matches a name. A {@code null} namespace matches any namespace, a {@code null} localName matches any name. */
+	private record NameTest(@Nullable String namespace, @Nullable String localName) {
+		boolean matches(String uri, String name) {
+			return (localName == null || localName.equals(name)) && (namespace == null || namespace.equals(uri));
+		}
+	}
+
+	private sealed interface Predicate permits Position, AttributeEquals {}
+	private record Position(int position) implements Predicate {}
+	private record AttributeEquals(NameTest attribute, String value) implements Predicate {}
+
+	private record Step(Axis axis, NameTest nameTest, List<Predicate> predicates) {}
+
+	private StreamingXPathEvaluator(String expression, List<Step> steps, @Nullable NameTest attribute, boolean selectText, boolean firstOnly, boolean escapeXml, boolean ignoreNamespaces) {
+		this.expression = expression;
+		this.steps = steps;
+		this.attribute = attribute;
+		this.selectText = selectText;
+		this.firstOnly = firstOnly;
+		this.escapeXml = escapeXml;
+		this.ignoreNamespaces = ignoreNamespaces;
+	}
+
+	/**
+	 * Returns an evaluator for the expression, or {@code null} when the expression or output type is not supported, or streaming evaluation
+	 * has been disabled with {@value #STREAMING_XPATH_ENABLED_KEY}.
+	 *
+	 * @param xsltVersion Version of XSLT that would evaluate the expression. Can be 0, 1, or 2. If 0, then {@link XmlUtils#DEFAULT_XSLT_VERSION} is used.
+	 */
+	public static @Nullable StreamingXPathEvaluator compile(@Nullable String namespaceDefs, @Nullable String xPathExpression, @NonNull OutputType outputType, int xsltVersion) {
+		if (StringUtils.isBlank(xPathExpression) || !AppConstants.getInstance().getBoolean(STREAMING_XPATH_ENABLED_KEY, true)) {
+			return null;
+		}
+		int version = xsltVersion == 0 ? XmlUtils.DEFAULT_XSLT_VERSION : xsltVersion;
+		Map<String, String> namespaces = XmlUtils.getNamespaceMap(namespaceDefs);
+		if (namespaces.containsKey(null)) {
+			return null; // A default namespace is not used for names in XPath expressions, leave it to the XSLT engine to interpret it
+		}
+		boolean ignoreNamespaces = StringUtils.isEmpty(namespaceDefs) && version != 1;
+		try {
+			Parser parser = new Parser(xPathExpression.trim(), namespaces, ignoreNamespaces);
+			parser.parse();
+			boolean escapeXml = outputType == OutputType.XML;
+			if (escapeXml && (!parser.selectText || version == 1)) {
+				return null; // Only text nodes are copied to XML output in the same way as they are to text output
+			}
+			boolean firstOnly = version == 1 && !escapeXml;
+			log.debug("compiled xpath [{}] for streaming evaluation", xPathExpression);
+			return new StreamingXPathEvaluator(xPathExpression, List.copyOf(parser.steps), parser.attribute, parser.selectText, firstOnly, escapeXml, ignoreNamespaces);
+		} catch (UnsupportedExpressionException e) {
+			log.debug("xpath [{}] cannot be evaluated streaming: {}", xPathExpression, e.getMessage());
+			return null;
+		}
+	}
+
+	public @NonNull String evaluate(@NonNull Message message) throws IOException, SAXException {
+		InputSource inputSource = message.asInputSource();
+		if (inputSource == null) {
+			throw new SaxException("cannot evaluate xpath [" + expression + "] on an empty message");
+		}
+		// The parser may be stopped before it has reached the end, so make sure the stream is closed
+		try (InputStream byteStream = inputSource.getByteStream(); Reader characterStream = inputSource.getCharacterStream()) {
+			return evaluate(inputSource);
+		}
+	}
+
+	public @NonNull String evaluate(@NonNull String xml) throws IOException, SAXException {
+		return evaluate(new InputSource(new StringReader(xml)));
+	}
+
+	public @NonNull String evaluate(@NonNull InputSource inputSource) throws IOException, SAXException {
+		Evaluation evaluation = new Evaluation();
+		try {
+			XmlUtils.getXMLReader(evaluation).parse(inputSource);
+		} catch (ResultDeterminedException e) {
+			log.trace("stopped parsing, result of xpath [{}] has been determined", expression);
+		} catch (ParserConfigurationException e) {
+			throw new SaxException("Cannot configure parser", e);
+		}
+		return evaluation.getResult();
+	}
+
+	@Override
+	public String toString() {
+		return "StreamingXPathEvaluator [" + expression + "]";
+	}
+
+	private static class UnsupportedExpressionException extends Exception {
+		UnsupportedExpressionException(String message) {
+			super(message, null, false, false);
+		}
+	}
+
+	private static class ResultDeterminedException extends SAXException {
+		ResultDeterminedException() {
+			super("result determined");
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
+	private static class Parser {
+		private final String expression;
+		private final Map<String, String> namespaces;
+		private final boolean ignoreNamespaces;
+		private final List<Step> steps = new ArrayList<>();
+		private @Nullable NameTest attribute;
+		private boolean selectText;
+		private int pos = 0;
+
+		Parser(String expression, Map<String, String> namespaces, boolean ignoreNamespaces) {
+			this.expression = expression;
+			this.namespaces = namespaces;
+			this.ignoreNamespaces = ignoreNamespaces;
+		}
+
+		void parse() throws UnsupportedExpressionException {
+			// A relative path is evaluated with the document node as context, like an absolute path
+			Axis axis = Axis.CHILD;
+			if (expression.startsWith("//")) {
+				axis = Axis.DESCENDANT;
+				pos = 2;
+			} else if (expression.startsWith("/")) {
+				pos = 1;
+			}
+			while (true) {
+				if (peek('@') || expression.startsWith("text()", pos)) {
+					if (axis != Axis.CHILD || steps.isEmpty()) {
+						throw new UnsupportedExpressionException("attributes and text can only be selected from an element");
+					}
+					if (peek('@')) {
+						pos++;
+						attribute = parseNameTest();
+						if (attribute.localName() == null) {
+							throw new UnsupportedExpressionException("wildcard attributes are not supported");
+						}
+					} else {
+						pos += "text()".length();
+						selectText = true;
+					}
+					if (pos < expression.length()) {
+						throw new UnsupportedExpressionException("attributes and text must be the last step");
+					}
+					return;
+				}
+				NameTest nameTest = parseNameTest();
+				List<Predicate> predicates = new ArrayList<>();
+				while (peek('[')) {
+					predicates.add(parsePredicate());
+				}
+				steps.add(new Step(axis, nameTest, List.copyOf(predicates)));
+				if (pos == expression.length()) {
+					return;
+				}
+				if (expression.startsWith("//", pos)) {
+					axis = Axis.DESCENDANT;
+					pos += 2;
+				} else if (peek('/')) {
+					axis = Axis.CHILD;
+					pos++;
+				} else {
+					throw new UnsupportedExpressionException("unexpected character at position " + pos);
+				}
+			}
+		}
+
+		private boolean peek(char c) {
+			return pos < expression.length() && expression.charAt(pos) == c;
+		}
+
+		private void skipWhitespace() {
+			while (pos < expression.length() && Character.isWhitespace(expression.charAt(pos))) {
+				pos++;
+			}
+		}
+
+		private NameTest parseNameTest() throws UnsupportedExpressionException {
+			if (peek('*')) {
+				pos++;
+				return new NameTest(null, null);
+			}
+			String name = parseName();
+			String namespace = ignoreNamespaces ? null : ""; // Unprefixed names, of elements as well as of attributes, have no namespace
+			if (peek(':')) {
+				pos++;
+				if (ignoreNamespaces) {
+					throw new UnsupportedExpressionException("prefix [" + name + "] used without namespaceDefs");
+				}
+				namespace = namespaces.get(name);
+				if (namespace == null) {
+					throw new UnsupportedExpressionException("prefix [" + name + "] has not been defined");
+				}
+				name = parseName();
+			}
+			return new NameTest(namespace, name);
+		}
+
+		private String parseName() throws UnsupportedExpressionException {
+			int start = pos;
+			while (pos < expression.length() && isNameChar(expression.charAt(pos), pos == start)) {
+				pos++;
+			}
+			if (pos == start) {
+				throw new UnsupportedExpressionException("name expected at position " + start);
+			}
+			String name = expression.substring(start, pos);
+			if (peek('(') || peek(':') && expression.startsWith("::", pos)) {
+				throw new UnsupportedExpressionException("functions and axes are not supported");
+			}
+			return name;
+		}
+
+		private static boolean isNameChar(char c, boolean first) {
+			if (first) {
+				return Character.isLetter(c) || c == '_';
+			}
+			return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.';
+		}
+
+		private Predicate parsePredicate() throws UnsupportedExpressionException {
+			pos++; // '['
+			skipWhitespace();
+			Predicate predicate;
+			if (pos < expression.length() && Character.isDigit(expression.charAt(pos))) {
+				int start = pos;
+				while (pos < expression.length() && Character.isDigit(expression.charAt(pos))) {
+					pos++;
+				}
+				int position;
+				try {
+					position = Integer.parseInt(expression.substring(start, pos));
+				} catch (NumberFormatException e) {
+					throw new UnsupportedExpressionException("invalid position");
+				}
+				if (position < 1) {
+					throw new UnsupportedExpressionException("position must be positive");
+				}
+				predicate = new Position(position);
+			} else if (peek('@')) {
+				pos++;
+				NameTest attributeTest = parseNameTest();
+				if (attributeTest.localName() == null) {
+					throw new UnsupportedExpressionException("wildcard attributes are not supported");
+				}
+				skipWhitespace();
+				if (!peek('=')) {
+					throw new UnsupportedExpressionException("only equality predicates are supported");
+				}
+				pos++;
+				skipWhitespace();
+				predicate = new AttributeEquals(attributeTest, parseLiteral());
+			} else {
+				throw new UnsupportedExpressionException("unsupported predicate at position " + pos);
+			}
+			skipWhitespace();
+			if (!peek(']')) {
+				throw new UnsupportedExpressionException("unsupported predicate at position " + pos);
+			}
+			pos++;
+			return predicate;
+		}
+
+		private String parseLiteral() throws UnsupportedExpressionException {
+			if (!peek('\'') && !peek('"')) {
+				throw new UnsupportedExpressionException("only string literals are supported in predicates");
+			}
+			char quote = expression.charAt(pos);
+			int end = expression.indexOf(quote, pos + 1);
+			if (end < 0) {
+				throw new UnsupportedExpressionException("unterminated literal");
+			}
+			String literal = expression.substring(pos + 1, end);
+			pos = end + 1;
+			return literal;
+		}
+	}
+
+	/** Value of a selected node, in document order. */
+	private static class Value {
+		private final StringBuilder text = new StringBuilder();
+		private boolean complete;
+	}
+
+	/** State of an open element, or of the document node at the bottom of the stack. */
+	private class Frame {
+		private final boolean[] enabled;
+		private final int[][] counters;
+		private final boolean preserveSpace;
+		private boolean selectsText;
+		private @Nullable Value capture;
+		private boolean hasElementChild;
+
+		Frame(boolean[] enabled, boolean preserveSpace) {
+			this.enabled = enabled;
+			this.counters = new int[steps.size()][];
+			this.preserveSpace = preserveSpace;
+		}
+
+		int[] counters(int step) {
+			if (counters[step] == null) {
+				counters[step] = new int[steps.get(step).predicates().size()];
+			}
+			return counters[step];
+		}
+
+		/**
+		 * Returns {@code true} when no child of this frame can match a step anymore.
+		 */
+		boolean isExhausted(boolean isDocument) {
+			for (int i = 0; i < enabled.length; i++) {
+				if (enabled[i] && !isStepExhausted(i, isDocument)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean isStepExhausted(int i, boolean isDocument) {
+			Step step = steps.get(i);
+			if (step.axis() == Axis.DESCENDANT) {
+				return false;
+			}
+			if (isDocument) {
+				return hasElementChild;
+			}
+			List<Predicate> predicates = step.predicates();
+			for (int k = 0; k < predicates.size(); k++) {
+				if (predicates.get(k) instanceof Position(int position) && counters[i] != null && counters[i][k] >= position) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private class Evaluation extends DefaultHandler2 {
+		private final Deque<Frame> stack = new ArrayDeque<>();
+		private final List<Value> values = new ArrayList<>();
+		private final StringBuilder pendingText = new StringBuilder();
+		private int openCaptures = 0;
+
+		Evaluation() {
+			boolean[] enabled = new boolean[steps.size()];
+			enabled[0] = true;
+			stack.push(new Frame(enabled, false));
+		}
+
+		String getResult() {
+			if (firstOnly) {
+				return values.isEmpty() ? "" : values.get(0).text.toString();
+			}
+			StringBuilder result = new StringBuilder();
+			for (int i = 0; i < values.size(); i++) {
+				// Like xsl:value-of, text nodes are merged, other values are separated by a space
+				if (i > 0 && !selectText) {
+					result.append(' ');
+				}
+				result.append(values.get(i).text);
+			}
+			return escapeXml ? escape(result) : result.toString();
+		}
+
+		private String escape(CharSequence text) {
+			StringBuilder escaped = new StringBuilder(text.length());
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				switch (c) {
+					case '&' -> escaped.append("&amp;");
+					case '<' -> escaped.append("&lt;");
+					case '>' -> escaped.append("&gt;");
+					case '\r' -> escaped.append("&#xD;");
+					default -> escaped.append(c);
+				}
+			}
+			return escaped.toString();
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+			flushText();
+			Frame parent = stack.peek();
+			int numberOfSteps = steps.size();
+			boolean[] matched = new boolean[numberOfSteps];
+			for (int i = 0; i < numberOfSteps; i++) {
+				matched[i] = parent.enabled[i] && matches(i, parent, uri, localName, attributes);
+			}
+			boolean[] enabled = new boolean[numberOfSteps];
+			for (int i = 0; i < numberOfSteps; i++) {
+				enabled[i] = (i > 0 && matched[i - 1]) || (parent.enabled[i] && steps.get(i).axis() == Axis.DESCENDANT);
+			}
+			parent.hasElementChild = true;
+
+			Frame frame = new Frame(enabled, isPreserveSpace(parent, attributes));
+			if (matched[numberOfSteps - 1]) {
+				if (attribute != null) {
+					String attributeValue = getAttribute(attributes, attribute);
+					if (attributeValue != null) {
+						Value value = new Value();
+						value.text.append(attributeValue);
+						value.complete = true;
+						values.add(value);
+					}
+				} else if (selectText) {
+					frame.selectsText = true;
+				} else {
+					Value value = new Value();
+					values.add(value);
+					frame.capture = value;
+					openCaptures++;
+				}
+			}
+			stack.push(frame);
+			checkDetermined();
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			flushText();
+			Frame frame = stack.pop();
+			if (frame.capture != null) {
+				frame.capture.complete = true;
+				openCaptures--;
+			}
+			checkDetermined();
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			pendingText.append(ch, start, length);
+		}
+
+		@Override
+		public void ignorableWhitespace(char[] ch, int start, int length) {
+			pendingText.append(ch, start, length);
+		}
+
+		@Override
+		public void comment(char[] ch, int start, int length) throws SAXException {
+			flushText();
+			checkDetermined();
+		}
+
+		@Override
+		public void processingInstruction(String target, String data) throws SAXException {
+			flushText();
+			checkDetermined();
+		}
+
+		private boolean matches(int i, Frame parent, String uri, String localName, Attributes attributes) {
+			Step step = steps.get(i);
+			if (!step.nameTest().matches(ignoreNamespaces ? null : uri, localName)) {
+				return false;
+			}
+			List<Predicate> predicates = step.predicates();
+			if (predicates.isEmpty()) {
+				return true;
+			}
+			int[] counters = parent.counters(i);
+			for (int k = 0; k < predicates.size(); k++) {
+				switch (predicates.get(k)) {
+					case Position(int position) -> {
+						if (++counters[k] != position) {
+							return false;
+						}
+					}
+					case AttributeEquals(NameTest attributeTest, String value) -> {
+						if (!value.equals(getAttribute(attributes, attributeTest))) {
+							return false;
+						}
+					}
+				}
+			}
+			return true;
+		}
+
+		private @Nullable String getAttribute(Attributes attributes, NameTest nameTest) {
+			String value = null;
+			for (int i = 0; i < attributes.getLength(); i++) {
+				String localName = StringUtils.defaultIfEmpty(attributes.getLocalName(i), attributes.getQName(i));
+				if (nameTest.matches(ignoreNamespaces ? null : attributes.getURI(i), localName)) {
+					if (!ignoreNamespaces) {
+						return attributes.getValue(i);
+					}
+					// When namespaces are removed, the last attribute with the same local name replaces the others
+					value = attributes.getValue(i);
+				}
+			}
+			return value;
+		}
+
+		private boolean isPreserveSpace(Frame parent, Attributes attributes) {
+			String space = attributes.getValue(XML_NAMESPACE, "space");
+			if ("preserve".equals(space)) {
+				return true;
+			}
+			return !"default".equals(space) && parent.preserveSpace;
+		}
+
+		/**
+		 * Completes the current text node. Like xsl:strip-space, text that consists of whitespace only is ignored.
+		 */
+		private void flushText() {
+			if (pendingText.isEmpty()) {
+				return;
+			}
+			Frame frame = stack.peek();
+			if (frame.preserveSpace || !isWhitespace(pendingText)) {
+				if (openCaptures > 0) {
+					for (Frame openFrame : stack) {
+						if (openFrame.capture != null) {
+							openFrame.capture.text.append(pendingText);
+						}
+					}
+				}
+				if (frame.selectsText) {
+					Value value = new Value();
+					value.text.append(pendingText);
+					value.complete = true;
+					values.add(value);
+				}
+			}
+			pendingText.setLength(0);
+		}
+
+		private boolean isWhitespace(CharSequence text) {
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Stops parsing when the remainder of the document cannot change the result.
+		 */
+		private void checkDetermined() throws ResultDeterminedException {
+			if (firstOnly && !values.isEmpty() && values.get(0).complete) {
+				throw new ResultDeterminedException();
+			}
+			if (openCaptures > 0) {
+				return;
+			}
+			int depth = stack.size();
+			for (Frame frame : stack) {
+				depth--;
+				if (frame.selectsText || !frame.isExhausted(depth == 0)) {
+					return;
+				}
+			}
+			throw new ResultDeterminedException();
+		}
+	}
+}
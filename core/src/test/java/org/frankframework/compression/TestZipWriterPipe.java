@@ -3,6 +3,7 @@ package org.frankframework.compression;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.InputStreamReader;
@@ -13,6 +14,7 @@ import java.util.zip.ZipInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.MimeType;
 
 import org.frankframework.collection.AbstractCollectorPipe.Action;
@@ -207,6 +209,44 @@ public class TestZipWriterPipe extends PipeTestBase<ZipWriterPipe> {
 		}
 	}
 
+	@Test
+	void testWriteWithParallelCompression() throws Exception {
+		pipe.setCompressionThreads(3);
+		pipe.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		createCollector();
+		pipe.setCompressionThreads(0);
+		pipe.setAction(Action.WRITE);
+		pipe.addParameter(ParameterBuilder.create().withName("filename").withSessionKey("filename"));
+		configureAndStartPipe();
+
+		int numberOfEntries = 25;
+		for (int i = 0; i < numberOfEntries; i++) {
+			session.put("filename", "file" + i);
+			doPipe(("contents of entry " + i + " ").repeat(i * 100));
+		}
+
+		Message result = getCollectionFromSession().build();
+		try (ZipInputStream zipin = new ZipInputStream(result.asInputStream())) {
+			for (int i = 0; i < numberOfEntries; i++) {
+				ZipEntry entry = zipin.getNextEntry();
+				assertNotNull(entry);
+				assertEquals("file" + i, entry.getName());
+				assertEquals(ZipEntry.DEFLATED, entry.getMethod());
+				assertEquals(("contents of entry " + i + " ").repeat(i * 100), StreamUtil.readerToString(CloseUtils.dontClose(new InputStreamReader(zipin)), null));
+			}
+			assertNull(zipin.getNextEntry());
+		}
+	}
+
+	@Test
+	void testParallelCompressionRequiresTaskExecutor() {
+		pipe.setAction(Action.OPEN);
+		pipe.setCompressionThreads(2);
+		pipe.setTaskExecutor(null);
+
+		assertThrows(ConfigurationException.class, pipe::configure);
+	}
+
 	@Test
 	void testClose() throws Exception {
 		createCollector();
@@ -8,16 +8,21 @@ import static org.mockito.Mockito.spy;
 
 import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.PipeRunException;
 import org.frankframework.core.PipeRunResult;
+import org.frankframework.core.SenderResult;
 import org.frankframework.pipes.PipeTestBase;
 import org.frankframework.senders.EchoSender;
 import org.frankframework.stream.FileMessage;
@@ -95,6 +100,40 @@ class ZipIteratorPipeTest extends PipeTestBase<ZipIteratorPipe> {
 				</results>""", prr.getResult().asString());
 	}
 
+	@Test
+	void testParallelEntriesReceiveTheirOwnContents() throws Exception {
+		EchoSender sender = spy(getConfiguration().createBean(EchoSender.class));
+		doAnswer(e -> {
+			PipeLineSession localSession = e.getArgument(1);
+			Message zipEntry = localSession.getMessage(pipe.getContentsSessionKey());
+			Thread.sleep(50); // Give the iterator the opportunity to move on to the next entry
+			return new SenderResult(zipEntry.getContext().get(MessageContext.METADATA_NAME) + ":" + zipEntry.asString().length());
+		}).when(sender).sendMessage(any(Message.class), any(PipeLineSession.class));
+
+		pipe.setSender(sender);
+		pipe.setParallel(true);
+		pipe.setMaxChildThreads(2);
+		pipe.setTaskExecutor(new SimpleAsyncTaskExecutor());
+		pipe.configure();
+		pipe.start();
+
+		URL zip = TestFileUtils.getTestFileURL("/Unzip/ab.zip");
+		StringBuilder expected = new StringBuilder("<results>\n");
+		int item = 0;
+		try (ZipInputStream zipin = new ZipInputStream(zip.openStream())) {
+			ZipEntry entry;
+			while ((entry = zipin.getNextEntry()) != null) {
+				String contents = new String(zipin.readAllBytes(), StandardCharsets.UTF_8);
+				expected.append("<result item=\"").append(++item).append("\">\n").append(entry.getName()).append(':').append(contents.length()).append("\n</result>\n");
+			}
+		}
+		expected.append("</results>");
+
+		PipeRunResult prr = doPipe(new FileMessage(new File(zip.getFile())));
+
+		assertEquals(expected.toString(), prr.getResult().asString());
+	}
+
 	@Test
 	void testEmptyInput() throws Exception {
 		pipe.setSender(new EchoSender());
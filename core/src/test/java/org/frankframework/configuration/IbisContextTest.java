@@ -7,7 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,7 +27,7 @@ import org.frankframework.util.MessageKeeperMessage;
 public class IbisContextTest {
 
 	private static final class IbisTestContext extends IbisContext {
-		private Map<String, Class<? extends IConfigurationClassLoader>> configurations = new HashMap<>();
+		private Map<String, Class<? extends IConfigurationClassLoader>> configurations = new LinkedHashMap<>();
 
 		public IbisTestContext(String configurationToLoad) {
 			this(configurationToLoad, null);
@@ -37,6 +37,10 @@ public class IbisContextTest {
 			configurations.put(configurationName, classLoaderClass);
 		}
 
+		public IbisTestContext(Map<String, Class<? extends IConfigurationClassLoader>> configurationsToLoad) {
+			configurations.putAll(configurationsToLoad);
+		}
+
 		@Override
 		protected Map<String, Class<? extends IConfigurationClassLoader>> retrieveAllConfigNames() {
 			return configurations;
@@ -75,6 +79,24 @@ public class IbisContextTest {
 		}
 	}
 
+	@Test
+	public void loadConfigurationsInParallel() {
+		Map<String, Class<? extends IConfigurationClassLoader>> configurations = new LinkedHashMap<>();
+		for (int i = 1; i <= 5; i++) {
+			configurations.put("Dummy" + i, DummyClassLoader.class);
+		}
+
+		AppConstants.getInstance().setProperty(IbisContext.CONFIGURATIONS_LOAD_THREADS_KEY, "3");
+		try(IbisContext context = new IbisTestContext(configurations)) {
+			context.init(false);
+
+			List<String> loaded = context.getIbisManager().getConfigurations().stream().map(Configuration::getName).toList();
+			assertEquals(List.of("Dummy1", "Dummy2", "Dummy3", "Dummy4", "Dummy5"), loaded, "configurations should be in their declared order");
+		} finally {
+			AppConstants.getInstance().remove(IbisContext.CONFIGURATIONS_LOAD_THREADS_KEY);
+		}
+	}
+
 	@Test
 	public void unknownClassLoader() {
 		String configurationName = "ConfigWithUnknownClassLoader";
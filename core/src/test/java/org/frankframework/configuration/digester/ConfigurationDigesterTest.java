@@ -3,6 +3,7 @@ package org.frankframework.configuration.digester;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -12,12 +13,16 @@ import static org.mockito.Mockito.mock;
 
 import java.io.StringWriter;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import javax.xml.validation.ValidatorHandler;
 
 import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.ErrorHandler;
@@ -30,6 +35,7 @@ import org.frankframework.configuration.Configuration;
 import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.configuration.ConfigurationWarnings;
 import org.frankframework.configuration.util.ConfigurationUtils;
+import org.frankframework.core.BytesResource;
 import org.frankframework.core.Resource;
 import org.frankframework.testutil.MatchUtils;
 import org.frankframework.testutil.TestAppender;
@@ -38,6 +44,7 @@ import org.frankframework.testutil.TestFileUtils;
 import org.frankframework.util.AppConstants;
 import org.frankframework.util.PropertyLoader;
 import org.frankframework.util.SpringUtils;
+import org.frankframework.util.StreamUtil;
 import org.frankframework.util.XmlUtils;
 import org.frankframework.xml.XmlWriter;
 
@@ -87,6 +94,85 @@ public class ConfigurationDigesterTest {
 		MatchUtils.assertXmlEquals(storedExpected, storedResult);
 	}
 
+	@Test
+	public void testPreprocessedConfigurationSnapshot(@TempDir Path snapshotDirectory) throws Exception {
+		// Arrange
+		Resource resource = Resource.getResource("/Digester/SimpleConfiguration/Configuration.xml");
+		PropertyLoader properties = new PropertyLoader("Digester/ConfigurationDigesterTest.properties");
+		properties.setProperty("HelloWorld.active", "false");
+		properties.setProperty("HelloBeautifulWorld.active", "!false");
+		properties.setProperty(ConfigurationSnapshot.SNAPSHOT_ENABLED_KEY, "true");
+		properties.setProperty(ConfigurationSnapshot.SNAPSHOT_DIRECTORY_KEY, snapshotDirectory.toString());
+
+		Configuration configuration = new TestConfiguration();
+		configuration.setVersion("1");
+
+		ConfigurationDigester digester = new ConfigurationDigester();
+		digester.setConfigurationWarnings(new ConfigurationWarnings());
+		XmlWriter loadedConfigWriter = new XmlWriter();
+		digester.parseAndResolveEntitiesAndProperties(loadedConfigWriter, configuration, resource, properties);
+		assertTrue(Files.exists(ConfigurationSnapshot.forConfiguration(configuration, properties).getFile()), "snapshot should have been stored");
+
+		// Act
+		ConfigurationDigester snapshotDigester = new ConfigurationDigester();
+		snapshotDigester.setConfigurationWarnings(new ConfigurationWarnings());
+		XmlWriter snapshotConfigWriter = new XmlWriter();
+		try (TestAppender appender = TestAppender.newBuilder().build()) {
+			snapshotDigester.parseAndResolveEntitiesAndProperties(snapshotConfigWriter, configuration, resource, properties);
+			assertTrue(appender.contains("using snapshot"), "configuration should have been read from the snapshot");
+		}
+
+		// Assert
+		MatchUtils.assertXmlEquals(loadedConfigWriter.toString(), snapshotConfigWriter.toString());
+		MatchUtils.assertXmlEquals(digester.getLoadedConfiguration(), snapshotDigester.getLoadedConfiguration());
+		assertEquals(digester.getOriginalConfiguration(), snapshotDigester.getOriginalConfiguration());
+
+		// A changed property that was used while preprocessing invalidates the snapshot
+		properties.setProperty("HelloWorld.active", "true");
+		ConfigurationDigester changedDigester = new ConfigurationDigester();
+		changedDigester.setConfigurationWarnings(new ConfigurationWarnings());
+		try (TestAppender appender = TestAppender.newBuilder().build()) {
+			changedDigester.parseAndResolveEntitiesAndProperties(new XmlWriter(), configuration, resource, properties);
+			assertTrue(appender.contains("has changed"), "snapshot should have been ignored");
+		}
+		assertNotEquals(digester.getLoadedConfiguration(), changedDigester.getLoadedConfiguration());
+	}
+
+	@Test
+	public void testPreprocessedConfigurationSnapshotOfChangedConfiguration(@TempDir Path snapshotDirectory) throws Exception {
+		// Arrange
+		Resource resource = Resource.getResource("/Digester/SimpleConfiguration/Configuration.xml");
+		PropertyLoader properties = new PropertyLoader("Digester/ConfigurationDigesterTest.properties");
+		properties.setProperty("HelloWorld.active", "false");
+		properties.setProperty("HelloBeautifulWorld.active", "!false");
+		properties.setProperty(ConfigurationSnapshot.SNAPSHOT_ENABLED_KEY, "true");
+		properties.setProperty(ConfigurationSnapshot.SNAPSHOT_DIRECTORY_KEY, snapshotDirectory.toString());
+
+		Configuration configuration = new TestConfiguration();
+		configuration.setVersion("1");
+
+		ConfigurationDigester digester = new ConfigurationDigester();
+		digester.setConfigurationWarnings(new ConfigurationWarnings());
+		digester.parseAndResolveEntitiesAndProperties(new XmlWriter(), configuration, resource, properties);
+		assertTrue(Files.exists(ConfigurationSnapshot.forConfiguration(configuration, properties).getFile()), "snapshot should have been stored");
+
+		// Same name and version, but without one of the included adapters
+		String changedConfiguration = StreamUtil.streamToString(resource.openStream()).replace("&HelloBeautifulWorld;", "");
+		Resource changedResource = new BytesResource(changedConfiguration.getBytes(StandardCharsets.UTF_8), resource.getSystemId(), resource);
+
+		// Act
+		ConfigurationDigester changedDigester = new ConfigurationDigester();
+		changedDigester.setConfigurationWarnings(new ConfigurationWarnings());
+		try (TestAppender appender = TestAppender.newBuilder().build()) {
+			changedDigester.parseAndResolveEntitiesAndProperties(new XmlWriter(), configuration, changedResource, properties);
+
+			// Assert
+			assertTrue(appender.contains("the configuration has changed"), "snapshot should have been ignored");
+		}
+		assertFalse(changedDigester.getOriginalConfiguration().contains("HelloBeautifulWorld"));
+		assertFalse(changedDigester.getLoadedConfiguration().contains("HelloBeautifulWorld"));
+	}
+
 	@Test
 	public void testStubbing4TestTool() throws Exception {
 		// Arrange
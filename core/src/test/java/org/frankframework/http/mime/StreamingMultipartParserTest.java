@@ -0,0 +1,109 @@
+package org.frankframework.http.mime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import org.frankframework.http.mime.MultipartUtils.MultipartMessages;
+import org.frankframework.stream.Message;
+import org.frankframework.stream.MessageContext;
+
+public class StreamingMultipartParserTest {
+	private static final String BOUNDARY = "gc0p4Jq0M2Yt08jU534c0p";
+	private static final String CONTENT_TYPE = "multipart/form-data; boundary=\"" + BOUNDARY + "\"";
+	private static final String FILE_CONTENT = StringUtils.repeat("line with a \r\n-- almost boundary --" + BOUNDARY.substring(0, 10) + "\r\n", 5_000);
+
+	private static String createRequest() {
+		return "preamble\r\n"
+				+ "--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"description\"\r\n"
+				+ "\r\n"
+				+ "an uploaded file\r\n"
+				+ "--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"file\"; filename=\"document.txt\"\r\n"
+				+ "Content-Type: text/plain\r\n"
+				+ "\r\n"
+				+ FILE_CONTENT + "\r\n"
+				+ "--" + BOUNDARY + "\r\n"
+				+ "Content-Disposition: form-data; name=\"checksum\"\r\n"
+				+ "Content-Transfer-Encoding: base64\r\n"
+				+ "\r\n"
+				+ "MTIzNDU=\r\n"
+				+ "--" + BOUNDARY + "--\r\n"
+				+ "epilogue";
+	}
+
+	/**
+	 * Returns at most 7 bytes per read, so boundaries are split over multiple reads.
+	 */
+	private static InputStream slowStream(String content) {
+		return new FilterInputStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(len, 7));
+			}
+		};
+	}
+
+	@Test
+	void sameResultAsMimeMultipart() throws Exception {
+		MultipartMessages expected = MultipartUtils.parseMultipart(slowStream(createRequest()), CONTENT_TYPE, "file");
+		AtomicReference<MultipartMessages> trailingParts = new AtomicReference<>();
+		AtomicLong streamed = new AtomicLong();
+		AtomicLong spilled = new AtomicLong();
+
+		StreamingMultipartParser parser = new StreamingMultipartParser(slowStream(createRequest()), CONTENT_TYPE, "file", streamed::addAndGet, spilled::addAndGet);
+		MultipartMessages parts = parser.parse(trailingParts::set);
+
+		assertEquals("an uploaded file", parts.messages().get("description").asString());
+		assertEquals("document.txt", parts.body().getContext().get(MessageContext.METADATA_NAME));
+		assertNull(trailingParts.get(), "parts after the body should not be read before the body");
+
+		try (InputStream body = parts.body().asInputStream()) {
+			assertEquals(FILE_CONTENT, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+		}
+		assertEquals(FILE_CONTENT.length(), streamed.get());
+
+		MultipartMessages trailing = trailingParts.get();
+		assertEquals("12345", trailing.messages().get("checksum").asString());
+		assertEquals(expected.multipartXml().asString(), trailing.multipartXml().asString());
+		assertEquals("an uploaded file".length() + "12345".length(), spilled.get());
+	}
+
+	@Test
+	void firstPartIsBodyWhenNoBodyNameIsSet() throws Exception {
+		MultipartMessages parts = new StreamingMultipartParser(new ByteArrayInputStream(createRequest().getBytes(StandardCharsets.UTF_8)), CONTENT_TYPE, null, bytes -> {}, bytes -> {}).parse(null);
+
+		assertTrue(parts.messages().isEmpty());
+		assertEquals("an uploaded file", parts.body().asString());
+	}
+
+	@Test
+	void bodyCanBePeekedButReadOnlyOnce() throws Exception {
+		MultipartMessages parts = new StreamingMultipartParser(slowStream(createRequest()), CONTENT_TYPE, "file", bytes -> {}, bytes -> {}).parse(null);
+		Message body = parts.body();
+
+		assertEquals(FILE_CONTENT.substring(0, 20), body.peek(20));
+		assertEquals(FILE_CONTENT, body.asString());
+		assertThrows(IOException.class, body::asString);
+	}
+
+	@Test
+	void requestWithoutClosingBoundaryIsRejected() {
+		String truncated = createRequest().substring(0, 1_000);
+
+		assertThrows(IOException.class, () -> new StreamingMultipartParser(slowStream(truncated), CONTENT_TYPE, "file", bytes -> {}, bytes -> {}).parse(null).body().asString());
+	}
+}
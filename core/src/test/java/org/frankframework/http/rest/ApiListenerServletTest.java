@@ -18,6 +18,7 @@ package org.frankframework.http.rest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.frankframework.testutil.TestAssertions.assertEqualsIgnoreCRLF;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -50,6 +51,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.X509KeyManager;
@@ -1137,6 +1139,107 @@ public class ApiListenerServletTest {
 		assertNull(result.getErrorMessage());
 	}
 
+	@Test
+	public void eTagGetEtagMatchesOneOfList() throws IOException, ConfigurationException {
+		// Arrange
+		String uri = "/etag33";
+		new ApiListenerBuilder(uri, List.of(HttpMethod.GET))
+			.withResponseContent("{\"tralalalallala\":true}")
+			.build();
+		String etagCacheKey = ApiCacheManager.buildCacheKey(uri);
+		ApiCacheManager.getInstance().put(etagCacheKey, "my-etag-value");
+
+		Map<String, String> headers = new HashMap<>();
+		headers.put("if-none-match", "\"other-etag-value\", W/\"my-etag-value\"");
+
+		// Act
+		Response result = service(createRequest(uri, HttpMethod.GET, null, headers));
+
+		// Assert
+		assertFalse(handlerInvoked, "Request Handler should not have been invoked, etag should have matched");
+		assertEquals(304, result.getStatus());
+		assertThat(result).has(header("etag", "my-etag-value"));
+	}
+
+	@Test
+	public void compressedResponseIsCachedWithEtag() throws Exception {
+		// Arrange
+		String uri = "/compressed";
+		String content = "{\"items\":[" + "{\"tralalalallala\":true},".repeat(200) + "{}]}";
+		new ApiListenerBuilder(uri, List.of(HttpMethod.GET), null, MediaTypes.JSON)
+			.withResponseContent(new Message(content))
+			.setUpdateEtag(true)
+			.setCompressResponse(true)
+			.build();
+
+		Map<String, String> headers = new HashMap<>();
+		headers.put("Accept-Encoding", "deflate;q=0.5, gzip");
+
+		// Act
+		Response result = service(createRequest(uri, HttpMethod.GET, null, headers));
+
+		// Assert
+		assertEquals(200, result.getStatus());
+		assertThat(result)
+				.has(header("Content-Encoding", "gzip"))
+				.has(header("Vary", "Accept-Encoding"))
+				.has(header("etag"));
+		byte[] compressed = result.getContentAsByteArray();
+		assertEquals(compressed.length, result.getContentLength());
+		try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			assertEquals(content, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+
+		String variantCacheKey = ResponseCompression.getVariantCacheKey(ApiCacheManager.buildCacheKey(uri), ResponseCompression.ContentEncoding.GZIP);
+		ResponseCompression.CompressedVariant variant = assertInstanceOf(ResponseCompression.CompressedVariant.class, ApiCacheManager.getInstance().get(variantCacheKey));
+		assertEquals(ApiCacheManager.getInstance().get(ApiCacheManager.buildCacheKey(uri)), variant.etag());
+		assertEquals(ResponseCompression.getVariantEtag(variant.etag(), ResponseCompression.ContentEncoding.GZIP), result.getHeader("etag"));
+		assertArrayEquals(compressed, variant.content());
+	}
+
+	@Test
+	public void eTagOfCompressedVariantMatches() throws IOException, ConfigurationException {
+		// Arrange
+		String uri = "/etag34";
+		new ApiListenerBuilder(uri, List.of(HttpMethod.GET))
+			.withResponseContent("{\"tralalalallala\":true}")
+			.build();
+		String etagCacheKey = ApiCacheManager.buildCacheKey(uri);
+		ApiCacheManager.getInstance().put(etagCacheKey, "my-etag-value");
+
+		Map<String, String> headers = new HashMap<>();
+		headers.put("if-none-match", "\"my-etag-value-gzip\"");
+
+		// Act
+		Response result = service(createRequest(uri, HttpMethod.GET, null, headers));
+
+		// Assert
+		assertFalse(handlerInvoked, "Request Handler should not have been invoked, etag should have matched");
+		assertEquals(304, result.getStatus());
+		assertThat(result).has(header("etag", "my-etag-value-gzip"));
+	}
+
+	@Test
+	public void smallResponseIsNotCompressed() throws Exception {
+		// Arrange
+		String uri = "/notcompressed";
+		new ApiListenerBuilder(uri, List.of(HttpMethod.GET), null, MediaTypes.JSON)
+			.withResponseContent(new Message("{\"tralalalallala\":true}"))
+			.setCompressResponse(true)
+			.build();
+
+		Map<String, String> headers = new HashMap<>();
+		headers.put("Accept-Encoding", "gzip");
+
+		// Act
+		Response result = service(createRequest(uri, HttpMethod.GET, null, headers));
+
+		// Assert
+		assertEquals(200, result.getStatus());
+		assertThat(result).doesNotHave(header("Content-Encoding"));
+		assertEquals("{\"tralalalallala\":true}", result.getContentAsString());
+	}
+
 	@Test
 	public void eTagPostEtagIfMatches() throws IOException, ConfigurationException {
 		String uri = "/etag45";
@@ -2343,6 +2446,11 @@ public class ApiListenerServletTest {
 			return this;
 		}
 
+		public ApiListenerBuilder setCompressResponse(boolean compressResponse) {
+			listener.setCompressResponse(compressResponse);
+			return this;
+		}
+
 		public ApiListenerBuilder setAuthenticationRoles(String roles) {
 			listener.setAuthenticationRoles(roles);
 			return this;
@@ -2548,6 +2656,14 @@ public class ApiListenerServletTest {
 			return response.getContentAsString();
 		}
 
+		public byte[] getContentAsByteArray() {
+			return response.getContentAsByteArray();
+		}
+
+		public int getContentLength() {
+			return response.getContentLength();
+		}
+
 		public int getStatus() {
 			return response.getStatus();
 		}
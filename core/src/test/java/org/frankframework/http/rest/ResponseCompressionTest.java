@@ -0,0 +1,59 @@
+package org.frankframework.http.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.MimeType;
+
+import org.frankframework.http.rest.ResponseCompression.ContentEncoding;
+import org.frankframework.stream.Message;
+
+public class ResponseCompressionTest {
+
+	@Test
+	void selectEncoding() {
+		assertNull(ResponseCompression.selectEncoding(null));
+		assertNull(ResponseCompression.selectEncoding("identity"));
+		assertNull(ResponseCompression.selectEncoding("br"));
+		assertEquals(ContentEncoding.GZIP, ResponseCompression.selectEncoding("gzip, deflate, br"));
+		assertEquals(ContentEncoding.GZIP, ResponseCompression.selectEncoding("x-gzip"));
+		assertEquals(ContentEncoding.DEFLATE, ResponseCompression.selectEncoding("br;q=1.0, gzip;q=0.5, deflate;q=0.8"));
+		assertEquals(ContentEncoding.GZIP, ResponseCompression.selectEncoding("*"));
+		assertEquals(ContentEncoding.DEFLATE, ResponseCompression.selectEncoding("gzip;q=0, *"));
+		assertNull(ResponseCompression.selectEncoding("gzip;q=0, *;q=0"));
+	}
+
+	@Test
+	void variantEtag() {
+		assertEquals("abc-gzip", ResponseCompression.getVariantEtag("abc", ContentEncoding.GZIP));
+		assertEquals("\"abc-deflate\"", ResponseCompression.getVariantEtag("\"abc\"", ContentEncoding.DEFLATE));
+		assertEquals("W/\"abc-gzip\"", ResponseCompression.getVariantEtag("W/\"abc\"", ContentEncoding.GZIP));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"text/plain", "text/html;charset=UTF-8", "application/json", "application/problem+json", "application/xml", "application/soap+xml", "application/javascript", "application/x-yaml"})
+	void compressible(String contentType) {
+		assertTrue(ResponseCompression.isCompressible(MimeType.valueOf(contentType)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"image/png", "application/pdf", "application/zip", "application/octet-stream", "*/*"})
+	void notCompressible(String contentType) {
+		assertFalse(ResponseCompression.isCompressible(MimeType.valueOf(contentType)));
+	}
+
+	@Test
+	void negotiateSkipsSmallResponses() {
+		MimeType json = MimeType.valueOf("application/json");
+
+		assertNull(ResponseCompression.negotiate("gzip", json, ResponseCompression.MIN_SIZE - 1));
+		assertEquals(ContentEncoding.GZIP, ResponseCompression.negotiate("gzip", json, ResponseCompression.MIN_SIZE));
+		assertEquals(ContentEncoding.GZIP, ResponseCompression.negotiate("gzip", json, Message.MESSAGE_SIZE_UNKNOWN));
+		assertNull(ResponseCompression.negotiate("gzip", null, Message.MESSAGE_SIZE_UNKNOWN));
+	}
+}
@@ -1,5 +1,7 @@
 package org.frankframework.javascript;
 
+import java.util.function.Supplier;
+
 import org.frankframework.core.ISender;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.util.flow.ResultHandler;
@@ -43,7 +45,7 @@ public class FakeEngine implements JavascriptEngine<String> {
 	}
 
 	@Override
-	public void registerCallback(final ISender sender, final PipeLineSession session) {
+	public void registerCallback(final ISender sender, final Supplier<PipeLineSession> sessionSupplier) {
 		// do nothing
 	}
 
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.graalvm.polyglot.Value;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,26 @@ class JavascriptEngineTest {
 		engine.closeRuntime();
 	}
 
+	// After a reset the runtime may be used by another thread, and must not contain the globals of the previous execution.
+	@ParameterizedTest
+	@EnumSource(JavascriptSender.JavaScriptEngines.class)
+	void testResetRuntime(JavascriptSender.JavaScriptEngines engineWrapper) throws Exception {
+		JavascriptEngine<?> engine = engineWrapper.create();
+		engine.startRuntime();
+		engine.loadScript("var counter = 0; function increment() { counter++; return '' + counter; }");
+		assertEquals("1", engine.executeFunction("increment").toString());
+		assertTrue(engine.resetRuntime());
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertEquals("1", executor.submit(() -> engine.executeFunction("increment").toString()).get());
+			assertTrue(executor.submit(engine::resetRuntime).get());
+		} finally {
+			executor.shutdown();
+		}
+		engine.closeRuntime();
+	}
+
 	// This test doesn't do much at the moment... We cannot capture the log output (yet).
 	@Test
 	void testLogStatement() throws JavascriptException {
@@ -12,10 +12,14 @@ import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 
+import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.core.ConfiguredTestBase;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.SenderException;
@@ -249,7 +253,12 @@ public class FixedQuerySenderTest {
 
 
 	public void testOutputFormat(DocumentFormat outputFormat, boolean includeFieldDefinition, ThrowingConsumer<String, Exception> asserter) throws Exception {
+		testOutputFormat(outputFormat, includeFieldDefinition, false, asserter);
+	}
+
+	public void testOutputFormat(DocumentFormat outputFormat, boolean includeFieldDefinition, boolean streamResult, ThrowingConsumer<String, Exception> asserter) throws Exception {
 		assumeTrue(Dbms.H2 == databaseUnderTest);
+		fixedQuerySender.setStreamResult(streamResult);
 		fixedQuerySender.setQuery("SELECT COUNT(*) as CNT, 'string' as STR, 5 as NUM, null as NULLCOL FROM " + TABLE_NAME + " WHERE 1=0");
 		fixedQuerySender.setOutputFormat(outputFormat);
 		fixedQuerySender.setIncludeFieldDefinition(includeFieldDefinition);
@@ -297,6 +306,143 @@ public class FixedQuerySenderTest {
 		testOutputFormat(DocumentFormat.JSON, false, r-> assertJsonEquals(expected, r));
 	}
 
+	@DatabaseTest
+	public void testStreamResultDefault() throws Exception {
+		String expected =  TestFileUtils.getTestFile("/Jdbc/result-default.xml");
+		testOutputFormat(null, true, true, r-> assertXmlEquals(expected, r));
+	}
+
+	@DatabaseTest
+	public void testStreamResultXml() throws Exception {
+		String expected =  TestFileUtils.getTestFile("/Jdbc/result-xml.xml");
+		testOutputFormat(DocumentFormat.XML, true, true, r-> assertXmlEquals(expected, r));
+	}
+
+	@DatabaseTest
+	public void testStreamResultJson() throws Exception {
+		String expected =  TestFileUtils.getTestFile("/Jdbc/result-json-nofielddef.json");
+		testOutputFormat(DocumentFormat.JSON, false, true, r-> assertJsonEquals(expected, r));
+	}
+
+	@DatabaseTest
+	public void testStreamResultManyRows() throws Exception {
+		assumeTrue(Dbms.H2 == databaseUnderTest);
+		fixedQuerySender.setQuery("SELECT X AS NUM FROM SYSTEM_RANGE(1, 5000)");
+		fixedQuerySender.setQueryType(AbstractJdbcQuerySender.QueryType.SELECT);
+		fixedQuerySender.setStreamResult(true);
+		fixedQuerySender.setFetchSize(100);
+		fixedQuerySender.setMaxRows(4000);
+		fixedQuerySender.setStartRow(11);
+		fixedQuerySender.configure();
+		fixedQuerySender.start();
+
+		Message result = fixedQuerySender.sendMessage(new Message("dummy"), session).getResult();
+		assertTrue(result.peek(100).startsWith("<result>"));
+
+		String resultString = result.asString();
+		assertThat(resultString, containsString("<row number=\"0\"><field name=\"NUM\">11</field></row>"));
+		assertThat(resultString, containsString("<row number=\"3999\"><field name=\"NUM\">4010</field></row></rowset></result>"));
+		assertThrows(Exception.class, result::asString, "a large streamed result can be read only once");
+	}
+
+	@DatabaseTest
+	public void testStreamResultRequiresSelect() {
+		fixedQuerySender.setQuery("INSERT INTO " + TABLE_NAME + " (tKEY, tVARCHAR) VALUES ('1', 'value')");
+		fixedQuerySender.setStreamResult(true);
+
+		assertThrows(ConfigurationException.class, fixedQuerySender::configure);
+	}
+
+	private int countRows(DatabaseTestEnvironment databaseTestEnvironment) throws Exception {
+		try (Connection connection = databaseTestEnvironment.getConnection();
+				PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM " + TABLE_NAME);
+				ResultSet resultSet = statement.executeQuery()) {
+			resultSet.next();
+			return resultSet.getInt(1);
+		}
+	}
+
+	private void sendBlock(int... keys) throws Exception {
+		QueryExecutionContext blockHandle = fixedQuerySender.openBlock(session);
+		try {
+			for (int i = 0; i < keys.length; i++) {
+				session.put("key", keys[i]);
+				String result = fixedQuerySender.sendMessage(blockHandle, new Message("dummy"), session).getResult().asString();
+				if ((i + 1) % fixedQuerySender.getBatchSize() == 0) {
+					assertThat(result, containsString("<rowsupdated>"));
+				} else {
+					assertEquals("<result>addedToBatch</result>", result);
+				}
+			}
+		} finally {
+			fixedQuerySender.closeBlock(blockHandle, session);
+		}
+	}
+
+	private void configureBatchInsert(boolean multiRowInsert) throws Exception {
+		fixedQuerySender.setQuery("INSERT INTO " + TABLE_NAME + " (tKEY, tVARCHAR) VALUES (?, ?)");
+		fixedQuerySender.addParameter(NumberParameterBuilder.create().withName("key").withSessionKey("key"));
+		fixedQuerySender.addParameter(new Parameter("value", "value"));
+		fixedQuerySender.setBatchSize(3);
+		fixedQuerySender.setMultiRowInsert(multiRowInsert);
+		fixedQuerySender.configure();
+		fixedQuerySender.start();
+	}
+
+	@DatabaseTest
+	public void testBatchInsert(DatabaseTestEnvironment databaseTestEnvironment) throws Exception {
+		configureBatchInsert(false);
+
+		sendBlock(1, 2, 3, 4, 5, 6, 7);
+
+		assertEquals(7, countRows(databaseTestEnvironment));
+	}
+
+	@DatabaseTest
+	public void testMultiRowInsert(DatabaseTestEnvironment databaseTestEnvironment) throws Exception {
+		configureBatchInsert(true);
+
+		sendBlock(1, 2, 3, 4, 5, 6, 7);
+
+		assertEquals(7, countRows(databaseTestEnvironment));
+	}
+
+	@DatabaseTest
+	public void testMultiRowInsertReportsFailedRows() throws Exception {
+		assumeTrue(Dbms.H2 == databaseUnderTest);
+		configureBatchInsert(true);
+
+		SenderException e = assertThrows(SenderException.class, () -> sendBlock(1, 2, 3, 4, 4, 6));
+		assertThat(e.getMessage(), containsString("failed to insert rows [4-6] of the block"));
+	}
+
+	@DatabaseTest
+	public void testBatchInsertReportsFailedRows() throws Exception {
+		assumeTrue(Dbms.H2 == databaseUnderTest);
+		configureBatchInsert(false);
+
+		SenderException e = assertThrows(SenderException.class, () -> sendBlock(1, 2, 3, 4, 4, 6));
+		assertThat(e.getMessage(), containsString("rows [5] of the block failed"));
+	}
+
+	@DatabaseTest
+	public void testMultiRowInsertRequiresBatchSize() {
+		fixedQuerySender.setQuery("INSERT INTO " + TABLE_NAME + " (tKEY, tVARCHAR) VALUES (?, 'value')");
+		fixedQuerySender.setMultiRowInsert(true);
+
+		assertThrows(ConfigurationException.class, fixedQuerySender::configure);
+	}
+
+	@DatabaseTest
+	public void testMultiRowInsertRequiresInsertWithValues() {
+		fixedQuerySender.setQuery("INSERT INTO " + TABLE_NAME + " (tKEY, tVARCHAR) SELECT tKEY, tVARCHAR FROM " + TABLE_NAME);
+		fixedQuerySender.setBatchSize(3);
+		fixedQuerySender.setMultiRowInsert(true);
+
+		ConfigurationException e = assertThrows(ConfigurationException.class, fixedQuerySender::configure);
+		assertThat(e.getMessage(), containsString("multiRowInsert requires an INSERT statement with a single row of VALUES"));
+	}
+
 	public String getLongString(int sizeInK) {
 		String block="0123456789ABCDEF".repeat(16);
 		return block.repeat(sizeInK);
@@ -1,9 +1,16 @@
 package org.frankframework.jdbc.factory;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Map;
+
 import javax.sql.DataSource;
 import javax.sql.XADataSource;
 
@@ -16,6 +23,10 @@ import org.apache.tomcat.dbcp.dbcp2.managed.PoolableManagedConnectionFactory;
 import org.apache.tomcat.dbcp.dbcp2.managed.XAConnectionFactory;
 import org.apache.tomcat.dbcp.pool2.impl.GenericObjectPool;
 import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class JdbcPoolUtilTest {
 
@@ -54,4 +65,72 @@ public class JdbcPoolUtilTest {
 
 		assertTrue(JdbcPoolUtil.isXaCapable(pooled));
 	}
+
+	// H2's JdbcDataSource implements ConnectionPoolDataSource, and would therefore not be wrapped in a pool by the factory
+	private static DataSource createH2DataSource() {
+		return new DriverManagerDataSource("jdbc:h2:mem:JdbcPoolUtilTest;DB_CLOSE_DELAY=-1");
+	}
+
+	@Test
+	public void testStatementCache() throws Exception {
+		DataSource h2 = createH2DataSource();
+
+		PoolingDataSourceFactory factory = new PoolingDataSourceFactory();
+		factory.setStatementCacheSize(10);
+		DataSource pooled = factory.augment(h2, "jdbc/statementCache");
+
+		for (int i = 0; i < 4; i++) {
+			try (Connection connection = pooled.getConnection(); PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+				statement.execute();
+			}
+		}
+
+		Map<String, Object> statistics = JdbcPoolUtil.getConnectionPoolStatistics(pooled);
+		assertNotNull(statistics);
+		assertEquals(0, statistics.get("numActive"));
+		assertEquals(1, statistics.get("numIdle"));
+		assertEquals(0.75, (double) statistics.get("statementCacheHitRatio"), 0.001);
+		factory.destroy();
+	}
+
+	@Test
+	public void testStatementCacheDisabled() throws Exception {
+		DataSource h2 = createH2DataSource();
+
+		PoolingDataSourceFactory factory = new PoolingDataSourceFactory();
+		DataSource pooled = factory.augment(h2, "jdbc/noStatementCache");
+
+		try (Connection connection = pooled.getConnection(); PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+			statement.execute();
+		}
+
+		Map<String, Object> statistics = JdbcPoolUtil.getConnectionPoolStatistics(pooled);
+		assertNotNull(statistics);
+		assertNull(statistics.get("statementCacheHitRatio"));
+		factory.destroy();
+	}
+
+	@Test
+	public void testPoolMetrics() throws Exception {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		DataSource h2 = createH2DataSource();
+
+		PoolingDataSourceFactory factory = new PoolingDataSourceFactory();
+		factory.setMeterRegistry(meterRegistry);
+		DataSource pooled = factory.augment(h2, "jdbc/metrics");
+
+		try (Connection connection = pooled.getConnection()) {
+			assertNotNull(connection);
+			assertEquals(1.0, meterRegistry.get("frank.jdbc.pool.active").tag("datasource", "jdbc/metrics").gauge().value());
+			assertEquals(0.0, meterRegistry.get("frank.jdbc.pool.idle").tag("datasource", "jdbc/metrics").gauge().value());
+		}
+		assertEquals(0.0, meterRegistry.get("frank.jdbc.pool.active").tag("datasource", "jdbc/metrics").gauge().value());
+		assertEquals(1.0, meterRegistry.get("frank.jdbc.pool.idle").tag("datasource", "jdbc/metrics").gauge().value());
+		assertEquals(0.0, meterRegistry.get("frank.jdbc.pool.waiting").tag("datasource", "jdbc/metrics").gauge().value());
+		assertNotNull(meterRegistry.find("frank.jdbc.pool.borrowWait.max").timeGauge());
+		assertNotNull(meterRegistry.find("frank.jdbc.pool.statementCache.hitRatio").gauge());
+
+		factory.destroy();
+		assertTrue(meterRegistry.getMeters().isEmpty());
+	}
 }
@@ -1,6 +1,7 @@
 package org.frankframework.management.bus.endpoints;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.messaging.Message;
@@ -72,4 +73,14 @@ public class TestConfigManagement extends BusTestBase {
 			getConfiguration().setVersion(null);
 		}
 	}
+
+	@Test
+	public void getStartupTimings() {
+		MessageBuilder<String> request = createRequestMessage("NONE", BusTopic.CONFIGURATION, BusAction.STATUS);
+		request.setHeader("configuration", TestConfiguration.TEST_CONFIGURATION_NAME);
+		Message<?> response = callSyncGateway(request);
+		String payload = (String) response.getPayload();
+		assertTrue(payload.startsWith("[{\"name\":\"TestConfiguration\",\"digest\":"), payload);
+		assertTrue(payload.contains("\"adapters\":["), payload);
+	}
 }
@@ -0,0 +1,78 @@
+package org.frankframework.pipes;
+
+import static org.frankframework.testutil.MatchUtils.assertXmlEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+import org.frankframework.core.PipeLineSession;
+import org.frankframework.core.PipeRunResult;
+import org.frankframework.core.SenderException;
+import org.frankframework.core.SenderResult;
+import org.frankframework.pipes.CsvParserPipe.OutputFormat;
+import org.frankframework.senders.EchoSender;
+import org.frankframework.stream.Message;
+
+public class CsvIteratingPipeTest extends PipeTestBase<CsvIteratingPipe> {
+
+	private final List<String> sentItems = new ArrayList<>();
+
+	@Override
+	public CsvIteratingPipe createPipe() {
+		CsvIteratingPipe csvIteratingPipe = new CsvIteratingPipe();
+		csvIteratingPipe.setSender(new EchoSender() {
+			@Override
+			public @NonNull SenderResult sendMessage(@NonNull Message message, @NonNull PipeLineSession session) throws SenderException {
+				try {
+					sentItems.add(message.asString());
+				} catch (Exception e) {
+					throw new SenderException(e);
+				}
+				return new SenderResult("ok");
+			}
+		});
+		return csvIteratingPipe;
+	}
+
+	@Test
+	public void testRecordsAsXml() throws Exception {
+		configureAndStartPipe();
+
+		PipeRunResult prr = doPipe("a,b\n1,2\nx,\"y,y\"");
+
+		assertEquals(List.of("<record><a>1</a><b>2</b></record>", "<record><a>x</a><b>y,y</b></record>"), sentItems);
+		assertXmlEquals("<results><result item=\"1\">ok</result><result item=\"2\">ok</result></results>", prr.getResult().asString());
+	}
+
+	@Test
+	public void testRecordsAsJsonInBlocks() throws Exception {
+		pipe.setOutputFormat(OutputFormat.JSON_LINES);
+		pipe.setColumnTypes("b:number");
+		pipe.setBlockSize(2);
+		pipe.setBlockPrefix("[");
+		pipe.setLineSuffix(",");
+		pipe.setBlockSuffix("]");
+		configureAndStartPipe();
+
+		doPipe("a,b\nr1,1\nr2,2\nr3,3");
+
+		assertEquals(List.of("[{\"a\":\"r1\",\"b\":1},{\"a\":\"r2\",\"b\":2},]", "[{\"a\":\"r3\",\"b\":3},]"), sentItems);
+	}
+
+	@Test
+	public void testFieldNamesWithoutHeader() throws Exception {
+		pipe.setFieldNames("p,q");
+		pipe.setFileContainsHeader(false);
+		pipe.setCollectResults(false);
+		configureAndStartPipe();
+
+		PipeRunResult prr = doPipe("1,2\n3,4");
+
+		assertEquals(List.of("<record><p>1</p><q>2</q></record>", "<record><p>3</p><q>4</q></record>"), sentItems);
+		assertEquals("<results count=\"2\"/>", prr.getResult().asString());
+	}
+}
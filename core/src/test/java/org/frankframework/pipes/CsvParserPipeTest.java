@@ -2,6 +2,7 @@ package org.frankframework.pipes;
 
 import static org.frankframework.testutil.MatchUtils.assertXmlEquals;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -13,8 +14,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import org.frankframework.configuration.ConfigurationException;
+import org.frankframework.core.PipeRunException;
 import org.frankframework.core.PipeRunResult;
 import org.frankframework.pipes.CsvParserPipe.HeaderCase;
+import org.frankframework.pipes.CsvParserPipe.OutputFormat;
 import org.frankframework.stream.UrlMessage;
 import org.frankframework.testutil.TestFileUtils;
 
@@ -244,4 +247,45 @@ public class CsvParserPipeTest extends PipeTestBase<CsvParserPipe> {
 
 		assertXmlEquals(expected, prr.getResult().asString());
 	}
+
+	@Test
+	public void testJsonLines() throws Exception {
+		pipe.setOutputFormat(OutputFormat.JSON_LINES);
+		configureAndStartPipe();
+		String csv ="a,b,c\n1,2,3\nx,\"y,y\"";
+		String expected="{\"a\":\"1\",\"b\":\"2\",\"c\":\"3\"}\n{\"a\":\"x\",\"b\":\"y,y\"}\n";
+
+		PipeRunResult prr = doPipe(csv);
+		assertEquals(expected, prr.getResult().asString());
+	}
+
+	@Test
+	public void testJsonLinesWithColumnTypes() throws Exception {
+		pipe.setOutputFormat(OutputFormat.JSON_LINES);
+		pipe.setColumnTypes("amount:number, active:boolean");
+		configureAndStartPipe();
+		String csv ="name,amount,active\nx,12.50,true\ny,,false";
+		String expected="{\"name\":\"x\",\"amount\":12.50,\"active\":true}\n{\"name\":\"y\",\"amount\":null,\"active\":false}\n";
+
+		PipeRunResult prr = doPipe(csv);
+		assertEquals(expected, prr.getResult().asString());
+	}
+
+	@Test
+	public void testJsonLinesWithInvalidNumber() throws Exception {
+		pipe.setOutputFormat(OutputFormat.JSON_LINES);
+		pipe.setColumnTypes("amount:number");
+		configureAndStartPipe();
+
+		PipeRunException e = assertThrows(PipeRunException.class, () -> doPipe("name,amount\nx,twelve"));
+		assertThat(e.getMessage(), Matchers.containsString("Cannot convert value at line [1]"));
+	}
+
+	@Test
+	public void testInvalidColumnType() {
+		pipe.setColumnTypes("amount:date");
+
+		ConfigurationException e = assertThrows(ConfigurationException.class, this::configureAdapter);
+		assertThat(e.getMessage(), Matchers.endsWith("Illegal column type [date] for column [amount]"));
+	}
 }
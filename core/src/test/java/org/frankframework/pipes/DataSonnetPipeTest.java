@@ -9,11 +9,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 
+import com.datasonnet.Mapper;
+import com.datasonnet.MapperBuilder;
+
 import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.PipeRunException;
@@ -21,7 +31,9 @@ import org.frankframework.core.PipeRunResult;
 import org.frankframework.core.SenderException;
 import org.frankframework.core.SenderResult;
 import org.frankframework.core.TimeoutException;
+import org.frankframework.functional.ThrowingSupplier;
 import org.frankframework.json.DataSonnetOutputType;
+import org.frankframework.json.DataSonnetUtil;
 import org.frankframework.parameters.JsonParameter;
 import org.frankframework.senders.EchoSender;
 import org.frankframework.stream.Message;
@@ -223,6 +235,46 @@ public class DataSonnetPipeTest extends PipeTestBase<DataSonnetPipe> {
 		assertJsonEquals(input.asString(), result.asString());
 	}
 
+	@Test
+	public void callSenderConcurrentlyWithSessionOfEachMessage() throws Exception {
+		// Arrange
+		pipe.setStyleSheetName("/Pipes/DataSonnet/call-sender-one-arg-simple.jsonnet");
+
+		EchoSender sender = new EchoSender() {
+			@NonNull
+			@Override
+			public SenderResult sendMessage(@NonNull Message message, @NonNull PipeLineSession session) {
+				return new SenderResult(session.getString("id"));
+			}
+		};
+		sender.setName("testName");
+		pipe.addSender(sender);
+
+		configureAndStartPipe();
+
+		// Act
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 40; i++) {
+				String id = "id" + i;
+				results.add(executor.submit(() -> {
+					try (PipeLineSession messageSession = new PipeLineSession()) {
+						messageSession.put("id", id);
+						return pipe.doPipe(new Message("input"), messageSession).getResult().asString();
+					}
+				}));
+			}
+
+			// Assert
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals("{\"senderCall\":\"id" + i + "\"}", results.get(i).get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test
 	public void callSenderObjArg() throws Exception {
 		// Arrange
@@ -450,4 +502,64 @@ public class DataSonnetPipeTest extends PipeTestBase<DataSonnetPipe> {
 		// Assert
 		assertJsonEquals(TestFileUtils.getTestFile("/Pipes/DataSonnet/test-with-imports-expected-result.json"), result.getResult().asString());
 	}
+
+	@Test
+	@Tag("slow")
+	public void benchmarkCompiledMapper() throws Exception {
+		// Arrange
+		final int messages = 500;
+		String styleSheetName = "/Pipes/DataSonnet/jsonnet-with-import.jsonnet";
+		String imports = "/Pipes/DataSonnet/imported1.ds,/Pipes/DataSonnet/imported2.libsonnet";
+		pipe.setStyleSheetName(styleSheetName);
+		pipe.setImports(imports);
+		JsonParameter param = new JsonParameter();
+		param.setName("userData");
+		param.setSessionKey("userData");
+		pipe.addParameter(param);
+		configureAndStartPipe();
+
+		session.put("userData", "{\"userId\":\"123\",\"name\":\"DataSonnet\"}");
+		String payload = "{\"greetings\":\"HelloWorld\"}";
+		Map<String, String> importMap = Map.of(
+				"/Pipes/DataSonnet/imported1.ds", TestFileUtils.getTestFile("/Pipes/DataSonnet/imported1.ds"),
+				"/Pipes/DataSonnet/imported2.libsonnet", TestFileUtils.getTestFile("/Pipes/DataSonnet/imported2.libsonnet"));
+		String styleSheet = TestFileUtils.getTestFile(styleSheetName);
+
+		// Compiling the mapper for every message, as the pipe used to do
+		ThrowingSupplier<Message, Exception> compilePerMessage = () -> {
+			Mapper mapper = new MapperBuilder(styleSheet)
+					.withImports(importMap)
+					.withInputNames(pipe.getParameterList().getParameterNames())
+					.build();
+			return DataSonnetUtil.transform(mapper, jsonMessage(payload), pipe.getParameterList().getValues(Message.nullMessage(), session), DataSonnetOutputType.JSON);
+		};
+		ThrowingSupplier<Message, Exception> compiledOnce = () -> pipe.doPipe(jsonMessage(payload), session).getResult();
+		assertEquals(compilePerMessage.get().asString(), compiledOnce.get().asString());
+
+		// Act
+		long perMessageNanos = averageNanos(compilePerMessage, messages);
+		long compiledOnceNanos = averageNanos(compiledOnce, messages);
+
+		// Assert
+		log.info("average latency per message [{}] us when compiling the mapper for each message, [{}] us with the mapper compiled at configure time",
+				perMessageNanos / 1000, compiledOnceNanos / 1000);
+		assertTrue(compiledOnceNanos < perMessageNanos);
+	}
+
+	private static Message jsonMessage(String json) {
+		Message message = new Message(json);
+		message.getContext().withMimeType(MediaType.APPLICATION_JSON);
+		return message;
+	}
+
+	private static long averageNanos(ThrowingSupplier<Message, Exception> transformation, int messages) throws Exception {
+		for (int i = 0; i < messages / 10; i++) { // Warm up
+			transformation.get().close();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < messages; i++) {
+			transformation.get().close();
+		}
+		return (System.nanoTime() - start) / messages;
+	}
 }
@@ -5,6 +5,8 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -30,6 +32,7 @@ import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 
 import lombok.extern.log4j.Log4j2;
 
+import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.core.PipeForward;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.PipeRunResult;
@@ -38,6 +41,7 @@ import org.frankframework.core.SenderResult;
 import org.frankframework.core.TimeoutException;
 import org.frankframework.parameters.Parameter;
 import org.frankframework.pipes.IteratingPipe.StopReason;
+import org.frankframework.senders.AbstractBlockEnabledSender;
 import org.frankframework.senders.EchoSender;
 import org.frankframework.senders.XsltSender;
 import org.frankframework.stream.Message;
@@ -239,6 +243,53 @@ public class ForEachChildElementPipeTest extends PipeTestBase<ForEachChildElemen
 		assertEquals(expectedBasicNoNSBlock, actual);
 	}
 
+	@Test
+	public void testStreamBlocks() throws Exception {
+		StringBuilder blockLog = new StringBuilder();
+		pipe.setSender(new AbstractBlockEnabledSender<String>() {
+			@Override
+			public String openBlock(PipeLineSession session) {
+				blockLog.append("openBlock\n");
+				return "block";
+			}
+
+			@Override
+			public void closeBlock(String blockHandle, PipeLineSession session) {
+				blockLog.append("closeBlock\n");
+			}
+
+			@Override
+			public SenderResult sendMessage(String blockHandle, Message message, PipeLineSession session) throws SenderException {
+				try {
+					assertFalse(message.isRequestOfType(String.class), "item should not be serialized to a String");
+					blockLog.append(message.asString()).append("\n");
+					return new SenderResult(message.asString());
+				} catch (IOException e) {
+					throw new SenderException(e);
+				}
+			}
+		});
+		pipe.setBlockSize(2);
+		pipe.setStreamBlocks(true);
+		configurePipe();
+		pipe.start();
+
+		PipeRunResult prr = doPipe(pipe, messageBasicNoNS, session);
+
+		assertEquals(expectedBasicNoNS, prr.getResult().asString());
+		assertEquals("openBlock\n<sub>A &amp; B</sub>\n<sub name=\"p &amp; Q\"><a>a &amp; b</a></sub>\ncloseBlock\n"
+				+ "openBlock\n<sub name=\"r\">R</sub>\ncloseBlock\n", blockLog.toString());
+	}
+
+	@Test
+	public void testStreamBlocksRequiresBlockEnabledSender() {
+		pipe.setSender(getElementRenderer());
+		pipe.setStreamBlocks(true);
+
+		ConfigurationException e = assertThrows(ConfigurationException.class, this::configurePipe);
+		assertThat(e.getMessage(), containsString("block enabled sender"));
+	}
+
 	@Test
 	public void testBlockSize1() throws Exception {
 		pipe.setSender(getElementRenderer());
@@ -0,0 +1,51 @@
+package org.frankframework.pipes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import org.frankframework.stream.Message;
+
+public class ParallelResultCollectorTest {
+
+	private final StringBuilder written = new StringBuilder();
+
+	private void write(int itemNo, Message item, String result) {
+		written.append(itemNo).append('=').append(result).append(';');
+	}
+
+	@Test
+	public void testOrdered() throws Exception {
+		ParallelResultCollector collector = new ParallelResultCollector(true, this::write);
+
+		assertEquals(0, collector.add(2, Message.nullMessage(), "b"));
+		assertEquals(0, collector.add(3, Message.nullMessage(), "c"));
+		assertEquals("", written.toString());
+
+		assertEquals(3, collector.add(1, Message.nullMessage(), "a"));
+		assertEquals("1=a;2=b;3=c;", written.toString());
+
+		assertEquals(1, collector.add(4, Message.nullMessage(), "d"));
+		assertEquals("1=a;2=b;3=c;4=d;", written.toString());
+	}
+
+	@Test
+	public void testOrderedWithSkippedItem() throws Exception {
+		ParallelResultCollector collector = new ParallelResultCollector(true, this::write);
+
+		assertEquals(0, collector.add(3, Message.nullMessage(), "c"));
+		assertEquals(1, collector.add(1, Message.nullMessage(), "a"));
+		assertEquals(2, collector.skip(2));
+		assertEquals("1=a;3=c;", written.toString());
+	}
+
+	@Test
+	public void testUnordered() throws Exception {
+		ParallelResultCollector collector = new ParallelResultCollector(false, this::write);
+
+		assertEquals(1, collector.add(3, Message.nullMessage(), "c"));
+		assertEquals(1, collector.skip(2));
+		assertEquals(1, collector.add(1, Message.nullMessage(), "a"));
+		assertEquals("3=c;1=a;", written.toString());
+	}
+}
@@ -3,6 +3,8 @@ package org.frankframework.pipes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
@@ -17,6 +19,7 @@ import org.springframework.util.StringUtils;
 
 import org.frankframework.core.IDataIterator;
 import org.frankframework.core.PipeLineSession;
+import org.frankframework.core.PipeRunException;
 import org.frankframework.core.PipeRunResult;
 import org.frankframework.core.SenderException;
 import org.frankframework.core.SenderResult;
@@ -76,6 +79,111 @@ public class TestIteratingBasePipe extends IteratingPipeTestBase<IteratingTestPi
 		assertEquals(99, occurance);
 	}
 
+	@Test
+	public void testParallelUnordered() throws Exception {
+		StringBuffer results = new StringBuffer();
+		pipe.setSender(new IndexAwareSlowRenderer(results));
+		pipe.setParallel(true);
+		pipe.setMaxChildThreads(10);
+		pipe.setPreserveOrder(false);
+		pipe.setTaskExecutor(createTaskExecutor());
+		pipe.setItemNoSessionKey("index");
+
+		configureAndStartPipe();
+
+		Message input = MessageTestUtils.getMessage("/IteratingPipe/HundredLines.txt");
+
+		PipeRunResult prr = doPipe(pipe, input, session);
+		assertContainsAllResults(prr.getResult().asString());
+	}
+
+	@Test
+	public void testParallelWorkQueue() throws Exception {
+		StringBuffer results = new StringBuffer();
+		pipe.setSender(new IndexAwareSlowRenderer(results));
+		pipe.setParallel(true);
+		pipe.setMaxChildThreads(10);
+		pipe.setWorkQueueSize(5);
+		pipe.setTaskExecutor(createTaskExecutor());
+		pipe.setItemNoSessionKey("index");
+
+		configureAndStartPipe();
+
+		Message input = MessageTestUtils.getMessage("/IteratingPipe/HundredLines.txt");
+
+		PipeRunResult prr = doPipe(pipe, input, session);
+		String actual = prr.getResult().asString();
+
+		String expected = TestFileUtils.getTestFile("/IteratingPipe/HundredLines.xml");
+		assertEquals(expected, actual); // Results are written in the order of the items
+
+		String resultLogTrimmed = results.toString().trim();
+		int occurance = StringUtils.countOccurrencesOf(resultLogTrimmed, "\n");
+		assertEquals(99, occurance);
+	}
+
+	@Test
+	public void testParallelWorkQueueUnordered() throws Exception {
+		StringBuffer results = new StringBuffer();
+		pipe.setSender(new IndexAwareSlowRenderer(results));
+		pipe.setParallel(true);
+		pipe.setMaxChildThreads(10);
+		pipe.setWorkQueueSize(5);
+		pipe.setPreserveOrder(false);
+		pipe.setTaskExecutor(createTaskExecutor());
+		pipe.setItemNoSessionKey("index");
+
+		configureAndStartPipe();
+
+		Message input = MessageTestUtils.getMessage("/IteratingPipe/HundredLines.txt");
+
+		PipeRunResult prr = doPipe(pipe, input, session);
+		String actual = prr.getResult().asString();
+
+		assertContainsAllResults(actual);
+	}
+
+	@Test
+	public void testParallelWorkQueueCancelsAfterFailure() throws Exception {
+		StringBuffer results = new StringBuffer();
+		pipe.setSender(new IndexAwareSlowRenderer(results) {
+			@Override
+			public @NonNull SenderResult sendMessage(@NonNull Message message, @NonNull PipeLineSession session) throws SenderException {
+				if (Integer.valueOf(5).equals(session.getInteger("index"))) {
+					throw new SenderException("item 5 failed");
+				}
+				return super.sendMessage(message, session);
+			}
+		});
+		pipe.setParallel(true);
+		pipe.setMaxChildThreads(2);
+		pipe.setWorkQueueSize(2);
+		pipe.setTaskExecutor(createTaskExecutor());
+		pipe.setItemNoSessionKey("index");
+
+		configureAndStartPipe();
+
+		Message input = MessageTestUtils.getMessage("/IteratingPipe/HundredLines.txt");
+
+		PipeRunException e = assertThrows(PipeRunException.class, () -> doPipe(pipe, input, session));
+		assertTrue(e.getMessage().contains("item 5 failed"), e.getMessage());
+
+		// At most the items that were in progress when item 5 failed have been processed
+		int processed = StringUtils.countOccurrencesOf(results.toString(), "\n");
+		assertTrue(processed < 20, "processed " + processed + " items after failure");
+	}
+
+	private void assertContainsAllResults(String actual) throws IOException {
+		assertEquals(100, StringUtils.countOccurrencesOf(actual, "<result item="));
+		String expected = TestFileUtils.getTestFile("/IteratingPipe/HundredLines.xml");
+		for (String result : expected.split("\n</result>\n")) {
+			String itemResult = result.replace("<results>\n", "");
+			if (itemResult.startsWith("<result ")) {
+				assertTrue(actual.contains(itemResult), "missing result " + itemResult);
+			}
+		}
+	}
+
 	protected TaskExecutor createTaskExecutor() {
 		SimpleAsyncTaskExecutor executor = SpringUtils.createBean(getConfiguration());
 		executor.setConcurrencyLimit(ConcurrencyThrottleSupport.UNBOUNDED_CONCURRENCY);
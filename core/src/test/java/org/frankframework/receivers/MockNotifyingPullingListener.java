@@ -0,0 +1,26 @@
+package org.frankframework.receivers;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.frankframework.core.INotifyingListener;
+
+public class MockNotifyingPullingListener extends MockPullingListener implements INotifyingListener<String> {
+	private final Semaphore notifications = new Semaphore(0);
+
+	@Override
+	void offerMessage(String text) {
+		super.offerMessage(text);
+		notifications.release();
+	}
+
+	@Override
+	public boolean isNotificationEnabled() {
+		return true;
+	}
+
+	@Override
+	public boolean awaitNotification(long timeout) throws InterruptedException {
+		return notifications.tryAcquire(timeout, TimeUnit.MILLISECONDS);
+	}
+}
@@ -0,0 +1,89 @@
+package org.frankframework.receivers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PollIntervalTest {
+
+	@Test
+	void fixedIntervalAfterEmptyPoll() {
+		PollInterval pollInterval = new PollInterval(100, 10_000, false);
+
+		pollInterval.pollDone(true);
+		assertEquals(10_000, pollInterval.nextWait());
+		pollInterval.pollDone(true);
+		assertEquals(10_000, pollInterval.nextWait());
+
+		pollInterval.pollDone(false);
+		assertEquals(0, pollInterval.nextWait());
+	}
+
+	@Test
+	void adaptiveIntervalBacksOffToMaximum() {
+		PollInterval pollInterval = new PollInterval(100, 1_000, true);
+
+		long[] expected = { 100, 200, 400, 800, 1_000, 1_000 };
+		for (long interval : expected) {
+			pollInterval.pollDone(true);
+			assertEquals(interval, pollInterval.getCurrentInterval());
+		}
+
+		pollInterval.pollDone(false);
+		assertEquals(0, pollInterval.getCurrentInterval());
+		assertEquals(0, pollInterval.nextWait(), "should poll again immediately while messages keep arriving");
+
+		pollInterval.pollDone(true);
+		assertEquals(100, pollInterval.getCurrentInterval());
+	}
+
+	@Test
+	void adaptiveIntervalHasJitter() {
+		PollInterval pollInterval = new PollInterval(10_000, 10_000, true);
+		pollInterval.pollDone(true);
+
+		for (int i = 0; i < 100; i++) {
+			long wait = pollInterval.nextWait();
+			assertTrue(wait >= 9_000 && wait <= 10_000, "wait [" + wait + "] should be within 10% of the interval");
+		}
+	}
+
+	@Test
+	void jitterDoesNotExceedMaximum() {
+		PollInterval pollInterval = new PollInterval(100, 1_000, true);
+		for (int i = 0; i < 10; i++) {
+			pollInterval.pollDone(true);
+		}
+		assertEquals(1_000, pollInterval.getCurrentInterval());
+
+		for (int i = 0; i < 1_000; i++) {
+			long wait = pollInterval.nextWait();
+			assertTrue(wait <= 1_000, "wait [" + wait + "] should not exceed the maximum interval");
+		}
+	}
+
+	@Test
+	void minimumIsCappedByMaximum() {
+		PollInterval pollInterval = new PollInterval(5_000, 1_000, true);
+
+		pollInterval.pollDone(true);
+		assertEquals(1_000, pollInterval.getCurrentInterval());
+	}
+
+	@Test
+	void emptyPollRatio() {
+		PollInterval pollInterval = new PollInterval(100, 1_000, true);
+		assertEquals(0.0, pollInterval.getEmptyPollRatio());
+
+		for (int i = 0; i < 200; i++) {
+			pollInterval.pollDone(true);
+		}
+		assertTrue(pollInterval.getEmptyPollRatio() > 0.99);
+
+		for (int i = 0; i < 200; i++) {
+			pollInterval.pollDone(i % 2 == 0);
+		}
+		assertEquals(0.5, pollInterval.getEmptyPollRatio(), 0.05);
+	}
+}
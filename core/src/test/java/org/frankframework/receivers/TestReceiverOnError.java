@@ -30,6 +30,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.spy;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -134,8 +135,13 @@ public class TestReceiverOnError {
 	}
 
 	private Receiver<String> startReceiver(MockListenerBase listener) throws Exception {
+		return startReceiver(listener, receiver -> {});
+	}
+
+	private Receiver<String> startReceiver(MockListenerBase listener, Consumer<Receiver<String>> receiverSetup) throws Exception {
 		Adapter adapter = setupAdapter();
 		Receiver<String> receiver = setupReceiver(adapter, listener);
+		receiverSetup.accept(receiver);
 
 		assertEquals(RunState.STOPPED, adapter.getRunState());
 		assertEquals(RunState.STOPPED, receiver.getRunState());
@@ -179,6 +185,24 @@ public class TestReceiverOnError {
 		assertTrue(System.currentTimeMillis() + 200 > receiver.getLastMessageDate());
 	}
 
+	@Test
+	public void testNotifyingListenerPollsOnNotification() throws Exception {
+		MockListenerBase listener = createListener(MockNotifyingPullingListener.class);
+		Receiver<String> receiver = startReceiver(listener, r -> r.setPollInterval(60));
+		Thread.sleep(2000); // Let the receiver become idle
+
+		// Act
+		listener.offerMessage("Test Message");
+		await()
+			.atMost(5, TimeUnit.SECONDS)
+			.pollInterval(100, TimeUnit.MILLISECONDS)
+			.until(() -> receiver.getMessagesReceived() > 0);
+
+		// Assert the message has been received well before the pollInterval has expired
+		assertEquals(RunState.STARTED, receiver.getRunState());
+		assertEquals(1, receiver.getMessagesReceived());
+	}
+
 	@ParameterizedTest(name = "{index} - {0}")
 	@CsvSource({
 		"getRawMessageException, Receiver [receiver] caught Exception retrieving message, will continue retrieving messages",
@@ -99,6 +99,37 @@ class JavascriptSenderCallbackTest extends SenderTestBase<JavascriptSender> {
 		assertEquals("success", promiseResult.asString());
 	}
 
+	// The callbacks are registered once per runtime, but should use the session of the message that is being processed.
+	@ParameterizedTest
+	@EnumSource(JavaScriptEngines.class)
+	void callbackUsesSessionOfEachMessage(JavaScriptEngines engine) throws Exception {
+		sender.setJsFileName("Javascript/JavascriptTest.js");
+		sender.setJsFunctionName("callSender");
+		sender.setEngineName(engine);
+		sender.setPoolSize(1);
+
+		SessionValueSender sessionValueSender = new SessionValueSender();
+		sessionValueSender.setName("myFunction");
+		sender.addSender(sessionValueSender);
+
+		sender.configure();
+		sender.start();
+
+		for (String value : new String[] { "first", "second", "third" }) {
+			try (PipeLineSession messageSession = new PipeLineSession()) {
+				messageSession.put("value", value);
+				assertEquals(value, sender.sendMessageOrThrow(new Message("dummyinput"), messageSession).asString());
+			}
+		}
+	}
+
+	private static class SessionValueSender extends AbstractSenderWithParameters {
+		@Override
+		public @NonNull SenderResult sendMessage(@NonNull Message message, @NonNull PipeLineSession session) {
+			return new SenderResult(String.valueOf(session.get("value")));
+		}
+	}
+
 	private static class PromiseResultSender extends AbstractSenderWithParameters {
 		private @Getter Message promiseResult = null;
 
@@ -301,6 +301,38 @@ class JavascriptSenderTest extends SenderTestBase<JavascriptSender> {
 		assertEquals("{ \"key\": \"value met 'single' quotes\" }", result.asString());
 	}
 
+	// The runtime is reused, but each message should start with the global state directly after the script was loaded.
+	@ParameterizedTest
+	@EnumSource(JavaScriptEngines.class)
+	void globalStateIsResetBetweenMessages(JavaScriptEngines engine) throws Exception {
+		sender.setJsFileName("Javascript/JavascriptTest.js");
+		sender.setJsFunctionName("countCalls");
+		sender.setEngineName(engine);
+		sender.setPoolSize(1);
+
+		sender.configure();
+		sender.start();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals("1,1,undefined", sender.sendMessageOrThrow(new Message("dummyinput"), session).asString());
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(JavaScriptEngines.class)
+	void withoutPool(JavaScriptEngines engine) throws Exception {
+		sender.setJsFileName("Javascript/JavascriptTest.js");
+		sender.setJsFunctionName("countCalls");
+		sender.setEngineName(engine);
+		sender.setPoolSize(0);
+
+		sender.configure();
+		sender.start();
+
+		assertEquals("1,1,undefined", sender.sendMessageOrThrow(new Message("dummyinput"), session).asString());
+		assertEquals("1,1,undefined", sender.sendMessageOrThrow(new Message("dummyinput"), session).asString());
+	}
+
 	static Stream<Arguments> testWithJavaScriptReturningAnObject() {
 		return Stream.of(
 				Arguments.of(JavaScriptEngines.J2V8, "returnObject", "[object Object]"),
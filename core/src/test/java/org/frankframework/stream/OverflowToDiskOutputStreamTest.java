@@ -11,15 +11,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import org.frankframework.util.StreamUtil;
+
 @SuppressWarnings("deprecation")
 public class OverflowToDiskOutputStreamTest {
 
@@ -191,4 +195,47 @@ public class OverflowToDiskOutputStreamTest {
 		requestObject.close();
 		assertFalse(Files.exists(files.getFirst()), "File should be removed after message is closed");
 	}
+
+	@Test
+	public void testMultipleBlocksInMemoryAreNotCopied() throws Exception {
+		byte[] data = new byte[StreamUtil.BUFFER_SIZE * 3 + 17];
+		new Random(1).nextBytes(data);
+		OverflowToDiskOutputStream oos = new OverflowToDiskOutputStream(1_000_000, tmpDir);
+		oos.write(data);
+		oos.close();
+
+		Message message = oos.toMessage();
+		assertEquals(0, Files.list(tmpDir).count(), "no file should have been created");
+		assertEquals(data.length, message.size());
+		assertArrayEquals(data, message.asInputStream().readAllBytes());
+		assertArrayEquals(data, message.asByteArray());
+	}
+
+	@Test
+	public void testRawObjectOfMultipleBlocksInMemoryIsByteArray() throws Exception {
+		byte[] data = new byte[StreamUtil.BUFFER_SIZE * 2 + 17];
+		new Random(1).nextBytes(data);
+		OverflowToDiskOutputStream oos = new OverflowToDiskOutputStream(1_000_000, tmpDir);
+		oos.write(data);
+		oos.close();
+
+		Message message = oos.toMessage();
+		assertEquals(byte[].class.getTypeName(), message.getRequestClass());
+		Message copy = message.copyMessage();
+		assertTrue(message.isRequestOfType(byte[].class));
+		assertArrayEquals(data, assertInstanceOf(byte[].class, message.asObject()));
+		assertArrayEquals(data, assertInstanceOf(byte[].class, copy.asObject()));
+		assertEquals(byte[].class.getTypeName(), copy.getRequestClass());
+	}
+
+	@Test
+	public void testCharacterDataFromMultipleBlocks() throws Exception {
+		String data = "ä€".repeat(StreamUtil.BUFFER_SIZE / 2);
+		OverflowToDiskOutputStream oos = new OverflowToDiskOutputStream(1_000_000, tmpDir);
+		oos.write(data.getBytes(StandardCharsets.UTF_8));
+		oos.close();
+
+		Message message = oos.toMessage(false);
+		assertEquals(data, message.asObject());
+	}
 }
@@ -0,0 +1,184 @@
+package org.frankframework.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.testutil.SerializationTester;
+import org.frankframework.util.StreamUtil;
+
+@Log4j2
+public class SegmentedByteArrayTest {
+
+	private static SegmentedByteArray createSegmentedByteArray(byte[] data) {
+		List<ByteBufferBlock> blocks = new ArrayList<>();
+		int offset = 0;
+		do {
+			ByteBufferBlock block = new ByteBufferBlock();
+			int n = Math.min(block.buffer.length, data.length - offset);
+			System.arraycopy(data, offset, block.buffer, 0, n);
+			block.count = n;
+			offset += n;
+			blocks.add(block);
+		} while (offset < data.length);
+		return new SegmentedByteArray(blocks);
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] data = new byte[size];
+		new Random(size).nextBytes(data);
+		return data;
+	}
+
+	@Test
+	public void testReadAcrossSegments() throws Exception {
+		byte[] data = randomBytes(StreamUtil.BUFFER_SIZE * 2 + 100);
+		SegmentedByteArray segmented = createSegmentedByteArray(data);
+
+		assertEquals(3, segmented.numberOfSegments());
+		assertEquals(data.length, segmented.size());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream is = segmented.asInputStream()) {
+			byte[] buffer = new byte[1000];
+			int len;
+			while ((len = is.read(buffer)) >= 0) {
+				out.write(buffer, 0, len);
+			}
+		}
+		assertArrayEquals(data, out.toByteArray());
+		assertArrayEquals(data, segmented.asInputStream().readAllBytes());
+		assertEquals(3, segmented.numberOfSegments(), "streaming should not concatenate the segments");
+	}
+
+	@Test
+	public void testMarkResetAndSkip() throws Exception {
+		byte[] data = randomBytes(StreamUtil.BUFFER_SIZE + 10);
+		InputStream is = createSegmentedByteArray(data).asInputStream();
+
+		assertTrue(is.markSupported());
+		assertEquals(StreamUtil.BUFFER_SIZE - 5, is.skip(StreamUtil.BUFFER_SIZE - 5));
+		is.mark(100);
+		byte[] acrossSegments = is.readNBytes(10);
+		assertEquals(5, is.available());
+		is.reset();
+
+		assertArrayEquals(acrossSegments, is.readNBytes(10));
+		assertEquals(data[StreamUtil.BUFFER_SIZE - 5], acrossSegments[0]);
+		assertEquals(data[StreamUtil.BUFFER_SIZE + 4], acrossSegments[9]);
+		assertEquals(5, is.readAllBytes().length);
+		assertEquals(-1, is.read());
+	}
+
+	@Test
+	public void testToByteArrayConcatenatesOnce() throws Exception {
+		byte[] data = randomBytes(StreamUtil.BUFFER_SIZE * 2);
+		SegmentedByteArray segmented = createSegmentedByteArray(data);
+		InputStream openedBeforeConcatenation = segmented.asInputStream();
+
+		byte[] bytes = segmented.toByteArray();
+
+		assertArrayEquals(data, bytes);
+		assertSame(bytes, segmented.toByteArray());
+		assertEquals(1, segmented.numberOfSegments());
+		assertArrayEquals(data, openedBeforeConcatenation.readAllBytes());
+		assertArrayEquals(data, segmented.asInputStream().readAllBytes());
+	}
+
+	@Test
+	public void testSmallLastSegmentIsTrimmed() {
+		byte[] data = randomBytes(StreamUtil.BUFFER_SIZE + 10);
+
+		SegmentedByteArray segmented = createSegmentedByteArray(data);
+
+		assertArrayEquals(data, segmented.toByteArray());
+		assertTrue(ByteBufferBlock.pooledBlocks() > 0, "trimmed block should have been returned to the pool");
+	}
+
+	@Test
+	public void testMessageWithCharset() throws Exception {
+		String text = "€ symbols ".repeat(StreamUtil.BUFFER_SIZE / 5);
+		Message message = new Message(createSegmentedByteArray(text.getBytes(StandardCharsets.UTF_8)), new MessageContext().withCharset(StandardCharsets.UTF_8));
+
+		assertEquals(text, message.asString());
+		assertEquals(byte[].class.getTypeName(), message.getRequestClass());
+		assertEquals(text, message.copyMessage().asString());
+	}
+
+	@Test
+	public void testTypeOfMessageIsDeterminedWithoutConcatenating() throws Exception {
+		byte[] data = randomBytes(StreamUtil.BUFFER_SIZE * 2 + 1);
+		SegmentedByteArray segmented = createSegmentedByteArray(data);
+		Message message = new Message(segmented, new MessageContext());
+
+		assertTrue(message.isRequestOfType(byte[].class));
+		assertFalse(message.isRequestOfType(SegmentedByteArray.class));
+		assertEquals(3, segmented.numberOfSegments());
+
+		assertArrayEquals(data, message.asByteArray());
+		assertEquals(1, segmented.numberOfSegments());
+		assertSame(message.asByteArray(), message.asObject());
+	}
+
+	@Test
+	public void testSerializedMessage() throws Exception {
+		byte[] data = randomBytes(StreamUtil.BUFFER_SIZE * 2 + 1);
+		Message message = new Message(createSegmentedByteArray(data), new MessageContext());
+
+		Message deserialized = new SerializationTester<Message>().testSerialization(message);
+
+		assertInstanceOf(byte[].class, deserialized.asObject());
+		assertArrayEquals(data, deserialized.asByteArray());
+	}
+
+	@Test
+	@Tag("slow")
+	public void benchmarkAllocations() throws Exception {
+		final int messages = 500;
+		byte[] data = randomBytes(1024 * 1024);
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		long start = threadMXBean.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < messages; i++) {
+			Message message = buildMessage(data);
+			message.asInputStream().transferTo(OutputStream.nullOutputStream());
+		}
+		long streamingAllocations = threadMXBean.getCurrentThreadAllocatedBytes() - start;
+
+		start = threadMXBean.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < messages; i++) {
+			Message message = buildMessage(data);
+			OutputStream.nullOutputStream().write(message.asByteArray());
+		}
+		long contiguousAllocations = threadMXBean.getCurrentThreadAllocatedBytes() - start;
+
+		log.info("allocated [{}] MB to build and stream [{}] messages of 1 MB, [{}] MB when the messages were read as byte[]",
+				streamingAllocations / 1024 / 1024, messages, contiguousAllocations / 1024 / 1024);
+		assertTrue(streamingAllocations < contiguousAllocations);
+	}
+
+	private static Message buildMessage(byte[] data) throws Exception {
+		MessageBuilder messageBuilder = new MessageBuilder();
+		try (OutputStream out = messageBuilder.asOutputStream()) {
+			out.write(data);
+		}
+		return messageBuilder.build();
+	}
+}
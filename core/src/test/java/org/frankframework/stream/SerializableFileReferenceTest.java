@@ -1,5 +1,5 @@
 /*
-   Copyright 2023-2025 WeAreFrank!
+   Copyright 2023-2026 WeAreFrank!
 
    Licensed under the Apache License, Version 2.0 (the "License");
    you may not use this file except in compliance with the License.
@@ -16,15 +16,18 @@
 package org.frankframework.stream;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -33,6 +36,14 @@ import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.codec.binary.Hex;
@@ -287,6 +298,138 @@ public class SerializableFileReferenceTest {
 		assertEquals(testDataEnriched, new String(fileData, 0, fileLen, StandardCharsets.UTF_8));
 	}
 
+	@Test
+	public void testSharedReferenceUsesSameFile() throws Exception {
+		// Arrange
+		reference = SerializableFileReference.of(testDataEnriched, StandardCharsets.UTF_8.name());
+		Path path = reference.getPath();
+
+		// Act
+		SerializableFileReference shared = reference.share();
+
+		// Assert
+		assertNotNull(shared);
+		assertEquals(path, shared.getPath());
+		assertFalse(shared.isBinary());
+
+		reference.close();
+		assertTrue(Files.exists(path), "Path should exist while the shared reference is open");
+		try (BufferedReader reader = shared.getReader()) {
+			assertEquals(testDataEnriched, reader.readLine());
+		}
+
+		shared.close();
+		assertFalse(Files.exists(path), "Path should not exist after the last reference is closed");
+		assertNull(shared.share(), "A closed reference cannot be shared");
+	}
+
+	@Test
+	public void testStreamRemainsReadableAfterReferenceIsClosed() throws Exception {
+		// Arrange
+		byte[] data = testDataEnriched.repeat(5_000).getBytes(StandardCharsets.UTF_8); // larger than the buffer of the stream
+		reference = SerializableFileReference.of(data);
+		Path path = reference.getPath();
+
+		try (InputStream in = reference.getInputStream()) {
+			byte[] start = in.readNBytes(10);
+
+			// Act
+			reference.close();
+
+			// Assert
+			assertTrue(Files.exists(path), "Path should exist while a stream is open");
+			byte[] rest = in.readAllBytes();
+			assertEquals(data.length, start.length + rest.length);
+		}
+		assertFalse(Files.exists(path), "Path should not exist after the stream has been closed");
+	}
+
+	@Test
+	public void testReferenceToExistingFileIsNotShared(@TempDir File tempDir) throws Exception {
+		File file = File.createTempFile("file", null, tempDir);
+		reference = new SerializableFileReference(file.toPath(), false);
+
+		assertNull(reference.share());
+	}
+
+	@Test
+	public void testCopyMessageSharesTemporaryFile() throws Exception {
+		// Arrange
+		Message message = new Message(SerializableFileReference.of(testDataEnriched.getBytes(StandardCharsets.UTF_8)), new MessageContext(), byte[].class);
+		SerializableFileReference original = (SerializableFileReference) message.asObject();
+
+		// Act
+		Message copy = message.copyMessage();
+
+		// Assert
+		SerializableFileReference copiedReference = assertInstanceOf(SerializableFileReference.class, copy.asObject());
+		assertEquals(original.getPath(), copiedReference.getPath());
+
+		original.close();
+		assertEquals(testDataEnriched, copy.asString());
+		copiedReference.close();
+		assertFalse(Files.exists(original.getPath()));
+	}
+
+	@Test
+	public void testConcurrentStreamsOnSharedFile() throws Exception {
+		// Arrange
+		byte[] data = new byte[100_000];
+		new Random(1).nextBytes(data);
+		reference = SerializableFileReference.of(data);
+
+		// Act
+		List<Callable<byte[]>> readers = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			SerializableFileReference shared = reference.share();
+			assertNotNull(shared);
+			readers.add(() -> {
+				try (shared; InputStream in = shared.getInputStream()) {
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					byte[] buffer = new byte[1000];
+					int len;
+					while ((len = in.read(buffer)) >= 0) {
+						out.write(buffer, 0, len);
+					}
+					return out.toByteArray();
+				}
+			});
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			// Assert
+			for (Future<byte[]> result : executor.invokeAll(readers)) {
+				assertArrayEquals(data, result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertTrue(Files.exists(reference.getPath()), "Path should exist while the original reference is open");
+	}
+
+	@Test
+	public void testMarkAndResetOnSharedFileStream() throws Exception {
+		// Arrange
+		byte[] data = new byte[50_000];
+		new Random(2).nextBytes(data);
+		reference = SerializableFileReference.of(data);
+
+		// Act
+		try (InputStream in = reference.getInputStream()) {
+			assertTrue(in.markSupported());
+			assertEquals(20_000, in.skip(20_000));
+			in.mark(40_000);
+			byte[] first = in.readNBytes(30_000);
+			in.reset();
+			byte[] second = in.readAllBytes();
+
+			// Assert
+			assertArrayEquals(Arrays.copyOfRange(data, 20_000, 50_000), first);
+			assertArrayEquals(first, second);
+			assertEquals(-1, in.read());
+		}
+	}
+
 	@Test
 	public void testRemoveTempFileOnCloseOfSession() throws Exception {
 		// Arrange
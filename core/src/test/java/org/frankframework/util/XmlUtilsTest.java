@@ -29,6 +29,7 @@ import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -38,6 +39,7 @@ import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -411,4 +413,48 @@ public class XmlUtilsTest extends FunctionalTransformerPoolTestBase {
 		// Assert
 		assertEqualsIgnoreWhitespaces(expected, result.asString());
 	}
+
+	@Test
+	public void testParseXmlWithReusedReaders() throws Exception {
+		XmlWriter first = new XmlWriter();
+		XmlUtils.parseXml("<root><!--comment--><a>1</a></root>", first);
+		String firstResult = first.toString();
+		assertEquals("<root><!--comment--><a>1</a></root>", firstResult);
+
+		assertThrows(SAXException.class, () -> XmlUtils.parseXml("<root><a></root>", new DefaultHandler()));
+		XmlUtils.parseXml("<other><!--other comment--></other>", new DefaultHandler());
+
+		XmlWriter second = new XmlWriter();
+		XmlUtils.parseXml("<root><b>2</b></root>", second);
+		assertEquals("<root><b>2</b></root>", second.toString());
+		assertEquals(firstResult, first.toString(), "handlers of an earlier parse must not receive events of a later parse");
+	}
+
+	// Only reports the throughput, timings are too unreliable on shared build machines to assert on
+	@Test
+	@Tag("slow")
+	public void benchmarkParseSmallMessages() throws Exception {
+		final int messages = 20_000;
+		final String message = "<request xmlns=\"urn:test\"><id>42</id><name>small message</name><amount currency=\"EUR\">12.50</amount></request>";
+
+		for (int i = 0; i < 1_000; i++) { // warm up
+			XmlUtils.parseXml(message, new DefaultHandler());
+			XmlUtils.getXMLReader(new DefaultHandler()).parse(new InputSource(new StringReader(message)));
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < messages; i++) {
+			XmlUtils.parseXml(message, new DefaultHandler());
+		}
+		long pooledDuration = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		for (int i = 0; i < messages; i++) {
+			XmlUtils.getXMLReader(new DefaultHandler()).parse(new InputSource(new StringReader(message)));
+		}
+		long newReaderDuration = System.nanoTime() - start;
+
+		log.info("parsed [{}] messages/s with pooled readers, [{}] messages/s with a new reader per message",
+				messages * 1_000_000_000L / pooledDuration, messages * 1_000_000_000L / newReaderDuration);
+	}
 }
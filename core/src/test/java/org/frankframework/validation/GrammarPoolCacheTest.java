@@ -0,0 +1,84 @@
+package org.frankframework.validation;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.xerces.xni.grammars.XMLGrammarPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.frankframework.core.PipeLineSession;
+
+public class GrammarPoolCacheTest {
+	private static final String XSD_A = ValidatorTestBase.BASE_DIR_VALIDATION + "/Basic/xsd/A_correct.xsd";
+	private static final String XSD_B = ValidatorTestBase.BASE_DIR_VALIDATION + "/Basic/xsd/B.xsd";
+
+	@BeforeEach
+	@AfterEach
+	public void clearCache() {
+		GrammarPoolCache.clear();
+	}
+
+	private XercesValidationContext startValidator(String schemasId, String xsd) throws Exception {
+		XercesXmlValidator validator = new XercesXmlValidator();
+		validator.setSchemasProvider(new DummySchemasProviderImpl(schemasId, xsd));
+		validator.setThrowException(true);
+		validator.configure(null);
+		validator.start();
+		return validator.createValidationContext(new PipeLineSession(), null, null);
+	}
+
+	@Test
+	public void testValidatorsWithSameSchemasShareGrammarPool() throws Exception {
+		XercesValidationContext context1 = startValidator("id1", XSD_A);
+		XercesValidationContext context2 = startValidator("id2", XSD_A);
+
+		assertSame(context1.getGrammarPool(), context2.getGrammarPool());
+		assertEquals("id1", context1.getSchemasId());
+		assertEquals("id2", context2.getSchemasId());
+		assertEquals(1, GrammarPoolCache.size());
+	}
+
+	@Test
+	public void testValidatorsWithDifferentSchemasDoNotShareGrammarPool() throws Exception {
+		XercesValidationContext context1 = startValidator("id1", XSD_A);
+		XercesValidationContext context2 = startValidator("id2", XSD_B);
+
+		assertNotSame(context1.getGrammarPool(), context2.getGrammarPool());
+		assertEquals(2, GrammarPoolCache.size());
+	}
+
+	@Test
+	public void testGrammarOfReleasedValidatorCanBeCollected() throws Exception {
+		// Only the grammar pool is referenced, as is the case when a validator has been evicted because of xmlValidator.maxInitialised
+		WeakReference<XMLGrammarPool> grammarPool = new WeakReference<>(startValidator("id1", XSD_A).getGrammarPool());
+		assertEquals(1, GrammarPoolCache.size());
+
+		await().pollInterval(50, TimeUnit.MILLISECONDS)
+				.atMost(5, TimeUnit.SECONDS)
+				.until(() -> {
+					System.gc();
+					return grammarPool.get() == null;
+				});
+		assertEquals(0, GrammarPoolCache.size());
+	}
+
+	@Test
+	public void testKeyDependsOnContentsAndSettings() throws Exception {
+		List<Schema> schemas = new DummySchemasProviderImpl("id", XSD_A).getSchemas();
+		List<Schema> sameSchemas = new DummySchemasProviderImpl("other id", XSD_A).getSchemas();
+		List<Schema> otherSchemas = new DummySchemasProviderImpl("id", XSD_B).getSchemas();
+
+		assertEquals(GrammarPoolCache.computeKey(schemas, "1.1", false), GrammarPoolCache.computeKey(sameSchemas, "1.1", false));
+		assertNotEquals(GrammarPoolCache.computeKey(schemas, "1.1", false), GrammarPoolCache.computeKey(otherSchemas, "1.1", false));
+		assertNotEquals(GrammarPoolCache.computeKey(schemas, "1.1", false), GrammarPoolCache.computeKey(schemas, "1.0", false));
+	}
+}
@@ -0,0 +1,150 @@
+package org.frankframework.xml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xml.sax.SAXException;
+
+import org.frankframework.stream.Message;
+import org.frankframework.util.TransformerPool;
+import org.frankframework.util.TransformerPool.OutputType;
+import org.frankframework.util.XmlUtils;
+
+public class StreamingXPathEvaluatorTest {
+
+	private static final String NAMESPACE_DEFS = "a=urn:a b=urn:b";
+	private static final String INPUT = """
+			<root xmlns:a="urn:a" id="r1">
+				<header type="x">
+					<id>first</id>
+					<!-- comment -->
+					<id>  second <b>bold</b> text </id>
+				</header>
+				<header type="y"><id>third</id></header>
+				<a:item a:code="A1" code="plain">
+					<a:name>namespaced</a:name>
+					<name xml:space="preserve">   </name>
+				</a:item>
+				<list><entry>1</entry><entry>2</entry><nested><entry>3</entry></nested></list>
+				<empty/>
+				<mixed>one<!-- c -->two<![CDATA[ <three> & ]]></mixed>
+			</root>""";
+
+	private static String evaluateWithXslt(String namespaceDefs, String xpath, OutputType outputType, int xsltVersion) throws Exception {
+		String xslt = XmlUtils.createXPathEvaluatorSource(namespaceDefs, xpath, outputType, false, null, true, StringUtils.isEmpty(namespaceDefs), xsltVersion);
+		return TransformerPool.getInstance(xslt, xsltVersion, null).transformToString(INPUT);
+	}
+
+	private static void assertSameResultAsXslt(String namespaceDefs, String xpath, OutputType outputType, int xsltVersion) throws Exception {
+		StreamingXPathEvaluator evaluator = StreamingXPathEvaluator.compile(namespaceDefs, xpath, outputType, xsltVersion);
+		assertNotNull(evaluator, "expression [" + xpath + "] should be supported");
+		assertEquals(evaluateWithXslt(namespaceDefs, xpath, outputType, xsltVersion), evaluator.evaluate(new Message(INPUT)), "xpath [" + xpath + "] xslt" + xsltVersion);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"/root/@id",
+			"root/header/@type",
+			"/root/header[1]/id",
+			"/root/header/id",
+			"/root/header/id[2]",
+			"/root/header[@type='y']/id",
+			"/root/header[@type = \"x\"][2]/id",
+			"/root/header/id/text()",
+			"/root/header/id[2]/text()",
+			"//entry",
+			"//entry[1]",
+			"/root/list//entry",
+			"//nested/entry/text()",
+			"/root/*[2]/@type",
+			"/root/item/name",
+			"/root/empty",
+			"/root/mixed",
+			"/root/mixed/text()",
+			"/root/missing",
+			"/root/header[3]/id"
+	})
+	void sameResultAsXslt(String xpath) throws Exception {
+		assertSameResultAsXslt(null, xpath, OutputType.TEXT, 2);
+		assertSameResultAsXslt(null, xpath, OutputType.TEXT, 1);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"/root/a:item/a:name",
+			"/root/a:item/@a:code",
+			"/root/a:item/@code",
+			"/root/a:item/name",
+			"/root/a:item[@a:code='A1']/a:name",
+			"/root/item",
+			"//a:*"
+	})
+	void sameResultAsXsltWithNamespaces(String xpath) throws Exception {
+		assertSameResultAsXslt(NAMESPACE_DEFS, xpath, OutputType.TEXT, 2);
+		assertSameResultAsXslt(NAMESPACE_DEFS, xpath, OutputType.TEXT, 1);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"/root/mixed/text()", "/root/header/id/text()"})
+	void sameResultAsXsltForXmlOutput(String xpath) throws Exception {
+		assertSameResultAsXslt(null, xpath, OutputType.XML, 2);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"count(/root/header)",
+			"/root/header[last()]",
+			"/root/header[id='first']",
+			"/root/header[@type=1]",
+			"/root/@*",
+			"/root//@type",
+			"/root/header | /root/list",
+			"/root/header/..",
+			"child::root",
+			"/root/b:item",
+			"$param",
+			"name(/node()[position()=last()])"
+	})
+	void unsupportedExpressions(String xpath) {
+		assertNull(StreamingXPathEvaluator.compile(null, xpath, OutputType.TEXT, 2));
+	}
+
+	@Test
+	void elementsAreNotSupportedForXmlOutput() {
+		assertNull(StreamingXPathEvaluator.compile(null, "/root/header", OutputType.XML, 2));
+		assertNull(StreamingXPathEvaluator.compile("=urn:default", "/root/header", OutputType.TEXT, 2));
+	}
+
+	@Test
+	void stopsParsingWhenResultIsDetermined() throws Exception {
+		// The remainder of the message is not well-formed, so it must not be parsed
+		String head = "<root id=\"r1\"><header><id>first</id></header><header><id>second</id></header>";
+		InputStream input = new SequenceInputStream(new ByteArrayInputStream(head.getBytes(StandardCharsets.UTF_8)), new ByteArrayInputStream("<broken".getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals("first", StreamingXPathEvaluator.compile(null, "/root/header[1]/id[1]", OutputType.TEXT, 2).evaluate(new Message(input)));
+		assertEquals("r1", StreamingXPathEvaluator.compile(null, "/root/@id", OutputType.TEXT, 2).evaluate(head + "<broken"));
+		assertEquals("first", StreamingXPathEvaluator.compile(null, "/root/header/id", OutputType.TEXT, 1).evaluate(head + "<broken"));
+
+		StreamingXPathEvaluator allHeaders = StreamingXPathEvaluator.compile(null, "/root/header/id", OutputType.TEXT, 2);
+		assertThrows(SAXException.class, () -> allHeaders.evaluate(head + "<broken"));
+	}
+
+	@Test
+	void transformerPoolUsesStreamingEvaluation() throws Exception {
+		TransformerPool transformerPool = TransformerPool.getXPathTransformerPool(null, "/root/header[1]/id[1]", OutputType.TEXT, false, null, 2);
+
+		assertEquals("first", transformerPool.transformToString(new Message("<root><header><id>first</id></header><broken")));
+		assertEquals("first", transformerPool.transformToString("<root><header><id>first</id></header><broken"));
+	}
+}
@@ -67,3 +67,19 @@ function returnObject() {
 function returnArray() {
 	return [1, 3, 5];
 }
+
+// Used to test that the global state is reset between messages.
+var counter = 0;
+const state = { calls: 0 };
+
+function countCalls() {
+	var leakedBefore = typeof leaked;
+	leaked = "leaked";
+	counter++;
+	state.calls++;
+	return counter + "," + state.calls + "," + leakedBefore;
+}
+
+function callSender() {
+	return myFunction("dummy");
+}
@@ -37,6 +37,11 @@ public class Db2DbmsSupport extends GenericDbmsSupport {
 		return Dbms.DB2;
 	}
 
+	@Override
+	public int getMaxMultiRowInsertRows(int parametersPerRow) {
+		return getMultiRowInsertRows(Short.MAX_VALUE, parametersPerRow);
+	}
+
 	@Override
 	public boolean hasSkipLockedFunctionality() {
 		return true;
@@ -23,6 +23,8 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -31,6 +33,7 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 class DbmsUtil {
+	private static final Pattern INSERT_VALUES_PATTERN = Pattern.compile("^\\s*(INSERT\\s+INTO\\s.*?\\bVALUES\\s*)(\\(.*\\))\\s*;?\\s*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
 	/**
 	 * Executes query that returns a string. Returns {@literal null} if no results are found.
@@ -173,4 +176,43 @@ class DbmsUtil {
 		}
 		return sb.toString();
 	}
+
+	/**
+	 * Rewrites an {@code INSERT INTO ... VALUES (...)} statement with a single row of values into a statement that inserts that row
+	 * {@code rows} times, e.g. {@code INSERT INTO T (A,B) VALUES (?,?),(?,?)}. Parameters are numbered row by row.
+	 *
+	 * @throws DbmsException if the query is not an INSERT statement with a single row of values
+	 */
+	static String createMultiRowInsertQuery(String insertQuery, int rows) throws DbmsException {
+		Matcher matcher = INSERT_VALUES_PATTERN.matcher(insertQuery);
+		if (!matcher.matches() || !isSingleGroup(matcher.group(2))) {
+			throw new DbmsException("query [" + insertQuery + "] is not an INSERT statement with a single row of VALUES");
+		}
+		String row = matcher.group(2);
+		StringBuilder query = new StringBuilder(matcher.group(1).length() + rows * (row.length() + 1));
+		query.append(matcher.group(1)).append(row);
+		for (int i = 1; i < rows; i++) {
+			query.append(',').append(row);
+		}
+		return query.toString();
+	}
+
+	/**
+	 * Returns true when the opening parenthesis at the start of the text is closed at the end of the text, ignoring parentheses in quoted literals.
+	 */
+	private static boolean isSingleGroup(String text) {
+		int depth = 0;
+		boolean quoted = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			} else if (!quoted && c == '(') {
+				depth++;
+			} else if (!quoted && c == ')' && --depth == 0 && i < text.length() - 1) {
+				return false;
+			}
+		}
+		return depth == 0 && !quoted;
+	}
 }
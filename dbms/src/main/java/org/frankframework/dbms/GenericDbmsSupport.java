@@ -50,6 +50,7 @@ public class GenericDbmsSupport implements IDbmsSupport {
 	protected final Logger log = LogManager.getLogger(this.getClass());
 
 	protected static final String KEYWORD_SELECT = "select";
+	protected static final int MAX_MULTI_ROW_INSERT_ROWS = 1000;
 	protected static final Map<String, ISqlTranslator> sqlTranslators = new HashMap<>();
 
 	@Override
@@ -57,6 +58,13 @@ public class GenericDbmsSupport implements IDbmsSupport {
 		return Dbms.GENERIC;
 	}
 
+	/**
+	 * Returns the number of rows of a multi-row INSERT statement, limited by the maximum number of parameters that the dbms allows in a statement.
+	 */
+	protected static int getMultiRowInsertRows(int maxParameters, int parametersPerRow) {
+		return Math.min(MAX_MULTI_ROW_INSERT_ROWS, maxParameters / Math.max(parametersPerRow, 1));
+	}
+
 	@Override
 	public boolean hasSkipLockedFunctionality() {
 		return false;
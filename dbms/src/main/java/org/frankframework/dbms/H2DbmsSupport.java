@@ -116,6 +116,11 @@ public class H2DbmsSupport extends GenericDbmsSupport {
 		return Dbms.H2;
 	}
 
+	@Override
+	public int getMaxMultiRowInsertRows(int parametersPerRow) {
+		return getMultiRowInsertRows(Short.MAX_VALUE, parametersPerRow);
+	}
+
 	@Override
 	public boolean hasSkipLockedFunctionality() {
 		return dbmsHasSkipLockedFunctionality;
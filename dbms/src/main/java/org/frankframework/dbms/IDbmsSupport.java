@@ -209,6 +209,55 @@ public interface IDbmsSupport {
 		return true;
 	}
 
+	/**
+	 * DBMS Feature flag: can a connection be notified of changes, using {@link #listen(Connection, String)} and {@link #awaitNotification(Connection, int)}.
+	 */
+	default boolean isNotificationSupported() {
+		return false;
+	}
+
+	/**
+	 * Registers the connection to receive the notifications that are sent to the channel. The connection must be in auto-commit mode.
+	 */
+	default void listen(@NonNull Connection conn, @NonNull String channel) throws SQLException, DbmsException {
+		throw new DbmsException("notifications are not supported for [" + getDbmsName() + "]");
+	}
+
+	/**
+	 * Waits at most {@code timeout} milliseconds for notifications on a connection that has been registered using {@link #listen(Connection, String)}.
+	 *
+	 * @return true if at least one notification was received
+	 */
+	default boolean awaitNotification(@NonNull Connection conn, int timeout) throws SQLException, DbmsException {
+		throw new DbmsException("notifications are not supported for [" + getDbmsName() + "]");
+	}
+
+	/**
+	 * Returns the statements that create a trigger on the table, that sends a notification to the channel when rows are inserted or updated.
+	 */
+	default @NonNull List<String> getNotificationTriggerStatements(@NonNull String tableName, @NonNull String channel) throws DbmsException {
+		throw new DbmsException("notifications are not supported for [" + getDbmsName() + "]");
+	}
+
+	/**
+	 * Returns the maximum number of rows that can be inserted by a single INSERT statement with multiple rows of VALUES, when every row has
+	 * {@code parametersPerRow} parameters. Returns 0 when multi-row inserts should not be used, and batches of inserts are executed with
+	 * {@link java.sql.Statement#executeBatch()}, e.g. because the driver already sends a batch to the database in a single round trip.
+	 */
+	default int getMaxMultiRowInsertRows(int parametersPerRow) {
+		return 0;
+	}
+
+	/**
+	 * Rewrites an {@code INSERT INTO ... VALUES (...)} statement with a single row of values into a statement that inserts {@code rows} rows.
+	 * The parameters of the resulting statement are numbered row by row.
+	 *
+	 * @throws DbmsException if the query is not an INSERT statement with a single row of values
+	 */
+	default @NonNull String getMultiRowInsertQuery(@NonNull String insertQuery, int rows) throws DbmsException {
+		return DbmsUtil.createMultiRowInsertQuery(insertQuery, rows);
+	}
+
 	/**
 	 * @param resultSetMetaData
 	 * @param columnNumber
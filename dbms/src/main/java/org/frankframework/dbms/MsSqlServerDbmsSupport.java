@@ -38,6 +38,11 @@ public class MsSqlServerDbmsSupport extends GenericDbmsSupport {
 		return Dbms.MSSQL;
 	}
 
+	@Override
+	public int getMaxMultiRowInsertRows(int parametersPerRow) {
+		return getMultiRowInsertRows(2000, parametersPerRow); // SQL Server allows at most 2100 parameters per statement
+	}
+
 	@Override
 	public boolean isParameterTypeMatchRequired() {
 		return true;
@@ -32,6 +32,11 @@ public class MySqlDbmsSupport extends GenericDbmsSupport {
 		return Dbms.MYSQL;
 	}
 
+	@Override
+	public int getMaxMultiRowInsertRows(int parametersPerRow) {
+		return getMultiRowInsertRows(Short.MAX_VALUE, parametersPerRow);
+	}
+
 	@Override
 	public boolean hasSkipLockedFunctionality() {
 		return true;
@@ -1,5 +1,5 @@
 /*
-Copyright 2020-2023 WeAreFrank!
+Copyright 2020-2023, 2026 WeAreFrank!
 
 Licensed under the Apache License, Version 2.0 (the "License");
 you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -49,6 +50,8 @@ import org.frankframework.util.StreamUtil;
  */
 public class PostgresqlDbmsSupport extends GenericDbmsSupport {
 
+	private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+
 	private final boolean useLargeObjectFeature = false;
 
 	@Override
@@ -56,6 +59,11 @@ public class PostgresqlDbmsSupport extends GenericDbmsSupport {
 		return Dbms.POSTGRESQL;
 	}
 
+	@Override
+	public int getMaxMultiRowInsertRows(int parametersPerRow) {
+		return getMultiRowInsertRows(Short.MAX_VALUE, parametersPerRow);
+	}
+
 	@Override
 	public boolean isParameterTypeMatchRequired() {
 		return true;
@@ -333,4 +341,47 @@ public class PostgresqlDbmsSupport extends GenericDbmsSupport {
 	public boolean isStoredProcedureResultSetSupported() {
 		return false;
 	}
+
+	@Override
+	public boolean isNotificationSupported() {
+		return true;
+	}
+
+	@Override
+	public void listen(@NonNull Connection conn, @NonNull String channel) throws SQLException {
+		try (Statement stmt = conn.createStatement()) {
+			stmt.execute("LISTEN " + channel);
+		}
+	}
+
+	/**
+	 * Uses {@code PGConnection.getNotifications(int)} of the PostgreSQL JDBC driver, that is accessed reflectively as the driver is not a dependency of this module.
+	 */
+	@Override
+	public boolean awaitNotification(@NonNull Connection conn, int timeout) throws SQLException, DbmsException {
+		try {
+			Class<?> pgConnectionClass = Class.forName(PG_CONNECTION_CLASS, true, Thread.currentThread().getContextClassLoader());
+			Object pgConnection = conn.unwrap(pgConnectionClass);
+			// a timeout of 0 would block until a notification arrives
+			Object[] notifications = (Object[]) pgConnectionClass.getMethod("getNotifications", int.class).invoke(pgConnection, Math.max(timeout, 1));
+			return notifications != null && notifications.length > 0;
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof SQLException sqle) {
+				throw sqle;
+			}
+			throw new DbmsException("cannot receive notifications", e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new DbmsException("cannot receive notifications, PostgreSQL JDBC driver [" + PG_CONNECTION_CLASS + "] not available", e);
+		}
+	}
+
+	@Override
+	public @NonNull List<String> getNotificationTriggerStatements(@NonNull String tableName, @NonNull String channel) {
+		String function = channel + "_notify";
+		return List.of(
+				"CREATE OR REPLACE FUNCTION " + function + "() RETURNS trigger AS $$ BEGIN PERFORM pg_notify('" + channel + "', ''); RETURN NULL; END; $$ LANGUAGE plpgsql",
+				"DROP TRIGGER IF EXISTS " + channel + "_trigger ON " + tableName,
+				"CREATE TRIGGER " + channel + "_trigger AFTER INSERT OR UPDATE ON " + tableName + " FOR EACH STATEMENT EXECUTE PROCEDURE " + function + "()"
+		);
+	}
 }
@@ -1,6 +1,7 @@
 package org.frankframework.dbms;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 
@@ -23,4 +24,20 @@ public class GenericDbmsSupportTest {
 		assertEquals(query4, result.get(3));
 	}
 
+	@Test
+	public void testMultiRowInsertQuery() throws DbmsException {
+		IDbmsSupport dbmsSupport = new GenericDbmsSupport();
+		assertEquals("INSERT INTO T (A, B) VALUES (?, 'x)'),(?, 'x)'),(?, 'x)')", dbmsSupport.getMultiRowInsertQuery("INSERT INTO T (A, B) VALUES (?, 'x)');", 3));
+		assertEquals("insert into T(A,B)values(?,COALESCE(?,0)),(?,COALESCE(?,0))", dbmsSupport.getMultiRowInsertQuery("insert into T(A,B)values(?,COALESCE(?,0))", 2));
+		assertThrows(DbmsException.class, () -> dbmsSupport.getMultiRowInsertQuery("INSERT INTO T (A) SELECT A FROM S", 2));
+		assertThrows(DbmsException.class, () -> dbmsSupport.getMultiRowInsertQuery("INSERT INTO T (A) VALUES (?),(?)", 2));
+	}
+
+	@Test
+	public void testMaxMultiRowInsertRows() {
+		assertEquals(0, new GenericDbmsSupport().getMaxMultiRowInsertRows(2));
+		assertEquals(0, new OracleDbmsSupport().getMaxMultiRowInsertRows(2));
+		assertEquals(1000, new PostgresqlDbmsSupport().getMaxMultiRowInsertRows(2));
+		assertEquals(100, new MsSqlServerDbmsSupport().getMaxMultiRowInsertRows(20));
+	}
 }
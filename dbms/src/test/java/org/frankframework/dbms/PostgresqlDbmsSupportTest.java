@@ -0,0 +1,42 @@
+package org.frankframework.dbms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PostgresqlDbmsSupportTest {
+
+	@Test
+	void testNotificationSupported() {
+		assertTrue(new PostgresqlDbmsSupport().isNotificationSupported());
+		assertFalse(new H2DbmsSupport().isNotificationSupported());
+	}
+
+	@Test
+	void testNotificationTriggerStatements() {
+		List<String> statements = new PostgresqlDbmsSupport().getNotificationTriggerStatements("IBISTEMP", "ibistemp_changed");
+
+		assertEquals(3, statements.size());
+		assertEquals("CREATE OR REPLACE FUNCTION ibistemp_changed_notify() RETURNS trigger AS $$ BEGIN PERFORM pg_notify('ibistemp_changed', ''); RETURN NULL; END; $$ LANGUAGE plpgsql", statements.get(0));
+		assertEquals("DROP TRIGGER IF EXISTS ibistemp_changed_trigger ON IBISTEMP", statements.get(1));
+		assertEquals("CREATE TRIGGER ibistemp_changed_trigger AFTER INSERT OR UPDATE ON IBISTEMP FOR EACH STATEMENT EXECUTE PROCEDURE ibistemp_changed_notify()", statements.get(2));
+	}
+
+	@Test
+	void testNotificationsNotSupported() {
+		assertThrows(DbmsException.class, () -> new H2DbmsSupport().getNotificationTriggerStatements("IBISTEMP", "ibistemp_changed"));
+	}
+
+	@Test
+	void testAwaitNotificationWithoutDriver() {
+		// The PostgreSQL driver is not on the classpath of this module
+		assertThrows(DbmsException.class, () -> new PostgresqlDbmsSupport().awaitNotification(mock(Connection.class), 10));
+	}
+}
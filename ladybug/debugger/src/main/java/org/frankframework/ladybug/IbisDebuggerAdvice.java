@@ -113,6 +113,18 @@ public class IbisDebuggerAdvice implements InitializingBean, ThreadLifeCycleEven
 			return (PipeLineResult)proceedingJoinPoint.proceed();
 		}
 		String correlationId = getCorrelationId(pipeLineSession);
+		reportGenerator.pipelineStarted(pipeLine, correlationId);
+		boolean failed = true;
+		try {
+			PipeLineResult pipeLineResult = debugPipeLine(proceedingJoinPoint, pipeLine, correlationId, message, pipeLineSession);
+			failed = !pipeLineResult.isSuccessful();
+			return pipeLineResult;
+		} finally {
+			reportGenerator.pipelineFinished(correlationId, failed);
+		}
+	}
+
+	private PipeLineResult debugPipeLine(ProceedingJoinPoint proceedingJoinPoint, PipeLine pipeLine, String correlationId, Message message, PipeLineSession pipeLineSession) throws Throwable {
 		reportGenerator.pipelineInput(pipeLine, correlationId, message);
 		TreeSet<String> keys = new TreeSet<>(pipeLineSession.keySet());
 		for (String sessionKey : keys) {
@@ -22,11 +22,14 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.ClassUtils;
 import org.wearefrank.ladybug.TestTool;
 
+import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
@@ -38,14 +41,20 @@ import org.frankframework.core.ISender;
 import org.frankframework.core.PipeLine;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.parameters.IParameter;
+import org.frankframework.ladybug.ReportSampler.Capture;
 import org.frankframework.stream.Message;
+import org.frankframework.util.AppConstants;
 import org.frankframework.util.LogUtil;
 
 /**
  * Interface between the AOP config and the Ladybug. Takes care of boilerplate code such as report name, checkpoint names, pipe descriptions.
+ * <p>
+ * When sampling or asynchronous storage has been configured, a {@link ReportSampler} decides per pipeline invocation whether its checkpoints
+ * are sent to Ladybug directly, kept until the pipeline has finished, or ignored.
+ * </p>
  */
 @Log4j2
-public class LadybugReportGenerator implements InitializingBean {
+public class LadybugReportGenerator implements InitializingBean, DisposableBean {
 	private static final Logger APPLICATION_LOG = LogUtil.getLogger("APPLICATION");
 
 	private static final String REPORT_PIPELINE_PREFIX = "Pipeline ";
@@ -55,6 +64,7 @@ public class LadybugReportGenerator implements InitializingBean {
 
 	private TestTool testTool;
 	private @Setter @Autowired PipeDescriptionProvider pipeDescriptionProvider;
+	private @Setter(AccessLevel.PACKAGE) @Nullable ReportSampler reportSampler;
 
 	@Autowired
 	public void setTestTool(TestTool testTool) {
@@ -68,6 +78,60 @@ public class LadybugReportGenerator implements InitializingBean {
 			log.info("no TestTool or pipeDescriptionProvider found on classpath, skipping testtool wireing.");
 			APPLICATION_LOG.info("No TestTool or pipeDescriptionProvider found on classpath, skipping testtool wireing.");
 		}
+		reportSampler = ReportSampler.create(AppConstants.getInstance());
+		if (reportSampler != null) {
+			APPLICATION_LOG.info("Ladybug reports are sampled or stored asynchronously");
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (reportSampler != null) {
+			reportSampler.close();
+		}
+	}
+
+	/**
+	 * Sends the checkpoint to Ladybug, keeps it until the pipeline has finished, or ignores it, depending on the {@link ReportSampler}.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> T checkpoint(@Nullable String correlationId, T value, ReportSampler.Checkpoint checkpoint) {
+		Capture capture = reportSampler == null ? Capture.DIRECT : reportSampler.getCapture(correlationId);
+		return switch (capture) {
+			case DIRECT -> (T) checkpoint.report(testTool, value, extractMessageContext(value));
+			case KEPT -> {
+				if (correlationId != null && !(value instanceof WriterPlaceHolder)) { // XML can only be inspected while it is being processed
+					reportSampler.keep(correlationId, checkpoint, value, extractMessageContext(value));
+				}
+				yield value;
+			}
+			case SKIPPED -> value;
+		};
+	}
+
+	/**
+	 * Thread checkpoints are only sent to Ladybug directly, kept reports are written without them.
+	 */
+	private boolean isReportedDirectly(@Nullable String correlationId) {
+		return reportSampler == null || reportSampler.getCapture(correlationId) == Capture.DIRECT;
+	}
+
+	/**
+	 * Marks the start of a pipeline, before its first checkpoint.
+	 */
+	public void pipelineStarted(PipeLine pipeLine, @Nullable String correlationId) {
+		if (reportSampler != null) {
+			reportSampler.begin(correlationId, pipeLine instanceof FrankPlugin frankPlugin ? frankPlugin.getDisplayName() : pipeLine.getAdapter().getName());
+		}
+	}
+
+	/**
+	 * Marks the end of a pipeline, after its last checkpoint.
+	 */
+	public void pipelineFinished(@Nullable String correlationId, boolean failed) {
+		if (reportSampler != null) {
+			reportSampler.end(correlationId, failed, testTool);
+		}
 	}
 
 	// combines the config and adapter-names so each report is unique and can be 'rerun'.
@@ -82,7 +146,7 @@ public class LadybugReportGenerator implements InitializingBean {
 	}
 
 	public Message pipelineInput(PipeLine pipeLine, String correlationId, Message input) {
-		return testTool.startpoint(correlationId, classNameOf(pipeLine), getName(pipeLine), input, extractMessageContext(input));
+		return checkpoint(correlationId, input, (tt, value, context) -> tt.startpoint(correlationId, classNameOf(pipeLine), getName(pipeLine), value, context));
 	}
 
 	@NonNull
@@ -98,85 +162,125 @@ public class LadybugReportGenerator implements InitializingBean {
 	}
 
 	public Message pipelineOutput(PipeLine pipeLine, String correlationId, Message output) {
-		return testTool.endpoint(correlationId, classNameOf(pipeLine), getName(pipeLine), output, extractMessageContext(output));
+		return checkpoint(correlationId, output, (tt, value, context) -> tt.endpoint(correlationId, classNameOf(pipeLine), getName(pipeLine), value, context));
 	}
 
 	public Message pipelineAbort(PipeLine pipeLine, String correlationId, Message output) {
-		return testTool.abortpoint(correlationId, classNameOf(pipeLine), getName(pipeLine), output, extractMessageContext(output));
+		return checkpoint(correlationId, output, (tt, value, context) -> tt.abortpoint(correlationId, classNameOf(pipeLine), getName(pipeLine), value, context));
 	}
 
 	public Throwable pipelineAbort(PipeLine pipeLine, String correlationId, Throwable throwable) {
-		testTool.abortpoint(correlationId, classNameOf(pipeLine), getName(pipeLine), throwable);
+		checkpoint(correlationId, throwable, (tt, value, context) -> {
+			tt.abortpoint(correlationId, classNameOf(pipeLine), getName(pipeLine), (Throwable) value);
+			return value;
+		});
 		return throwable;
 	}
 
 	public <T> T pipeInput(PipeLine pipeLine, IPipe pipe, String correlationId, T input) {
+		if (reportSampler != null && reportSampler.getCapture(correlationId) == Capture.SKIPPED) {
+			return input;
+		}
 		PipeDescription pipeDescription = pipeDescriptionProvider.getPipeDescription(pipeLine, pipe);
-		T result = testTool.startpoint(correlationId, classNameOf(pipe), pipeDescription.getCheckpointName(), input, extractMessageContext(input));
+		T result = checkpoint(correlationId, input, (tt, value, context) -> tt.startpoint(correlationId, classNameOf(pipe), pipeDescription.getCheckpointName(), value, context));
 		if (pipeDescription.getDescription() != null) {
-			testTool.infopoint(correlationId, classNameOf(pipe), pipeDescription.getCheckpointName(), pipeDescription.getDescription());
+			checkpoint(correlationId, pipeDescription.getDescription(), (tt, value, context) -> {
+				tt.infopoint(correlationId, classNameOf(pipe), pipeDescription.getCheckpointName(), (String) value);
+				return value;
+			});
 			for (String resourceName : pipeDescription.getResourceNames()) {
-				testTool.infopoint(correlationId, classNameOf(pipe), resourceName, pipeDescriptionProvider.getResource(pipeLine, resourceName));
+				String resource = pipeDescription.getResource(resourceName, name -> pipeDescriptionProvider.getResource(pipeLine, name));
+				checkpoint(correlationId, resource, (tt, value, context) -> {
+					tt.infopoint(correlationId, classNameOf(pipe), resourceName, (String) value);
+					return value;
+				});
 			}
 		}
 		return result;
 	}
 
 	public <T> T pipeOutput(PipeLine pipeLine, IPipe pipe, String correlationId, T output) {
+		if (reportSampler != null && reportSampler.getCapture(correlationId) == Capture.SKIPPED) {
+			return output;
+		}
 		PipeDescription pipeDescription = pipeDescriptionProvider.getPipeDescription(pipeLine, pipe);
-		return testTool.endpoint(correlationId, classNameOf(pipe), pipeDescription.getCheckpointName(), output, extractMessageContext(output));
+		return checkpoint(correlationId, output, (tt, value, context) -> tt.endpoint(correlationId, classNameOf(pipe), pipeDescription.getCheckpointName(), value, context));
 	}
 
 	public Throwable pipeAbort(PipeLine pipeLine, IPipe pipe, String correlationId, Throwable throwable) {
+		if (reportSampler != null && reportSampler.getCapture(correlationId) == Capture.SKIPPED) {
+			return throwable;
+		}
 		PipeDescription pipeDescription = pipeDescriptionProvider.getPipeDescription(pipeLine, pipe);
-		testTool.abortpoint(correlationId, classNameOf(pipe), pipeDescription.getCheckpointName(), throwable);
+		checkpoint(correlationId, throwable, (tt, value, context) -> {
+			tt.abortpoint(correlationId, classNameOf(pipe), pipeDescription.getCheckpointName(), (Throwable) value);
+			return value;
+		});
 		return throwable;
 	}
 
 	public <T> T senderInput(ISender sender, String correlationId, T input) {
-		return testTool.startpoint(correlationId, classNameOf(sender), getCheckpointNameForINamedObject(REPORT_SENDER_PREFIX, sender), input, extractMessageContext(input));
+		return checkpoint(correlationId, input, (tt, value, context) -> tt.startpoint(correlationId, classNameOf(sender), getCheckpointNameForINamedObject(REPORT_SENDER_PREFIX, sender), value, context));
 	}
 
 	public <T> T senderOutput(ISender sender, String correlationId, T output) {
-		return testTool.endpoint(correlationId, classNameOf(sender), getCheckpointNameForINamedObject(REPORT_SENDER_PREFIX, sender), output, extractMessageContext(output));
+		return checkpoint(correlationId, output, (tt, value, context) -> tt.endpoint(correlationId, classNameOf(sender), getCheckpointNameForINamedObject(REPORT_SENDER_PREFIX, sender), value, context));
 	}
 
 	public Throwable senderAbort(ISender sender, String correlationId, Throwable throwable){
-		testTool.abortpoint(correlationId, classNameOf(sender), getCheckpointNameForINamedObject(REPORT_SENDER_PREFIX, sender), throwable);
+		checkpoint(correlationId, throwable, (tt, value, context) -> {
+			tt.abortpoint(correlationId, classNameOf(sender), getCheckpointNameForINamedObject(REPORT_SENDER_PREFIX, sender), (Throwable) value);
+			return value;
+		});
 		return throwable;
 	}
 
 	public String replyListenerInput(IListener<?> listener, String correlationId, String input) {
-		return testTool.startpoint(correlationId, classNameOf(listener), getCheckpointNameForINamedObject(REPORT_LISTENER_PREFIX, listener), input, extractMessageContext(input));
+		return checkpoint(correlationId, input, (tt, value, context) -> tt.startpoint(correlationId, classNameOf(listener), getCheckpointNameForINamedObject(REPORT_LISTENER_PREFIX, listener), value, context));
 	}
 
 	public <M> M replyListenerOutput(IListener<M> listener, String correlationId, M output) {
-		return testTool.endpoint(correlationId, classNameOf(listener), getCheckpointNameForINamedObject(REPORT_LISTENER_PREFIX, listener), output, extractMessageContext(output));
+		return checkpoint(correlationId, output, (tt, value, context) -> tt.endpoint(correlationId, classNameOf(listener), getCheckpointNameForINamedObject(REPORT_LISTENER_PREFIX, listener), value, context));
 	}
 
 	public Throwable replyListenerAbort(IListener<?> listener, String correlationId, Throwable throwable){
-		testTool.abortpoint(correlationId, classNameOf(listener), getCheckpointNameForINamedObject(REPORT_LISTENER_PREFIX, listener), throwable);
+		checkpoint(correlationId, throwable, (tt, value, context) -> {
+			tt.abortpoint(correlationId, classNameOf(listener), getCheckpointNameForINamedObject(REPORT_LISTENER_PREFIX, listener), (Throwable) value);
+			return value;
+		});
 		return throwable;
 	}
 
 	public void createThread(Object sourceObject, String threadId, String correlationId) {
-		testTool.threadCreatepoint(correlationId, threadId);
+		if (isReportedDirectly(correlationId)) {
+			testTool.threadCreatepoint(correlationId, threadId);
+		}
 	}
 
 	public void cancelThread(Object sourceObject, String threadId, String correlationId) {
-		testTool.close(correlationId, threadId);
+		if (isReportedDirectly(correlationId)) {
+			testTool.close(correlationId, threadId);
+		}
 	}
 
 	public Object startThread(Object sourceObject, String threadId, String correlationId, Object input) {
+		if (!isReportedDirectly(correlationId)) {
+			return input;
+		}
 		return testTool.threadStartpoint(correlationId, threadId, classNameOf(sourceObject), getCheckpointNameForThread(), input, extractMessageContext(input));
 	}
 
 	public Object endThread(Object sourceObject, String correlationId, Object output) {
+		if (!isReportedDirectly(correlationId)) {
+			return output;
+		}
 		return testTool.threadEndpoint(correlationId, classNameOf(sourceObject), getCheckpointNameForThread(), output, extractMessageContext(output));
 	}
 
 	public Throwable abortThread(Object sourceObject, String correlationId, Throwable throwable) {
-		testTool.abortpoint(correlationId, null, getCheckpointNameForThread(), throwable);
+		if (isReportedDirectly(correlationId)) {
+			testTool.abortpoint(correlationId, null, getCheckpointNameForThread(), throwable);
+		}
 		return throwable;
 	}
 
@@ -204,10 +308,11 @@ public class LadybugReportGenerator implements InitializingBean {
 			} else {
 				hiddenValue = "*** MASKED ***";
 			}
-			testTool.inputpoint(correlationId, null, REPORT_PARAMETER_PREFIX + parameter.getName(), hiddenValue, extractMessageContext(value));
+			Map<String, Object> messageContext = extractMessageContext(value);
+			checkpoint(correlationId, hiddenValue, (tt, hidden, context) -> tt.inputpoint(correlationId, null, REPORT_PARAMETER_PREFIX + parameter.getName(), hidden, messageContext));
 			return value;
 		}
-		return testTool.inputpoint(correlationId, null, REPORT_PARAMETER_PREFIX + parameter.getName(), value, extractMessageContext(value));
+		return checkpoint(correlationId, value, (tt, resolved, context) -> tt.inputpoint(correlationId, null, REPORT_PARAMETER_PREFIX + parameter.getName(), resolved, context));
 	}
 
 	public Object sessionOutputPoint(String correlationId, String sessionKey, Object result) {
@@ -216,7 +321,8 @@ public class LadybugReportGenerator implements InitializingBean {
 			name = "SystemKey " + sessionKey;
 		}
 
-		return testTool.outputpoint(correlationId, null, name, result, extractMessageContext(result));
+		String checkpointName = name;
+		return checkpoint(correlationId, result, (tt, value, context) -> tt.outputpoint(correlationId, null, checkpointName, value, context));
 	}
 
 	public Object sessionInputPoint(String correlationId, String sessionKey, Object result) {
@@ -224,23 +330,24 @@ public class LadybugReportGenerator implements InitializingBean {
 		if(sessionKey.startsWith(PipeLineSession.SYSTEM_MANAGED_RESOURCE_PREFIX)) {
 			name = "SystemKey " + sessionKey;
 		}
-		return testTool.inputpoint(correlationId, null, name, result, extractMessageContext(result));
+		String checkpointName = name;
+		return checkpoint(correlationId, result, (tt, value, context) -> tt.inputpoint(correlationId, null, checkpointName, value, context));
 	}
 
 	public <T> T showInfoValue(String correlationId, String name, T value) {
-		return testTool.infopoint(correlationId, null, name, value, extractMessageContext(value));
+		return checkpoint(correlationId, value, (tt, v, context) -> tt.infopoint(correlationId, null, name, v, context));
 	}
 
 	public <T> T showInputValue(String correlationId, String name, T value) {
-		return testTool.inputpoint(correlationId, null, name, value, extractMessageContext(value));
+		return checkpoint(correlationId, value, (tt, v, context) -> tt.inputpoint(correlationId, null, name, v, context));
 	}
 
 	public <T> T showOutputValue(String correlationId, String name, T value) {
-		return testTool.outputpoint(correlationId, null, name, value, extractMessageContext(value));
+		return checkpoint(correlationId, value, (tt, v, context) -> tt.outputpoint(correlationId, null, name, v, context));
 	}
 
 	public Message preserveInput(String correlationId, Message input) {
-		return testTool.outputpoint(correlationId, null, "PreserveInput", input, extractMessageContext(input));
+		return checkpoint(correlationId, input, (tt, value, context) -> tt.outputpoint(correlationId, null, "PreserveInput", value, context));
 	}
 
 	private static String getCheckpointNameForINamedObject(String checkpointNamePrefix, HasName object) {
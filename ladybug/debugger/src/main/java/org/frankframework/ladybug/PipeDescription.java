@@ -17,6 +17,9 @@ package org.frankframework.ladybug;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Description of a pipe. The description contains the XML configuration for the
@@ -28,6 +31,7 @@ public class PipeDescription {
 	private String checkpointName;
 	private String description;
 	private final List<String> resourcesNames = new ArrayList<>();
+	private final Map<String, String> resources = new ConcurrentHashMap<>();
 
 	public void setCheckpointName(String checkpointName) {
 		this.checkpointName = checkpointName;
@@ -57,4 +61,11 @@ public class PipeDescription {
 		return resourcesNames;
 	}
 
+	/**
+	 * Returns the contents of the resource, which is loaded only once as the description itself is cached.
+	 */
+	public String getResource(String resourceName, Function<String, String> resourceLoader) {
+		return resources.computeIfAbsent(resourceName, resourceLoader);
+	}
+
 }
@@ -0,0 +1,264 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.ladybug;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.wearefrank.ladybug.TestTool;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.stream.Message;
+import org.frankframework.util.PropertyLoader;
+
+/**
+ * Decides per pipeline invocation whether a Ladybug report is created, and keeps the checkpoints of reports that are
+ * only written when the invocation fails or is slow.
+ * <p>
+ * A fraction of the invocations, set by {@value #SAMPLING_PERCENTAGE_KEY} (or per adapter by appending the adapter name to the key),
+ * is reported as usual. For the other invocations the checkpoints are either ignored, or, when {@value #RETROACTIVE_ON_ERROR_KEY} or
+ * {@value #RETROACTIVE_LATENCY_THRESHOLD_KEY} is set, kept in memory until the pipeline has finished. When the pipeline failed or took
+ * longer than the threshold, the kept checkpoints are written to Ladybug on a background thread, otherwise they are discarded.
+ * When {@value #ASYNC_STORAGE_KEY} is set, sampled reports are written on the background thread as well.
+ * </p>
+ * <p>
+ * Kept reports are limited to {@code ibistesttool.maxCheckpoints} checkpoints and {@code ibistesttool.maxMemoryUsage} bytes. Messages of
+ * unknown size or larger than {@code ibistesttool.maxMessageLength} are replaced by a placeholder, as they cannot be captured without
+ * reading the stream on the processing thread. Kept reports are written without thread checkpoints; the checkpoints of child threads
+ * appear in the order in which they occurred.
+ * </p>
+ */
+@Log4j2
+final class ReportSampler implements AutoCloseable {
+	static final String SAMPLING_PERCENTAGE_KEY = "ibistesttool.sampling.percentage";
+	static final String RETROACTIVE_ON_ERROR_KEY = "ibistesttool.retroactive.onError";
+	static final String RETROACTIVE_LATENCY_THRESHOLD_KEY = "ibistesttool.retroactive.latencyThreshold";
+	static final String ASYNC_STORAGE_KEY = "ibistesttool.asyncStorage";
+	static final String ASYNC_STORAGE_QUEUE_SIZE_KEY = "ibistesttool.asyncStorage.queueSize";
+
+	private static final long OBJECT_SIZE_ESTIMATE = 64L;
+
+	enum Capture {
+		/** Checkpoints are sent to Ladybug directly. */
+		DIRECT,
+		/** Checkpoints are kept until the pipeline has finished. */
+		KEPT,
+		/** Checkpoints are ignored. */
+		SKIPPED
+	}
+
+	@FunctionalInterface
+	interface Checkpoint {
+		Object report(TestTool testTool, Object value, Map<String, Object> context);
+	}
+
+	private final PropertyLoader properties;
+	private final int defaultPercentage;
+	private final boolean retroactiveOnError;
+	private final long latencyThreshold;
+	private final boolean asyncStorage;
+	private final int maxCheckpoints;
+	private final long maxMemoryUsage;
+	private final int maxMessageLength;
+	private final Map<String, Integer> percentagePerAdapter = new ConcurrentHashMap<>();
+	private final Map<String, Report> reports = new ConcurrentHashMap<>();
+	private final ThreadPoolExecutor reportWriter;
+
+	private ReportSampler(PropertyLoader properties) {
+		this.properties = properties;
+		defaultPercentage = properties.getInt(SAMPLING_PERCENTAGE_KEY, 100);
+		retroactiveOnError = properties.getBoolean(RETROACTIVE_ON_ERROR_KEY, false);
+		latencyThreshold = properties.getLong(RETROACTIVE_LATENCY_THRESHOLD_KEY, -1L);
+		asyncStorage = properties.getBoolean(ASYNC_STORAGE_KEY, false);
+		maxCheckpoints = properties.getInt("ibistesttool.maxCheckpoints", 2500);
+		maxMemoryUsage = properties.getLong("ibistesttool.maxMemoryUsage", 100_000_000L);
+		maxMessageLength = properties.getInt("ibistesttool.maxMessageLength", 1_000_000);
+
+		int queueSize = properties.getInt(ASYNC_STORAGE_QUEUE_SIZE_KEY, 100);
+		reportWriter = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+				Thread.ofPlatform().name("LadybugReportWriter").daemon().factory(),
+				(task, executor) -> log.warn("dropping Ladybug report, [{}] reports are waiting to be written", executor.getQueue().size()));
+	}
+
+	/**
+	 * Returns a sampler for the given properties, or {@code null} when every report is written directly, which is the default.
+	 */
+	static @Nullable ReportSampler create(@NonNull PropertyLoader properties) {
+		boolean samplingConfigured = properties.getInt(SAMPLING_PERCENTAGE_KEY, 100) < 100
+				|| properties.stringPropertyNames().stream().anyMatch(key -> key.startsWith(SAMPLING_PERCENTAGE_KEY + "."));
+		if (!samplingConfigured && !properties.getBoolean(ASYNC_STORAGE_KEY, false)) {
+			return null;
+		}
+		return new ReportSampler(properties);
+	}
+
+	/**
+	 * Called when a pipeline starts. Nested pipelines with the same correlationId are part of the report of the outermost pipeline.
+	 */
+	@NonNull Capture begin(@Nullable String correlationId, @NonNull String adapterName) {
+		if (correlationId == null) {
+			return Capture.DIRECT;
+		}
+		return reports.compute(correlationId, (key, report) -> {
+			if (report != null) {
+				report.depth++;
+				return report;
+			}
+			return newReport(adapterName);
+		}).getCapture();
+	}
+
+	private Report newReport(String adapterName) {
+		int percentage = percentagePerAdapter.computeIfAbsent(adapterName, name -> properties.getInt(SAMPLING_PERCENTAGE_KEY + "." + name, defaultPercentage));
+		boolean sampled = percentage >= 100 || (percentage > 0 && ThreadLocalRandom.current().nextInt(100) < percentage);
+		if (sampled) {
+			return new Report(asyncStorage ? Capture.KEPT : Capture.DIRECT, true);
+		}
+		return new Report(retroactiveOnError || latencyThreshold >= 0 ? Capture.KEPT : Capture.SKIPPED, false);
+	}
+
+	/**
+	 * Called when a pipeline has finished. When the outermost pipeline has finished, a kept report is written when it was sampled, or
+	 * when it failed or was slow and retroactive capture is enabled.
+	 */
+	void end(@Nullable String correlationId, boolean failed, @NonNull TestTool testTool) {
+		if (correlationId == null) {
+			return;
+		}
+		Report[] finished = new Report[1];
+		reports.computeIfPresent(correlationId, (key, report) -> {
+			report.failed |= failed;
+			if (--report.depth > 0) {
+				return report;
+			}
+			finished[0] = report;
+			return null;
+		});
+
+		Report report = finished[0];
+		if (report != null && report.getCapture() == Capture.KEPT && shouldWrite(report)) {
+			reportWriter.execute(() -> report.writeTo(testTool, correlationId));
+		}
+	}
+
+	private boolean shouldWrite(Report report) {
+		if (report.sampled) {
+			return true;
+		}
+		if (retroactiveOnError && report.failed) {
+			return true;
+		}
+		return latencyThreshold >= 0 && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - report.startTime) >= latencyThreshold;
+	}
+
+	@NonNull Capture getCapture(@Nullable String correlationId) {
+		Report report = correlationId != null ? reports.get(correlationId) : null;
+		return report != null ? report.capture : Capture.DIRECT;
+	}
+
+	/**
+	 * Keeps the checkpoint in the report of the correlationId, to be written when the pipeline has finished.
+	 */
+	void keep(@NonNull String correlationId, @NonNull Checkpoint checkpoint, @Nullable Object value, @NonNull Map<String, Object> context) {
+		Report report = reports.get(correlationId);
+		if (report != null) {
+			report.add(checkpoint, value, context);
+		}
+	}
+
+	@Override
+	public void close() {
+		reportWriter.shutdown();
+	}
+
+	private record KeptCheckpoint(Checkpoint checkpoint, @Nullable Object value, Map<String, Object> context) {}
+
+	private class Report {
+		private final @Getter Capture capture;
+		private final boolean sampled;
+		private final long startTime = System.nanoTime();
+		private final List<KeptCheckpoint> checkpoints = new ArrayList<>();
+		private int depth = 1;
+		private boolean failed = false;
+		private long memoryUsage = 0;
+		private boolean truncated = false;
+
+		Report(Capture capture, boolean sampled) {
+			this.capture = capture;
+			this.sampled = sampled;
+		}
+
+		synchronized void add(Checkpoint checkpoint, @Nullable Object value, Map<String, Object> context) {
+			if (checkpoints.size() >= maxCheckpoints) {
+				truncated = true;
+				return;
+			}
+			checkpoints.add(new KeptCheckpoint(checkpoint, capture(value), context));
+		}
+
+		/**
+		 * Returns a value that can still be read after the pipeline has finished, within the memory limits of the report.
+		 */
+		private @Nullable Object capture(@Nullable Object value) {
+			if (value instanceof Message message) {
+				long size = message.size();
+				if (size < 0 || size > maxMessageLength || memoryUsage + size > maxMemoryUsage) {
+					return "[message of " + (size < 0 ? "unknown size" : size + " bytes") + " not captured]";
+				}
+				try {
+					memoryUsage += size;
+					return message.copyMessage();
+				} catch (IOException e) {
+					return "[message could not be captured: " + e.getMessage() + "]";
+				}
+			}
+			if (value instanceof String string) {
+				if (string.length() > maxMessageLength || memoryUsage + string.length() * 2L > maxMemoryUsage) {
+					return "[string of " + string.length() + " characters not captured]";
+				}
+				memoryUsage += string.length() * 2L;
+				return string;
+			}
+			memoryUsage += OBJECT_SIZE_ESTIMATE;
+			return value;
+		}
+
+		synchronized void writeTo(TestTool testTool, String correlationId) {
+			if (truncated) {
+				log.info("report for correlationId [{}] exceeded [{}] checkpoints, the remaining checkpoints have been discarded", correlationId, maxCheckpoints);
+			}
+			for (KeptCheckpoint kept : checkpoints) {
+				try {
+					kept.checkpoint().report(testTool, kept.value(), kept.context());
+				} catch (Exception e) {
+					log.warn("unable to write checkpoint of report for correlationId [{}]", correlationId, e);
+				}
+			}
+			checkpoints.clear();
+		}
+	}
+}
@@ -1,9 +1,16 @@
 package org.frankframework.ladybug;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -12,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.wearefrank.ladybug.TestTool;
 
+import org.frankframework.core.PipeLine;
 import org.frankframework.stream.Message;
+import org.frankframework.util.AppConstants;
 
 public class LadybugReportGeneratorTest {
 
@@ -81,4 +90,62 @@ public class LadybugReportGeneratorTest {
 		assertEquals("getDefaultValue", nameCapture.getValue());
 		assertEquals("String data", valueCapture.getValue());
 	}
+
+	@Test
+	void skippedReportIsNotWritten() {
+		AppConstants appConstants = AppConstants.getInstance();
+		appConstants.setProperty(ReportSampler.SAMPLING_PERCENTAGE_KEY, "0");
+		try (ReportSampler sampler = ReportSampler.create(appConstants)) {
+			LadybugReportGenerator generator = new LadybugReportGenerator();
+			TestTool testtool = mock(TestTool.class);
+			generator.setTestTool(testtool);
+			generator.setReportSampler(sampler);
+
+			generator.pipelineStarted(mockPipeLine(), CID);
+			assertEquals("String data", generator.showInputValue(CID, "input", "String data"));
+			generator.pipelineFinished(CID, true);
+
+			verifyNoInteractions(testtool);
+		} finally {
+			appConstants.remove(ReportSampler.SAMPLING_PERCENTAGE_KEY);
+		}
+	}
+
+	@Test
+	void keptReportIsWrittenWhenPipelineFails() {
+		AppConstants appConstants = AppConstants.getInstance();
+		appConstants.setProperty(ReportSampler.SAMPLING_PERCENTAGE_KEY, "0");
+		appConstants.setProperty(ReportSampler.RETROACTIVE_ON_ERROR_KEY, "true");
+		try (ReportSampler sampler = ReportSampler.create(appConstants)) {
+			LadybugReportGenerator generator = new LadybugReportGenerator();
+			TestTool testtool = mock(TestTool.class);
+			generator.setTestTool(testtool);
+			generator.setReportSampler(sampler);
+			PipeLine pipeLine = mockPipeLine();
+
+			generator.pipelineStarted(pipeLine, "successful");
+			assertEquals("String data", generator.showInputValue("successful", "input", "String data"));
+			generator.pipelineFinished("successful", false);
+
+			generator.pipelineStarted(pipeLine, "failed");
+			generator.pipelineStarted(pipeLine, "failed"); // nested pipeline
+			Message message = new Message("Message data");
+			assertSame(message, generator.showInputValue("failed", "input", message));
+			generator.pipelineFinished("failed", true);
+			verifyNoInteractions(testtool);
+			generator.pipelineFinished("failed", false);
+
+			verify(testtool, timeout(5000)).inputpoint(eq("failed"), any(), eq("input"), any(Message.class), anyMap());
+			verify(testtool, never()).inputpoint(eq("successful"), any(), any(), any(), anyMap());
+		} finally {
+			appConstants.remove(ReportSampler.SAMPLING_PERCENTAGE_KEY);
+			appConstants.remove(ReportSampler.RETROACTIVE_ON_ERROR_KEY);
+		}
+	}
+
+	private static PipeLine mockPipeLine() {
+		PipeLine pipeLine = mock(PipeLine.class, RETURNS_DEEP_STUBS);
+		when(pipeLine.getAdapter().getName()).thenReturn("adapter");
+		return pipeLine;
+	}
 }
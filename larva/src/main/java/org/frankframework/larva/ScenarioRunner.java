@@ -21,8 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -30,12 +29,15 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.CloseableThreadContext;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationContext;
 
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 import org.frankframework.core.TimeoutException;
+import org.frankframework.larva.ScenarioScheduler.ScenarioGroup;
+import org.frankframework.larva.ScenarioScheduler.Shard;
 import org.frankframework.larva.actions.LarvaActionFactory;
 import org.frankframework.larva.actions.LarvaScenarioAction;
 import org.frankframework.larva.actions.LarvaScenarioContext;
@@ -58,6 +60,8 @@ public class ScenarioRunner {
 	private final int waitBeforeCleanUp;
 	private @Setter boolean multipleThreads;
 	private final int threads;
+	private final @Nullable Shard shard;
+	private final ScenarioTimings scenarioTimings;
 
 	private final LarvaConfig larvaConfig;
 	private final TestExecutionObserver testExecutionObserver;
@@ -78,50 +82,49 @@ public class ScenarioRunner {
 		log.info("Setting parallel blacklist dirs to: {}", parallelBlacklistDirs);
 
 		threads = appConstants.getInt("larva.parallel.threads", 4);
+		shard = Shard.parse(appConstants.getProperty("larva.shard"));
+		scenarioTimings = ScenarioTimings.load(appConstants.getProperty(ScenarioTimings.TIMINGS_FILE_KEY));
 	}
 
 	public void runScenarios(List<Scenario> scenarios, String larvaScenarioRootDirectory) {
 		Map<String, List<Scenario>> filesByFolder = groupScenariosByFolder(scenarios, larvaScenarioRootDirectory);
 		log.debug("Found: {} folders", filesByFolder.size());
+		List<ScenarioGroup> groups = ScenarioScheduler.createGroups(filesByFolder, scenarioTimings);
+
+		if (shard != null) {
+			groups = ScenarioScheduler.selectShard(groups, shard);
+			Set<Scenario> scenariosInShard = groups.stream().flatMap(group -> group.scenarios().stream()).collect(Collectors.toSet());
+			scenarios = scenarios.stream().filter(scenariosInShard::contains).toList();
+			testRunStatus.setScenariosToRun(scenarios);
+			larvaTool.infoMessage("Running shard " + shard + " with " + scenarios.size() + " Scenarios in " + groups.size() + " folders");
+		}
 
 		List<Scenario> singleThreadedScenarios;
 		if (multipleThreads) {
-			singleThreadedScenarios = runScenariosMultithreaded(filesByFolder);
+			singleThreadedScenarios = runScenariosMultithreaded(groups);
 		} else {
 			singleThreadedScenarios = scenarios;
 		}
 
 		runScenariosSingleThreaded(singleThreadedScenarios);
+		scenarioTimings.writeReports(appConstants.getProperty(ScenarioTimings.REPORT_DIRECTORY_KEY), shard);
 		log.info("Summary Larva run Scenario's: {} passed, {} failed. Total: {}", testRunStatus.getScenariosPassedCount(), testRunStatus.getScenariosFailedCount(), testRunStatus.getScenarioExecuteCount());
 	}
 
-	private List<Scenario> runScenariosMultithreaded(Map<String, List<Scenario>> filesByFolder) {
+	private List<Scenario> runScenariosMultithreaded(List<ScenarioGroup> groups) {
 		List<Scenario> singleThreadedScenarios = new ArrayList<>(); // Collect scenarios that should be run single threaded
-
-		// Run each scenario folder in a separate thread
-		// Not using a try-with-resources because the default awaitTermination is set on 1 day
-		ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(threads);
-		try {
-			filesByFolder.forEach((folder, scenarios) -> {
-				log.debug("Starting FOLDER: {} - found: {} files", folder, scenarios.size());
-				if (parallelBlacklistDirs.contains(folder)) {
-					log.debug("Skipping folder because found in parallel blacklist: {}", folder);
-					singleThreadedScenarios.addAll(scenarios);
-					return;
-				}
-				executor.submit(() -> scenarios.forEach(scenario -> runOneFile(scenario, false)));
-			});
-			// Wait for all scenarios to finish
-			executor.shutdown();
-		} finally {
-			try {
-				executor.shutdown();
-				executor.awaitTermination(15, TimeUnit.MINUTES); // Guessing a max timeout, otherwise we might hang forever
-			} catch (InterruptedException e) {
-				log.warn("Interrupted while waiting for scenario runner to finish", e);
-				Thread.currentThread().interrupt();
+		List<ScenarioGroup> parallelGroups = new ArrayList<>();
+		for (ScenarioGroup group : groups) {
+			if (parallelBlacklistDirs.contains(group.folder())) {
+				log.debug("Skipping folder because found in parallel blacklist: {}", group.folder());
+				singleThreadedScenarios.addAll(group.scenarios());
+			} else {
+				parallelGroups.add(group);
 			}
 		}
+
+		// Run each scenario folder in a separate thread, folders that use the same resources are not run at the same time
+		new ScenarioScheduler(threads).run(parallelGroups, group -> group.scenarios().forEach(scenario -> runOneFile(scenario, false)), 15, TimeUnit.MINUTES);
 		return singleThreadedScenarios;
 	}
 
@@ -164,6 +167,12 @@ public class ScenarioRunner {
 	 */
 	public String runOneFile(Scenario scenario, boolean flushLogsForEveryScenarioStep) {
 		long scenarioStart = System.currentTimeMillis();
+		String scenarioResult = executeScenario(scenario, flushLogsForEveryScenarioStep, scenarioStart);
+		scenarioTimings.record(scenario, System.currentTimeMillis() - scenarioStart, scenarioResult);
+		return scenarioResult;
+	}
+
+	private String executeScenario(Scenario scenario, boolean flushLogsForEveryScenarioStep, long scenarioStart) {
 		int scenarioResult = LarvaTool.RESULT_ERROR;
 
 		File scenarioConfigurationFile = scenario.getScenarioFile();
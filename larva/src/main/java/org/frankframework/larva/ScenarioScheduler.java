@@ -0,0 +1,218 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package org.frankframework.larva;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.util.StringUtil;
+
+/**
+ * Schedules the scenario folders of a Larva run.
+ * <p>
+ *     The scenarios in a folder are always executed sequentially, folders are executed in parallel. Scenarios can declare the queues, tables
+ *     and listeners they use in the {@value #RESOURCES_PROPERTY} property. Two folders that share a resource are never executed at the same time.
+ *     Folders that took longest in previous runs are started first, so the run does not end with a single long folder.
+ * </p>
+ * <p>
+ *     A run can be split over multiple JVMs with {@code larva.shard=i/n}. The folders are divided over the shards by their expected duration,
+ *     longest first, each to the shard with the least work so far. All shards compute the same division, provided they use the same timings.
+ * </p>
+ */
+@Log4j2
+final class ScenarioScheduler {
+	static final String RESOURCES_PROPERTY = "scenario.resources";
+
+	private final int threads;
+	private final Object lock = new Object();
+	private final Set<String> resourcesInUse = new HashSet<>();
+	private int running = 0;
+
+	record ScenarioGroup(@NonNull String folder, @NonNull List<Scenario> scenarios, @NonNull Set<String> resources, long expectedDuration) {
+
+		boolean conflictsWith(Set<String> resourcesInUse) {
+			return !Collections.disjoint(resources, resourcesInUse);
+		}
+	}
+
+	record Shard(int index, int count) {
+
+		/**
+		 * Parses a shard in the form {@code i/n}, where {@code i} starts at 1. Returns {@code null} when no shard is specified.
+		 */
+		static @Nullable Shard parse(@Nullable String shard) {
+			if (StringUtils.isBlank(shard)) {
+				return null;
+			}
+			String[] parts = shard.trim().split("/");
+			try {
+				if (parts.length == 2) {
+					int index = Integer.parseInt(parts[0].trim());
+					int count = Integer.parseInt(parts[1].trim());
+					if (count > 0 && index > 0 && index <= count) {
+						return new Shard(index, count);
+					}
+				}
+			} catch (NumberFormatException e) {
+				// Fall through to the exception below
+			}
+			throw new LarvaException("invalid shard [" + shard + "], expected a value like [1/4]");
+		}
+
+		@Override
+		public String toString() {
+			return index + "/" + count;
+		}
+	}
+
+	ScenarioScheduler(int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Creates a group per folder, with the resources declared by its scenarios and the sum of their expected durations.
+	 */
+	static @NonNull List<ScenarioGroup> createGroups(@NonNull Map<String, List<Scenario>> scenariosByFolder, @NonNull ScenarioTimings timings) {
+		List<ScenarioGroup> groups = new ArrayList<>();
+		scenariosByFolder.forEach((folder, scenarios) -> {
+			Set<String> resources = new TreeSet<>();
+			long expectedDuration = 0L;
+			for (Scenario scenario : scenarios) {
+				resources.addAll(StringUtil.split(scenario.getProperties().getProperty(RESOURCES_PROPERTY, "")));
+				expectedDuration += timings.getExpectedDuration(scenario);
+			}
+			groups.add(new ScenarioGroup(folder, scenarios, resources, expectedDuration));
+		});
+		groups.sort(longestFirst());
+		return groups;
+	}
+
+	/**
+	 * Orders groups by expected duration, longest first. The folder name breaks ties, to make the order the same on every JVM.
+	 */
+	static Comparator<ScenarioGroup> longestFirst() {
+		return Comparator.comparingLong(ScenarioGroup::expectedDuration).reversed().thenComparing(ScenarioGroup::folder);
+	}
+
+	/**
+	 * Returns the groups that belong to the given shard, longest first.
+	 */
+	static @NonNull List<ScenarioGroup> selectShard(@NonNull List<ScenarioGroup> groups, @NonNull Shard shard) {
+		List<ScenarioGroup> sorted = new ArrayList<>(groups);
+		sorted.sort(longestFirst());
+
+		long[] load = new long[shard.count()];
+		List<ScenarioGroup> selected = new ArrayList<>();
+		for (ScenarioGroup group : sorted) {
+			int target = 0;
+			for (int i = 1; i < load.length; i++) {
+				if (load[i] < load[target]) {
+					target = i;
+				}
+			}
+			// Unknown durations count as 1, so folders without timings are still divided evenly
+			load[target] += Math.max(group.expectedDuration(), 1L);
+			if (target == shard.index() - 1) {
+				selected.add(group);
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Runs the groups on at most {@code threads} threads, longest first. A group is only started when none of its resources are used by a
+	 * running group, otherwise the next group that can be started is taken. Returns when all groups have finished, or the timeout has passed.
+	 */
+	void run(@NonNull List<ScenarioGroup> groups, @NonNull Consumer<ScenarioGroup> groupRunner, long timeout, @NonNull TimeUnit timeUnit) {
+		List<ScenarioGroup> pending = new LinkedList<>(groups);
+		pending.sort(longestFirst());
+
+		// Not using a try-with-resources because the default awaitTermination is set on 1 day
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			while (!pending.isEmpty()) {
+				ScenarioGroup group = nextGroup(pending);
+				log.debug("Starting FOLDER: {} - found: {} files, resources {}", group.folder(), group.scenarios().size(), group.resources());
+				executor.execute(() -> {
+					try {
+						groupRunner.accept(group);
+					} finally {
+						release(group);
+					}
+				});
+			}
+		} catch (InterruptedException e) {
+			log.warn("Interrupted while scheduling scenarios, [{}] folders have not been executed", pending.size(), e);
+			Thread.currentThread().interrupt();
+		} finally {
+			try {
+				executor.shutdown();
+				executor.awaitTermination(timeout, timeUnit); // Guessing a max timeout, otherwise we might hang forever
+			} catch (InterruptedException e) {
+				log.warn("Interrupted while waiting for scenario runner to finish", e);
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Waits until a thread is available and a pending group does not conflict with the running groups, and claims its resources.
+	 * When nothing is running, the first pending group never conflicts, so this cannot wait forever.
+	 */
+	private ScenarioGroup nextGroup(List<ScenarioGroup> pending) throws InterruptedException {
+		synchronized (lock) {
+			while (true) {
+				if (running < threads) {
+					for (var iterator = pending.iterator(); iterator.hasNext();) {
+						ScenarioGroup group = iterator.next();
+						if (!group.conflictsWith(resourcesInUse)) {
+							iterator.remove();
+							resourcesInUse.addAll(group.resources());
+							running++;
+							return group;
+						}
+					}
+				}
+				lock.wait();
+			}
+		}
+	}
+
+	private void release(ScenarioGroup group) {
+		synchronized (lock) {
+			resourcesInUse.removeAll(group.resources());
+			running--;
+			lock.notifyAll();
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package org.frankframework.larva;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonWriter;
+import jakarta.json.stream.JsonGenerator;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.util.StringUtil;
+import org.frankframework.util.XmlBuilder;
+
+/**
+ * Durations of Larva scenarios, from previous runs and from the current run.
+ * <p>
+ *     The durations of previous runs are read from the JSON files in {@code larva.timings.file}, a comma separated list so the timings
+ *     of all shards of a run can be used. The scenarios are identified by their name, the path relative to the scenarios root directory.
+ *     When {@code larva.report.directory} is set, the durations of the current run are written to {@code larva-timings.json}, in the format
+ *     that can be read by the next run, and as a JUnit XML report to {@code TEST-larva.xml}.
+ * </p>
+ */
+@Log4j2
+final class ScenarioTimings {
+	static final String TIMINGS_FILE_KEY = "larva.timings.file";
+	static final String REPORT_DIRECTORY_KEY = "larva.report.directory";
+
+	private final Map<String, Long> previousDurations;
+	private final long defaultDuration;
+	private final List<Result> results = Collections.synchronizedList(new ArrayList<>());
+
+	record Result(@NonNull String name, long duration, @Nullable String failure) {}
+
+	ScenarioTimings(@NonNull Map<String, Long> previousDurations) {
+		this.previousDurations = previousDurations;
+		// Scenarios without timings, usually new scenarios, are assumed to take the average time
+		this.defaultDuration = (long) previousDurations.values().stream().mapToLong(Long::longValue).average().orElse(0.0);
+	}
+
+	/**
+	 * Reads the durations of previous runs from the comma separated list of files. Files that do not exist or cannot be read are skipped.
+	 */
+	static @NonNull ScenarioTimings load(@Nullable String timingsFiles) {
+		Map<String, Long> durations = new HashMap<>();
+		for (String timingsFile : StringUtil.split(timingsFiles)) {
+			Path path = Path.of(timingsFile);
+			if (!Files.isReadable(path)) {
+				log.info("timings file [{}] not found, scenarios will be scheduled without its timings", path);
+				continue;
+			}
+			try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+				JsonObject scenarios = Json.createReader(reader).readObject().getJsonObject("scenarios");
+				if (scenarios != null) {
+					scenarios.forEach((name, value) -> {
+						if (value instanceof JsonObject timing && timing.get("duration") instanceof JsonNumber duration) {
+							durations.put(name, duration.longValue());
+						}
+					});
+				}
+			} catch (IOException | JsonException | ClassCastException e) {
+				log.warn("unable to read timings file [{}]", path, e);
+			}
+		}
+		log.debug("read timings of [{}] scenarios", durations.size());
+		return new ScenarioTimings(durations);
+	}
+
+	long getExpectedDuration(@NonNull Scenario scenario) {
+		return previousDurations.getOrDefault(scenario.getName(), defaultDuration);
+	}
+
+	void record(@NonNull Scenario scenario, long duration, @Nullable String failure) {
+		results.add(new Result(scenario.getName(), duration, failure));
+	}
+
+	List<Result> getResults() {
+		synchronized (results) {
+			List<Result> sorted = new ArrayList<>(results);
+			sorted.sort(Comparator.comparing(Result::name));
+			return sorted;
+		}
+	}
+
+	/**
+	 * Writes the timings and the JUnit XML report of the current run to the directory. The name of the shard is added to the file names,
+	 * so shards can write to the same directory. Failures are logged, as the report does not influence the result of the run.
+	 */
+	void writeReports(@Nullable String reportDirectory, ScenarioScheduler.@Nullable Shard shard) {
+		if (StringUtils.isEmpty(reportDirectory)) {
+			return;
+		}
+		String suffix = shard != null ? "-shard" + shard.index() + "of" + shard.count() : "";
+		List<Result> sortedResults = getResults();
+		Path directory = Path.of(reportDirectory);
+		try {
+			Files.createDirectories(directory);
+			Path timingsFile = directory.resolve("larva-timings" + suffix + ".json");
+			try (Writer writer = Files.newBufferedWriter(timingsFile, StandardCharsets.UTF_8)) {
+				writeTimings(sortedResults, writer);
+			}
+			Path junitFile = directory.resolve("TEST-larva" + suffix + ".xml");
+			Files.writeString(junitFile, toJUnitXml(sortedResults, shard), StandardCharsets.UTF_8);
+			log.info("written timings of [{}] scenarios to [{}] and [{}]", sortedResults.size(), timingsFile, junitFile);
+		} catch (IOException | JsonException e) {
+			log.warn("unable to write Larva reports to [{}]", directory, e);
+		}
+	}
+
+	static void writeTimings(List<Result> results, Writer writer) {
+		JsonObjectBuilder scenarios = Json.createObjectBuilder();
+		long total = 0L;
+		int failures = 0;
+		for (Result result : results) {
+			JsonObjectBuilder timing = Json.createObjectBuilder()
+					.add("duration", result.duration())
+					.add("result", result.failure() == null ? "passed" : "failed");
+			scenarios.add(result.name(), timing);
+			total += result.duration();
+			if (result.failure() != null) {
+				failures++;
+			}
+		}
+		JsonObject timings = Json.createObjectBuilder()
+				.add("tests", results.size())
+				.add("failures", failures)
+				.add("duration", total)
+				.add("scenarios", scenarios)
+				.build();
+		try (JsonWriter jsonWriter = Json.createWriterFactory(Map.of(JsonGenerator.PRETTY_PRINTING, true)).createWriter(writer)) {
+			jsonWriter.write(timings);
+		}
+	}
+
+	static String toJUnitXml(List<Result> results, ScenarioScheduler.@Nullable Shard shard) {
+		XmlBuilder testSuite = XmlBuilder.create("testsuite");
+		testSuite.addAttribute("name", shard != null ? "Larva (shard " + shard + ")" : "Larva");
+		testSuite.addAttribute("tests", results.size());
+		testSuite.addAttribute("failures", results.stream().filter(result -> result.failure() != null).count());
+		testSuite.addAttribute("time", formatSeconds(results.stream().mapToLong(Result::duration).sum()));
+		for (Result result : results) {
+			XmlBuilder testCase = XmlBuilder.create("testcase");
+			int separator = result.name().lastIndexOf('/');
+			testCase.addAttribute("classname", separator > 0 ? result.name().substring(0, separator).replace('/', '.') : "larva");
+			testCase.addAttribute("name", result.name().substring(separator + 1));
+			testCase.addAttribute("time", formatSeconds(result.duration()));
+			if (result.failure() != null) {
+				XmlBuilder failure = XmlBuilder.create("failure");
+				failure.addAttribute("message", StringUtils.abbreviate(result.failure(), 200));
+				failure.setCdataValue(result.failure());
+				testCase.addSubElement(failure);
+			}
+			testSuite.addSubElement(testCase);
+		}
+		return testSuite.asXmlString();
+	}
+
+	private static String formatSeconds(long millis) {
+		return "%d.%03d".formatted(millis / 1000, millis % 1000);
+	}
+}
@@ -28,7 +28,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 import org.frankframework.util.AppConstants;
@@ -52,7 +54,7 @@ public class TestRunStatus {
 	private @Getter SortedMap<String, String> scenarioDirectories = new TreeMap<>();
 	private @Getter Map<Scenario.ID, Scenario> allScenarios = Map.of();
 
-	private @Getter List<Scenario> scenariosToRun = List.of();
+	private @Getter @Setter(AccessLevel.PACKAGE) List<Scenario> scenariosToRun = List.of();
 
 	private final @Getter List<Scenario> failedScenarios = Collections.synchronizedList(new ArrayList<>());
 	private final @Getter List<Scenario> passedScenarios = Collections.synchronizedList(new ArrayList<>());
@@ -0,0 +1,139 @@
+package org.frankframework.larva;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.frankframework.larva.ScenarioScheduler.ScenarioGroup;
+import org.frankframework.larva.ScenarioScheduler.Shard;
+
+class ScenarioSchedulerTest {
+
+	private static Scenario createScenario(String name, String resources) {
+		Properties properties = new Properties();
+		if (resources != null) {
+			properties.setProperty(ScenarioScheduler.RESOURCES_PROPERTY, resources);
+		}
+		return new Scenario(new File(name + ".properties"), name, name, properties);
+	}
+
+	private static ScenarioGroup group(String folder, long expectedDuration, String... resources) {
+		return new ScenarioGroup(folder, List.of(createScenario(folder + "/scenario01", null)), Set.of(resources), expectedDuration);
+	}
+
+	@Test
+	void parseShard() {
+		assertEquals(new Shard(2, 4), Shard.parse(" 2/4 "));
+		assertNull(Shard.parse(""));
+		assertThrows(LarvaException.class, () -> Shard.parse("0/4"));
+		assertThrows(LarvaException.class, () -> Shard.parse("5/4"));
+		assertThrows(LarvaException.class, () -> Shard.parse("two"));
+	}
+
+	@Test
+	void createGroupsWithResourcesAndTimings() {
+		Map<String, List<Scenario>> scenariosByFolder = new LinkedHashMap<>();
+		scenariosByFolder.put("short", List.of(createScenario("short/scenario01", "queueA")));
+		scenariosByFolder.put("long", List.of(createScenario("long/scenario01", "queueA, tableB"), createScenario("long/scenario02", "queueC")));
+		scenariosByFolder.put("new", List.of(createScenario("new/scenario01", null)));
+		ScenarioTimings timings = new ScenarioTimings(Map.of("short/scenario01", 100L, "long/scenario01", 300L, "long/scenario02", 200L));
+
+		List<ScenarioGroup> groups = ScenarioScheduler.createGroups(scenariosByFolder, timings);
+
+		assertEquals(List.of("long", "new", "short"), groups.stream().map(ScenarioGroup::folder).toList());
+		assertEquals(Set.of("queueA", "tableB", "queueC"), groups.get(0).resources());
+		assertEquals(500L, groups.get(0).expectedDuration());
+		assertEquals(200L, groups.get(1).expectedDuration(), "scenario without timings should be expected to take the average time");
+	}
+
+	@Test
+	void shardsAreDeterministicAndBalanced() {
+		List<ScenarioGroup> groups = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			groups.add(group("folder" + i, (i % 5 + 1) * 1000L));
+		}
+		List<ScenarioGroup> shuffled = new ArrayList<>(groups);
+		Collections.shuffle(shuffled);
+
+		Set<String> allFolders = new HashSet<>();
+		for (int i = 1; i <= 3; i++) {
+			List<ScenarioGroup> shard = ScenarioScheduler.selectShard(groups, new Shard(i, 3));
+			assertEquals(shard, ScenarioScheduler.selectShard(shuffled, new Shard(i, 3)), "shard should not depend on the order of the scenarios");
+
+			long load = shard.stream().mapToLong(ScenarioGroup::expectedDuration).sum();
+			assertTrue(load >= 19_000L && load <= 21_000L, "shard " + i + " has load " + load);
+			shard.forEach(group -> assertTrue(allFolders.add(group.folder()), "folder in multiple shards: " + group.folder()));
+		}
+		assertEquals(20, allFolders.size());
+	}
+
+	@Test
+	void groupsSharingResourcesDoNotRunConcurrently() {
+		List<ScenarioGroup> groups = List.of(
+				group("a", 400, "queue"),
+				group("b", 300, "queue", "table"),
+				group("c", 200, "table"),
+				group("d", 100));
+		Set<String> resourcesInUse = Collections.synchronizedSet(new HashSet<>());
+		List<String> started = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger conflicts = new AtomicInteger();
+
+		new ScenarioScheduler(4).run(groups, group -> {
+			started.add(group.folder());
+			for (String resource : group.resources()) {
+				if (!resourcesInUse.add(resource)) {
+					conflicts.incrementAndGet();
+				}
+			}
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			resourcesInUse.removeAll(group.resources());
+		}, 1, TimeUnit.MINUTES);
+
+		assertEquals(0, conflicts.get());
+		assertEquals(4, started.size());
+		assertEquals("a", started.get(0), "longest group should be started first");
+	}
+
+	@Test
+	void writeAndReadTimings(@TempDir Path reportDirectory) throws Exception {
+		ScenarioTimings timings = new ScenarioTimings(Map.of());
+		timings.record(createScenario("folder/scenario02", null), 2500L, "Step 1 failed");
+		timings.record(createScenario("folder/scenario01", null), 1200L, null);
+
+		timings.writeReports(reportDirectory.toString(), new Shard(1, 2));
+
+		Path timingsFile = reportDirectory.resolve("larva-timings-shard1of2.json");
+		ScenarioTimings read = ScenarioTimings.load(timingsFile + ",/non-existing-timings.json");
+		assertEquals(1200L, read.getExpectedDuration(createScenario("folder/scenario01", null)));
+		assertEquals(1850L, read.getExpectedDuration(createScenario("other/scenario01", null)));
+
+		String junitXml = Files.readString(reportDirectory.resolve("TEST-larva-shard1of2.xml"));
+		assertTrue(junitXml.contains("tests=\"2\""), junitXml);
+		assertTrue(junitXml.contains("failures=\"1\""), junitXml);
+		assertTrue(junitXml.contains("classname=\"folder\" name=\"scenario02\" time=\"2.500\""), junitXml);
+		assertFalse(junitXml.contains("name=\"scenario01\" time=\"1.200\">"), "passed scenario should not have a failure element");
+	}
+}
@@ -0,0 +1,156 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.extensions.messaging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.NonNull;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import org.frankframework.core.SenderException;
+import org.frankframework.core.TimeoutException;
+
+/**
+ * Keeps track of deliveries that have been handed to a broker but have not been acknowledged yet.
+ * <p>
+ * When the window is full, {@link #add(Object)} blocks until the oldest delivery has been acknowledged, which
+ * applies backpressure on the thread that is producing the messages. Failed deliveries are counted and reported
+ * when the window is {@link #flush() flushed}, typically when the block of an {@link org.frankframework.core.IBlockEnabledSender}
+ * is closed at the end of an iteration. Only the first {@value #MAX_REPORTED_FAILURES} failures are kept, so a long outage
+ * of the broker does not fill the memory.
+ * </p>
+ * A window is meant to be used by a single thread, as is the case for the block handle of an {@code IteratingPipe}.
+ *
+ * @param <D> the type of the delivery token returned by the broker client, e.g. a tracker or a delivery token.
+ */
+@Log4j2
+public class DeliveryWindow<D> {
+
+	/**
+	 * Waits for a single delivery to be acknowledged by the broker.
+	 */
+	@FunctionalInterface
+	public interface DeliveryAwaiter<D> {
+		/**
+		 * @throws TimeoutException when the broker did not acknowledge the delivery in time.
+		 * @throws Exception when the delivery failed.
+		 */
+		void awaitDelivery(D delivery) throws Exception;
+	}
+
+	/** Maximum number of failures that are kept to be reported, further failures are only counted */
+	public static final int MAX_REPORTED_FAILURES = 10;
+
+	private final int maxInFlight;
+	private final DeliveryAwaiter<D> awaiter;
+	private final Predicate<D> isCompleted;
+	private final DeliveryWindowStatistics statistics;
+
+	private final Deque<D> inFlight = new ArrayDeque<>();
+	private final List<Throwable> failures = new ArrayList<>();
+	private @Getter int failureCount = 0;
+	private @Getter int acknowledgedCount = 0;
+
+	/**
+	 * @param maxInFlight maximum number of unacknowledged deliveries.
+	 * @param awaiter     waits until a delivery has been acknowledged.
+	 * @param isCompleted non-blocking check whether a delivery has been completed already, successful or not.
+	 * @param statistics  metrics to update.
+	 */
+	public DeliveryWindow(int maxInFlight, @NonNull DeliveryAwaiter<D> awaiter, @NonNull Predicate<D> isCompleted, @NonNull DeliveryWindowStatistics statistics) {
+		if (maxInFlight < 1) {
+			throw new IllegalArgumentException("maxInFlight must be a positive number");
+		}
+		this.maxInFlight = maxInFlight;
+		this.awaiter = awaiter;
+		this.isCompleted = isCompleted;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Registers a delivery that has just been handed to the broker. Blocks while the window is full.
+	 */
+	public void add(@NonNull D delivery) {
+		inFlight.addLast(delivery);
+		statistics.deliveryStarted();
+
+		releaseCompletedDeliveries();
+		while (inFlight.size() > maxInFlight) {
+			awaitOldest();
+		}
+	}
+
+	/**
+	 * Waits for all deliveries in the window to be acknowledged.
+	 *
+	 * @throws SenderException when one or more deliveries failed. The first {@value #MAX_REPORTED_FAILURES} failures are added as suppressed exceptions.
+	 */
+	public void flush() throws SenderException {
+		while (!inFlight.isEmpty()) {
+			awaitOldest();
+		}
+
+		if (failureCount > 0) {
+			SenderException se = new SenderException(failureCount + " of " + (failureCount + acknowledgedCount) + " deliveries failed");
+			failures.forEach(se::addSuppressed);
+			failures.clear();
+			failureCount = 0;
+			throw se;
+		}
+	}
+
+	/**
+	 * Number of deliveries that have been handed to the broker, but are not yet acknowledged.
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	private void releaseCompletedDeliveries() {
+		while (!inFlight.isEmpty() && isCompleted.test(inFlight.peekFirst())) {
+			awaitOldest();
+		}
+	}
+
+	private void awaitOldest() {
+		D delivery = inFlight.removeFirst();
+		try {
+			awaiter.awaitDelivery(delivery);
+			acknowledgedCount++;
+			statistics.deliveryAcknowledged();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			registerFailure(delivery, e);
+		} catch (Exception e) {
+			registerFailure(delivery, e);
+		}
+	}
+
+	private void registerFailure(D delivery, Exception e) {
+		log.warn("delivery [{}] was not acknowledged", delivery, e);
+		if (failures.size() < MAX_REPORTED_FAILURES) {
+			failures.add(e);
+		}
+		failureCount++;
+		statistics.deliveryFailed();
+	}
+}
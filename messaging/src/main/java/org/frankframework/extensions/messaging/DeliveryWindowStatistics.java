@@ -0,0 +1,74 @@
+/*
+   Copyright 2026 WeAreFrank!
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package org.frankframework.extensions.messaging;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+
+import org.frankframework.core.ISender;
+import org.frankframework.statistics.FrankMeterType;
+import org.frankframework.statistics.MetricsInitializer;
+
+/**
+ * Sender wide metrics of the {@link DeliveryWindow DeliveryWindows} of a sender. The rate of the
+ * acknowledged-counter is the throughput of the sender.
+ */
+public class DeliveryWindowStatistics {
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final @Nullable Counter acknowledged;
+	private final @Nullable Counter failed;
+
+	/**
+	 * @param configurationMetrics may be {@code null} when the sender is not created in a Spring context, e.g. in Larva.
+	 */
+	public DeliveryWindowStatistics(@Nullable MetricsInitializer configurationMetrics, @NonNull ISender sender) {
+		if (configurationMetrics == null) {
+			acknowledged = null;
+			failed = null;
+			return;
+		}
+
+		acknowledged = configurationMetrics.createCounter(sender, FrankMeterType.SENDER_DELIVERIES_ACKNOWLEDGED);
+		failed = configurationMetrics.createCounter(sender, FrankMeterType.SENDER_DELIVERIES_FAILED);
+		configurationMetrics.createGauge(sender, FrankMeterType.SENDER_DELIVERIES_IN_FLIGHT, inFlight::get);
+	}
+
+	void deliveryStarted() {
+		inFlight.incrementAndGet();
+	}
+
+	void deliveryAcknowledged() {
+		inFlight.decrementAndGet();
+		if (acknowledged != null) {
+			acknowledged.increment();
+		}
+	}
+
+	void deliveryFailed() {
+		inFlight.decrementAndGet();
+		if (failed != null) {
+			failed.increment();
+		}
+	}
+
+	public int getInFlightCount() {
+		return inFlight.get();
+	}
+}
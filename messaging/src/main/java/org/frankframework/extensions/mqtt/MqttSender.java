@@ -16,21 +16,29 @@
 
 package org.frankframework.extensions.mqtt;
 
+import org.eclipse.paho.client.mqttv3.MqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.MqttException;
 import org.eclipse.paho.client.mqttv3.MqttMessage;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 import org.frankframework.configuration.ConfigurationException;
-import org.frankframework.core.ISenderWithParameters;
+import org.frankframework.core.IBlockEnabledSender;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.SenderException;
 import org.frankframework.core.SenderResult;
 import org.frankframework.core.TimeoutException;
 import org.frankframework.doc.Optional;
+import org.frankframework.extensions.messaging.DeliveryWindow;
+import org.frankframework.extensions.messaging.DeliveryWindowStatistics;
 import org.frankframework.lifecycle.LifecycleException;
 import org.frankframework.parameters.IParameter;
 import org.frankframework.parameters.ParameterList;
+import org.frankframework.statistics.MetricsInitializer;
 import org.frankframework.stream.Message;
 import org.frankframework.util.CloseUtils;
 
@@ -40,17 +48,26 @@ import org.frankframework.util.CloseUtils;
  * Links to <a href="https://www.eclipse.org/paho/files/javadoc" target="_blank">https://www.eclipse.org/paho/files/javadoc</a> are opened in a new window/tab because the response from eclipse.org contains header X-Frame-Options:SAMEORIGIN which will make the browser refuse to open the link inside this frame.
  *
  * {@inheritClassDoc}
+ * <br><br>
+ * When {@literal maxUnacknowledgedDeliveries} is set and the sender is used in an iterating pipe, messages are published
+ * without waiting for the broker to acknowledge each of them. At most {@literal maxUnacknowledgedDeliveries} messages are in flight
+ * at any time, and failed deliveries are reported when the iteration (or block) ends.
  *
  * @author Niels Meijer
  */
 
 @Log4j2
-public class MqttSender extends MqttFacade implements ISenderWithParameters {
+public class MqttSender extends MqttFacade implements IBlockEnabledSender<DeliveryWindow<MqttDeliveryToken>> {
 
 	private static final String TOPIC_PARAMETER_NAME = "topic";
 
 	protected @NonNull ParameterList paramList = new ParameterList();
 
+	private @Getter int maxUnacknowledgedDeliveries = 0;
+
+	private @Setter MetricsInitializer configurationMetrics;
+	private DeliveryWindowStatistics deliveryWindowStatistics;
+
 	@Override
 	public void configure() throws ConfigurationException {
 		paramList.configure();
@@ -58,8 +75,15 @@ public class MqttSender extends MqttFacade implements ISenderWithParameters {
 		if (getTopic() == null && !paramList.hasParameter(TOPIC_PARAMETER_NAME)) {
 			throw new ConfigurationException("topic must be specified");
 		}
+		if (maxUnacknowledgedDeliveries < 0) {
+			throw new ConfigurationException("maxUnacknowledgedDeliveries may not be negative");
+		}
 
 		super.configure();
+
+		if (maxUnacknowledgedDeliveries > 0) {
+			deliveryWindowStatistics = new DeliveryWindowStatistics(configurationMetrics, this);
+		}
 	}
 
 	@Override
@@ -89,29 +113,77 @@ public class MqttSender extends MqttFacade implements ISenderWithParameters {
 	@Override
 	public @NonNull SenderResult sendMessage(@NonNull Message message, @NonNull PipeLineSession session) throws SenderException, TimeoutException {
 		try {
-			String topic = getTopic();
-			IParameter topicParameter = getParameterList().findParameter(TOPIC_PARAMETER_NAME);
-
-			if (topicParameter != null) {
-				topic = topicParameter.getValue(message, session).asStringValue();
-			}
-
-			if (topic == null) {
-				throw new SenderException("Topic must not be null");
-			}
-
-			log.debug(message);
-			MqttMessage mqttMessage = new MqttMessage();
-			mqttMessage.setPayload(message.asByteArray());
-			mqttMessage.setQos(getQos());
-			client.publish(topic, mqttMessage);
+			client.publish(resolveTopic(message, session), createMqttMessage(message));
+		} catch (SenderException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new SenderException(e);
+		}
+		return new SenderResult(message);
+	}
+
+	/**
+	 * Returns {@code null} when {@literal maxUnacknowledgedDeliveries} has not been set, messages in the block are then sent synchronously.
+	 */
+	@Override
+	public @Nullable DeliveryWindow<MqttDeliveryToken> openBlock(@NonNull PipeLineSession session) {
+		if (maxUnacknowledgedDeliveries == 0) {
+			return null;
+		}
+		return new DeliveryWindow<>(maxUnacknowledgedDeliveries, this::awaitDelivery, MqttDeliveryToken::isComplete, deliveryWindowStatistics);
+	}
+
+	@Override
+	public @NonNull SenderResult sendMessage(@Nullable DeliveryWindow<MqttDeliveryToken> deliveryWindow, @NonNull Message message, @NonNull PipeLineSession session) throws SenderException, TimeoutException {
+		if (deliveryWindow == null) {
+			return sendMessage(message, session);
 		}
-		catch (Exception e) {
+
+		try {
+			// In contrast to MqttClient#publish, MqttTopic#publish does not wait for the delivery to complete
+			MqttDeliveryToken token = client.getTopic(resolveTopic(message, session)).publish(createMqttMessage(message));
+			deliveryWindow.add(token);
+		} catch (SenderException e) {
+			throw e;
+		} catch (Exception e) {
 			throw new SenderException(e);
 		}
 		return new SenderResult(message);
 	}
 
+	@Override
+	public void closeBlock(@Nullable DeliveryWindow<MqttDeliveryToken> deliveryWindow, @NonNull PipeLineSession session) throws SenderException {
+		if (deliveryWindow != null) {
+			deliveryWindow.flush();
+		}
+	}
+
+	private void awaitDelivery(MqttDeliveryToken token) throws MqttException {
+		token.waitForCompletion(client.getTimeToWait());
+	}
+
+	private @NonNull String resolveTopic(@NonNull Message message, @NonNull PipeLineSession session) throws Exception {
+		String topic = getTopic();
+		IParameter topicParameter = getParameterList().findParameter(TOPIC_PARAMETER_NAME);
+
+		if (topicParameter != null) {
+			topic = topicParameter.getValue(message, session).asStringValue();
+		}
+
+		if (topic == null) {
+			throw new SenderException("Topic must not be null");
+		}
+		return topic;
+	}
+
+	private @NonNull MqttMessage createMqttMessage(@NonNull Message message) throws Exception {
+		log.debug(message);
+		MqttMessage mqttMessage = new MqttMessage();
+		mqttMessage.setPayload(message.asByteArray());
+		mqttMessage.setQos(getQos());
+		return mqttMessage;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -123,6 +195,17 @@ public class MqttSender extends MqttFacade implements ISenderWithParameters {
 		super.setTopic(topic);
 	}
 
+	/**
+	 * When set to a value greater than 0 and the sender is used in an iterating pipe, messages are published without waiting
+	 * for each of them to be acknowledged, keeping at most this number of deliveries in flight. When the maximum is reached,
+	 * the sender waits for the oldest delivery to complete. Failed deliveries are reported when the block is closed.
+	 * Should not exceed the {@literal maxInflight} property of the MQTT connection in {@literal resources.yml}, which defaults to 10.
+	 * @ff.default 0
+	 */
+	public void setMaxUnacknowledgedDeliveries(int maxUnacknowledgedDeliveries) {
+		this.maxUnacknowledgedDeliveries = maxUnacknowledgedDeliveries;
+	}
+
 	@Override
 	public boolean isSynchronous() {
 		return false;
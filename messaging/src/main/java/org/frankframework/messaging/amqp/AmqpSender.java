@@ -49,15 +49,18 @@ import org.frankframework.configuration.ConfigurationException;
 import org.frankframework.configuration.ConfigurationWarnings;
 import org.frankframework.core.DestinationType;
 import org.frankframework.core.HasPhysicalDestination;
-import org.frankframework.core.ISenderWithParameters;
+import org.frankframework.core.IBlockEnabledSender;
 import org.frankframework.core.PipeLineSession;
 import org.frankframework.core.SenderException;
 import org.frankframework.core.SenderResult;
 import org.frankframework.core.TimeoutException;
 import org.frankframework.doc.Category;
+import org.frankframework.extensions.messaging.DeliveryWindow;
+import org.frankframework.extensions.messaging.DeliveryWindowStatistics;
 import org.frankframework.extensions.messaging.MessageProtocol;
 import org.frankframework.lifecycle.LifecycleException;
 import org.frankframework.senders.AbstractSenderWithParameters;
+import org.frankframework.statistics.MetricsInitializer;
 import org.frankframework.stream.Message;
 import org.frankframework.util.CloseUtils;
 import org.frankframework.util.MessageUtils;
@@ -65,10 +68,15 @@ import org.frankframework.util.StreamUtil;
 
 /**
  * Sender to send to AMQP 1.0 end-points.
+ * <p>
+ * When {@literal maxUnacknowledgedDeliveries} is set and the sender is used in an iterating pipe, Fire &amp; Forget messages are sent
+ * without waiting for the broker to accept each of them. At most {@literal maxUnacknowledgedDeliveries} messages are in flight
+ * at any time, and rejected or timed out deliveries are reported when the iteration (or block) ends.
+ * </p>
  */
 @Category(Category.Type.EXPERIMENTAL)
 @DestinationType(DestinationType.Type.AMQP)
-public class AmqpSender extends AbstractSenderWithParameters implements ISenderWithParameters, HasPhysicalDestination {
+public class AmqpSender extends AbstractSenderWithParameters implements IBlockEnabledSender<DeliveryWindow<Tracker>>, HasPhysicalDestination {
 	public static final long DEFAULT_TIMEOUT_SECONDS = 30L;
 	public static final long DEFAULT_TIME_TO_LIVE = Header.DEFAULT_TIME_TO_LIVE;
 
@@ -84,7 +92,10 @@ public class AmqpSender extends AbstractSenderWithParameters implements ISenderW
 	private long timeToLive = DEFAULT_TIME_TO_LIVE;
 	private DeliveryMode deliveryMode = DeliveryMode.AT_LEAST_ONCE;
 	private MessageProtocol messageProtocol = MessageProtocol.FF;
+	private int maxUnacknowledgedDeliveries = 0;
 
+	private @Setter MetricsInitializer configurationMetrics;
+	private DeliveryWindowStatistics deliveryWindowStatistics;
 	private @Setter AmqpConnectionFactoryFactory amqpConnectionFactoryFactory;
 	private AmqpConnectionFactory connectionFactory;
 	private Session session;
@@ -130,6 +141,17 @@ public class AmqpSender extends AbstractSenderWithParameters implements ISenderW
 		if (streamingMessages && messageType != MessageType.BINARY) {
 			ConfigurationWarnings.add(this, log, "[messageType] is ignored, because [streamingMessages] is set to [true]");
 		}
+
+		if (maxUnacknowledgedDeliveries < 0) {
+			throw new ConfigurationException("maxUnacknowledgedDeliveries may not be negative");
+		}
+		if (maxUnacknowledgedDeliveries > 0) {
+			if (messageProtocol == MessageProtocol.RR || streamingMessages) {
+				ConfigurationWarnings.add(this, log, "[maxUnacknowledgedDeliveries] is ignored for Request-Reply and streaming messages");
+			} else {
+				deliveryWindowStatistics = new DeliveryWindowStatistics(configurationMetrics, this);
+			}
+		}
 		try {
 			connectionFactory = amqpConnectionFactoryFactory.getConnectionFactory(connectionName);
 		} catch (Exception e) {
@@ -225,6 +247,39 @@ public class AmqpSender extends AbstractSenderWithParameters implements ISenderW
 		return senderResult;
 	}
 
+	/**
+	 * Returns {@code null} when messages cannot be sent asynchronously, messages in the block are then sent one by one.
+	 */
+	@Override
+	public @Nullable DeliveryWindow<Tracker> openBlock(@NonNull PipeLineSession session) {
+		if (deliveryWindowStatistics == null) {
+			return null;
+		}
+		return new DeliveryWindow<>(maxUnacknowledgedDeliveries, this::awaitAccepted, Tracker::remoteSettled, deliveryWindowStatistics);
+	}
+
+	@Override
+	public @NonNull SenderResult sendMessage(@Nullable DeliveryWindow<Tracker> deliveryWindow, @NonNull Message message, @NonNull PipeLineSession session) throws SenderException, TimeoutException {
+		if (deliveryWindow == null) {
+			return sendMessage(message, session);
+		}
+
+		org.apache.qpid.protonj2.client.Message<?> amqpMessage = createObjectMessage(message, null);
+		try {
+			deliveryWindow.add(sender.send(amqpMessage));
+			return new SenderResult(Message.asMessage(amqpMessage.messageId()));
+		} catch (ClientException e) {
+			throw new SenderException("Cannot send AMQP message to AMQP server", e);
+		}
+	}
+
+	@Override
+	public void closeBlock(@Nullable DeliveryWindow<Tracker> deliveryWindow, @NonNull PipeLineSession session) throws SenderException {
+		if (deliveryWindow != null) {
+			deliveryWindow.flush();
+		}
+	}
+
 	private @NonNull SenderResult sendFireForget(@NonNull Message message) throws SenderException, TimeoutException {
 		Object messageId = doSend(message, null);
 		return new SenderResult(Message.asMessage(messageId));
@@ -282,6 +337,16 @@ public class AmqpSender extends AbstractSenderWithParameters implements ISenderW
 	 * @throws TimeoutException If there was a timeout waiting for the message to be accepted by the broker.
 	 */
 	private Object sendObjectMessage(@NonNull Message message, @Nullable String replyAddress) throws SenderException, TimeoutException {
+		org.apache.qpid.protonj2.client.Message<?> amqpMessage = createObjectMessage(message, replyAddress);
+		try {
+			awaitAccepted(sender.send(amqpMessage));
+			return amqpMessage.messageId();
+		} catch (ClientException e) {
+			throw new SenderException("Cannot send AMQP message to AMQP server", e);
+		}
+	}
+
+	private org.apache.qpid.protonj2.client.@NonNull Message<?> createObjectMessage(@NonNull Message message, @Nullable String replyAddress) throws SenderException {
 		org.apache.qpid.protonj2.client.Message<?> amqpMessage;
 		try {
 			if (isCreateBinaryMessage(message)) {
@@ -296,15 +361,13 @@ public class AmqpSender extends AbstractSenderWithParameters implements ISenderW
 		} catch (IOException | ClientException e) {
 			throw new SenderException("Cannot create AMQP message", e);
 		}
-		try {
-			Tracker tracker = sender.send(amqpMessage);
-			Tracker tracker1 = tracker.awaitAccepted(timeout, TimeUnit.SECONDS);
-			if (tracker1 != null && tracker1.state() != null && !tracker1.state().isAccepted()) {
-				throw new TimeoutException("Timed out waiting for AMQP message to send");
-			}
-			return amqpMessage.messageId();
-		} catch (ClientException e) {
-			throw new SenderException("Cannot send AMQP message to AMQP server", e);
+		return amqpMessage;
+	}
+
+	private void awaitAccepted(@NonNull Tracker tracker) throws ClientException, TimeoutException {
+		Tracker acceptedTracker = tracker.awaitAccepted(timeout, TimeUnit.SECONDS);
+		if (acceptedTracker != null && acceptedTracker.state() != null && !acceptedTracker.state().isAccepted()) {
+			throw new TimeoutException("Timed out waiting for AMQP message to send");
 		}
 	}
 
@@ -466,4 +529,16 @@ public class AmqpSender extends AbstractSenderWithParameters implements ISenderW
 	public void setMessageProtocol(MessageProtocol messageProtocol) {
 		this.messageProtocol = messageProtocol;
 	}
+
+	/**
+	 * When set to a value greater than 0 and the sender is used in an iterating pipe, Fire &amp; Forget messages are sent without
+	 * waiting for each of them to be accepted, keeping at most this number of deliveries in flight. When the maximum is reached,
+	 * the sender waits for the oldest delivery to be accepted. Failed deliveries are reported when the block is closed.
+	 * Ignored for Request-Reply and streaming messages.
+	 *
+	 * @ff.default {@literal 0}
+	 */
+	public void setMaxUnacknowledgedDeliveries(int maxUnacknowledgedDeliveries) {
+		this.maxUnacknowledgedDeliveries = maxUnacknowledgedDeliveries;
+	}
 }
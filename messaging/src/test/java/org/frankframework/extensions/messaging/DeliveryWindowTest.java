@@ -0,0 +1,108 @@
+package org.frankframework.extensions.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.frankframework.core.SenderException;
+import org.frankframework.senders.EchoSender;
+
+public class DeliveryWindowTest {
+
+	private DeliveryWindowStatistics statistics;
+	private List<CompletableFuture<String>> awaited;
+
+	@BeforeEach
+	public void setUp() {
+		statistics = new DeliveryWindowStatistics(null, new EchoSender());
+		awaited = new ArrayList<>();
+	}
+
+	private DeliveryWindow<CompletableFuture<String>> createWindow(int maxInFlight) {
+		return new DeliveryWindow<>(maxInFlight, delivery -> {
+			awaited.add(delivery);
+			delivery.get(1, TimeUnit.SECONDS);
+		}, CompletableFuture::isDone, statistics);
+	}
+
+	@Test
+	public void testWindowAppliesBackpressure() {
+		DeliveryWindow<CompletableFuture<String>> window = createWindow(2);
+		CompletableFuture<String> first = CompletableFuture.completedFuture("1");
+		CompletableFuture<String> second = new CompletableFuture<>();
+		CompletableFuture<String> third = new CompletableFuture<>();
+
+		window.add(second);
+		window.add(third);
+		assertEquals(2, window.getInFlightCount());
+		assertEquals(2, statistics.getInFlightCount());
+
+		second.complete("2");
+		window.add(first);
+
+		// The oldest delivery must have been released to make room for the new one
+		assertEquals(2, window.getInFlightCount());
+		assertEquals(List.of(second), awaited);
+		assertEquals(1, window.getAcknowledgedCount());
+	}
+
+	@Test
+	public void testCompletedDeliveriesAreReleasedEagerly() {
+		DeliveryWindow<CompletableFuture<String>> window = createWindow(10);
+
+		window.add(CompletableFuture.completedFuture("1"));
+		window.add(CompletableFuture.completedFuture("2"));
+
+		assertEquals(0, window.getInFlightCount());
+		assertEquals(2, window.getAcknowledgedCount());
+	}
+
+	@Test
+	public void testFlushReportsFailures() {
+		DeliveryWindow<CompletableFuture<String>> window = createWindow(5);
+		CompletableFuture<String> failing = new CompletableFuture<>();
+		CompletableFuture<String> succeeding = new CompletableFuture<>();
+
+		window.add(failing);
+		window.add(succeeding);
+		failing.completeExceptionally(new IllegalStateException("broker rejected message"));
+		succeeding.complete("ok");
+
+		SenderException e = assertThrows(SenderException.class, window::flush);
+		assertEquals("1 of 2 deliveries failed", e.getMessage());
+		assertEquals(1, e.getSuppressed().length);
+		assertEquals(0, window.getInFlightCount());
+		assertEquals(0, statistics.getInFlightCount());
+
+		// Failures are only reported once
+		assertDoesNotThrow(window::flush);
+	}
+
+	@Test
+	public void testNumberOfReportedFailuresIsLimited() {
+		DeliveryWindow<CompletableFuture<String>> window = createWindow(5);
+		int deliveries = DeliveryWindow.MAX_REPORTED_FAILURES * 3;
+		for (int i = 0; i < deliveries; i++) {
+			window.add(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+		}
+		assertEquals(deliveries, window.getFailureCount());
+
+		SenderException e = assertThrows(SenderException.class, window::flush);
+		assertEquals(deliveries + " of " + deliveries + " deliveries failed", e.getMessage());
+		assertEquals(DeliveryWindow.MAX_REPORTED_FAILURES, e.getSuppressed().length);
+		assertEquals(0, window.getFailureCount());
+	}
+
+	@Test
+	public void testInvalidWindowSize() {
+		assertThrows(IllegalArgumentException.class, () -> createWindow(0));
+	}
+}